@@ -0,0 +1,32 @@
+package hyundai.softeer.orange.core.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 인증 요청마다 수행되는 토큰 검증 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JWTManagerBenchmark {
+
+    JWTManager jwtManager;
+    String token;
+
+    @Setup
+    public void setUp() {
+        jwtManager = new JWTManager();
+        jwtManager.setSecretKey("PP92X6YBH7lSREAQcd+8dZhgx7/XGy8XvcPGKjZrDYs=");
+        token = jwtManager.generateToken("event_user", Map.of("userId", "uuid", "role", "ROLE_USER"), 1);
+    }
+
+    @Benchmark
+    public Jws<Claims> parseToken() {
+        return jwtManager.parseToken(token);
+    }
+}
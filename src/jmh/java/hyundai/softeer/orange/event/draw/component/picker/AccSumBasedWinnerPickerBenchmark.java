@@ -0,0 +1,54 @@
+package hyundai.softeer.orange.event.draw.component.picker;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추첨 대상 수와 당첨자 수에 따른 pickMany / pickManyUsingSet / 점수 배열 기반 pick 성능 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccSumBasedWinnerPickerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int population;
+
+    @Param({"10", "100", "1000"})
+    int winners;
+
+    AccSumBasedWinnerPicker picker;
+    List<PickTarget> targets;
+    long[] scores;
+
+    @Setup
+    public void setUp() {
+        picker = new AccSumBasedWinnerPicker();
+        Random random = new Random(42);
+        targets = new ArrayList<>(population);
+        scores = new long[population];
+        for (int i = 0; i < population; i++) {
+            scores[i] = random.nextInt(1, 100);
+            targets.add(new PickTarget((long) i, scores[i]));
+        }
+    }
+
+    @Benchmark
+    public List<PickTarget> pickMany() {
+        return picker.pickMany(targets, Math.min(winners, population));
+    }
+
+    @Benchmark
+    public List<PickTarget> pickManyUsingSet() {
+        return picker.pickManyUsingSet(targets, Math.min(winners, population));
+    }
+
+    @Benchmark
+    public int[] pickScores() {
+        return picker.pick(scores, Math.min(winners, population));
+    }
+}
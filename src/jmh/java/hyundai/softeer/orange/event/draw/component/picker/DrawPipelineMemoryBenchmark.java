@@ -0,0 +1,103 @@
+package hyundai.softeer.orange.event.draw.component.picker;
+
+import hyundai.softeer.orange.event.draw.component.score.UserScoreMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 점수 집계 → 추첨까지의 파이프라인을 박싱 기반(HashMap&lt;Long, Long&gt; + List&lt;PickTarget&gt; + RandomItem[])과
+ * 기본형 배열 기반(UserScoreMap + long[] + 펜윅 트리)으로 나누어 비교한다.
+ * <p>연산 당 할당량은 gc 프로파일러의 gc.alloc.rate.norm으로, 추첨 직전에 유지되는 참여자 당 메모리는 JOL로 측정하여 로그에 출력한다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.attach.allowAttachSelf=true")
+public class DrawPipelineMemoryBenchmark {
+
+    @Param({"100000", "1000000"})
+    int users;
+
+    @Param({"1000"})
+    int winners;
+
+    AccSumBasedWinnerPicker picker;
+    // 유저 별 (id, 참여 횟수) 집계 결과. DB 조회 결과를 대신한다.
+    long[] rowUserIds;
+    long[] rowCounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        picker = new AccSumBasedWinnerPicker();
+        Random random = new Random(42);
+        rowUserIds = new long[users];
+        rowCounts = new long[users];
+        for (int i = 0; i < users; i++) {
+            // auto increment id처럼 증가하지만 중간중간 비어있는 id
+            rowUserIds[i] = i * 2L + random.nextInt(2);
+            rowCounts[i] = random.nextInt(1, 14);
+        }
+        printFootprint();
+    }
+
+    @Benchmark
+    public long[] boxed() {
+        List<PickTarget> targets = toTargets(boxedScores());
+        List<PickTarget> picked = picker.pickManyUsingSet(targets, Math.min(winners, targets.size()));
+        return picked.stream().mapToLong(PickTarget::key).toArray();
+    }
+
+    @Benchmark
+    public long[] primitive() {
+        UserScoreMap scoreMap = primitiveScores();
+        long[] userIds = scoreMap.userIds();
+        int[] picked = picker.pick(scoreMap.scores(), winners);
+        long[] winnerIds = new long[picked.length];
+        for (int i = 0; i < picked.length; i++) {
+            winnerIds[i] = userIds[picked[i]];
+        }
+        return winnerIds;
+    }
+
+    private Map<Long, Long> boxedScores() {
+        Map<Long, Long> scoreMap = new HashMap<>();
+        for (int i = 0; i < users; i++) {
+            long beforeScore = scoreMap.getOrDefault(rowUserIds[i], 0L);
+            scoreMap.put(rowUserIds[i], beforeScore + rowCounts[i]);
+        }
+        return scoreMap;
+    }
+
+    private List<PickTarget> toTargets(Map<Long, Long> scoreMap) {
+        return scoreMap.entrySet().stream()
+                .map(it -> new PickTarget(it.getKey(), it.getValue())).toList();
+    }
+
+    private UserScoreMap primitiveScores() {
+        UserScoreMap scoreMap = new UserScoreMap();
+        for (int i = 0; i < users; i++) {
+            scoreMap.add(rowUserIds[i], rowCounts[i]);
+        }
+        return scoreMap;
+    }
+
+    // 추첨 중 동시에 살아있는 자료구조 전체의 크기를 참여자 수로 나누어 출력
+    private void printFootprint() {
+        Map<Long, Long> boxedMap = boxedScores();
+        List<PickTarget> targets = toTargets(boxedMap);
+        AccSumBasedWinnerPicker.RandomItem[] items = picker.getAccumulatedItems(targets);
+        long boxedBytes = GraphLayout.parseInstance(boxedMap, targets, items).totalSize();
+
+        UserScoreMap primitiveMap = primitiveScores();
+        long[] userIds = primitiveMap.userIds();
+        long[] scores = primitiveMap.scores();
+        long[] tree = picker.buildFenwickTree(scores);
+        long primitiveBytes = GraphLayout.parseInstance(primitiveMap, userIds, scores, tree).totalSize();
+
+        System.out.printf("%n[footprint] users=%d boxed=%.1f B/user primitive=%.1f B/user%n",
+                users, (double) boxedBytes / users, (double) primitiveBytes / users);
+    }
+}
@@ -0,0 +1,83 @@
+package hyundai.softeer.orange.event.draw.component.score;
+
+import hyundai.softeer.orange.comment.repository.CommentRepository;
+import hyundai.softeer.orange.event.draw.component.score.actionHandler.ActionHandler;
+import hyundai.softeer.orange.event.draw.component.score.actionHandler.ParticipateEventActionHandler;
+import hyundai.softeer.orange.event.draw.component.score.actionHandler.WriteCommentActionHandler;
+import hyundai.softeer.orange.event.draw.entity.DrawEventScorePolicy;
+import hyundai.softeer.orange.event.draw.enums.DrawEventAction;
+import hyundai.softeer.orange.event.draw.repository.EventParticipationCountRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 참여 유저 수에 따른 점수 계산(집계) 성능. DB 조회는 미리 만든 결과를 한 행씩 전달하는 것으로 대체하여 집계 비용만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScoreCalculatorBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int users;
+
+    ExecutorService executor;
+    ScoreCalculator scoreCalculator;
+    List<DrawEventScorePolicy> policies;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long[] participateCounts = new long[users];
+        long[] commentCounts = new long[users];
+        for (int userId = 0; userId < users; userId++) {
+            participateCounts[userId] = random.nextInt(1, 14);
+            // 절반 정도의 유저만 기대평 작성
+            commentCounts[userId] = random.nextBoolean() ? random.nextInt(1, 14) : 0;
+        }
+
+        EventParticipationCountRepository participationRepository = mock(EventParticipationCountRepository.class);
+        doAnswer(invocation -> stream(participateCounts, invocation.getArgument(1)))
+                .when(participationRepository).streamCountPerEventUserByEventId(anyLong(), any(UserCountConsumer.class));
+        CommentRepository commentRepository = mock(CommentRepository.class);
+        doAnswer(invocation -> stream(commentCounts, invocation.getArgument(1)))
+                .when(commentRepository).streamCountPerEventUserByEventId(anyLong(), any(UserCountConsumer.class));
+
+        Map<DrawEventAction, ActionHandler> handlerMap = new EnumMap<>(DrawEventAction.class);
+        handlerMap.put(DrawEventAction.ParticipateEvent, new ParticipateEventActionHandler(participationRepository));
+        handlerMap.put(DrawEventAction.WriteComment, new WriteCommentActionHandler(commentRepository));
+        executor = Executors.newFixedThreadPool(2);
+        scoreCalculator = new ScoreCalculator(handlerMap, executor);
+        policies = List.of(
+                DrawEventScorePolicy.of(DrawEventAction.ParticipateEvent, 1, null),
+                DrawEventScorePolicy.of(DrawEventAction.WriteComment, 1, null)
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public UserScoreMap calculate() {
+        return scoreCalculator.calculate(1L, policies);
+    }
+
+    // DB 결과 대신 미리 만든 집계 값을 한 행씩 전달
+    private static Object stream(long[] counts, UserCountConsumer consumer) {
+        for (int userId = 0; userId < counts.length; userId++) {
+            if (counts[userId] > 0) consumer.accept(userId, counts[userId]);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,126 @@
+package hyundai.softeer.orange.event.fcfs;
+
+import hyundai.softeer.orange.OrangeApplication;
+import hyundai.softeer.orange.event.common.entity.EventMetadata;
+import hyundai.softeer.orange.event.common.repository.EventMetadataRepository;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
+import hyundai.softeer.orange.event.fcfs.entity.FcfsEvent;
+import hyundai.softeer.orange.event.fcfs.enums.FcfsStrategy;
+import hyundai.softeer.orange.event.fcfs.exception.FcfsEventException;
+import hyundai.softeer.orange.event.fcfs.repository.FcfsEventRepository;
+import hyundai.softeer.orange.event.fcfs.repository.FcfsEventWinningInfoRepository;
+import hyundai.softeer.orange.event.fcfs.service.*;
+import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * FcfsService 구현체 별 참여 처리 성능. Testcontainers로 띄운 Redis / MySQL 위에서 애플리케이션 컨텍스트를 그대로 사용한다.
+ * 모든 요청이 당첨 경로를 타도록 당첨 인원을 충분히 크게 잡고, 매 iteration마다 이벤트 상태를 초기화한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@Measurement(iterations = 5, time = 2)
+public class FcfsServiceBenchmark {
+
+    private static final String EVENT_ID = "HD_240808_001";
+    // DB 처리 방식은 참여 유저가 DB에 존재해야 하므로 미리 생성해두고 순환하며 사용
+    private static final int NUMBER_OF_USERS = 50000;
+
+    @Param({"LUA", "SCRIPT", "LOCK", "SET", "DB"})
+    FcfsStrategy strategy;
+
+    GenericContainer<?> redis;
+    ConfigurableApplicationContext context;
+    FcfsService fcfsService;
+    final AtomicLong sequence = new AtomicLong();
+    Long fcfsEventId;
+
+    @Setup(Level.Trial)
+    public void startUp() {
+        redis = new GenericContainer<>("redis:7.2-alpine").withExposedPorts(6379);
+        redis.start();
+        context = new SpringApplicationBuilder(OrangeApplication.class)
+                .properties(
+                        "spring.data.redis.host=" + redis.getHost(),
+                        "spring.data.redis.port=" + redis.getMappedPort(6379),
+                        "spring.datasource.driver-class-name=org.testcontainers.jdbc.ContainerDatabaseDriver",
+                        "spring.datasource.url=jdbc:tc:mysql:8.0:///",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "logging.level.root=WARN")
+                .run();
+
+        Class<? extends FcfsService> type = switch (strategy) {
+            case LUA -> RedisLuaFcfsService.class;
+            case SCRIPT -> RedisScriptFcfsService.class;
+            case LOCK -> RedisLockFcfsService.class;
+            case SET -> RedisSetFcfsService.class;
+            case DB -> DbFcfsService.class;
+        };
+        fcfsService = context.getBean(type);
+
+        EventMetadata eventMetadata = context.getBean(EventMetadataRepository.class)
+                .save(EventMetadata.builder().eventId(EVENT_ID).build());
+        FcfsEvent fcfsEvent = FcfsEvent.of(Instant.now().minus(1, ChronoUnit.MINUTES), Instant.now().plus(1, ChronoUnit.DAYS),
+                (long) NUMBER_OF_USERS, "prizeInfo", eventMetadata);
+        fcfsEventId = context.getBean(FcfsEventRepository.class).save(fcfsEvent).getId();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.batchUpdate("insert into event_user (user_name, phone_number, user_id, score) values (?, ?, ?, 0)",
+                IntStream.range(0, NUMBER_OF_USERS)
+                        .mapToObj(i -> new Object[]{"user", "phone" + i, "user" + i})
+                        .toList());
+    }
+
+    @Setup(Level.Iteration)
+    @SuppressWarnings("unchecked")
+    public void resetEvent() {
+        StringRedisTemplate stringRedisTemplate = context.getBean(StringRedisTemplate.class);
+        RedisTemplate<String, Integer> numberRedisTemplate = context.getBean("numberRedisTemplate", RedisTemplate.class);
+        RedisTemplate<String, Boolean> booleanRedisTemplate = context.getBean("booleanRedisTemplate", RedisTemplate.class);
+
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        context.getBean(FcfsEventWinningInfoRepository.class).deleteAllInBatch();
+        context.getBean(JdbcTemplate.class).update("update fcfs_event set remaining = participant_count where id = ?", fcfsEventId);
+        context.getBean(FcfsEventLocalState.class).clear();
+        context.getBean(FcfsEventCache.class).invalidateAll();
+
+        String key = fcfsEventId.toString();
+        stringRedisTemplate.opsForValue().set(FcfsUtil.eventIdFormatting(EVENT_ID), key);
+        numberRedisTemplate.opsForValue().set(FcfsUtil.keyFormatting(key), NUMBER_OF_USERS);
+        booleanRedisTemplate.opsForValue().set(FcfsUtil.endFlagFormatting(key), false);
+        stringRedisTemplate.opsForValue().set(FcfsUtil.startTimeFormatting(key), Instant.now().minus(1, ChronoUnit.MINUTES).toString());
+        sequence.set(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        redis.stop();
+    }
+
+    @Benchmark
+    public boolean participate() {
+        String userId = "user" + (sequence.getAndIncrement() % NUMBER_OF_USERS);
+        try {
+            return fcfsService.participate(EVENT_ID, userId);
+        } catch (FcfsEventException e) {
+            // 한 iteration에서 유저를 모두 사용한 경우 중복 참여 / 마감으로 거절됨. 연결 오류 등은 측정을 실패시킨다
+            return false;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package hyundai.softeer.orange.admin.controller;
+
+import hyundai.softeer.orange.comment.dto.CreateCommentFilterWordDto;
+import hyundai.softeer.orange.comment.dto.ResponseCommentFilterWordDto;
+import hyundai.softeer.orange.comment.service.CommentFilterService;
+import hyundai.softeer.orange.core.auth.list.AdminAuth;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "admin comment filter", description = "어드민 페이지에서 기대평 금칙어 / 긍정 문구 관리에 사용되는 api")
+@RequestMapping("/api/v1/admin/comments/filter-words")
+@RequiredArgsConstructor
+@RestController
+@AdminAuth
+public class AdminCommentFilterController {
+    private final CommentFilterService commentFilterService;
+
+    /**
+     * @return 등록된 금칙어 / 긍정 문구 목록
+     */
+    @Operation(summary = "금칙어 / 긍정 문구 목록 조회", description = "원격 감정 분석 전에 기대평을 분류하는 단어 목록을 조회한다.", responses = {
+            @ApiResponse(responseCode = "200", description = "단어 목록 조회 성공")
+    })
+    @GetMapping
+    public ResponseEntity<List<ResponseCommentFilterWordDto>> getFilterWords() {
+        return ResponseEntity.ok(commentFilterService.getWords());
+    }
+
+    /**
+     * @param dto 등록할 단어와 종류. BANNED는 포함된 기대평을, POSITIVE는 전체가 일치하는 기대평을 분류한다.
+     * @return 등록된 단어의 id
+     */
+    @Operation(summary = "금칙어 / 긍정 문구 등록", description = "단어를 등록하고 모든 서버의 기대평 필터에 반영한다.", responses = {
+            @ApiResponse(responseCode = "200", description = "단어 등록 성공"),
+            @ApiResponse(responseCode = "409", description = "이미 등록된 단어")
+    })
+    @PostMapping
+    public ResponseEntity<Long> addFilterWord(@Valid @RequestBody CreateCommentFilterWordDto dto) {
+        return ResponseEntity.ok(commentFilterService.addWord(dto));
+    }
+
+    @Operation(summary = "금칙어 / 긍정 문구 삭제", description = "단어를 삭제하고 모든 서버의 기대평 필터에 반영한다.", responses = {
+            @ApiResponse(responseCode = "200", description = "단어 삭제 성공"),
+            @ApiResponse(responseCode = "404", description = "단어를 찾을 수 없음")
+    })
+    @DeleteMapping("/{filterWordId}")
+    public ResponseEntity<Void> deleteFilterWord(@PathVariable Long filterWordId) {
+        commentFilterService.deleteWord(filterWordId);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,62 @@
+package hyundai.softeer.orange.admin.controller;
+
+import hyundai.softeer.orange.core.auth.list.AdminAuth;
+import hyundai.softeer.orange.event.fcfs.component.FcfsStrategyRegistry;
+import hyundai.softeer.orange.event.fcfs.dto.RequestFcfsStrategyDto;
+import hyundai.softeer.orange.event.fcfs.dto.ResponseFcfsStrategyDto;
+import hyundai.softeer.orange.event.fcfs.service.RoutingFcfsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "AdminFcfsEvent", description = "어드민 선착순 이벤트 관련 API")
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/fcfs")
+@RestController
+@AdminAuth
+public class AdminFcfsEventController {
+    private final FcfsStrategyRegistry fcfsStrategyRegistry;
+    private final RoutingFcfsService routingFcfsService;
+
+    /**
+     * @param eventId 선착순 이벤트 id
+     */
+    @Operation(summary = "선착순 이벤트 처리 방식 조회", description = "선착순 이벤트에 지정된 처리 방식과 DB 전환 여부를 조회한다.", responses = {
+            @ApiResponse(responseCode = "200", description = "처리 방식 조회 성공", content = @Content(schema = @Schema(implementation = ResponseFcfsStrategyDto.class))),
+    })
+    @GetMapping("/{eventId}/strategy")
+    public ResponseEntity<ResponseFcfsStrategyDto> getStrategy(@PathVariable("eventId") String eventId) {
+        return ResponseEntity.ok(new ResponseFcfsStrategyDto(routingFcfsService.getStrategy(eventId), routingFcfsService.isFailedOver()));
+    }
+
+    /**
+     * @param eventId 선착순 이벤트 id
+     */
+    @Operation(summary = "선착순 이벤트 처리 방식 변경", description = "진행 중인 선착순 이벤트의 처리 방식을 변경한다. 모든 서버에 즉시 반영된다.", responses = {
+            @ApiResponse(responseCode = "200", description = "처리 방식 변경 성공"),
+            @ApiResponse(responseCode = "400", description = "존재하지 않는 처리 방식인 경우"),
+    })
+    @PutMapping("/{eventId}/strategy")
+    public ResponseEntity<Void> changeStrategy(@PathVariable("eventId") String eventId, @Valid @RequestBody RequestFcfsStrategyDto dto) {
+        fcfsStrategyRegistry.set(eventId, dto.getStrategy());
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * @param eventId 선착순 이벤트 id
+     */
+    @Operation(summary = "선착순 이벤트 처리 방식 초기화", description = "선착순 이벤트의 처리 방식을 기본 처리 방식으로 되돌린다.", responses = {
+            @ApiResponse(responseCode = "200", description = "처리 방식 초기화 성공"),
+    })
+    @DeleteMapping("/{eventId}/strategy")
+    public ResponseEntity<Void> resetStrategy(@PathVariable("eventId") String eventId) {
+        fcfsStrategyRegistry.remove(eventId);
+        return ResponseEntity.ok().build();
+    }
+}
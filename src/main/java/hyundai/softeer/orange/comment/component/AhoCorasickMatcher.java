@@ -0,0 +1,127 @@
+package hyundai.softeer.orange.comment.component;
+
+import java.util.*;
+
+/**
+ * 여러 단어 중 하나라도 문자열에 포함되어 있는지를 문자열 길이에 비례하는 시간에 확인하는 Aho-Corasick 오토마톤.
+ * <p>생성 시점에 trie와 실패 링크를 모두 계산하며, 이후에는 변경되지 않으므로 여러 스레드에서 동시에 사용할 수 있다.</p>
+ * <p>노드 별 자식은 문자 순으로 정렬된 병렬 배열에 저장하고 이진 탐색으로 찾는다.</p>
+ */
+public class AhoCorasickMatcher {
+    private static final AhoCorasickMatcher EMPTY = new AhoCorasickMatcher(List.of());
+
+    // 노드 별 자식 문자 / 자식 노드 번호. 0번 노드가 루트
+    private final char[][] childChars;
+    private final int[][] childNodes;
+    // 현재 노드에서 더 진행할 수 없을 때 이동할, 현재까지 읽은 문자열의 가장 긴 접미사에 해당하는 노드
+    private final int[] fail;
+    // 이 노드까지 읽었을 때 끝나는 단어의 길이. 실패 링크를 따라 끝나는 단어도 포함하며, 없다면 0
+    private final int[] matchLength;
+    private final int wordCount;
+
+    public static AhoCorasickMatcher empty() {
+        return EMPTY;
+    }
+
+    public AhoCorasickMatcher(Collection<String> words) {
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        children.add(new HashMap<>());
+        lengths.add(0);
+
+        int count = 0;
+        for (String word : words) {
+            if (word == null || word.isEmpty()) continue;
+            int node = 0;
+            for (int i = 0; i < word.length(); i++) {
+                Integer next = children.get(node).get(word.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.add(new HashMap<>());
+                    lengths.add(0);
+                    children.get(node).put(word.charAt(i), next);
+                }
+                node = next;
+            }
+            // 같은 노드에서 끝나는 단어는 하나뿐이므로 길이도 하나
+            lengths.set(node, word.length());
+            count++;
+        }
+        this.wordCount = count;
+
+        int size = children.size();
+        this.childChars = new char[size][];
+        this.childNodes = new int[size][];
+        this.fail = new int[size];
+        this.matchLength = new int[size];
+        for (int node = 0; node < size; node++) {
+            List<Map.Entry<Character, Integer>> entries = new ArrayList<>(children.get(node).entrySet());
+            entries.sort(Map.Entry.comparingByKey());
+            childChars[node] = new char[entries.size()];
+            childNodes[node] = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                childChars[node][i] = entries.get(i).getKey();
+                childNodes[node][i] = entries.get(i).getValue();
+            }
+            matchLength[node] = lengths.get(node);
+        }
+        buildFailLinks();
+    }
+
+    /**
+     * 단어 중 하나라도 text에 포함되어 있는지 여부
+     */
+    public boolean matches(String text) {
+        return findFirst(text).isPresent();
+    }
+
+    /**
+     * text에서 가장 먼저 끝나는 단어를 반환한다.
+     */
+    public Optional<String> findFirst(String text) {
+        if (wordCount == 0) return Optional.empty();
+
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            node = next(node, text.charAt(i));
+            if (matchLength[node] > 0) {
+                return Optional.of(text.substring(i + 1 - matchLength[node], i + 1));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        return wordCount;
+    }
+
+    // 루트에서부터 너비 우선으로 실패 링크를 계산한다. 부모의 실패 링크가 먼저 계산되어 있어야 한다
+    private void buildFailLinks() {
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : childNodes[0]) {
+            fail[child] = 0;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < childChars[node].length; i++) {
+                int child = childNodes[node][i];
+                fail[child] = next(fail[node], childChars[node][i]);
+                // 실패 링크 쪽에서 끝나는 단어도 이 노드에서 찾은 것으로 본다
+                if (matchLength[child] == 0) matchLength[child] = matchLength[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    // node에서 c를 읽었을 때 이동할 노드. 자식이 없다면 실패 링크를 따라간다
+    private int next(int node, char c) {
+        while (true) {
+            int idx = Arrays.binarySearch(childChars[node], c);
+            if (idx >= 0) return childNodes[node][idx];
+            if (node == 0) return 0;
+            node = fail[node];
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package hyundai.softeer.orange.comment.config;
+
+import hyundai.softeer.orange.comment.service.CommentPreFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class CommentPubSubConfig {
+
+    // 금칙어 / 긍정 문구 변경 알림을 구독하여 노드의 기대평 필터를 다시 만든다
+    @Bean
+    public RedisMessageListenerContainer commentMessageListenerContainer(RedisConnectionFactory connectionFactory, CommentPreFilter commentPreFilter) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(commentPreFilter, new ChannelTopic(CommentPreFilter.RELOAD_CHANNEL));
+        return container;
+    }
+}
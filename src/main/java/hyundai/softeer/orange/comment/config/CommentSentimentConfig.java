@@ -0,0 +1,41 @@
+package hyundai.softeer.orange.comment.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 작성된 기대평의 감정 분석을 백그라운드에서 묶어서 처리하기 위한 설정
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "comment.sentiment")
+public class CommentSentimentConfig {
+    // 분석을 기다리는 기대평을 조회하는 주기
+    private long intervalMillis = 1000;
+    // 한 번에 가져와 분석하는 최대 기대평 수
+    private int batchSize = 50;
+    // 서버 한 대가 초당 보내는 최대 분석 요청 수
+    private double ratePerSecond = 10;
+    // 가져간 기대평을 다른 서버가 다시 가져가지 않도록 미루는 시간. 분석 응답은 이 시간 안에 받아야 한다.
+    private long leaseSeconds = 60;
+    // 이 횟수만큼 실패하면 부정으로 처리하고 더 이상 분석하지 않는다.
+    private int maxAttempts = 5;
+    // 실패한 기대평은 backoffBaseMillis * 2^(실패 횟수 - 1)만큼 기다렸다가 다시 분석한다. 최대 backoffMaxMillis
+    private long backoffBaseMillis = 1000;
+    private long backoffMaxMillis = 300000;
+    // 어드민이 등록한 금칙어 / 긍정 문구로 원격 감정 분석 전에 분류할지 여부
+    private boolean preFilterEnabled = true;
+    // 같은 내용의 기대평에 대한 분석 결과 캐시
+    private Cache cache = new Cache();
+
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+        // 서버 별 로컬 캐시에 유지하는 최대 결과 수와 유지 시간
+        private long localMaximumSize = 10000;
+        private long localTtlMinutes = 10;
+        // 서버 간에 공유하는 Redis 캐시의 유지 시간
+        private long ttlHours = 24;
+    }
+}
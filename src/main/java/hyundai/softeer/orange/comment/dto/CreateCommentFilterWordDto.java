@@ -0,0 +1,23 @@
+package hyundai.softeer.orange.comment.dto;
+
+import hyundai.softeer.orange.comment.enums.CommentFilterType;
+import hyundai.softeer.orange.common.util.MessageUtil;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateCommentFilterWordDto {
+
+    @NotBlank(message = MessageUtil.BAD_INPUT)
+    @Size(max = 50, message = MessageUtil.OUT_OF_SIZE)
+    private String word;
+
+    @NotNull(message = MessageUtil.BAD_INPUT)
+    private CommentFilterType type;
+}
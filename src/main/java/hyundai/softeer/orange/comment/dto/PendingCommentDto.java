@@ -0,0 +1,12 @@
+package hyundai.softeer.orange.comment.dto;
+
+// 감정 분석을 기다리는 기대평
+public interface PendingCommentDto {
+    Long getId();
+    Long getEventFrameId();
+    Long getEventUserId();
+    // 기대평 프레임에 연결된 추첨 이벤트 id. 없다면 null
+    Long getDrawEventId();
+    String getContent();
+    int getSentimentAttempts();
+}
@@ -0,0 +1,18 @@
+package hyundai.softeer.orange.comment.dto;
+
+import hyundai.softeer.orange.comment.entity.CommentFilterWord;
+import hyundai.softeer.orange.comment.enums.CommentFilterType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ResponseCommentFilterWordDto {
+    private Long id;
+    private String word;
+    private CommentFilterType type;
+
+    public static ResponseCommentFilterWordDto from(CommentFilterWord filterWord) {
+        return new ResponseCommentFilterWordDto(filterWord.getId(), filterWord.getWord(), filterWord.getType());
+    }
+}
@@ -6,12 +6,17 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
 
-@Table(name="comment")
+@Table(name="comment",
+        indexes = {
+                @Index(name = "idx_comment_frame_positive", columnList = "event_frame_id, is_positive"),
+                @Index(name = "idx_comment_sentiment_retry", columnList = "sentiment_retry_at")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
@@ -35,9 +40,20 @@ public class Comment {
     @JoinColumn(name="event_user_id")
     private EventUser eventUser;
 
-    // 긍정 기대평 여부
+    // 긍정 기대평 여부. 감정 분석이 끝나기 전에는 null
     private Boolean isPositive;
 
+    // 감정 분석을 실패한 횟수
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int sentimentAttempts;
+
+    // 감정 분석을 시도할 시각. 분석이 끝났다면 null
+    private Instant sentimentRetryAt;
+
+    // 부정 확률이 높아 삭제 처리된 시각. 삭제된 기대평은 작성 점수와 하루 작성 횟수에 포함되지 않는다
+    private Instant deletedAt;
+
     public static Comment of(String content, EventFrame eventFrame, EventUser eventUser, Boolean isPositive) {
         Comment comment = new Comment();
         comment.content = content;
@@ -46,4 +62,13 @@ public class Comment {
         comment.isPositive = isPositive;
         return comment;
     }
+
+    /**
+     * 감정 분석을 기다리는 기대평을 만든다. 분석은 CommentSentimentService가 비동기로 진행한다.
+     */
+    public static Comment pending(String content, EventFrame eventFrame, EventUser eventUser, Instant now) {
+        Comment comment = of(content, eventFrame, eventUser, null);
+        comment.sentimentRetryAt = now;
+        return comment;
+    }
 }
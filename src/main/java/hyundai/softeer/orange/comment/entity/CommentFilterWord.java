@@ -0,0 +1,35 @@
+package hyundai.softeer.orange.comment.entity;
+
+import hyundai.softeer.orange.comment.enums.CommentFilterType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원격 감정 분석 전에 기대평을 분류하기 위해 어드민이 관리하는 금칙어 / 긍정 문구
+ */
+@Table(name = "comment_filter_word",
+        uniqueConstraints = @UniqueConstraint(name = "uk_comment_filter_word", columnNames = {"type", "word"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class CommentFilterWord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 50, nullable = false)
+    private String word;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private CommentFilterType type;
+
+    public static CommentFilterWord of(String word, CommentFilterType type) {
+        CommentFilterWord filterWord = new CommentFilterWord();
+        filterWord.word = word;
+        filterWord.type = type;
+        return filterWord;
+    }
+}
@@ -0,0 +1,8 @@
+package hyundai.softeer.orange.comment.enums;
+
+public enum CommentFilterType {
+    // 포함되어 있다면 감정 분석 없이 부정 확률이 높은 기대평으로 처리
+    BANNED,
+    // 기대평 전체가 일치한다면 감정 분석 없이 긍정으로 처리
+    POSITIVE
+}
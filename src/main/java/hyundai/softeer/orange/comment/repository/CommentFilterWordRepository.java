@@ -0,0 +1,9 @@
+package hyundai.softeer.orange.comment.repository;
+
+import hyundai.softeer.orange.comment.entity.CommentFilterWord;
+import hyundai.softeer.orange.comment.enums.CommentFilterType;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CommentFilterWordRepository extends JpaRepository<CommentFilterWord, Long> {
+    boolean existsByTypeAndWord(CommentFilterType type, String word);
+}
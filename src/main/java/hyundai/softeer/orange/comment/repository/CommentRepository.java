@@ -1,5 +1,6 @@
 package hyundai.softeer.orange.comment.repository;
 
+import hyundai.softeer.orange.comment.dto.PendingCommentDto;
 import hyundai.softeer.orange.comment.dto.ResponseCommentDto;
 import hyundai.softeer.orange.comment.dto.WriteCommentCountDto;
 import hyundai.softeer.orange.comment.entity.Comment;
@@ -9,23 +10,56 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
-public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpecificationExecutor<Comment> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpecificationExecutor<Comment>, CustomCommentRepository {
 
-    // DB 상에서 무작위로 추출된 n개의 긍정 기대평 목록을 조회하고 Dto로 반환, N+1 문제 방지 (JPQL)
+    // 무작위로 고른 긍정 기대평을 기본 키로 조회하고 Dto로 반환, N+1 문제 방지 (JPQL)
     @Query("select new hyundai.softeer.orange.comment.dto.ResponseCommentDto(c.id, c.content, cu.userName, c.createdAt) " +
             "from Comment c " +
             "JOIN c.eventUser cu " +
-            "where c.eventFrame.id = :eventFrameId and c.isPositive = true " +
-            "order by function('RAND')")
-    List<ResponseCommentDto> findRandomPositiveComments(Long eventFrameId, Pageable pageable);
+            "where c.id in :ids and c.isPositive = true")
+    List<ResponseCommentDto> findPositiveCommentsByIds(@Param("ids") Collection<Long> ids);
 
-    // 오늘 날짜 기준으로 이미 유저의 기대평이 등록되어 있는지 확인 (JPQL)
-    @Query("SELECT (COUNT(c) > 0) FROM Comment c WHERE c.eventUser.id = :eventUserId AND FUNCTION('DATE', c.createdAt) = CURRENT_DATE")
+    // 감정 분석을 시도할 시각이 지난 기대평을 다른 서버가 잠근 행은 건너뛰고 잠근다. 추첨 이벤트는 잠그지 않고 조회만 한다
+    @Query(value = "SELECT id, event_frame_id as eventFrameId, event_user_id as eventUserId, content, sentiment_attempts as sentimentAttempts, " +
+            "(SELECT d.id FROM draw_event d JOIN event_metadata em ON d.event_metadata_id = em.id " +
+            "WHERE em.event_frame_id = comment.event_frame_id LIMIT 1) as drawEventId " +
+            "FROM comment " +
+            "WHERE sentiment_retry_at <= :now " +
+            "ORDER BY sentiment_retry_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PendingCommentDto> lockPendingSentiments(@Param("now") Instant now, @Param("limit") int limit);
+
+    // 분석 중인 기대평을 다른 서버가 가져가지 않도록 until까지 미룬다
+    @Modifying
+    @Query("update Comment c set c.sentimentRetryAt = :until where c.id in :ids")
+    void leaseSentiments(@Param("ids") Collection<Long> ids, @Param("until") Instant until);
+
+    // 이미 분석이 끝난 기대평은 갱신하지 않으며, 갱신된 행 수를 반환
+    @Modifying
+    @Query("update Comment c set c.isPositive = :positive, c.sentimentRetryAt = null where c.id = :id and c.sentimentRetryAt is not null")
+    int completeSentiment(@Param("id") Long id, @Param("positive") boolean positive);
+
+    // 부정 확률이 높은 기대평을 삭제 처리한다
+    @Modifying
+    @Query("update Comment c set c.isPositive = false, c.sentimentRetryAt = null, c.deletedAt = :now where c.id = :id and c.sentimentRetryAt is not null")
+    int invalidateSentiment(@Param("id") Long id, @Param("now") Instant now);
+
+    // 임대 시간이 지나 다른 서버가 먼저 분석을 끝낸 기대평은 다시 분석 대상으로 되돌리지 않으며, 갱신된 행 수를 반환
+    @Modifying
+    @Query("update Comment c set c.sentimentAttempts = c.sentimentAttempts + 1, c.sentimentRetryAt = :retryAt where c.id = :id and c.sentimentRetryAt is not null")
+    int retrySentimentAt(@Param("id") Long id, @Param("retryAt") Instant retryAt);
+
+    // 오늘 날짜 기준으로 이미 유저의 기대평이 등록되어 있는지 확인, 삭제된 기대평은 제외 (JPQL)
+    @Query("SELECT (COUNT(c) > 0) FROM Comment c WHERE c.eventUser.id = :eventUserId AND c.deletedAt IS NULL AND FUNCTION('DATE', c.createdAt) = CURRENT_DATE")
     boolean existsByCreatedDateAndEventUser(@Param("eventUserId") Long eventUserId);
 
     @EntityGraph(attributePaths = {"eventUser"})
@@ -34,7 +68,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpec
     @Query(value = "SELECT c.* FROM comment c " +
             "JOIN event_frame ef ON c.event_frame_id = ef.id " +
             "JOIN event_metadata e ON ef.id = e.event_frame_id " +
-            "WHERE e.event_id = :eventId",
+            "WHERE e.event_id = :eventId AND c.deleted_at IS NULL",
             countProjection = "c.id", // 어떤 값으로 count 셀건지 지정. 지정 안하면 count(c.*)가 되어 문제 발생.
             nativeQuery = true)
     Page<Comment> findAllByEventId(@Param("eventId") String eventId, Pageable pageable);
@@ -44,7 +78,13 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpec
             "FROM comment c " +
             "JOIN event_frame ef ON c.event_frame_id = ef.id " +
             "JOIN event_metadata e ON ef.id = e.event_frame_id " +
-            "WHERE e.id = :eventRawId " +
+            "WHERE e.id = :eventRawId AND c.deleted_at IS NULL " +
             "GROUP BY c.event_user_id " , nativeQuery = true)
     List<WriteCommentCountDto> countPerEventUserByEventId(@Param("eventRawId") Long eventRawId);
+
+    @Query(value = "SELECT COUNT(*) FROM comment c " +
+            "JOIN event_frame ef ON c.event_frame_id = ef.id " +
+            "JOIN event_metadata e ON ef.id = e.event_frame_id " +
+            "WHERE e.id = :eventRawId AND c.deleted_at IS NULL", nativeQuery = true)
+    long countByEventRawId(@Param("eventRawId") Long eventRawId);
 }
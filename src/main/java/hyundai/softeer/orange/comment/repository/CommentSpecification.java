@@ -12,6 +12,10 @@ public class CommentSpecification {
                         .get("eventId"), eventId);
     }
 
+    public static Specification<Comment> notDeleted() {
+        return (comment, query, cb) -> cb.isNull(comment.get("deletedAt"));
+    }
+
     public static Specification<Comment> searchOnContent(String search, boolean conjunctionOnNull) {
         return (comment, query, cb) -> {
             if (search == null || search.isEmpty()) return (conjunctionOnNull ? cb.conjunction() : cb.disjunction());
@@ -0,0 +1,17 @@
+package hyundai.softeer.orange.comment.repository;
+
+import hyundai.softeer.orange.event.draw.component.score.UserCountConsumer;
+
+import java.util.function.LongConsumer;
+
+public interface CustomCommentRepository {
+    /**
+     * 추첨 이벤트에 작성된 유저 별 기대평 수(삭제된 기대평 제외)를 결과 목록으로 만들지 않고 한 행씩 consumer에 전달한다.
+     */
+    void streamCountPerEventUserByEventId(long eventRawId, UserCountConsumer consumer);
+
+    /**
+     * 기대평 프레임의 긍정 기대평 id를 결과 목록으로 만들지 않고 한 행씩 consumer에 전달한다.
+     */
+    void streamPositiveCommentIds(long eventFrameId, LongConsumer consumer);
+}
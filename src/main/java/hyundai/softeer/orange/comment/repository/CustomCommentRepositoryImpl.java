@@ -0,0 +1,54 @@
+package hyundai.softeer.orange.comment.repository;
+
+import hyundai.softeer.orange.event.draw.component.score.UserCountConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.function.LongConsumer;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomCommentRepositoryImpl implements CustomCommentRepository {
+    // MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때 결과를 메모리에 모두 올리지 않고 한 행씩 읽는다.
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void streamCountPerEventUserByEventId(long eventRawId, UserCountConsumer consumer) {
+        String sql = "SELECT c.event_user_id, COUNT(c.event_user_id) " +
+                "FROM comment c " +
+                "JOIN event_frame ef ON c.event_frame_id = ef.id " +
+                "JOIN event_metadata e ON ef.id = e.event_frame_id " +
+                "WHERE e.id = ? AND c.deleted_at IS NULL " +
+                "GROUP BY c.event_user_id";
+
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(sql);
+                    ps.setFetchSize(STREAMING_FETCH_SIZE);
+                    ps.setLong(1, eventRawId);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getLong(2))
+        );
+    }
+
+    @Override
+    public void streamPositiveCommentIds(long eventFrameId, LongConsumer consumer) {
+        String sql = "SELECT id FROM comment WHERE event_frame_id = ? AND is_positive = true";
+
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(sql);
+                    ps.setFetchSize(STREAMING_FETCH_SIZE);
+                    ps.setLong(1, eventFrameId);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1))
+        );
+    }
+}
@@ -1,7 +1,10 @@
 package hyundai.softeer.orange.comment.scheduler;
 
+import hyundai.softeer.orange.comment.service.CommentSentimentService;
 import hyundai.softeer.orange.comment.service.CommentService;
+import hyundai.softeer.orange.comment.service.PositiveCommentPool;
 import hyundai.softeer.orange.common.util.ConstantUtil;
+import hyundai.softeer.orange.event.common.entity.EventFrame;
 import hyundai.softeer.orange.event.common.repository.EventFrameRepository;
 import lombok.RequiredArgsConstructor;
 import org.redisson.api.RLock;
@@ -19,9 +22,11 @@ public class CommentScheduler {
     // 분산 환경에서 메서드가 여러 번 실행되는 것을 방지하기 위해 분산 락 도입
     private final RedissonClient redissonClient;
     private final CommentService commentService;
+    private final CommentSentimentService commentSentimentService;
     private final EventFrameRepository eventFrameRepository;
+    private final PositiveCommentPool positiveCommentPool;
 
-    // 스케줄러에 의해 일정 시간마다 캐싱된 긍정 기대평 목록을 초기화한다.
+    // 스케줄러에 의해 일정 시간마다 긍정 기대평 set에 누락된 기대평을 반영하고, 캐싱된 긍정 기대평 목록을 초기화한다.
     @Scheduled(fixedRate = ConstantUtil.SCHEDULED_TIME) // 2시간마다 실행
     private void clearCache() throws InterruptedException {
         RLock lock = redissonClient.getLock(ConstantUtil.DB_TO_REDIS_LOCK);
@@ -29,6 +34,9 @@ public class CommentScheduler {
             // 5분동안 락 점유
             if (lock.tryLock(0, 5, TimeUnit.MINUTES)) {
                 try {
+                    eventFrameRepository.findAll().stream()
+                            .map(EventFrame::getId)
+                            .forEach(positiveCommentPool::reconcile);
                     List<String> frameIds = eventFrameRepository.findAllFrameIds();
                     frameIds.forEach(commentService::getComments);
                 } finally {
@@ -39,4 +47,10 @@ public class CommentScheduler {
             Thread.currentThread().interrupt();
         }
     }
+
+    // 모든 서버에서 실행되며, 감정 분석을 기다리는 기대평을 나누어 가져가 분석한다.
+    @Scheduled(fixedDelayString = "${comment.sentiment.interval-millis:1000}")
+    private void classifyComments() {
+        commentSentimentService.classifyPending();
+    }
 }
@@ -0,0 +1,78 @@
+package hyundai.softeer.orange.comment.service;
+
+import hyundai.softeer.orange.comment.dto.CreateCommentFilterWordDto;
+import hyundai.softeer.orange.comment.dto.ResponseCommentFilterWordDto;
+import hyundai.softeer.orange.comment.entity.CommentFilterWord;
+import hyundai.softeer.orange.comment.exception.CommentException;
+import hyundai.softeer.orange.comment.repository.CommentFilterWordRepository;
+import hyundai.softeer.orange.common.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 어드민이 관리하는 금칙어 / 긍정 문구 목록. 변경이 커밋되면 모든 노드의 CommentPreFilter를 다시 만든다.
+ */
+@RequiredArgsConstructor
+@Service
+public class CommentFilterService {
+    private static final Logger log = LoggerFactory.getLogger(CommentFilterService.class);
+
+    private final CommentFilterWordRepository commentFilterWordRepository;
+    private final CommentPreFilter commentPreFilter;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Transactional(readOnly = true)
+    public List<ResponseCommentFilterWordDto> getWords() {
+        return commentFilterWordRepository.findAll(Sort.by("type", "word")).stream()
+                .map(ResponseCommentFilterWordDto::from)
+                .toList();
+    }
+
+    @Transactional
+    public Long addWord(CreateCommentFilterWordDto dto) {
+        String word = dto.getWord().strip();
+        if (commentFilterWordRepository.existsByTypeAndWord(dto.getType(), word)) {
+            throw new CommentException(ErrorCode.COMMENT_FILTER_WORD_ALREADY_EXISTS);
+        }
+
+        CommentFilterWord filterWord = commentFilterWordRepository.save(CommentFilterWord.of(word, dto.getType()));
+        reloadAfterCommit();
+        log.info("added comment filter word: {} ({})", word, dto.getType());
+        return filterWord.getId();
+    }
+
+    @Transactional
+    public void deleteWord(Long filterWordId) {
+        CommentFilterWord filterWord = commentFilterWordRepository.findById(filterWordId)
+                .orElseThrow(() -> new CommentException(ErrorCode.COMMENT_FILTER_WORD_NOT_FOUND));
+
+        commentFilterWordRepository.delete(filterWord);
+        reloadAfterCommit();
+        log.info("deleted comment filter word: {} ({})", filterWord.getWord(), filterWord.getType());
+    }
+
+    // 이 노드는 바로 다시 만들고, 다른 노드에는 pub/sub으로 알린다
+    private void reloadAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                commentPreFilter.reload();
+                try {
+                    stringRedisTemplate.convertAndSend(CommentPreFilter.RELOAD_CHANNEL, "reload");
+                } catch (DataAccessException e) {
+                    log.error("failed to notify comment filter change", e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,120 @@
+package hyundai.softeer.orange.comment.service;
+
+import hyundai.softeer.orange.comment.component.AhoCorasickMatcher;
+import hyundai.softeer.orange.comment.config.CommentSentimentConfig;
+import hyundai.softeer.orange.comment.entity.CommentFilterWord;
+import hyundai.softeer.orange.comment.enums.CommentFilterType;
+import hyundai.softeer.orange.comment.repository.CommentFilterWordRepository;
+import hyundai.softeer.orange.comment.service.SentimentCache.Sentiment;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 원격 감정 분석 전에 어드민이 등록한 단어로 기대평을 분류한다.
+ * <p>금칙어가 포함된 기대평은 부정 확률이 높은 기대평으로, 등록된 긍정 문구와 전체가 일치하는 기대평은 긍정으로 처리하고
+ * 나머지는 원격 감정 분석으로 넘긴다. 단어 안에 문장 부호를 끼워 넣어 금칙어를 피하지 못하도록 단어마다 문자와 숫자만 남겨 비교한다.
+ * 단어 사이의 공백은 남겨 두므로 금칙어가 정상적인 두 단어에 걸쳐 있는 기대평은 금칙어로 분류하지 않는다.</p>
+ * <p>단어 목록이 바뀌면 pub/sub으로 모든 노드가 DB에서 다시 읽어 오토마톤을 새로 만든다. 만드는 동안에는 기존 오토마톤을 사용한다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+public class CommentPreFilter implements MessageListener {
+    private static final Logger log = LoggerFactory.getLogger(CommentPreFilter.class);
+    // 단어 목록이 변경되었음을 알리는 채널
+    public static final String RELOAD_CHANNEL = "comment:channel:filter";
+    private static final Pattern NON_LETTER_OR_DIGIT = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final CommentFilterWordRepository commentFilterWordRepository;
+    private final CommentSentimentConfig commentSentimentConfig;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Rules rules = new Rules(AhoCorasickMatcher.empty(), Set.of());
+
+    private record Rules(AhoCorasickMatcher banned, Set<String> positive) {}
+
+    /**
+     * 확실하게 분류할 수 있는 기대평이라면 결과를, 아니라면 empty를 반환한다.
+     */
+    public Optional<Sentiment> classify(String content) {
+        if (!commentSentimentConfig.isPreFilterEnabled()) return Optional.empty();
+
+        Rules current = rules;
+        String normalized = normalize(content);
+        Optional<String> banned = current.banned().findFirst(normalized);
+        if (banned.isPresent()) {
+            log.info("comment <{}> contains banned word <{}>", content, banned.get());
+            count("banned");
+            return Optional.of(Sentiment.INVALID);
+        }
+        if (current.positive().contains(compact(normalized))) {
+            count("positive");
+            return Optional.of(Sentiment.POSITIVE);
+        }
+        count("forwarded");
+        return Optional.empty();
+    }
+
+    // DB에 저장된 단어 목록으로 다시 만든다. DB를 사용할 수 없다면 기존 목록을 유지
+    @PostConstruct
+    public void reload() {
+        try {
+            List<CommentFilterWord> words = commentFilterWordRepository.findAll();
+            List<String> banned = normalizedWords(words, CommentFilterType.BANNED).toList();
+            Set<String> positive = normalizedWords(words, CommentFilterType.POSITIVE)
+                    .map(CommentPreFilter::compact)
+                    .collect(Collectors.toUnmodifiableSet());
+            rules = new Rules(new AhoCorasickMatcher(banned), positive);
+            log.info("comment pre-filter rebuilt with {} banned words and {} positive phrases", banned.size(), positive.size());
+        } catch (DataAccessException e) {
+            log.warn("failed to load comment filter words", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        reload();
+    }
+
+    // 단어마다 문자와 숫자만 남기고, 단어 사이는 공백 하나로 구분한다
+    static String normalize(String content) {
+        String normalized = Normalizer.normalize(content, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.splitAsStream(normalized)
+                .map(token -> NON_LETTER_OR_DIGIT.matcher(token).replaceAll(""))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.joining(" "));
+    }
+
+    // 긍정 문구는 전체가 일치해야 하므로 띄어쓰기와 상관없이 비교한다
+    private static String compact(String normalized) {
+        return normalized.replace(" ", "");
+    }
+
+    private static Stream<String> normalizedWords(List<CommentFilterWord> words, CommentFilterType type) {
+        return words.stream()
+                .filter(word -> word.getType() == type)
+                .map(word -> normalize(word.getWord()))
+                .filter(word -> !word.isEmpty())
+                .distinct();
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("comment.prefilter", "result", result).increment();
+    }
+}
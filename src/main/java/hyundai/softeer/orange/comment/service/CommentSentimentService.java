@@ -0,0 +1,174 @@
+package hyundai.softeer.orange.comment.service;
+
+import hyundai.softeer.orange.comment.config.CommentSentimentConfig;
+import hyundai.softeer.orange.comment.dto.PendingCommentDto;
+import hyundai.softeer.orange.comment.exception.CommentException;
+import hyundai.softeer.orange.comment.repository.CommentRepository;
+import hyundai.softeer.orange.common.ErrorCode;
+import hyundai.softeer.orange.event.draw.component.score.DrawScoreStore;
+import hyundai.softeer.orange.event.draw.enums.DrawEventAction;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 감정 분석을 기다리는 기대평을 묶어서 가져와 Naver API로 분석하고 결과를 반영한다.
+ * <p>여러 서버가 동시에 실행하더라도 FOR UPDATE SKIP LOCKED로 서로 다른 기대평을 가져가며,
+ * 가져간 기대평은 leaseSeconds 동안 다시 조회되지 않도록 미룬다. 분석 도중 서버가 종료되면 그 뒤에 다른 서버가 가져간다.</p>
+ * <p>부정 확률이 높은 기대평은 삭제 처리하고, 그 외의 기대평은 분석이 끝난 뒤에 작성 점수를 반영한다.</p>
+ * <p>서버 당 요청 수는 ratePerSecond로, 동시에 실행되는 요청 수는 Naver API 전용 실행기의 크기로 제한한다.</p>
+ */
+@RequiredArgsConstructor
+@Service
+public class CommentSentimentService {
+    private static final Logger log = LoggerFactory.getLogger(CommentSentimentService.class);
+
+    private final CommentRepository commentRepository;
+    private final CommentValidator commentValidator;
+    private final PositiveCommentPool positiveCommentPool;
+    private final DrawScoreStore drawScoreStore;
+    private final CommentSentimentConfig commentSentimentConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // ratePerSecond만큼 채워지는 요청 허용량. 스케줄러 스레드에서만 접근한다.
+    private double permits;
+    private long lastRefillNanos = System.nanoTime();
+
+    /**
+     * 허용량만큼의 기대평을 가져와 분석한다.
+     * @return 결과를 반영한 기대평 수
+     */
+    public int classifyPending() {
+        int limit = acquirePermits();
+        if (limit == 0) return 0;
+
+        List<PendingCommentDto> pending = claim(limit);
+        // 가져오지 못한 만큼은 다음 주기에 사용
+        permits += limit - pending.size();
+        if (pending.isEmpty()) return 0;
+
+        List<CompletableFuture<Boolean>> futures = pending.stream()
+                .map(comment -> submit(comment.getContent()))
+                .toList();
+
+        // 임대 시간이 지나면 다른 서버가 가져갈 수 있으므로 그 전까지만 응답을 기다린다
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(commentSentimentConfig.getLeaseSeconds());
+        for (int i = 0; i < pending.size(); i++) {
+            PendingCommentDto comment = pending.get(i);
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                boolean positive = futures.get(i).get(remaining, TimeUnit.NANOSECONDS);
+                complete(comment, positive);
+                count(positive ? "positive" : "negative");
+            } catch (ExecutionException e) {
+                handleFailure(comment, e.getCause());
+            } catch (TimeoutException e) {
+                handleFailure(comment, e);
+            } catch (InterruptedException e) {
+                // 남은 기대평은 임대 시간이 지난 뒤 다시 분석된다
+                Thread.currentThread().interrupt();
+                return i;
+            }
+        }
+        return pending.size();
+    }
+
+    private int acquirePermits() {
+        long now = System.nanoTime();
+        double refilled = (now - lastRefillNanos) / 1e9 * commentSentimentConfig.getRatePerSecond();
+        // 한 주기에 가져올 수 있는 양 이상은 쌓지 않는다
+        permits = Math.min(commentSentimentConfig.getBatchSize(), permits + refilled);
+        lastRefillNanos = now;
+
+        int granted = (int) permits;
+        permits -= granted;
+        return granted;
+    }
+
+    private List<PendingCommentDto> claim(int limit) {
+        Instant now = Instant.now();
+        return transactionTemplate.execute(status -> {
+            List<PendingCommentDto> pending = commentRepository.lockPendingSentiments(now, limit);
+            if (!pending.isEmpty()) {
+                List<Long> ids = pending.stream().map(PendingCommentDto::getId).toList();
+                commentRepository.leaseSentiments(ids, now.plusSeconds(commentSentimentConfig.getLeaseSeconds()));
+            }
+            return pending;
+        });
+    }
+
+    // 실행기의 대기열이 가득 차 거절된 요청도 실패로 보고 나중에 다시 시도
+    private CompletableFuture<Boolean> submit(String content) {
+        try {
+            return commentValidator.analyzeCommentAsync(content);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void handleFailure(PendingCommentDto comment, Throwable cause) {
+        // 부정 확률이 높은 기대평은 분석에 성공한 것이므로 다시 시도하지 않는다
+        if (cause instanceof CommentException e && e.getErrorCode() == ErrorCode.INVALID_COMMENT) {
+            log.info("comment {} is strongly negative", comment.getId());
+            invalidate(comment);
+            count("invalid");
+            return;
+        }
+
+        int attempts = comment.getSentimentAttempts() + 1;
+        if (attempts >= commentSentimentConfig.getMaxAttempts()) {
+            log.error("comment {} sentiment analysis failed {} times, marking as negative", comment.getId(), attempts, cause);
+            complete(comment, false);
+            count("gave_up");
+            return;
+        }
+
+        Instant retryAt = Instant.now().plusMillis(backoffMillis(attempts));
+        log.warn("comment {} sentiment analysis failed ({} times), retrying at {}", comment.getId(), attempts, retryAt, cause);
+        Integer updated = transactionTemplate.execute(status -> commentRepository.retrySentimentAt(comment.getId(), retryAt));
+        if (updated == null || updated == 0) {
+            log.info("comment {} sentiment analysis was already completed by another node", comment.getId());
+            return;
+        }
+        count("retry");
+    }
+
+    // 긍정 기대평은 커밋된 뒤에 무작위 추출 대상에 추가되고, 작성 점수도 커밋된 뒤에 반영된다.
+    // 임대 시간이 지나 다른 서버가 먼저 반영했다면 점수를 다시 올리지 않는다.
+    private void complete(PendingCommentDto comment, boolean positive) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (commentRepository.completeSentiment(comment.getId(), positive) == 0) return;
+            if (positive) positiveCommentPool.add(comment.getEventFrameId(), comment.getId());
+            if (comment.getDrawEventId() != null) {
+                drawScoreStore.increase(comment.getDrawEventId(), comment.getEventUserId(), DrawEventAction.WriteComment);
+            }
+        });
+    }
+
+    // 삭제 처리된 기대평은 작성 점수를 받지 않으며, 같은 날 다시 작성할 수 있다
+    private void invalidate(PendingCommentDto comment) {
+        transactionTemplate.executeWithoutResult(status -> commentRepository.invalidateSentiment(comment.getId(), Instant.now()));
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("comment.sentiment.result", "result", result).increment();
+    }
+
+    long backoffMillis(int attempts) {
+        long base = commentSentimentConfig.getBackoffBaseMillis();
+        // 2^30을 넘는 배수는 의미가 없으므로 오버플로우 전에 자른다
+        long delay = base << Math.min(attempts - 1, 30);
+        return delay < 0 ? commentSentimentConfig.getBackoffMaxMillis() : Math.min(delay, commentSentimentConfig.getBackoffMaxMillis());
+    }
+}
@@ -11,10 +11,13 @@ import hyundai.softeer.orange.comment.repository.CommentSpecification;
 import hyundai.softeer.orange.common.ErrorCode;
 import hyundai.softeer.orange.common.util.ConstantUtil;
 import hyundai.softeer.orange.event.common.entity.EventFrame;
+import hyundai.softeer.orange.event.common.entity.EventMetadata;
 import hyundai.softeer.orange.event.common.repository.EventFrameRepository;
+import hyundai.softeer.orange.event.draw.component.participation.DrawParticipationStore;
+import hyundai.softeer.orange.event.draw.config.DrawParticipationConfig;
 import hyundai.softeer.orange.event.draw.entity.DrawEvent;
 import hyundai.softeer.orange.event.draw.repository.DrawEventRepository;
-import hyundai.softeer.orange.event.draw.repository.EventParticipationInfoRepository;
+import hyundai.softeer.orange.event.draw.repository.EventParticipationCountRepository;
 import hyundai.softeer.orange.eventuser.entity.EventUser;
 import hyundai.softeer.orange.eventuser.repository.EventUserRepository;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +31,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -37,9 +44,11 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final EventFrameRepository eventFrameRepository;
     private final EventUserRepository eventUserRepository;
-    private final EventParticipationInfoRepository participationInfoRepository;
+    private final EventParticipationCountRepository participationCountRepository;
     private final DrawEventRepository drawEventRepository;
-    private final CommentValidator commentValidator;
+    private final DrawParticipationStore participationStore;
+    private final DrawParticipationConfig participationConfig;
+    private final PositiveCommentPool positiveCommentPool;
 
     // 주기적으로 무작위 추출되는 긍정 기대평 목록을 조회한다.
     @Transactional(readOnly = true)
@@ -47,12 +56,23 @@ public class CommentService {
     public ResponseCommentsDto getComments(String eventFrameId) {
         log.info("fetching comments of {}", eventFrameId);
         EventFrame frame = getEventFrame(eventFrameId);
-        List<ResponseCommentDto> comments = commentRepository.findRandomPositiveComments(frame.getId(), PageRequest.of(0, ConstantUtil.COMMENTS_SIZE));
+        List<Long> commentIds = positiveCommentPool.sample(frame.getId(), ConstantUtil.COMMENTS_SIZE);
+        List<ResponseCommentDto> comments = commentIds.isEmpty() ? List.of() : commentRepository.findPositiveCommentsByIds(commentIds);
+
+        // 삭제되었거나 더 이상 긍정이 아닌 기대평은 목록에서 제외
+        if(comments.size() < commentIds.size()) {
+            Set<Long> found = comments.stream().map(ResponseCommentDto::getId).collect(Collectors.toSet());
+            positiveCommentPool.remove(frame.getId(), commentIds.stream().filter(id -> !found.contains(id)).toList());
+        }
+        // 기본 키 순서로 조회되므로 다시 섞는다
+        comments = new ArrayList<>(comments);
+        Collections.shuffle(comments);
         log.info("comments of {} fetched from DB to Redis", eventFrameId);
         return new ResponseCommentsDto(comments);
     }
 
-    // 신규 기대평을 등록한다.
+    // 신규 기대평을 등록한다. 감정 분석은 CommentSentimentService가 나중에 수행하며, 긍정으로 분석되면 목록에 노출된다.
+    // 작성 점수는 분석 결과 삭제되지 않은 경우에만 CommentSentimentService가 반영한다.
     @Transactional
     public Boolean createComment(String userId, String eventFrameId, CreateCommentDto dto) {
         EventUser eventUser = getEventUser(userId);
@@ -60,22 +80,15 @@ public class CommentService {
         DrawEvent drawEvent = drawEventRepository.findByEventFrameId(eventFrameId)
                 .orElseThrow(() -> new CommentException(ErrorCode.DRAW_EVENT_NOT_FOUND));
 
-        // 오늘의 시작과 끝 시각 계산
-        LocalDate today = LocalDate.now();
-        Instant startOfDay = today.atStartOfDay().atZone(ZoneOffset.systemDefault()).toInstant();
-        Instant endOfDay = today.atTime(LocalTime.MAX).atZone(ZoneOffset.systemDefault()).toInstant();
-
         // 오늘 유저가 인터렉션에 참여하지 않았다면 예외처리
-        boolean participated = participationInfoRepository.existsByEventUserAndDrawEventAndDateBetween(eventUser, drawEvent, startOfDay, endOfDay);
-        if(!participated) throw new CommentException(ErrorCode.EVENT_NOT_PARTICIPATED);
+        if(!isParticipatedToday(drawEvent, eventUser)) throw new CommentException(ErrorCode.EVENT_NOT_PARTICIPATED);
 
         // 하루에 여러 번의 기대평을 작성하려 할 때 예외처리
         if(commentRepository.existsByCreatedDateAndEventUser(eventUser.getId())) {
             throw new CommentException(ErrorCode.COMMENT_ALREADY_EXISTS);
         }
 
-        boolean isPositive = commentValidator.analyzeComment(dto.getContent());
-        Comment comment = Comment.of(dto.getContent(), eventFrame, eventUser, isPositive);
+        Comment comment = Comment.pending(dto.getContent(), eventFrame, eventUser, Instant.now());
         commentRepository.save(comment);
         log.info("created comment: {}", comment.getId());
         return true;
@@ -92,11 +105,11 @@ public class CommentService {
     // 기대평을 삭제한다. 이 동작을 실행하는 주체가 어드민임이 반드시 검증되어야 한다.
     @Transactional
     public Long deleteComment(Long commentId) {
-        if(!commentRepository.existsById(commentId)) {
-            throw new CommentException(ErrorCode.COMMENT_NOT_FOUND);
-        }
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new CommentException(ErrorCode.COMMENT_NOT_FOUND));
 
-        commentRepository.deleteById(commentId);
+        commentRepository.delete(comment);
+        positiveCommentPool.remove(comment.getEventFrame().getId(), List.of(commentId));
         log.info("deleted comment: {}", commentId);
         return commentId;
     }
@@ -104,7 +117,12 @@ public class CommentService {
     @Transactional
     @CacheEvict(value = "comments", allEntries = true)
     public void deleteComments(List<Long> commentIds) {
-        commentRepository.deleteAllById(commentIds);
+        List<Comment> comments = commentRepository.findAllById(commentIds);
+        commentRepository.deleteAll(comments);
+        comments.stream()
+                .collect(Collectors.groupingBy(comment -> comment.getEventFrame().getId(),
+                        Collectors.mapping(Comment::getId, Collectors.toList())))
+                .forEach(positiveCommentPool::remove);
         log.info("deleted comments: {}", commentIds);
     }
 
@@ -116,7 +134,7 @@ public class CommentService {
         Specification<Comment> searchOnContent = CommentSpecification.searchOnContent(search);
 
         var comments = commentRepository.findAll(
-                matchEventId.and(searchOnContent),
+                matchEventId.and(searchOnContent).and(CommentSpecification.notDeleted()),
                 pageInfo
         );
 
@@ -124,6 +142,22 @@ public class CommentService {
         return CommentsPageDto.from(comments);
     }
 
+    // 아직 DB에 반영되지 않은 참여도 확인할 수 있도록 bitmap을 먼저 확인하고, 없다면 DB를 확인한다.
+    private boolean isParticipatedToday(DrawEvent drawEvent, EventUser eventUser) {
+        Instant now = Instant.now();
+        EventMetadata event = drawEvent.getEventMetadata();
+        if(participationConfig.isBitmapEnabled() && event != null) {
+            int day = DrawParticipationStore.dayOffset(event.getStartTime(), now, ZoneOffset.systemDefault());
+            if(participationStore.isParticipated(drawEvent.getId(), eventUser.getId(), day)) return true;
+        }
+
+        // 오늘의 시작과 끝 시각 계산
+        LocalDate today = LocalDate.ofInstant(now, ZoneOffset.systemDefault());
+        Instant startOfDay = today.atStartOfDay().atZone(ZoneOffset.systemDefault()).toInstant();
+        Instant endOfDay = today.atTime(LocalTime.MAX).atZone(ZoneOffset.systemDefault()).toInstant();
+        return participationCountRepository.existsByDrawEventIdAndEventUserIdAndLastDateBetween(drawEvent.getId(), eventUser.getId(), startOfDay, endOfDay);
+    }
+
     private EventUser getEventUser(String userId) {
         return eventUserRepository.findByUserId(userId)
                 .orElseThrow(() -> new CommentException(ErrorCode.EVENT_USER_NOT_FOUND));
@@ -3,33 +3,72 @@ package hyundai.softeer.orange.comment.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hyundai.softeer.orange.comment.exception.CommentException;
+import hyundai.softeer.orange.comment.service.SentimentCache.Sentiment;
 import hyundai.softeer.orange.common.ErrorCode;
 import hyundai.softeer.orange.common.util.ConstantUtil;
+import hyundai.softeer.orange.common.http.OutboundGuard;
+import hyundai.softeer.orange.config.AsyncConfig;
+import hyundai.softeer.orange.config.OutboundConfig;
 import hyundai.softeer.orange.config.NaverApiConfig;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
-@RequiredArgsConstructor
 @Service
 public class CommentValidator {
 
     private static final Logger log = LoggerFactory.getLogger(CommentValidator.class);
-    private final RestTemplate restTemplate = new RestTemplate();
     private final NaverApiConfig naverApiConfig;
     private final ObjectMapper objectMapper;
+    private final SentimentCache sentimentCache;
+    private final CommentPreFilter commentPreFilter;
+    private final RestTemplate restTemplate;
+    private final OutboundGuard naverGuard;
 
+    public CommentValidator(NaverApiConfig naverApiConfig, ObjectMapper objectMapper, SentimentCache sentimentCache,
+                            CommentPreFilter commentPreFilter,
+                            @Qualifier(OutboundConfig.NAVER_REST_TEMPLATE) RestTemplate restTemplate,
+                            @Qualifier(OutboundConfig.NAVER_GUARD) OutboundGuard naverGuard) {
+        this.naverApiConfig = naverApiConfig;
+        this.objectMapper = objectMapper;
+        this.sentimentCache = sentimentCache;
+        this.commentPreFilter = commentPreFilter;
+        this.restTemplate = restTemplate;
+        this.naverGuard = naverGuard;
+    }
+
+    // 금칙어 / 긍정 문구로 먼저 분류하고, 분류되지 않은 기대평은 캐시된 결과를 사용하거나 Naver API로 분석한 뒤 결과를 캐싱한다.
     public boolean analyzeComment(String content) {
-        String responseBody = sendSentimentAnalysisRequest(content);
-        return parseSentimentAnalysisResponse(responseBody, content);
+        Sentiment sentiment = commentPreFilter.classify(content)
+                .or(() -> sentimentCache.get(content))
+                .orElseGet(() -> {
+                    Sentiment analyzed = analyzeRemote(content);
+                    sentimentCache.put(content, analyzed);
+                    return analyzed;
+                });
+
+        if (sentiment == Sentiment.INVALID) {
+            throw new CommentException(ErrorCode.INVALID_COMMENT);
+        }
+        return sentiment == Sentiment.POSITIVE;
+    }
+
+    /**
+     * 감정 분석을 Naver API 전용 실행기에서 수행한다. 분석 요청을 보내는 스레드가 응답을 기다리지 않도록 사용한다.
+     */
+    @Async(AsyncConfig.NAVER_EXECUTOR)
+    public CompletableFuture<Boolean> analyzeCommentAsync(String content) {
+        return CompletableFuture.completedFuture(analyzeComment(content));
     }
 
     private String sendSentimentAnalysisRequest(String content) {
@@ -39,7 +78,8 @@ public class CommentValidator {
         HttpEntity<String> requestEntity = new HttpEntity<>(requestJson, headers);
         log.info("comment <{}> sentiment analysis request to Naver API", content);
 
-        ResponseEntity<String> responseEntity = restTemplate.postForEntity(naverApiConfig.getUrl(), requestEntity, String.class);
+        ResponseEntity<String> responseEntity = naverGuard.execute(
+                () -> restTemplate.postForEntity(naverApiConfig.getUrl(), requestEntity, String.class));
         return responseEntity.getBody();
     }
 
@@ -60,22 +100,29 @@ public class CommentValidator {
         }
     }
 
-    private boolean parseSentimentAnalysisResponse(String responseBody, String content) {
+    private Sentiment analyzeRemote(String content) {
+        String responseBody = sendSentimentAnalysisRequest(content);
+        return parseSentimentAnalysisResponse(responseBody, content);
+    }
+
+    private Sentiment parseSentimentAnalysisResponse(String responseBody, String content) {
+        JsonNode rootNode;
         try {
-            JsonNode rootNode = objectMapper.readTree(responseBody);
-            String sentiment = rootNode.path("document").path("sentiment").asText();
-            log.info("comment <{}> sentiment analysis result: {}", content, sentiment);
-
-            if (sentiment.equals("negative")) {
-                double negativeConfidence = rootNode.path("document").path("confidence").path("negative").asDouble();
-                if (negativeConfidence >= ConstantUtil.LIMIT_NEGATIVE_CONFIDENCE) {
-                    throw new CommentException(ErrorCode.INVALID_COMMENT);
-                }
-                return false;
-            }
-            return true;
+            rootNode = objectMapper.readTree(responseBody);
         } catch (Exception e) {
             throw new CommentException(ErrorCode.INVALID_JSON);
         }
+
+        String sentiment = rootNode.path("document").path("sentiment").asText();
+        log.info("comment <{}> sentiment analysis result: {}", content, sentiment);
+
+        if (sentiment.equals("negative")) {
+            double negativeConfidence = rootNode.path("document").path("confidence").path("negative").asDouble();
+            if (negativeConfidence >= ConstantUtil.LIMIT_NEGATIVE_CONFIDENCE) {
+                return Sentiment.INVALID;
+            }
+            return Sentiment.NEGATIVE;
+        }
+        return Sentiment.POSITIVE;
     }
 }
@@ -0,0 +1,167 @@
+package hyundai.softeer.orange.comment.service;
+
+import hyundai.softeer.orange.comment.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기대평 프레임 별 긍정 기대평 id를 Redis set으로 유지하고, SRANDMEMBER로 무작위 추출한다.
+ * <p>기대평 작성 / 삭제 시점에 set을 갱신하므로, 추출 비용은 전체 기대평 수와 관계없이 추출할 개수에만 비례한다.</p>
+ * <p>set이 아직 만들어지지 않은 프레임은 처음 추출할 때 DB에서 한 번 채운다. 채우는 작업은 분산 락을 잡은 서버 하나만 수행하며,
+ * 나머지 서버는 기다리지 않고 지금까지 채워진 set에서 추출한다. 추가에 실패하면 다음 추출 시 다시 채우도록 하고,
+ * 그마저 실패한 경우는 스케줄러가 주기적으로 reconcile을 호출하여 반영한다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+public class PositiveCommentPool {
+    private static final Logger log = LoggerFactory.getLogger(PositiveCommentPool.class);
+    private static final String KEY_PREFIX = "comment:";
+    // DB에서 채울 때 한 번에 SADD 하는 id 수
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // 채우는 서버가 종료되더라도 이 시간이 지나면 다른 서버가 채울 수 있다
+    private static final Duration REBUILD_LOCK_LEASE = Duration.ofMinutes(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+    private final CommentRepository commentRepository;
+
+    /**
+     * 긍정 기대평을 추가한다. 트랜잭션 안이라면 커밋된 뒤에 반영한다.
+     */
+    public void add(Long eventFrameId, Long commentId) {
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.opsForSet().add(poolKey(eventFrameId), String.valueOf(commentId));
+            } catch (DataAccessException e) {
+                // 누락된 기대평이 다음 추출 시 DB에서 다시 채워지도록 준비 표시를 제거
+                stringRedisTemplate.delete(readyKey(eventFrameId));
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * 기대평을 제거한다. 트랜잭션 안이라면 커밋된 뒤에 반영한다.
+     */
+    public void remove(Long eventFrameId, Collection<Long> commentIds) {
+        if (commentIds.isEmpty()) return;
+        Object[] members = commentIds.stream().map(String::valueOf).toArray();
+        afterCommit(() -> stringRedisTemplate.opsForSet().remove(poolKey(eventFrameId), members));
+    }
+
+    /**
+     * 서로 다른 긍정 기대평 id를 최대 count개 무작위로 추출한다.
+     */
+    public List<Long> sample(Long eventFrameId, int count) {
+        if (!isReady(eventFrameId)) {
+            rebuildOnce(eventFrameId, false);
+        }
+
+        Set<String> members = stringRedisTemplate.opsForSet().distinctRandomMembers(poolKey(eventFrameId), count);
+        if (members == null) return List.of();
+        return members.stream().map(Long::parseLong).toList();
+    }
+
+    /**
+     * 누락된 추가를 반영하도록 DB에서 다시 채운다. 다른 서버가 채우는 중이라면 건너뛴다.
+     */
+    public void reconcile(Long eventFrameId) {
+        rebuildOnce(eventFrameId, true);
+    }
+
+    private boolean isReady(Long eventFrameId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(readyKey(eventFrameId)));
+    }
+
+    // 락을 기다리는 동안 다른 서버가 이미 채웠다면 다시 채우지 않는다
+    private void rebuildOnce(Long eventFrameId, boolean force) {
+        RLock lock = redissonClient.getLock(rebuildLockKey(eventFrameId));
+        try {
+            if (!lock.tryLock(0, REBUILD_LOCK_LEASE.toMillis(), TimeUnit.MILLISECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            if (force || !isReady(eventFrameId)) {
+                rebuild(eventFrameId);
+            }
+        } finally {
+            if (lock.isHeldByCurrentThread()) lock.unlock();
+        }
+    }
+
+    // 채우는 도중 작성 / 삭제된 기대평은 커밋 후 갱신으로 다시 반영되며, 삭제된 id가 남더라도 조회 시 제거된다
+    private void rebuild(Long eventFrameId) {
+        String key = poolKey(eventFrameId);
+        List<String> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+        long[] total = {0};
+        commentRepository.streamPositiveCommentIds(eventFrameId, commentId -> {
+            batch.add(String.valueOf(commentId));
+            if (batch.size() == REBUILD_BATCH_SIZE) {
+                total[0] += flush(key, batch);
+            }
+        });
+        total[0] += flush(key, batch);
+        stringRedisTemplate.opsForValue().set(readyKey(eventFrameId), "1");
+        log.info("Positive comment pool of frame {} rebuilt with {} comments", eventFrameId, total[0]);
+    }
+
+    private int flush(String key, List<String> batch) {
+        if (batch.isEmpty()) return 0;
+        int size = batch.size();
+        stringRedisTemplate.opsForSet().add(key, batch.toArray(String[]::new));
+        batch.clear();
+        return size;
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (DataAccessException e) {
+                // 누락된 추가는 다음에 다시 채울 때, 누락된 삭제는 조회 시 반영된다
+                log.error("Failed to update positive comment pool", e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+
+    private static String poolKey(Long eventFrameId) {
+        return KEY_PREFIX + eventFrameId + ":positive";
+    }
+
+    private static String readyKey(Long eventFrameId) {
+        return KEY_PREFIX + eventFrameId + ":positive:ready";
+    }
+
+    private static String rebuildLockKey(Long eventFrameId) {
+        return KEY_PREFIX + eventFrameId + ":positive:rebuild";
+    }
+}
@@ -0,0 +1,117 @@
+package hyundai.softeer.orange.comment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hyundai.softeer.orange.comment.config.CommentSentimentConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 기대평 내용의 해시를 키로 감정 분석 결과를 저장하는 2단계 캐시. 서버 별 로컬 LRU를 먼저 확인하고, 없다면 Redis를 확인한다.
+ * <p>대소문자, 공백, 반복되는 문장 부호만 다른 기대평은 같은 내용으로 보고 같은 결과를 사용한다.</p>
+ * <p>Redis 장애 시에는 캐시에 없는 것으로 보고 분석 API를 호출한다.</p>
+ */
+@Component
+public class SentimentCache {
+    private static final Logger log = LoggerFactory.getLogger(SentimentCache.class);
+    private static final String KEY_PREFIX = "comment:sentiment:";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // 같은 문장 부호가 이어진 경우 하나로 줄인다 (!!! → !)
+    private static final Pattern REPEATED_PUNCTUATION = Pattern.compile("(\\p{P})\\1+");
+
+    public enum Sentiment {
+        POSITIVE, NEGATIVE,
+        // 부정 확률이 높아 작성할 수 없는 기대평
+        INVALID
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CommentSentimentConfig.Cache config;
+    private final Cache<String, Sentiment> localCache;
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter redisHit;
+    private final Counter redisMiss;
+
+    public SentimentCache(StringRedisTemplate stringRedisTemplate, CommentSentimentConfig commentSentimentConfig, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.config = commentSentimentConfig.getCache();
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(config.getLocalMaximumSize())
+                .expireAfterWrite(Duration.ofMinutes(config.getLocalTtlMinutes()))
+                .build();
+        this.localHit = meterRegistry.counter("comment.sentiment.cache", "tier", "local", "result", "hit");
+        this.localMiss = meterRegistry.counter("comment.sentiment.cache", "tier", "local", "result", "miss");
+        this.redisHit = meterRegistry.counter("comment.sentiment.cache", "tier", "redis", "result", "hit");
+        this.redisMiss = meterRegistry.counter("comment.sentiment.cache", "tier", "redis", "result", "miss");
+    }
+
+    public Optional<Sentiment> get(String content) {
+        if (!config.isEnabled()) return Optional.empty();
+
+        String key = key(content);
+        Sentiment cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            localHit.increment();
+            return Optional.of(cached);
+        }
+        localMiss.increment();
+
+        try {
+            String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (value != null) {
+                cached = Sentiment.valueOf(value);
+                localCache.put(key, cached);
+                redisHit.increment();
+                return Optional.of(cached);
+            }
+        } catch (DataAccessException e) {
+            log.warn("failed to read sentiment cache", e);
+        }
+        redisMiss.increment();
+        return Optional.empty();
+    }
+
+    public void put(String content, Sentiment sentiment) {
+        if (!config.isEnabled()) return;
+
+        String key = key(content);
+        localCache.put(key, sentiment);
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + key, sentiment.name(), Duration.ofHours(config.getTtlHours()));
+        } catch (DataAccessException e) {
+            log.warn("failed to write sentiment cache", e);
+        }
+    }
+
+    static String normalize(String content) {
+        String normalized = Normalizer.normalize(content, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).strip();
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        return REPEATED_PUNCTUATION.matcher(normalized).replaceAll("$1");
+    }
+
+    // 정규화된 내용의 SHA-256 해시
+    static String key(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalize(content).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
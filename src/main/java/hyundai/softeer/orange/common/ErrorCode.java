@@ -42,6 +42,7 @@ public enum ErrorCode {
     EVENT_FRAME_NOT_FOUND(HttpStatus.NOT_FOUND, "eventFrame.notFound"),
     EVENT_USER_NOT_FOUND(HttpStatus.NOT_FOUND, "eventUser.notFound"),
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "comment.notFound"),
+    COMMENT_FILTER_WORD_NOT_FOUND(HttpStatus.NOT_FOUND, "commentFilterWord.notFound"),
     EVENT_NOT_FOUND(HttpStatus.NOT_FOUND, "event.notFound"),
     EVENT_NOT_PARTICIPATED(HttpStatus.NOT_FOUND, "event.notParticipated"),
     TEMP_EVENT_NOT_FOUND(HttpStatus.NOT_FOUND, "event.temp.notFound"),
@@ -53,6 +54,7 @@ public enum ErrorCode {
     EVENTUSER_ALREADY_EXISTS(HttpStatus.CONFLICT, "eventUser.alreadyExist"),
     SHORT_URL_ALREADY_EXISTS(HttpStatus.CONFLICT, "shortUrl.alreadyExist"),
     COMMENT_ALREADY_EXISTS(HttpStatus.CONFLICT, "comment.alreadyExist"),
+    COMMENT_FILTER_WORD_ALREADY_EXISTS(HttpStatus.CONFLICT, "commentFilterWord.alreadyExist"),
     ADMIN_USER_ALREADY_EXISTS(HttpStatus.CONFLICT, "admin.alreadyExist"),
     ALREADY_WINNER(HttpStatus.CONFLICT, "event.user.alreadyWon"),
     ALREADY_PARTICIPATED(HttpStatus.CONFLICT, "event.user.alreadyParticipated"),
@@ -61,7 +63,11 @@ public enum ErrorCode {
     EDIT_TO_DIFFERENT_EVENT_TYPE_NOT_ALLOWED(HttpStatus.CONFLICT,"event.edit_to_different_event_type.not_allowed"),
 
     // 500 Internal Server Error
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "internal_server_error");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "internal_server_error"),
+
+    // 503 Service Unavailable
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "service_busy"),
+    EXTERNAL_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "external_api_unavailable");
 
     private final HttpStatus httpStatus;
     private final String errorCode;
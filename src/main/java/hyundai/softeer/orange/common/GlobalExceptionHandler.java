@@ -5,6 +5,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -59,7 +60,17 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler({BaseException.class})
     public ResponseEntity<ErrorResponse> handleAllBaseException(BaseException e) {
-        var code = e.getErrorCode();
+        return toErrorResponse(e.getErrorCode());
+    }
+
+    // 비동기 실행기의 대기열이 가득 찬 경우
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException e) {
+        log.warn("task rejected: {}", e.getMessage());
+        return toErrorResponse(ErrorCode.SERVICE_BUSY);
+    }
+
+    private ResponseEntity<ErrorResponse> toErrorResponse(ErrorCode code) {
         var status = code.getHttpStatus();
         var message = code.getErrorCode();
 
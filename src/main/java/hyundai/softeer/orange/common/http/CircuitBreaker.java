@@ -0,0 +1,74 @@
+package hyundai.softeer.orange.common.http;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 횟수 기반의 circuit breaker.
+ * <p>failureThreshold번 연속으로 실패하면 openMillis 동안 모든 호출을 거절한다(OPEN).
+ * 시간이 지나면 한 번의 시험 호출만 허용하고(HALF_OPEN), 성공하면 다시 모든 호출을 허용하며 실패하면 다시 OPEN 상태가 된다.</p>
+ */
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this(failureThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출해도 되는지 확인한다. true를 받았다면 반드시 onSuccess / onFailure 중 하나를 호출해야 한다.
+     */
+    public synchronized boolean tryAcquire() {
+        return switch (state) {
+            case CLOSED -> true;
+            // 시험 호출이 끝나기 전에는 다른 호출을 허용하지 않는다
+            case HALF_OPEN -> false;
+            case OPEN -> {
+                if (clock.getAsLong() - openedAt < openMillis) yield false;
+                state = State.HALF_OPEN;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * tryAcquire로 얻은 호출 권한을 호출하지 않고 반납한다.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            // 시험 호출을 하지 않았으므로 다음 호출이 바로 시험 호출이 되도록 한다
+            state = State.OPEN;
+            openedAt = clock.getAsLong() - openMillis;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,11 @@
+package hyundai.softeer.orange.common.http;
+
+import hyundai.softeer.orange.common.BaseException;
+import hyundai.softeer.orange.common.ErrorCode;
+
+public class OutboundException extends BaseException {
+
+    public OutboundException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
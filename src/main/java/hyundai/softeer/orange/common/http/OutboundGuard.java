@@ -0,0 +1,119 @@
+package hyundai.softeer.orange.common.http;
+
+import hyundai.softeer.orange.common.ErrorCode;
+import hyundai.softeer.orange.config.OutboundHttpConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출을 대상 별 동시 요청 수 제한(bulkhead)과 circuit breaker로 감싸고, 호출 시간을 히스토그램으로 기록한다.
+ * <p>외부 서비스가 느려지면 동시 요청 수 제한에 걸린 호출이, 장애가 나면 circuit breaker에 걸린 호출이
+ * 외부 서비스를 기다리지 않고 바로 OutboundException(EXTERNAL_API_UNAVAILABLE)으로 실패한다.</p>
+ * <p>요청의 문제로 실패한 호출(4xx)은 외부 서비스의 장애로 보지 않으므로 circuit breaker의 실패로 세지 않는다.</p>
+ */
+public class OutboundGuard {
+    private static final Logger log = LoggerFactory.getLogger(OutboundGuard.class);
+
+    private final String target;
+    private final Semaphore bulkhead;
+    private final long acquireTimeoutMillis;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Predicate<Exception> clientError;
+
+    public OutboundGuard(String target, OutboundHttpConfig.Target config, MeterRegistry meterRegistry) {
+        this(target, config, meterRegistry, HttpClientErrorException.class::isInstance);
+    }
+
+    /**
+     * @param clientError 요청의 문제로 실패한 호출인지 판단한다. HTTP 클라이언트가 아닌 SDK를 사용하는 경우 SDK의 예외를 구분하기 위해 사용
+     */
+    public OutboundGuard(String target, OutboundHttpConfig.Target config, MeterRegistry meterRegistry,
+                         Predicate<Exception> clientError) {
+        this.target = target;
+        this.bulkhead = new Semaphore(config.getMaxConcurrentCalls());
+        this.acquireTimeoutMillis = config.getAcquireTimeoutMillis();
+        this.circuitBreaker = new CircuitBreaker(config.getFailureThreshold(), config.getOpenMillis());
+        this.meterRegistry = meterRegistry;
+        this.clientError = clientError;
+
+        Gauge.builder("outbound.circuit.open", circuitBreaker, breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("외부 API 호출이 차단된 상태인지 여부")
+                .tag("target", target)
+                .register(meterRegistry);
+        Gauge.builder("outbound.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw reject("circuit_open");
+        }
+        if (!acquireBulkhead()) {
+            circuitBreaker.release();
+            throw reject("bulkhead_full");
+        }
+
+        long startNanos = System.nanoTime();
+        String result = "success";
+        try {
+            T value = call.get();
+            circuitBreaker.onSuccess();
+            return value;
+        } catch (Exception e) {
+            // 4xx는 요청의 문제이므로 외부 서비스의 장애로 보지 않는다
+            if (clientError.test(e)) {
+                result = "client_error";
+                circuitBreaker.onSuccess();
+                throw e;
+            }
+            // SDK가 검사 예외를 선언 없이 던지는 경우도 실패로 처리
+            result = "failure";
+            circuitBreaker.onFailure();
+            if (circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+                log.warn("{} API is unhealthy, calls are rejected for a while", target);
+            }
+            throw e;
+        } finally {
+            bulkhead.release();
+            timer(result).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private OutboundException reject(String reason) {
+        meterRegistry.counter("outbound.rejected", "target", target, "reason", reason).increment();
+        return new OutboundException(ErrorCode.EXTERNAL_API_UNAVAILABLE);
+    }
+
+    private Timer timer(String result) {
+        return Timer.builder("outbound.call")
+                .description("외부 API 호출 시간")
+                .tag("target", target)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
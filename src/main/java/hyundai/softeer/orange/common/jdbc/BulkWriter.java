@@ -0,0 +1,143 @@
+package hyundai.softeer.orange.common.jdbc;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import hyundai.softeer.orange.config.BulkWriteConfig;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 여러 행을 chunkSize 단위의 multi-row 문장으로 나누어 저장 / 갱신한다.
+ * <p>batchUpdate는 rewriteBatchedStatements 설정이 없으면 행마다 문장을 전송하고, 설정하더라도 전체를 하나의 batch로 보내므로
+ * 문장 크기를 직접 제한한다. 아주 많은 행을 삽입할 때는 설정에 따라 LOAD DATA LOCAL INFILE로 스트리밍한다.</p>
+ * <p>호출한 쪽의 트랜잭션에 참여하므로, 여러 chunk를 원자적으로 저장하려면 트랜잭션 안에서 호출해야 한다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+public class BulkWriter {
+    private static final Logger log = LoggerFactory.getLogger(BulkWriter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BulkWriteConfig bulkWriteConfig;
+
+    /**
+     * 행의 컬럼 값을 columns 순서대로 반환한다. Long, Integer, String, Instant, null을 지원한다.
+     */
+    @FunctionalInterface
+    public interface RowValues<T> {
+        Object[] of(T row);
+    }
+
+    /**
+     * 행을 삽입한다. 행 수가 loadDataThreshold 이상이라면 LOAD DATA LOCAL INFILE을 사용한다.
+     * @throws JdbcUpdateAffectedIncorrectNumberOfRowsException LOAD DATA가 일부 행을 건너뛴 경우. 호출한 쪽의 트랜잭션을 롤백하기 위해 던진다
+     */
+    public <T> void insert(String table, List<String> columns, List<T> rows, RowValues<T> values) {
+        if (rows.isEmpty()) return;
+
+        if (bulkWriteConfig.isLoadDataEnabled() && rows.size() >= bulkWriteConfig.getLoadDataThreshold()) {
+            loadData(table, columns, rows, values);
+            return;
+        }
+        insert(table, columns, rows, values, null);
+    }
+
+    /**
+     * 행을 삽입하고, unique key가 충돌하면 onDuplicateKeyUpdate를 적용한다. LOAD DATA는 이를 표현할 수 없으므로 항상 multi-row VALUES를 사용한다.
+     * @param onDuplicateKeyUpdate ON DUPLICATE KEY UPDATE 뒤에 붙일 식. null이면 생략
+     */
+    public <T> void insert(String table, List<String> columns, List<T> rows, RowValues<T> values, String onDuplicateKeyUpdate) {
+        if (rows.isEmpty()) return;
+
+        String prefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+        String row = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        String suffix = onDuplicateKeyUpdate == null ? "" : " ON DUPLICATE KEY UPDATE " + onDuplicateKeyUpdate;
+
+        forEachChunk(rows, chunk -> {
+            String sql = prefix + String.join(", ", Collections.nCopies(chunk.size(), row)) + suffix;
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (T target : chunk) {
+                    for (Object value : values.of(target)) {
+                        bind(ps, index++, value);
+                    }
+                }
+            });
+        });
+    }
+
+    /**
+     * keyColumn이 일치하는 행의 column 값을 갱신한다. 한 chunk를 CASE 식을 사용한 UPDATE 한 문장으로 처리한다.
+     * @param values (key, 갱신할 값) 순서로 반환
+     */
+    public <T> void update(String table, String keyColumn, String column, List<T> rows, RowValues<T> values) {
+        if (rows.isEmpty()) return;
+
+        forEachChunk(rows, chunk -> {
+            String sql = "UPDATE " + table + " SET " + column + " = CASE " + keyColumn + " "
+                    + String.join(" ", Collections.nCopies(chunk.size(), "WHEN ? THEN ?"))
+                    + " ELSE " + column + " END WHERE " + keyColumn + " IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                int keyIndex = chunk.size() * 2 + 1;
+                for (T target : chunk) {
+                    Object[] keyAndValue = values.of(target);
+                    bind(ps, index++, keyAndValue[0]);
+                    bind(ps, index++, keyAndValue[1]);
+                    bind(ps, keyIndex++, keyAndValue[0]);
+                }
+            });
+        });
+    }
+
+    // 행을 TSV로 변환하며 그대로 전송하므로 전체 파일을 메모리에 만들지 않는다.
+    // LOCAL 모드에서는 중복 키나 변환할 수 없는 값이 오류가 아닌 경고로 처리되어 해당 행만 건너뛰므로, 저장된 행 수로 실패를 판단한다
+    private <T> void loadData(String table, List<String> columns, List<T> rows, RowValues<T> values) {
+        String sql = "LOAD DATA LOCAL INFILE 'bulk' INTO TABLE " + table
+                + " CHARACTER SET utf8mb4 (" + String.join(", ", columns) + ")";
+
+        Integer loaded = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(new TsvRowInputStream<>(rows, values));
+                int count = statement.executeUpdate(sql);
+                if (count != rows.size()) {
+                    log.error("LOAD DATA into {} loaded {} of {} rows, first warning: {}", table, count, rows.size(), statement.getWarnings());
+                }
+                return count;
+            }
+        });
+
+        if (loaded == null || loaded != rows.size()) {
+            throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(sql, rows.size(), loaded == null ? 0 : loaded);
+        }
+    }
+
+    private <T> void forEachChunk(List<T> rows, Consumer<List<T>> action) {
+        int chunkSize = Math.max(1, bulkWriteConfig.getChunkSize());
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            action.accept(rows.subList(from, Math.min(from + chunkSize, rows.size())));
+        }
+    }
+
+    private static void bind(PreparedStatement ps, int index, Object value) throws SQLException {
+        if (value instanceof Instant instant) {
+            ps.setTimestamp(index, Timestamp.from(instant));
+        } else {
+            ps.setObject(index, value);
+        }
+    }
+}
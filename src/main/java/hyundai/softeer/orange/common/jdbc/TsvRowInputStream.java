@@ -0,0 +1,84 @@
+package hyundai.softeer.orange.common.jdbc;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 행을 LOAD DATA의 기본 형식(탭으로 구분, 줄바꿈으로 행 구분, \ 이스케이프, null은 \N)으로 한 행씩 변환하여 읽는 스트림
+ */
+class TsvRowInputStream<T> extends InputStream {
+    private final Iterator<T> rows;
+    private final BulkWriter.RowValues<T> values;
+    private byte[] current = new byte[0];
+    private int position = 0;
+
+    TsvRowInputStream(List<T> rows, BulkWriter.RowValues<T> values) {
+        this.rows = rows.iterator();
+        this.values = values;
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) return -1;
+        return current[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) return 0;
+        int read = 0;
+        while (read < length && fill()) {
+            int count = Math.min(length - read, current.length - position);
+            System.arraycopy(current, position, buffer, offset + read, count);
+            position += count;
+            read += count;
+        }
+        return read == 0 ? -1 : read;
+    }
+
+    // 현재 행을 모두 읽었다면 다음 행을 변환한다. 더 이상 행이 없다면 false
+    private boolean fill() {
+        while (position >= current.length) {
+            if (!rows.hasNext()) return false;
+            current = encode(values.of(rows.next()));
+            position = 0;
+        }
+        return true;
+    }
+
+    static byte[] encode(Object[] row) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) line.append('\t');
+            Object value = row[i];
+            if (value == null) {
+                line.append("\\N");
+            } else if (value instanceof Instant instant) {
+                // prepared statement의 setTimestamp와 같이 JVM 시간대 기준으로 변환
+                line.append(Timestamp.from(instant));
+            } else {
+                escape(line, value.toString());
+            }
+        }
+        line.append('\n');
+        return line.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void escape(StringBuilder line, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> line.append("\\\\");
+                case '\t' -> line.append("\\t");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\0' -> line.append("\\0");
+                default -> line.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package hyundai.softeer.orange.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 용도 별 @Async 실행기 설정. @Async(AsyncConfig.DRAW_EXECUTOR)처럼 이름으로 지정하여 사용한다.
+ * <p>스레드 풀 방식의 실행기는 스프링 부트가 executor.active / executor.queued 등의 지표를 name 태그로 등록한다.
+ * 가상 스레드 방식은 같은 이름의 지표를 직접 등록한다.</p>
+ */
+@RequiredArgsConstructor
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+    public static final String COMMON_EXECUTOR = "taskExecutor";
+    public static final String DRAW_EXECUTOR = "drawExecutor";
+    public static final String NAVER_EXECUTOR = "naverExecutor";
+
+    private final AsyncExecutorConfig asyncExecutorConfig;
+    private final MeterRegistry meterRegistry;
+
+    // 실행기를 직접 등록하면 스프링 부트의 기본 실행기가 등록되지 않으므로, 기본 실행기를 찾는 곳에서도 사용하도록 같은 이름을 부여
+    @Bean(name = {COMMON_EXECUTOR, TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor taskExecutor() {
+        return createExecutor(COMMON_EXECUTOR, "async-", asyncExecutorConfig.getCommon());
+    }
+
+    @Bean(name = DRAW_EXECUTOR)
+    public AsyncTaskExecutor drawExecutor() {
+        return createExecutor(DRAW_EXECUTOR, "draw-", asyncExecutorConfig.getDraw());
+    }
+
+    @Bean(name = NAVER_EXECUTOR)
+    public AsyncTaskExecutor naverExecutor() {
+        return createExecutor(NAVER_EXECUTOR, "naver-", asyncExecutorConfig.getNaver());
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    // 반환 값이 없는 @Async 메서드의 예외는 호출한 쪽에 전달되지 않으므로 로그로 남긴다
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("async method {}.{} failed",
+                method.getDeclaringClass().getSimpleName(), method.getName(), ex);
+    }
+
+    private AsyncTaskExecutor createExecutor(String name, String threadNamePrefix, AsyncExecutorConfig.Pool pool) {
+        if (pool.isVirtualThreads()) return createVirtualThreadExecutor(name, threadNamePrefix, pool);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setRejectedExecutionHandler(countRejection(name, pool.getRejection()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(pool.getAwaitTerminationSeconds());
+        return executor;
+    }
+
+    // 가상 스레드는 풀과 대기열이 없으므로 동시 실행 수만 제한한다. 제한을 넘은 작업은 제출한 스레드에서 자리가 날 때까지 대기한다.
+    private AsyncTaskExecutor createVirtualThreadExecutor(String name, String threadNamePrefix, AsyncExecutorConfig.Pool pool) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(pool.getMaxSize());
+        executor.setTaskTerminationTimeout(pool.getAwaitTerminationSeconds() * 1000L);
+
+        AtomicInteger queued = new AtomicInteger();
+        AtomicInteger active = new AtomicInteger();
+        Tags tags = Tags.of("name", name);
+        meterRegistry.gauge("executor.queued", tags, queued);
+        meterRegistry.gauge("executor.active", tags, active);
+        executor.setTaskDecorator(task -> {
+            queued.incrementAndGet();
+            return () -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                }
+            };
+        });
+        return executor;
+    }
+
+    // CALLER_RUNS도 풀이 감당하지 못한 작업이므로 함께 집계
+    private RejectedExecutionHandler countRejection(String name, AsyncExecutorConfig.RejectionPolicy policy) {
+        RejectedExecutionHandler delegate = switch (policy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+        };
+        Counter rejected = meterRegistry.counter("executor.rejected", "name", name);
+        return (task, executor) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package hyundai.softeer.orange.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 용도 별 비동기 실행기 설정. 오래 걸리는 추첨이 다른 비동기 작업의 스레드를 점유하지 않도록 실행기를 나누어 사용한다.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "async")
+public class AsyncExecutorConfig {
+    // 이름을 지정하지 않은 @Async 작업
+    private Pool common = Pool.of(2, 8, 100, RejectionPolicy.CALLER_RUNS);
+    // 추첨. 동시에 진행할 수 있는 추첨 수를 제한하고, 초과 요청은 거절한다
+    private Pool draw = Pool.of(1, 2, 4, RejectionPolicy.ABORT);
+    // 네이버 감정 분석 API 호출
+    private Pool naver = Pool.of(4, 8, 200, RejectionPolicy.CALLER_RUNS);
+
+    @Data
+    public static class Pool {
+        // 가상 스레드 사용 여부. JDK 21 이상에서만 사용 가능하며, 이 때는 maxSize가 동시 실행 수 제한으로 사용된다
+        private boolean virtualThreads = false;
+        private int coreSize;
+        private int maxSize;
+        private int queueCapacity;
+        // 대기열까지 가득 찼을 때의 처리 방식
+        private RejectionPolicy rejection;
+        // 종료 시 실행 중인 작업을 기다리는 시간
+        private int awaitTerminationSeconds = 30;
+
+        public static Pool of(int coreSize, int maxSize, int queueCapacity, RejectionPolicy rejection) {
+            Pool pool = new Pool();
+            pool.coreSize = coreSize;
+            pool.maxSize = maxSize;
+            pool.queueCapacity = queueCapacity;
+            pool.rejection = rejection;
+            return pool;
+        }
+    }
+
+    public enum RejectionPolicy {
+        // TaskRejectedException 발생. 요청한 쪽에서 503으로 응답
+        ABORT,
+        // 작업을 제출한 스레드에서 직접 실행하여 제출 속도를 늦춘다
+        CALLER_RUNS
+    }
+}
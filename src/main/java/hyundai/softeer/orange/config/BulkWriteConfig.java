@@ -0,0 +1,23 @@
+package hyundai.softeer.orange.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 여러 행을 한 번에 저장 / 갱신하는 BulkWriter 설정
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "bulk-write")
+public class BulkWriteConfig {
+    // 한 문장에 담는 최대 행 수. 행 수 * 컬럼 수가 prepared statement의 파라미터 제한(65535)을 넘지 않아야 한다
+    private int chunkSize = 1000;
+    // 이 행 수 이상을 삽입할 때는 LOAD DATA LOCAL INFILE로 전송한다. 0이면 사용하지 않는다.
+    // 사용하려면 jdbc url에 allowLoadLocalInfile=true, MySQL 서버에 local_infile=ON 설정이 필요하다
+    private int loadDataThreshold = 0;
+
+    public boolean isLoadDataEnabled() {
+        return loadDataThreshold > 0;
+    }
+}
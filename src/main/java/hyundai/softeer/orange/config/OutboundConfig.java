@@ -0,0 +1,72 @@
+package hyundai.softeer.orange.config;
+
+import hyundai.softeer.orange.common.http.OutboundGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import net.nurigo.sdk.message.exception.NurigoApiKeyException;
+import net.nurigo.sdk.message.exception.NurigoBadRequestException;
+import net.nurigo.sdk.message.exception.NurigoInvalidApiKeyException;
+import net.nurigo.sdk.message.exception.NurigoUnregisteredSenderIdException;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 API 별 HTTP 클라이언트와 OutboundGuard 설정. @Qualifier(OutboundConfig.NAVER_GUARD)처럼 이름으로 지정하여 사용한다.
+ * <p>RestTemplateBuilder로 만든 클라이언트는 스프링 부트가 http.client.requests 지표를 등록한다.</p>
+ */
+@RequiredArgsConstructor
+@Configuration
+public class OutboundConfig {
+    public static final String NAVER_REST_TEMPLATE = "naverRestTemplate";
+    public static final String NAVER_GUARD = "naverGuard";
+    public static final String SMS_GUARD = "smsGuard";
+
+    private final OutboundHttpConfig outboundHttpConfig;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(name = NAVER_REST_TEMPLATE)
+    public RestTemplate naverRestTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory(outboundHttpConfig.getNaver()))
+                .build();
+    }
+
+    @Bean(name = NAVER_GUARD)
+    public OutboundGuard naverGuard() {
+        return new OutboundGuard("naver", outboundHttpConfig.getNaver(), meterRegistry);
+    }
+
+    @Bean(name = SMS_GUARD)
+    public OutboundGuard smsGuard() {
+        return new OutboundGuard("sms", outboundHttpConfig.getSms(), meterRegistry, OutboundConfig::isSmsClientError);
+    }
+
+    // SMS SDK가 4xx 응답을 변환하여 던지는 예외. 잘못된 요청이나 설정의 문제이므로 SMS API의 장애로 보지 않는다
+    public static boolean isSmsClientError(Exception e) {
+        return e instanceof NurigoBadRequestException
+                || e instanceof NurigoApiKeyException
+                || e instanceof NurigoInvalidApiKeyException
+                || e instanceof NurigoUnregisteredSenderIdException;
+    }
+
+    /**
+     * 대상 별로 연결을 재사용(keep-alive)하는 JDK HttpClient 기반 요청 팩토리.
+     * 연결 수는 따로 제한되지 않으므로 동시 요청 수는 OutboundGuard로 제한한다.
+     */
+    public static ClientHttpRequestFactory requestFactory(OutboundHttpConfig.Target target) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(target.getConnectTimeoutMillis()))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(target.getReadTimeoutMillis()));
+        return requestFactory;
+    }
+}
@@ -0,0 +1,39 @@
+package hyundai.softeer.orange.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 API 호출 설정. 외부 서비스가 응답하지 않더라도 해당 기능만 실패하고 서버의 스레드는 점유되지 않도록 대상 별로 제한을 둔다.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "outbound")
+public class OutboundHttpConfig {
+    // 네이버 감정 분석 API
+    private Target naver = Target.of(1000, 3000, 8);
+    // CoolSMS. SDK가 자체 HTTP 클라이언트를 사용하므로 연결 / 응답 대기 시간은 적용되지 않는다
+    private Target sms = Target.of(1000, 5000, 4);
+
+    @Data
+    public static class Target {
+        private long connectTimeoutMillis;
+        private long readTimeoutMillis;
+        // 동시에 보낼 수 있는 최대 요청 수
+        private int maxConcurrentCalls;
+        // 동시 요청 수가 가득 찼을 때 자리가 나기를 기다리는 시간
+        private long acquireTimeoutMillis = 100;
+        // 연속으로 이 횟수만큼 실패하면 openMillis 동안 요청을 보내지 않고 바로 실패시킨다
+        private int failureThreshold = 5;
+        private long openMillis = 30000;
+
+        public static Target of(long connectTimeoutMillis, long readTimeoutMillis, int maxConcurrentCalls) {
+            Target target = new Target();
+            target.connectTimeoutMillis = connectTimeoutMillis;
+            target.readTimeoutMillis = readTimeoutMillis;
+            target.maxConcurrentCalls = maxConcurrentCalls;
+            return target;
+        }
+    }
+}
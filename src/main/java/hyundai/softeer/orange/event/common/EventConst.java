@@ -14,6 +14,10 @@ public class EventConst {
     public static String IS_DRAWING(String eventId) {return REDIS_KEY_PREFIX + eventId + ":is_drawing";}
     public static final long TEMP_EVENT_DURATION_HOUR = 24L;
     public static final long DRAW_EVENT_DRAW_TIMEOUT_HOUR = 24L;
+    // 추첨 작업의 진행 상황이 이 시간 동안 갱신되지 않으면 중단된 것으로 보고 다시 시작할 수 있다
+    public static final long DRAW_EVENT_JOB_STALE_MINUTES = 30L;
+    // 당첨자를 한 트랜잭션에 삽입하는 단위
+    public static final int DRAW_EVENT_INSERT_CHUNK_SIZE = 1000;
 
     // 검색 기능 관련 상수들
     public static final int EVENT_DEFAULT_PAGE = 0;
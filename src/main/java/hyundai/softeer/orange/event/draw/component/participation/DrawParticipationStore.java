@@ -0,0 +1,107 @@
+package hyundai.softeer.orange.event.draw.component.participation;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 추첨 이벤트의 일일 참여 여부를 (이벤트, 유저) 별 Redis bitmap에 기록한다.
+ * <p>이벤트 시작일로부터 지난 일 수를 비트 위치로 사용하므로, 참여 여부 확인과 기록은 SETBIT 한 번, 참여 날짜 목록 조회는 GET 한 번으로 처리된다.</p>
+ * <p>새로 기록된 참여는 같은 스크립트 안에서 Stream에 추가되며, DB에는 {@code DrawParticipationWriteBehindService}가 나중에 반영한다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+public class DrawParticipationStore {
+    private static final Logger log = LoggerFactory.getLogger(DrawParticipationStore.class);
+    private static final RedisScript<Long> PARTICIPATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/draw_participate.lua"), Long.class);
+    public static final String STREAM_KEY = "draw:participation:stream";
+    public static final String DRAW_EVENT_ID = "drawEventId";
+    public static final String EVENT_USER_ID = "eventUserId";
+    public static final String DATE = "date";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 참여를 기록한다.
+     * @param day 이벤트 시작일로부터 지난 일 수
+     * @param expireAt bitmap을 삭제할 시각
+     * @return 새로 기록했다면 true, 이미 그 날 참여했다면 false
+     */
+    public boolean mark(long drawEventId, long eventUserId, int day, Instant date, Instant expireAt) {
+        Long result = stringRedisTemplate.execute(
+                PARTICIPATE_SCRIPT,
+                List.of(bitmapKey(drawEventId, eventUserId), STREAM_KEY),
+                String.valueOf(day),
+                String.valueOf(expireAt.getEpochSecond()),
+                String.valueOf(drawEventId),
+                String.valueOf(eventUserId),
+                String.valueOf(date.toEpochMilli())
+        );
+        return result != null && result == 1;
+    }
+
+    /**
+     * 그 날 참여했는지 여부. Redis에 접근할 수 없다면 false를 반환하므로 호출하는 쪽에서 DB를 확인해야 한다.
+     */
+    public boolean isParticipated(long drawEventId, long eventUserId, int day) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().getBit(bitmapKey(drawEventId, eventUserId), day));
+        } catch (DataAccessException e) {
+            log.warn("Draw event {}: failed to read participation bitmap of user {}", drawEventId, eventUserId, e);
+            return false;
+        }
+    }
+
+    /**
+     * 참여한 날의 이벤트 시작일로부터 지난 일 수 목록을 오름차순으로 반환한다.
+     * @return bitmap이 없다면 empty
+     */
+    public Optional<List<Integer>> findDays(long drawEventId, long eventUserId) {
+        byte[] key = bitmapKey(drawEventId, eventUserId).getBytes(StandardCharsets.UTF_8);
+        byte[] bitmap = stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+        if (bitmap == null) return Optional.empty();
+
+        List<Integer> days = new ArrayList<>();
+        for (int i = 0; i < bitmap.length; i++) {
+            // Redis bitmap은 각 바이트의 최상위 비트가 가장 앞의 위치
+            for (int bit = 0; bit < Byte.SIZE; bit++) {
+                if ((bitmap[i] & (0x80 >>> bit)) != 0) days.add(i * Byte.SIZE + bit);
+            }
+        }
+        return Optional.of(days);
+    }
+
+    /**
+     * 이벤트 시작일로부터 date까지 지난 일 수. 날짜는 zone 기준으로 나눈다.
+     */
+    public static int dayOffset(Instant eventStartTime, Instant date, ZoneId zone) {
+        return (int) ChronoUnit.DAYS.between(LocalDate.ofInstant(eventStartTime, zone), LocalDate.ofInstant(date, zone));
+    }
+
+    /**
+     * 이벤트 시작일로부터 day일이 지난 날의 시작 시각
+     */
+    public static Instant startOfDay(Instant eventStartTime, int day, ZoneId zone) {
+        return LocalDate.ofInstant(eventStartTime, zone).plusDays(day).atStartOfDay(zone).toInstant();
+    }
+
+    private static String bitmapKey(long drawEventId, long eventUserId) {
+        return "draw:" + drawEventId + ":participation:" + eventUserId;
+    }
+}
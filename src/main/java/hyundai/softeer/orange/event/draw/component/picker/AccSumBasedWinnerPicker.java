@@ -1,13 +1,24 @@
 package hyundai.softeer.orange.event.draw.component.picker;
 
-import org.springframework.context.annotation.Primary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
 
-@Primary
+@ConditionalOnProperty(name = "draw.picker", havingValue = "acc-sum", matchIfMissing = true)
 @Component
 public class AccSumBasedWinnerPicker implements WinnerPicker {
+    // 여러 추첨이 동시에 사용할 수 있도록 스레드 안전한 Random을 공유
+    private final Random random;
+
+    public AccSumBasedWinnerPicker() {
+        this.random = new Random();
+    }
+
+    // 테스트에서 같은 결과를 재현하기 위한 생성자
+    public AccSumBasedWinnerPicker(long seed) {
+        this.random = new Random(seed);
+    }
 
     @Override
     public List<PickTarget> pick(List<PickTarget> items, long count) {
@@ -22,6 +33,35 @@ public class AccSumBasedWinnerPicker implements WinnerPicker {
         }
     }
 
+    /**
+     * 누적합을 펜윅 트리로 관리하여, 뽑힌 대상의 점수만 빼는 방식으로 비복원 추출을 진행한다.
+     * 대상 수가 n, 추첨 인원이 k일 때 O(n + k log n)이며 대상 별 객체를 만들지 않는다.
+     * 남은 대상의 점수 합이 0이 되면 추첨 인원보다 적게 반환할 수 있다.
+     */
+    @Override
+    public int[] pick(long[] scores, long count) {
+        int maxPickCount = (int) Math.min(scores.length, count);
+        if (maxPickCount <= 0) return new int[0];
+
+        long[] tree = buildFenwickTree(scores);
+        long bound = prefixSum(tree, scores.length);
+        int[] picked = new int[maxPickCount];
+        int pickedCount = 0;
+
+        while (pickedCount < maxPickCount && bound > 0) {
+            long targetScore = random.nextLong(1, bound + 1);
+            int pickedIdx = lowerBound(tree, targetScore);
+            long score = Math.max(scores[pickedIdx], 0);
+
+            // 뽑힌 대상은 점수를 0으로 만들어 다시 뽑히지 않도록 함
+            update(tree, pickedIdx, -score);
+            bound -= score;
+            picked[pickedCount++] = pickedIdx;
+        }
+
+        return pickedCount == maxPickCount ? picked : Arrays.copyOf(picked, pickedCount);
+    }
+
     protected List<PickTarget> pickMany(List<PickTarget> targets, long count) {
         List<PickTarget> pickedTargets = new ArrayList<>();
         // 추첨에 참여하는 객체들이 존재하는 set
@@ -30,7 +70,7 @@ public class AccSumBasedWinnerPicker implements WinnerPicker {
         for(int i = 0; i < count; i++) {
             RandomItem[] items = getAccumulatedItems(targetSet);
             long bound = items[items.length - 1].score;
-            long targetScore = new Random().nextLong(1, bound + 1);
+            long targetScore = random.nextLong(1, bound + 1);
             int pickedIdx = binarySearch(items, targetScore);
             PickTarget pickedTarget = items[pickedIdx].target;
 
@@ -59,7 +99,7 @@ public class AccSumBasedWinnerPicker implements WinnerPicker {
         for(int i = 0; i < count; i++) {
             int pickedIdx;
             do {
-                long targetScore = new Random().nextLong(1, bound + 1);
+                long targetScore = random.nextLong(1, bound + 1);
                 pickedIdx = binarySearch(items, targetScore);
             }while(pickedIdxSet.contains(pickedIdx));
             // 방문했다고 마킹
@@ -110,13 +150,59 @@ public class AccSumBasedWinnerPicker implements WinnerPicker {
             } else if(items[mid].score < target) {
                 low = mid + 1;
             } else {
-                break;
+                // 누적합이 target과 같다면 mid가 target을 포함하는 대상
+                return mid;
             }
         }
 
         return low;
     }
 
+    /**
+     * 1-based 펜윅 트리를 O(n)에 구성한다. 음수 점수는 0으로 취급한다.
+     * @param scores 대상 별 점수
+     * @return tree[i]가 (i - lowbit(i), i] 구간의 점수 합인 배열
+     */
+    protected long[] buildFenwickTree(long[] scores) {
+        long[] tree = new long[scores.length + 1];
+        for (int i = 1; i <= scores.length; i++) {
+            tree[i] += Math.max(scores[i - 1], 0);
+            int parent = i + (i & -i);
+            if (parent <= scores.length) tree[parent] += tree[i];
+        }
+        return tree;
+    }
+
+    protected long prefixSum(long[] tree, int count) {
+        long sum = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    protected void update(long[] tree, int idx, long delta) {
+        for (int i = idx + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * 누적합이 target 이상이 되는 가장 앞의 대상 인덱스(0-based)를 찾는다.
+     */
+    protected int lowerBound(long[] tree, long target) {
+        int pos = 0;
+        long remain = target;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next < tree.length && tree[next] < remain) {
+                pos = next;
+                remain -= tree[next];
+            }
+        }
+        return pos;
+    }
+
     /**
      * 가중합을 기록해두는 객체
      * @param target 추첨 대상
@@ -0,0 +1,131 @@
+package hyundai.softeer.orange.event.draw.component.picker;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Efraimidis–Spirakis 방식으로 가중치 비복원 추출을 수행하는 추첨기.
+ * <p>각 대상에 u^(1/w) (u는 0~1 균등 난수) 키를 부여하고 키가 큰 순서로 count개를 고르면,
+ * 남은 대상 중 점수 비율대로 한 명씩 뽑는 것과 같은 확률 분포가 된다. 전체 O(n log k)</p>
+ * <p>draw.picker-seed를 지정하면 같은 순서의 추첨은 항상 같은 결과를 반환한다.</p>
+ */
+@ConditionalOnProperty(name = "draw.picker", havingValue = "weighted-key")
+@Component
+public class WeightedKeyWinnerPicker implements WinnerPicker {
+    private final SplittableRandom random;
+
+    public WeightedKeyWinnerPicker(@Value("${draw.picker-seed:#{null}}") Long seed) {
+        this.random = seed == null ? new SplittableRandom() : new SplittableRandom(seed);
+    }
+
+    @Override
+    public List<PickTarget> pick(List<PickTarget> items, long count) {
+        int pickCount = (int) Math.min(items.size(), count);
+        if (pickCount <= 0) return Collections.emptyList();
+
+        SplittableRandom rng = split();
+        // 키가 가장 작은 대상이 맨 앞에 오는 크기 pickCount의 힙
+        PriorityQueue<KeyedTarget> heap = new PriorityQueue<>(pickCount, Comparator.comparingDouble(KeyedTarget::key));
+        for (PickTarget item : items) {
+            double key = key(item.score(), rng);
+            if (heap.size() < pickCount) {
+                heap.add(new KeyedTarget(item, key));
+            } else if (heap.peek().key() < key) {
+                heap.poll();
+                heap.add(new KeyedTarget(item, key));
+            }
+        }
+
+        // 키가 큰 순서가 곧 뽑힌 순서
+        List<PickTarget> picked = new ArrayList<>(pickCount);
+        while (!heap.isEmpty()) {
+            picked.add(heap.poll().target());
+        }
+        Collections.reverse(picked);
+        return picked;
+    }
+
+    /**
+     * 위와 같은 방식이지만 힙을 인덱스 / 키 병렬 배열로 직접 관리하여 대상 별 객체를 만들지 않는다.
+     */
+    @Override
+    public int[] pick(long[] scores, long count) {
+        int pickCount = (int) Math.min(scores.length, count);
+        if (pickCount <= 0) return new int[0];
+
+        SplittableRandom rng = split();
+        // 키가 가장 작은 대상이 heapIdx[0]에 오는 최소 힙
+        int[] heapIdx = new int[pickCount];
+        double[] heapKey = new double[pickCount];
+        int heapSize = 0;
+        for (int i = 0; i < scores.length; i++) {
+            double key = key(scores[i], rng);
+            if (heapSize < pickCount) {
+                siftUp(heapIdx, heapKey, heapSize++, i, key);
+            } else if (heapKey[0] < key) {
+                siftDown(heapIdx, heapKey, heapSize, i, key);
+            }
+        }
+
+        // 최솟값을 하나씩 꺼내 뒤에서부터 채우면 키가 큰 순서, 즉 뽑힌 순서가 된다
+        int[] picked = new int[pickCount];
+        while (heapSize > 0) {
+            picked[heapSize - 1] = heapIdx[0];
+            heapSize--;
+            if (heapSize > 0) {
+                siftDown(heapIdx, heapKey, heapSize, heapIdx[heapSize], heapKey[heapSize]);
+            }
+        }
+        return picked;
+    }
+
+    // pos 위치에 (idx, key)를 넣고 부모보다 작으면 위로 올린다
+    private static void siftUp(int[] heapIdx, double[] heapKey, int pos, int idx, double key) {
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (heapKey[parent] <= key) break;
+            heapIdx[pos] = heapIdx[parent];
+            heapKey[pos] = heapKey[parent];
+            pos = parent;
+        }
+        heapIdx[pos] = idx;
+        heapKey[pos] = key;
+    }
+
+    // 루트를 (idx, key)로 교체하고 자식보다 크면 아래로 내린다
+    private static void siftDown(int[] heapIdx, double[] heapKey, int size, int idx, double key) {
+        int pos = 0;
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = (pos << 1) + 1;
+            int right = child + 1;
+            if (right < size && heapKey[right] < heapKey[child]) child = right;
+            if (key <= heapKey[child]) break;
+            heapIdx[pos] = heapIdx[child];
+            heapKey[pos] = heapKey[child];
+            pos = child;
+        }
+        heapIdx[pos] = idx;
+        heapKey[pos] = key;
+    }
+
+    /**
+     * u^(1/w)를 그대로 계산하면 언더플로우가 발생하므로 log(u) / w로 비교한다. 점수가 0 이하인 대상은 가장 마지막에 뽑힌다.
+     */
+    private double key(long score, SplittableRandom rng) {
+        if (score <= 0) return Double.NEGATIVE_INFINITY;
+        // nextDouble은 0을 포함하므로 (0, 1] 범위로 변환
+        double u = 1.0 - rng.nextDouble();
+        return Math.log(u) / score;
+    }
+
+    // 추첨은 비동기로 동시에 실행될 수 있으므로 추첨마다 분리된 난수 생성기를 사용
+    private synchronized SplittableRandom split() {
+        return random.split();
+    }
+
+    private record KeyedTarget(PickTarget target, double key) {}
+}
@@ -7,4 +7,12 @@ import java.util.List;
  */
 public interface WinnerPicker {
     List<PickTarget> pick(List<PickTarget> items,long count);
+
+    /**
+     * 점수 배열을 기준으로 추첨한다. 대상마다 객체를 만들지 않으므로 참여자가 많은 이벤트에서 사용한다.
+     * @param scores 대상 별 점수. 인덱스가 곧 대상을 의미한다.
+     * @param count 추첨 인원
+     * @return 뽑힌 순서대로 정렬된 대상 인덱스 배열
+     */
+    int[] pick(long[] scores, long count);
 }
@@ -0,0 +1,107 @@
+package hyundai.softeer.orange.event.draw.component.score;
+
+import hyundai.softeer.orange.event.draw.component.score.actionHandler.ActionHandler;
+import hyundai.softeer.orange.event.draw.entity.DrawEventScorePolicy;
+import hyundai.softeer.orange.event.draw.enums.DrawEventAction;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 추첨 이벤트의 유저 별 동작 횟수를 참여 / 기대평 작성 시점에 Redis hash에 미리 집계한다.
+ * <p>가중치가 아닌 동작 횟수를 저장하고 읽을 때 정책의 점수를 곱하므로, 이벤트 진행 중 정책 점수가 수정되어도 다시 집계할 필요가 없다.</p>
+ * <p>집계 결과는 DB의 전체 동작 횟수와 일치할 때만 사용한다. 배포 이전에 시작된 이벤트나 Redis 장애로 누락된 경우 추첨 시점에 DB에서 다시 계산한다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+public class DrawScoreStore {
+    private static final Logger log = LoggerFactory.getLogger(DrawScoreStore.class);
+    private static final String KEY_PREFIX = "draw:";
+    private static final int SCAN_COUNT = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<DrawEventAction, ActionHandler> handlerMap;
+
+    /**
+     * 유저의 동작 횟수를 1 증가시킨다. 트랜잭션 안이라면 커밋된 뒤에 반영한다.
+     */
+    public void increase(Long drawEventId, Long eventUserId, DrawEventAction action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            doIncrease(drawEventId, eventUserId, action);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                doIncrease(drawEventId, eventUserId, action);
+            }
+        });
+    }
+
+    /**
+     * 미리 집계된 횟수에 정책 별 점수를 곱해 유저 별 점수를 만든다.
+     * @return 집계된 횟수가 DB와 다르다면 empty
+     */
+    public Optional<UserScoreMap> read(long drawEventId, List<DrawEventScorePolicy> policies) {
+        UserScoreMap scoreMap = new UserScoreMap();
+        for (DrawEventScorePolicy policy : policies) {
+            long total = 0;
+            ScanOptions options = ScanOptions.scanOptions().count(SCAN_COUNT).build();
+            try (Cursor<Map.Entry<Object, Object>> cursor = stringRedisTemplate.opsForHash()
+                    .scan(countKey(drawEventId, policy.getAction()), options)) {
+                while (cursor.hasNext()) {
+                    Map.Entry<Object, Object> entry = cursor.next();
+                    long count = Long.parseLong(entry.getValue().toString());
+                    scoreMap.add(Long.parseLong(entry.getKey().toString()), count * policy.getScore());
+                    total += count;
+                }
+            }
+
+            long expected = handlerMap.get(policy.getAction()).countTotal(drawEventId);
+            if (total != expected) {
+                log.warn("Draw event {}: precomputed {} count {} differs from {}, recalculating",
+                        drawEventId, policy.getAction(), total, expected);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(scoreMap);
+    }
+
+    /**
+     * 유저의 현재 점수. 추첨 전 유저에게 보여주는 용도이므로 DB와 비교하지 않는다.
+     */
+    public long getScore(long drawEventId, long eventUserId, List<DrawEventScorePolicy> policies) {
+        long score = 0;
+        for (DrawEventScorePolicy policy : policies) {
+            Object count = stringRedisTemplate.opsForHash()
+                    .get(countKey(drawEventId, policy.getAction()), String.valueOf(eventUserId));
+            if (count != null) score += Long.parseLong(count.toString()) * policy.getScore();
+        }
+        return score;
+    }
+
+    private void doIncrease(Long drawEventId, Long eventUserId, DrawEventAction action) {
+        try {
+            stringRedisTemplate.opsForHash().increment(countKey(drawEventId, action), String.valueOf(eventUserId), 1);
+        } catch (DataAccessException e) {
+            // 누락되더라도 추첨 시점의 검증에서 걸러지므로 요청은 실패시키지 않음
+            log.error("Draw event {}: failed to increase {} count of user {}", drawEventId, action, eventUserId, e);
+        }
+    }
+
+    private static String countKey(long drawEventId, DrawEventAction action) {
+        return KEY_PREFIX + drawEventId + ":count:" + action.name();
+    }
+}
@@ -3,27 +3,98 @@ package hyundai.softeer.orange.event.draw.component.score;
 import hyundai.softeer.orange.event.draw.component.score.actionHandler.ActionHandler;
 import hyundai.softeer.orange.event.draw.entity.DrawEventScorePolicy;
 import hyundai.softeer.orange.event.draw.enums.DrawEventAction;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.*;
 
 /**
  * 특정 추첨 이벤트에 대한 점수를 계산하는 클래스. 저장은 안한다.
+ * <p>정책 별 집계 쿼리는 서로 독립적이므로 크기가 제한된 스레드 풀에서 동시에 실행하고, 정책마다 별도의 맵에 모은 뒤 합친다.
+ * 추첨 시간은 모든 쿼리 시간의 합이 아닌 가장 느린 쿼리 시간에 가까워진다.</p>
  */
-@RequiredArgsConstructor
 @Component
 public class ScoreCalculator {
     private final Map<DrawEventAction, ActionHandler> handlerMap;
+    private final Executor executor;
 
-    public Map<Long, Long> calculate(long eventId, List<DrawEventScorePolicy> policies) {
-        Map<Long, Long> scoreMap = new HashMap<>();
+    @Autowired
+    public ScoreCalculator(Map<DrawEventAction, ActionHandler> handlerMap,
+                           @Value("${draw.score.pool-size:4}") int poolSize) {
+        this(handlerMap, createExecutor(poolSize));
+    }
+
+    ScoreCalculator(Map<DrawEventAction, ActionHandler> handlerMap, Executor executor) {
+        this.handlerMap = handlerMap;
+        this.executor = executor;
+    }
+
+    // 동시에 여러 추첨이 진행되어도 집계 쿼리가 DB 커넥션을 poolSize 개 이상 점유하지 않도록 제한.
+    // 대기열이 가득 차면 추첨을 진행하는 스레드에서 직접 집계한다.
+    private static ExecutorService createExecutor(int poolSize) {
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(poolSize * 8),
+                new CustomizableThreadFactory("draw-score-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    public UserScoreMap calculate(long eventId, List<DrawEventScorePolicy> policies) {
+        // 정책이 하나라면 스레드를 옮길 필요 없음
+        if (policies.size() <= 1) {
+            UserScoreMap scoreMap = new UserScoreMap();
+            for (var policy : policies) {
+                handle(scoreMap, eventId, policy);
+            }
+            return scoreMap;
+        }
+
+        // UserScoreMap은 thread-safe 하지 않으므로 정책마다 별도의 맵을 사용
+        List<CompletableFuture<UserScoreMap>> futures = new ArrayList<>(policies.size());
         for (var policy : policies) {
-            ActionHandler handler = handlerMap.get(policy.getAction());
-            handler.handle(scoreMap, eventId, policy.getScore());
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                UserScoreMap partial = new UserScoreMap();
+                handle(partial, eventId, policy);
+                return partial;
+            }, executor));
+        }
+
+        UserScoreMap scoreMap = null;
+        for (var future : futures) {
+            UserScoreMap partial = join(future);
+            if (scoreMap == null) {
+                scoreMap = partial;
+            } else {
+                scoreMap.addAll(partial);
+            }
         }
         return scoreMap;
     }
+
+    private void handle(UserScoreMap scoreMap, long eventId, DrawEventScorePolicy policy) {
+        ActionHandler handler = handlerMap.get(policy.getAction());
+        handler.handle(scoreMap, eventId, policy.getScore());
+    }
+
+    // 집계 중 발생한 예외는 감싸지 않고 그대로 전달
+    private UserScoreMap join(CompletableFuture<UserScoreMap> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,9 @@
+package hyundai.softeer.orange.event.draw.component.score;
+
+/**
+ * 유저 별 집계 결과를 한 행씩 전달받는 콜백. 집계 결과를 객체로 만들지 않고 바로 점수에 반영할 때 사용한다.
+ */
+@FunctionalInterface
+public interface UserCountConsumer {
+    void accept(long eventUserId, long count);
+}
@@ -0,0 +1,143 @@
+package hyundai.softeer.orange.event.draw.component.score;
+
+import java.util.Arrays;
+
+/**
+ * 유저 id → 점수를 박싱 없이 저장하는 open addressing 해시맵.
+ * <p>유저 id / 점수는 삽입 순서대로 long 배열에 저장하고, 해시 테이블에는 배열 위치만 기록한다.
+ * 따라서 추첨 단계에서는 userIds() / scores()를 그대로 병렬 배열로 사용할 수 있다.</p>
+ * <p>추첨 한 번 안에서만 사용하므로 thread-safe 하지 않다.</p>
+ */
+public class UserScoreMap {
+    private static final int DEFAULT_CAPACITY = 16;
+    // 테이블이 이 비율 이상 차면 2배로 늘린다
+    private static final float LOAD_FACTOR = 0.5f;
+
+    // 테이블에는 (배열 위치 + 1)을 저장한다. 0은 빈 칸
+    private int[] table;
+    private long[] userIds;
+    private long[] scores;
+    private int size;
+
+    public UserScoreMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public UserScoreMap(int expectedSize) {
+        int capacity = Math.max(DEFAULT_CAPACITY, expectedSize);
+        this.table = new int[tableSizeFor(capacity)];
+        this.userIds = new long[capacity];
+        this.scores = new long[capacity];
+    }
+
+    /**
+     * 유저의 점수에 delta를 더한다. 처음 등장한 유저는 0점에서 시작한다.
+     */
+    public void add(long userId, long delta) {
+        int mask = table.length - 1;
+        int slot = hash(userId) & mask;
+        while (table[slot] != 0) {
+            int idx = table[slot] - 1;
+            if (userIds[idx] == userId) {
+                scores[idx] += delta;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == userIds.length) {
+            userIds = Arrays.copyOf(userIds, size * 2);
+            scores = Arrays.copyOf(scores, size * 2);
+        }
+        userIds[size] = userId;
+        scores[size] = delta;
+        table[slot] = ++size;
+
+        if (size > table.length * LOAD_FACTOR) {
+            rehash(table.length * 2);
+        }
+    }
+
+    /**
+     * 다른 맵의 점수를 모두 더한다.
+     */
+    public void addAll(UserScoreMap other) {
+        for (int idx = 0; idx < other.size; idx++) {
+            add(other.userIds[idx], other.scores[idx]);
+        }
+    }
+
+    /**
+     * 유저의 점수를 반환한다. 존재하지 않는 유저는 0점
+     */
+    public long get(long userId) {
+        int idx = indexOf(userId);
+        return idx < 0 ? 0 : scores[idx];
+    }
+
+    public boolean containsKey(long userId) {
+        return indexOf(userId) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 삽입 순서대로 정렬된 유저 id 배열. scores()와 같은 인덱스를 공유한다.
+     */
+    public long[] userIds() {
+        return Arrays.copyOf(userIds, size);
+    }
+
+    /**
+     * 삽입 순서대로 정렬된 점수 배열. userIds()와 같은 인덱스를 공유한다.
+     */
+    public long[] scores() {
+        return Arrays.copyOf(scores, size);
+    }
+
+    private int indexOf(long userId) {
+        int mask = table.length - 1;
+        int slot = hash(userId) & mask;
+        while (table[slot] != 0) {
+            int idx = table[slot] - 1;
+            if (userIds[idx] == userId) return idx;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash(int newTableSize) {
+        int[] newTable = new int[newTableSize];
+        int mask = newTableSize - 1;
+        for (int idx = 0; idx < size; idx++) {
+            int slot = hash(userIds[idx]) & mask;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            newTable[slot] = idx + 1;
+        }
+        table = newTable;
+    }
+
+    // 연속된 auto increment id가 한 곳에 몰리지 않도록 비트를 섞는다 (murmur3 fmix64)
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb93fe53ec5b9L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    // 기대 크기를 LOAD_FACTOR 이하로 유지할 수 있는 2의 거듭제곱 크기
+    private static int tableSizeFor(int expectedSize) {
+        int needed = (int) Math.ceil(expectedSize / LOAD_FACTOR);
+        return Integer.highestOneBit(Math.max(needed - 1, 1)) << 1;
+    }
+}
@@ -1,6 +1,6 @@
 package hyundai.softeer.orange.event.draw.component.score.actionHandler;
 
-import java.util.Map;
+import hyundai.softeer.orange.event.draw.component.score.UserScoreMap;
 
 /**
  * 채점 정책에 대한 동작을 처리한다.
@@ -8,5 +8,10 @@ import java.util.Map;
  * <p>액션 = {@link hyundai.softeer.orange.event.draw.enums.DrawEventAction}</p>
  */
 public interface ActionHandler {
-    void handle(Map<Long, Long> scoreMap, long eventRawId, long score);
+    void handle(UserScoreMap scoreMap, long eventRawId, long score);
+
+    /**
+     * 이벤트에서 발생한 동작의 전체 횟수. 미리 집계된 점수가 DB와 일치하는지 검증할 때 사용한다.
+     */
+    long countTotal(long eventRawId);
 }
@@ -1,22 +1,24 @@
 package hyundai.softeer.orange.event.draw.component.score.actionHandler;
 
-import hyundai.softeer.orange.event.draw.repository.EventParticipationInfoRepository;
+import hyundai.softeer.orange.event.draw.component.score.UserScoreMap;
+import hyundai.softeer.orange.event.draw.repository.EventParticipationCountRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-
 @RequiredArgsConstructor
 @Component("ParticipateEvent_ActionHandler")
 public class ParticipateEventActionHandler implements ActionHandler {
-    private final EventParticipationInfoRepository repo;
+    private final EventParticipationCountRepository repo;
+
+    @Override
+    public void handle(UserScoreMap scoreMap, long eventRawId, long score) {
+        // 집계 결과를 목록으로 모으지 않고 한 행씩 바로 점수에 반영
+        repo.streamCountPerEventUserByEventId(eventRawId,
+                (eventUserId, count) -> scoreMap.add(eventUserId, count * score));
+    }
 
     @Override
-    public void handle(Map<Long, Long> scoreMap, long eventRawId, long score) {
-        var participateCounts =  repo.countPerEventUserByEventId(eventRawId);
-        for (var p : participateCounts) {
-            long beforeScore = scoreMap.getOrDefault(p.getEventUserId(),0L);
-            scoreMap.put(p.getEventUserId(), beforeScore + p.getCount() * score);
-        }
+    public long countTotal(long eventRawId) {
+        return repo.sumCountByDrawEventId(eventRawId);
     }
 }
@@ -1,22 +1,24 @@
 package hyundai.softeer.orange.event.draw.component.score.actionHandler;
 
 import hyundai.softeer.orange.comment.repository.CommentRepository;
+import hyundai.softeer.orange.event.draw.component.score.UserScoreMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-
 @RequiredArgsConstructor
 @Component("WriteComment_ActionHandler")
 public class WriteCommentActionHandler implements ActionHandler {
     private final CommentRepository repo;
 
     @Override
-    public void handle(Map<Long, Long> scoreMap, long eventRawId, long score) {
-        var commentCounts = repo.countPerEventUserByEventId(eventRawId);
-        for (var c : commentCounts) {
-            long beforeScore = scoreMap.getOrDefault(c.getEventUserId(), 0L);
-            scoreMap.put(c.getEventUserId(), beforeScore + c.getCount() * score);
-        }
+    public void handle(UserScoreMap scoreMap, long eventRawId, long score) {
+        // 집계 결과를 목록으로 모으지 않고 한 행씩 바로 점수에 반영
+        repo.streamCountPerEventUserByEventId(eventRawId,
+                (eventUserId, count) -> scoreMap.add(eventUserId, count * score));
+    }
+
+    @Override
+    public long countTotal(long eventRawId) {
+        return repo.countByEventRawId(eventRawId);
     }
 }
@@ -0,0 +1,26 @@
+package hyundai.softeer.orange.event.draw.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 추첨 이벤트의 일일 참여를 Redis bitmap에 기록하고 DB에는 Stream을 통해 나중에 반영하기 위한 설정
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "draw.participation")
+public class DrawParticipationConfig {
+    // 참여를 bitmap에 기록할지 여부. false라면 요청마다 DB에 바로 기록한다.
+    private boolean bitmapEnabled = true;
+    // Stream을 읽는 consumer group 이름
+    private String group = "draw-participation-writer";
+    // Stream을 읽는 주기
+    private long intervalMillis = 500;
+    // 한 번에 읽어 DB에 저장할 참여 기록 수
+    private int batchSize = 200;
+    // 다른 서버가 읽은 뒤 이 시간 동안 처리하지 못한 기록은 가져와서 처리한다.
+    private long claimIdleMillis = 30000;
+    // 이벤트가 끝난 뒤 bitmap을 유지하는 기간
+    private long retentionDays = 7;
+}
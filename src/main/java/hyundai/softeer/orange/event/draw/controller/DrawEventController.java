@@ -2,6 +2,7 @@ package hyundai.softeer.orange.event.draw.controller;
 
 import hyundai.softeer.orange.common.ErrorResponse;
 import hyundai.softeer.orange.core.auth.list.EventUserAuth;
+import hyundai.softeer.orange.event.draw.dto.DrawEventScoreDto;
 import hyundai.softeer.orange.event.draw.dto.EventParticipationDatesDto;
 import hyundai.softeer.orange.event.draw.service.EventParticipationService;
 import hyundai.softeer.orange.eventuser.component.EventUserAnnotation;
@@ -59,4 +60,22 @@ public class DrawEventController {
         EventParticipationDatesDto dto = epService.getParticipationDateList(eventId, userInfo.getUserId());
         return ResponseEntity.ok(dto);
     }
+
+    /**
+     * 유저의 현재 추첨 점수를 반환한다.
+     * @param eventId 이벤트의 id
+     * @return 유저의 추첨 점수
+     */
+    @Operation(summary = "추첨 점수를 얻는다.", description = "이벤트 유저의 대상 추첨 이벤트에 대한 현재 점수를 얻는다. 참여 / 기대평 작성 직후 반영된다.", responses = {
+            @ApiResponse(responseCode = "200", description = "추첨 점수 획득"),
+            @ApiResponse(responseCode = "404", description = "이벤트를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+    })
+    @GetMapping("/{eventId}/score")
+    public ResponseEntity<DrawEventScoreDto> getScore(
+            @PathVariable ("eventId") String eventId,
+            @Parameter(hidden = true) @EventUserAnnotation EventUserInfo userInfo
+    ) {
+        DrawEventScoreDto dto = epService.getScore(eventId, userInfo.getUserId());
+        return ResponseEntity.ok(dto);
+    }
 }
@@ -0,0 +1,19 @@
+package hyundai.softeer.orange.event.draw.dto;
+
+import hyundai.softeer.orange.event.draw.enums.DrawEventJobStage;
+
+/**
+ * 추첨 작업의 진행 상황
+ * @param totalCount 추첨된 당첨자 수. 추첨 전에는 0
+ * @param insertedCount 저장된 당첨자 수
+ */
+public record DrawEventJobProgressDto(DrawEventJobStage stage, int totalCount, int insertedCount) {
+    /**
+     * 저장된 당첨자 비율. 당첨자를 추첨하기 전에는 0
+     */
+    public int percent() {
+        if (stage == DrawEventJobStage.COMPLETE) return 100;
+        if (totalCount == 0) return 0;
+        return (int) ((long) insertedCount * 100 / totalCount);
+    }
+}
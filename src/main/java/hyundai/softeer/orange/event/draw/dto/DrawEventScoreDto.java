@@ -0,0 +1,3 @@
+package hyundai.softeer.orange.event.draw.dto;
+
+public record DrawEventScoreDto(long score) {}
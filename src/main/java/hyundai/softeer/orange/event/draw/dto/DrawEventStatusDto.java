@@ -1,5 +1,6 @@
 package hyundai.softeer.orange.event.draw.dto;
 
+import hyundai.softeer.orange.event.draw.enums.DrawEventJobStage;
 import hyundai.softeer.orange.event.draw.enums.DrawEventStatus;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -10,6 +11,18 @@ import lombok.RequiredArgsConstructor;
 public class DrawEventStatusDto {
     public String eventId;
     public DrawEventStatus status;
+    /**
+     * 추첨 작업의 현재 단계. 추첨을 시작한 적이 없다면 null
+     */
+    public DrawEventJobStage stage;
+    /**
+     * 전체 당첨자 중 저장된 비율 (0 ~ 100)
+     */
+    public int percent;
+    /**
+     * 저장된 당첨자 수
+     */
+    public long writtenCount;
 
     public static DrawEventStatusDto of(String eventId, DrawEventStatus status) {
         DrawEventStatusDto dto = new DrawEventStatusDto();
@@ -17,4 +30,12 @@ public class DrawEventStatusDto {
         dto.status = status;
         return dto;
     }
+
+    public static DrawEventStatusDto of(String eventId, DrawEventStatus status, DrawEventJobProgressDto progress) {
+        DrawEventStatusDto dto = of(eventId, status);
+        dto.stage = progress.stage();
+        dto.percent = progress.percent();
+        dto.writtenCount = progress.insertedCount();
+        return dto;
+    }
 }
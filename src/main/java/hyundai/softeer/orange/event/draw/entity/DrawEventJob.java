@@ -0,0 +1,109 @@
+package hyundai.softeer.orange.event.draw.entity;
+
+import hyundai.softeer.orange.event.draw.dto.DrawEventWinningInfoBulkInsertDto;
+import hyundai.softeer.orange.event.draw.enums.DrawEventJobStage;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추첨 작업의 진행 상황. 서버가 추첨 도중 종료되더라도 마지막으로 저장된 단계부터 다시 진행할 수 있도록 한다.
+ */
+@Table(name = "draw_event_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class DrawEventJob {
+    // 당첨자 1명 당 (event user id, ranking) 16 바이트
+    private static final int WINNER_BYTES = Long.BYTES * 2;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long drawEventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DrawEventJobStage stage;
+
+    /**
+     * 추첨된 당첨자 목록. 순서대로 (event user id, ranking)을 이어 붙인 값
+     */
+    @Lob
+    @Column(columnDefinition = "longblob")
+    private byte[] winners;
+
+    @Column(nullable = false)
+    private int totalCount;
+
+    @Column(nullable = false)
+    private int insertedCount;
+
+    /**
+     * 마지막으로 진행 상황이 저장된 시각. 오래 갱신되지 않았다면 작업이 중단된 것으로 판단한다.
+     */
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * 작업을 진행 중인 실행의 토큰. 중단된 작업을 다른 실행이 점유하면 바뀌며, 이전 실행은 진행 상황을 저장하지 못하고 중단된다.
+     */
+    @Column(nullable = false, length = 36)
+    private String owner;
+
+    public static DrawEventJob of(Long drawEventId, String owner, Instant now) {
+        DrawEventJob job = new DrawEventJob();
+        job.drawEventId = drawEventId;
+        job.owner = owner;
+        job.stage = DrawEventJobStage.PICKING;
+        job.updatedAt = now;
+        return job;
+    }
+
+    /**
+     * 추첨 결과를 저장하고 삽입 단계로 넘어간다.
+     */
+    public void picked(List<DrawEventWinningInfoBulkInsertDto> targets, Instant now) {
+        ByteBuffer buffer = ByteBuffer.allocate(targets.size() * WINNER_BYTES);
+        for (DrawEventWinningInfoBulkInsertDto target : targets) {
+            buffer.putLong(target.getEventUserId());
+            buffer.putLong(target.getRanking());
+        }
+        this.winners = buffer.array();
+        this.totalCount = targets.size();
+        this.insertedCount = 0;
+        this.stage = DrawEventJobStage.INSERTING;
+        this.updatedAt = now;
+    }
+
+    /**
+     * 저장된 당첨자 중 [from, to) 구간을 반환한다.
+     */
+    public List<DrawEventWinningInfoBulkInsertDto> getWinners(int from, int to) {
+        ByteBuffer buffer = ByteBuffer.wrap(winners);
+        List<DrawEventWinningInfoBulkInsertDto> targets = new ArrayList<>(to - from);
+        for (int idx = from; idx < to; idx++) {
+            int offset = idx * WINNER_BYTES;
+            targets.add(DrawEventWinningInfoBulkInsertDto.of(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES), drawEventId));
+        }
+        return targets;
+    }
+
+    public void inserted(int insertedCount, Instant now) {
+        this.insertedCount = insertedCount;
+        this.updatedAt = now;
+    }
+
+    public void complete(Instant now) {
+        this.stage = DrawEventJobStage.COMPLETE;
+        this.updatedAt = now;
+    }
+}
@@ -0,0 +1,41 @@
+package hyundai.softeer.orange.event.draw.entity;
+
+import hyundai.softeer.orange.eventuser.entity.EventUser;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 추첨 이벤트의 유저 별 참여 횟수. 참여 기록(event_participation_info)과 같은 트랜잭션에서 갱신된다.
+ * <p>추첨 시 점수 집계와 당일 중복 참여 검사를 참여 기록 전체 대신 (이벤트, 유저) 한 행으로 처리하기 위해 사용한다.</p>
+ */
+@Table(name = "event_participation_count",
+        uniqueConstraints = @UniqueConstraint(name = "uk_participation_count_event_user", columnNames = {"draw_event_id", "event_user_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class EventParticipationCount {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "draw_event_id", nullable = false)
+    private DrawEvent drawEvent;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_user_id", nullable = false)
+    private EventUser eventUser;
+
+    @Column(nullable = false)
+    private long participationCount;
+
+    /**
+     * 마지막으로 참여한 시각
+     */
+    @Column(nullable = false)
+    private Instant lastDate;
+}
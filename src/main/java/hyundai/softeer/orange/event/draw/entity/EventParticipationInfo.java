@@ -5,8 +5,13 @@ import jakarta.persistence.*;
 import lombok.Getter;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 
-@Table(name="event_participation_info")
+// 유저의 이벤트 참여 일자 조회용. (이벤트, 유저, 참여일) 마다 한 행만 저장된다
+@Table(name="event_participation_info",
+        indexes = @Index(name = "idx_participation_event_user_date", columnList = "draw_event_id, event_user_id, date"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_participation_event_user_day", columnNames = {"draw_event_id", "event_user_id", "day"}))
 @Getter
 @Entity
 public class EventParticipationInfo {
@@ -17,6 +22,10 @@ public class EventParticipationInfo {
     @Column
     private Instant date;
 
+    // 서버 시간대 기준 참여일. 같은 날의 참여가 여러 번, 순서와 상관없이 반영되어도 한 번만 저장되도록 한다
+    @Column
+    private LocalDate day;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="event_user_id")
     private EventUser eventUser;
@@ -28,6 +37,7 @@ public class EventParticipationInfo {
     public static EventParticipationInfo of(Instant date, EventUser eventUser, DrawEvent drawEvent) {
         EventParticipationInfo participationInfo = new EventParticipationInfo();
         participationInfo.date = date;
+        participationInfo.day = LocalDate.ofInstant(date, ZoneId.systemDefault());
         participationInfo.eventUser = eventUser;
         participationInfo.drawEvent = drawEvent;
         return participationInfo;
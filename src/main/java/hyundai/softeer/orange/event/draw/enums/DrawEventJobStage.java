@@ -0,0 +1,12 @@
+package hyundai.softeer.orange.event.draw.enums;
+
+/**
+ * 추첨 작업의 현재 단계. 각 단계는 이전 단계의 결과가 DB에 저장된 뒤에 시작된다.
+ */
+public enum DrawEventJobStage {
+    // 점수 집계 및 당첨자 추첨. 저장된 결과가 없으므로 재시작 시 처음부터 다시 수행
+    PICKING,
+    // 당첨자 목록이 저장된 상태. 재시작 시 저장된 위치부터 이어서 삽입
+    INSERTING,
+    COMPLETE
+}
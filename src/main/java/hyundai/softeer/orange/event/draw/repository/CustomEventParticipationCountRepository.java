@@ -0,0 +1,10 @@
+package hyundai.softeer.orange.event.draw.repository;
+
+import hyundai.softeer.orange.event.draw.component.score.UserCountConsumer;
+
+public interface CustomEventParticipationCountRepository {
+    /**
+     * 추첨 이벤트의 유저 별 참여 횟수를 결과 목록으로 만들지 않고 한 행씩 consumer에 전달한다.
+     */
+    void streamCountPerEventUserByEventId(long eventRawId, UserCountConsumer consumer);
+}
@@ -0,0 +1,36 @@
+package hyundai.softeer.orange.event.draw.repository;
+
+import hyundai.softeer.orange.event.draw.component.score.UserCountConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomEventParticipationCountRepositoryImpl implements CustomEventParticipationCountRepository {
+    // MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때 결과를 메모리에 모두 올리지 않고 한 행씩 읽는다.
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 참여 횟수가 미리 집계되어 있으므로 GROUP BY 없이 (draw_event_id, event_user_id) 인덱스 범위만 읽는다
+    @Override
+    public void streamCountPerEventUserByEventId(long eventRawId, UserCountConsumer consumer) {
+        String sql = "SELECT event_user_id, participation_count " +
+                "FROM event_participation_count " +
+                "WHERE draw_event_id = ?";
+
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(sql);
+                    ps.setFetchSize(STREAMING_FETCH_SIZE);
+                    ps.setLong(1, eventRawId);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getLong(2))
+        );
+    }
+}
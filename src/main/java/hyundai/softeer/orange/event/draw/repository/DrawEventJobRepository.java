@@ -0,0 +1,57 @@
+package hyundai.softeer.orange.event.draw.repository;
+
+import hyundai.softeer.orange.event.draw.dto.DrawEventJobProgressDto;
+import hyundai.softeer.orange.event.draw.entity.DrawEventJob;
+import hyundai.softeer.orange.event.draw.enums.DrawEventJobStage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface DrawEventJobRepository extends JpaRepository<DrawEventJob, Long> {
+    Optional<DrawEventJob> findByDrawEventId(Long drawEventId);
+
+    // 상태 조회는 자주 호출되므로 당첨자 목록을 제외하고 조회
+    @Query("select new hyundai.softeer.orange.event.draw.dto.DrawEventJobProgressDto(j.stage, j.totalCount, j.insertedCount) from DrawEventJob j where j.drawEventId = :drawEventId")
+    Optional<DrawEventJobProgressDto> findProgressByDrawEventId(Long drawEventId);
+
+    /**
+     * staleBefore 이후로 진행 상황이 갱신되지 않은 미완료 작업을 owner가 이어서 진행하도록 점유한다.
+     * @return 점유에 성공했다면 1
+     */
+    @Modifying
+    @Query("update DrawEventJob j set j.owner = :owner, j.updatedAt = :now where j.drawEventId = :drawEventId and j.updatedAt < :staleBefore " +
+            "and j.stage <> hyundai.softeer.orange.event.draw.enums.DrawEventJobStage.COMPLETE")
+    int claimStale(Long drawEventId, String owner, Instant staleBefore, Instant now);
+
+    /**
+     * 추첨 중 표시가 만료된 뒤 남은 미완료 작업을 owner가 이어서 진행하도록 점유한다.
+     * @return 점유에 성공했다면 1
+     */
+    @Modifying
+    @Query("update DrawEventJob j set j.owner = :owner, j.updatedAt = :now where j.id = :id " +
+            "and j.stage <> hyundai.softeer.orange.event.draw.enums.DrawEventJobStage.COMPLETE")
+    int takeOver(Long id, String owner, Instant now);
+
+    // 아래의 갱신은 모두 작업을 점유한 실행에서만 반영되며, 다른 실행이 점유했다면 0을 반환
+
+    // 추첨 결과를 저장하고 삽입 단계로 넘어간다
+    @Modifying
+    @Query("update DrawEventJob j set j.winners = :winners, j.totalCount = :totalCount, j.insertedCount = 0, " +
+            "j.stage = hyundai.softeer.orange.event.draw.enums.DrawEventJobStage.INSERTING, j.updatedAt = :now " +
+            "where j.id = :id and j.owner = :owner and j.stage = hyundai.softeer.orange.event.draw.enums.DrawEventJobStage.PICKING")
+    int updatePicked(Long id, String owner, byte[] winners, int totalCount, Instant now);
+
+    // 진행 상황만 갱신. 엔티티를 저장하면 당첨자 목록까지 매번 다시 쓰게 된다
+    @Modifying
+    @Query("update DrawEventJob j set j.insertedCount = :insertedCount, j.updatedAt = :now where j.id = :id and j.owner = :owner")
+    int updateInsertedCount(Long id, String owner, int insertedCount, Instant now);
+
+    @Modifying
+    @Query("update DrawEventJob j set j.stage = :stage, j.updatedAt = :now where j.id = :id and j.owner = :owner")
+    int updateStage(Long id, String owner, DrawEventJobStage stage, Instant now);
+}
@@ -0,0 +1,43 @@
+package hyundai.softeer.orange.event.draw.repository;
+
+import hyundai.softeer.orange.event.draw.entity.EventParticipationCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface EventParticipationCountRepository extends JpaRepository<EventParticipationCount, Long>, CustomEventParticipationCountRepository {
+    /**
+     * 첫 참여 기록을 추가한다. (이벤트, 유저) 행이 이미 있다면 무시한다.
+     * <p>존재하지 않는 행을 UPDATE 하면 갭 락이 걸려 처음 참여하는 유저끼리 교착 상태가 생길 수 있으므로 INSERT를 먼저 시도한다.</p>
+     * @return 추가했다면 1, 이미 있다면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO event_participation_count (draw_event_id, event_user_id, participation_count, last_date) " +
+            "VALUES (:drawEventId, :eventUserId, 1, :date)", nativeQuery = true)
+    int insertFirstParticipation(@Param("drawEventId") Long drawEventId, @Param("eventUserId") Long eventUserId,
+                                 @Param("date") Instant date);
+
+    /**
+     * 유저의 참여 횟수를 1 증가시킨다. 참여 여부는 참여 기록(event_participation_info)에서 날짜 별로 확인한다.
+     * <p>지난 날의 참여가 늦게 반영되더라도 마지막 참여 시각은 뒤로 돌아가지 않는다.</p>
+     */
+    @Modifying
+    @Query(value = "UPDATE event_participation_count " +
+            "SET participation_count = participation_count + 1, last_date = GREATEST(last_date, :date) " +
+            "WHERE draw_event_id = :drawEventId AND event_user_id = :eventUserId", nativeQuery = true)
+    int increase(@Param("drawEventId") Long drawEventId, @Param("eventUserId") Long eventUserId, @Param("date") Instant date);
+
+    /**
+     * 유저가 기간 안에 참여했는지 여부. (이벤트, 유저) 한 행만 확인한다.
+     */
+    boolean existsByDrawEventIdAndEventUserIdAndLastDateBetween(Long drawEventId, Long eventUserId, Instant from, Instant to);
+
+    @Query(value = "SELECT COALESCE(SUM(participation_count), 0) FROM event_participation_count " +
+            "WHERE draw_event_id = :drawEventId", nativeQuery = true)
+    long sumCountByDrawEventId(@Param("drawEventId") Long drawEventId);
+}
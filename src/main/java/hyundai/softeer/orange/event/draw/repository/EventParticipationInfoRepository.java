@@ -6,11 +6,13 @@ import hyundai.softeer.orange.event.draw.entity.DrawEvent;
 import hyundai.softeer.orange.event.draw.entity.EventParticipationInfo;
 import hyundai.softeer.orange.eventuser.entity.EventUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -27,5 +29,15 @@ public interface EventParticipationInfoRepository extends JpaRepository<EventPar
             "AND info.draw_event_id = :drawEventId", nativeQuery = true)
     List<EventParticipationDateDto> findByEventUserId(@Param("eventUserId") String eventUserId, @Param("drawEventId") Long drawEventId);
 
+    /**
+     * 참여 기록을 추가한다. 같은 날의 참여 기록이 이미 있다면 무시한다.
+     * @return 추가했다면 1, 그 날 이미 참여했다면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO event_participation_info (draw_event_id, event_user_id, date, day) " +
+            "VALUES (:drawEventId, :eventUserId, :date, :day)", nativeQuery = true)
+    int insertParticipation(@Param("drawEventId") Long drawEventId, @Param("eventUserId") Long eventUserId,
+                            @Param("date") Instant date, @Param("day") LocalDate day);
+
     boolean existsByEventUserAndDrawEventAndDateBetween(EventUser eventUser, DrawEvent drawEvent, @Param("from") Instant from, @Param("to") Instant to);
 }
@@ -0,0 +1,18 @@
+package hyundai.softeer.orange.event.draw.scheduler;
+
+import hyundai.softeer.orange.event.draw.service.DrawParticipationWriteBehindService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class DrawScheduler {
+    private final DrawParticipationWriteBehindService drawParticipationWriteBehindService;
+
+    // 모든 서버에서 실행되며, bitmap에 기록된 추첨 이벤트 참여를 DB에 반영한다.
+    @Scheduled(fixedDelayString = "${draw.participation.interval-millis:500}")
+    public void drainParticipations() {
+        drawParticipationWriteBehindService.drain();
+    }
+}
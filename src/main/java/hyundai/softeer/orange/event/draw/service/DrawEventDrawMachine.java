@@ -1,19 +1,31 @@
 package hyundai.softeer.orange.event.draw.service;
 
-import hyundai.softeer.orange.event.draw.component.picker.PickTarget;
+import hyundai.softeer.orange.common.ErrorCode;
+import hyundai.softeer.orange.config.AsyncConfig;
+import hyundai.softeer.orange.config.BulkWriteConfig;
+import hyundai.softeer.orange.event.common.EventConst;
 import hyundai.softeer.orange.event.draw.component.picker.WinnerPicker;
+import hyundai.softeer.orange.event.draw.component.score.DrawScoreStore;
 import hyundai.softeer.orange.event.draw.component.score.ScoreCalculator;
+import hyundai.softeer.orange.event.draw.component.score.UserScoreMap;
 import hyundai.softeer.orange.event.draw.dto.DrawEventWinningInfoBulkInsertDto;
 import hyundai.softeer.orange.event.draw.entity.DrawEvent;
+import hyundai.softeer.orange.event.draw.entity.DrawEventJob;
 import hyundai.softeer.orange.event.draw.entity.DrawEventMetadata;
 import hyundai.softeer.orange.event.draw.entity.DrawEventScorePolicy;
+import hyundai.softeer.orange.event.draw.enums.DrawEventJobStage;
+import hyundai.softeer.orange.event.draw.exception.DrawEventException;
+import hyundai.softeer.orange.event.draw.repository.DrawEventJobRepository;
 import hyundai.softeer.orange.event.draw.repository.DrawEventRepository;
 import hyundai.softeer.orange.event.draw.repository.DrawEventWinningInfoRepository;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -25,22 +37,89 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 @Component
 public class DrawEventDrawMachine {
+    private static final Logger log = LoggerFactory.getLogger(DrawEventDrawMachine.class);
     private final DrawEventWinningInfoRepository deWinningInfoRepository;
     private final DrawEventRepository drawEventRepository;
     private final WinnerPicker picker;
     private final ScoreCalculator calculator;
+    private final DrawScoreStore drawScoreStore;
+    private final DrawEventJobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkWriteConfig bulkWriteConfig;
 
-    @Async
-    @Transactional
-    public CompletableFuture<Void> draw(DrawEvent drawEvent) {
+    /**
+     * 추첨을 점수 집계 및 추첨 → 당첨자 분할 삽입 단계로 나누어 진행한다.
+     * <p>각 단계의 결과는 draw_event_job에 저장되므로, 중간에 중단되더라도 다시 호출하면 마지막으로 저장된 지점부터 이어서 진행한다.</p>
+     * <p>진행 상황은 작업을 점유한 owner만 저장할 수 있다. 오래 걸린 실행이 중단된 것으로 판단되어 다른 실행이 작업을 점유했다면,
+     * 이전 실행은 다음 단계를 저장하면서 중단되고 그 단계에서 삽입한 당첨자도 함께 롤백되어 중복 삽입되지 않는다.</p>
+     * @param owner 이번 실행을 구분하는 토큰
+     */
+    @Async(AsyncConfig.DRAW_EXECUTOR)
+    public CompletableFuture<Void> draw(DrawEvent drawEvent, String owner) {
         long drawEventRawId = drawEvent.getId();
-        // 점수 계산. 추후 추첨 과정과 분리될 수도 있음.
+        DrawEventJob job = jobRepository.findByDrawEventId(drawEventRawId)
+                .orElseGet(() -> jobRepository.save(DrawEventJob.of(drawEventRawId, owner, Instant.now())));
+        // 이전 실행이 남긴 작업이라면 이번 실행이 이어서 진행하도록 점유
+        if (!owner.equals(job.getOwner())) {
+            checkOwned(drawEventRawId, jobRepository.takeOver(job.getId(), owner, Instant.now()));
+        }
+        Long jobId = job.getId();
+
+        // 당첨자 목록이 저장되기 전에 중단되었다면 처음부터 다시 추첨
+        if (job.getStage() == DrawEventJobStage.PICKING) {
+            job.picked(pick(drawEvent), Instant.now());
+            checkOwned(drawEventRawId, jobRepository.updatePicked(jobId, owner, job.getWinners(), job.getTotalCount(), Instant.now()));
+            log.info("Draw event {}: picked {} winners", drawEventRawId, job.getTotalCount());
+        }
+
+        // 삽입한 위치를 당첨자와 같은 트랜잭션에 기록하여, 재시작 시 중복 / 누락 없이 이어서 삽입
+        int total = job.getTotalCount();
+        int chunkSize = insertChunkSize();
+        for (int from = job.getInsertedCount(); from < total; from += chunkSize) {
+            int to = Math.min(from + chunkSize, total);
+            List<DrawEventWinningInfoBulkInsertDto> chunk = job.getWinners(from, to);
+            transactionTemplate.executeWithoutResult(status -> {
+                deWinningInfoRepository.insertMany(chunk);
+                checkOwned(drawEventRawId, jobRepository.updateInsertedCount(jobId, owner, to, Instant.now()));
+            });
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            checkOwned(drawEventRawId, jobRepository.updateStage(jobId, owner, DrawEventJobStage.COMPLETE, Instant.now()));
+            drawEvent.setDrawn(true);
+            drawEventRepository.save(drawEvent);
+        });
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // 다른 실행이 작업을 점유했다면 진행 상황을 저장하지 않고 중단
+    private void checkOwned(long drawEventRawId, int updated) {
+        if (updated == 0) {
+            log.warn("Draw event {}: draw job was taken over by another run", drawEventRawId);
+            throw new DrawEventException(ErrorCode.EVENT_IS_DRAWING);
+        }
+    }
+
+    // LOAD DATA를 사용한다면 한 트랜잭션의 당첨자를 한 번에 전송할 수 있도록 단위를 늘린다
+    private int insertChunkSize() {
+        if (!bulkWriteConfig.isLoadDataEnabled()) return EventConst.DRAW_EVENT_INSERT_CHUNK_SIZE;
+        return Math.max(EventConst.DRAW_EVENT_INSERT_CHUNK_SIZE, bulkWriteConfig.getLoadDataThreshold());
+    }
+
+    /**
+     * 점수를 집계하고 당첨자를 추첨한다.
+     */
+    private List<DrawEventWinningInfoBulkInsertDto> pick(DrawEvent drawEvent) {
+        long drawEventRawId = drawEvent.getId();
+        // 참여 시점에 미리 집계된 점수를 사용하고, DB와 맞지 않는 경우에만 전체 기록을 다시 계산
         List<DrawEventScorePolicy> policies = drawEvent.getPolicyList();
-        var userScoreMap = calculator.calculate(drawEventRawId, policies);
+        UserScoreMap userScoreMap = drawScoreStore.read(drawEventRawId, policies)
+                .orElseGet(() -> calculator.calculate(drawEventRawId, policies));
 
-        // 추첨 타겟 리스트 생성
-        List<PickTarget> targets = userScoreMap.entrySet().stream()
-                .map(it -> new PickTarget(it.getKey(), it.getValue())).toList();
+        // 추첨 대상. 같은 인덱스가 같은 유저를 의미하는 병렬 배열
+        long[] userIds = userScoreMap.userIds();
+        long[] scores = userScoreMap.scores();
 
         // 몇 등이 몇명이나 있는지 적혀 있는 정보. 등급끼리 정렬해서 1 ~ n 등 순서로 정렬
         // 확률 높은 사람이 손해보면 안됨
@@ -51,26 +130,19 @@ public class DrawEventDrawMachine {
         long pickCount = metadataList.stream().mapToLong(DrawEventMetadata::getCount).sum();
 
         // 당첨된 인원 구하기
-        var pickedTargets = picker.pick(targets, pickCount);
-
-        var insertTargets = makeDrawEventWinningInfo(pickedTargets, metadataList, drawEventRawId);
-        deWinningInfoRepository.insertMany(insertTargets);
+        int[] pickedIndexes = picker.pick(scores, pickCount);
 
-        drawEvent.setDrawn(true);
-        drawEventRepository.save(drawEvent);
-        // TODO: draw event 이미 추첨한 것으로 변경
-
-        return CompletableFuture.completedFuture(null);
+        return makeDrawEventWinningInfo(userIds, pickedIndexes, metadataList, drawEventRawId);
     }
 
-    protected List<DrawEventWinningInfoBulkInsertDto> makeDrawEventWinningInfo(List<PickTarget> pickedTargets, List<DrawEventMetadata> metadataList, Long drawEventRawId) {
-        List<DrawEventWinningInfoBulkInsertDto> insertTargets = new ArrayList<>();
+    protected List<DrawEventWinningInfoBulkInsertDto> makeDrawEventWinningInfo(long[] userIds, int[] pickedIndexes, List<DrawEventMetadata> metadataList, Long drawEventRawId) {
+        List<DrawEventWinningInfoBulkInsertDto> insertTargets = new ArrayList<>(pickedIndexes.length);
         int mdIdx = -1;
         long remain = 0;
         long grade = -1;
         DrawEventMetadata metadata = null;
 
-        for(var target : pickedTargets) {
+        for(int pickedIdx : pickedIndexes) {
             if(remain <= 0) {
                 mdIdx++;
                 metadata = metadataList.get(mdIdx);
@@ -79,7 +151,7 @@ public class DrawEventDrawMachine {
             }
 
             insertTargets.add(DrawEventWinningInfoBulkInsertDto.of(
-                    target.key(),
+                    userIds[pickedIdx],
                     grade,
                     drawEventRawId
             ));
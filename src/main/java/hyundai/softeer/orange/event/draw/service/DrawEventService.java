@@ -6,15 +6,18 @@ import hyundai.softeer.orange.event.common.entity.EventMetadata;
 import hyundai.softeer.orange.event.common.enums.EventType;
 import hyundai.softeer.orange.event.common.exception.EventException;
 import hyundai.softeer.orange.event.common.repository.EventMetadataRepository;
+import hyundai.softeer.orange.event.draw.dto.DrawEventJobProgressDto;
 import hyundai.softeer.orange.event.draw.dto.DrawEventStatusDto;
 import hyundai.softeer.orange.event.draw.dto.ResponseDrawWinnerDto;
 import hyundai.softeer.orange.event.draw.entity.DrawEvent;
 import hyundai.softeer.orange.event.draw.enums.DrawEventStatus;
 import hyundai.softeer.orange.event.draw.exception.DrawEventException;
+import hyundai.softeer.orange.event.draw.repository.DrawEventJobRepository;
 import hyundai.softeer.orange.event.draw.repository.DrawEventWinningInfoRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +25,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -35,6 +41,7 @@ public class DrawEventService {
     private final DrawEventWinningInfoRepository deWinningInfoRepository;
     private final DrawEventDrawMachine machine;
     private final StringRedisTemplate redisTemplate;
+    private final DrawEventJobRepository jobRepository;
 
     /**
      * eventId에 대한 추첨을 진행하는 메서드
@@ -50,14 +57,26 @@ public class DrawEventService {
         // 이벤트 검증
         validateDrawCondition(event, Instant.now());
         String key = EventConst.IS_DRAWING(event.getEventId());
-        tryDraw(key);
+        // 추첨 작업을 점유한 실행을 구분하는 토큰
+        String owner = UUID.randomUUID().toString();
+        tryDraw(key, drawEvent, owner);
 
         log.info("Event [{}]: start draw", event.getEventId());
-        machine.draw(drawEvent)
+        CompletableFuture<Void> future;
+        try {
+            future = machine.draw(drawEvent, owner);
+        } catch (TaskRejectedException e) {
+            // 동시에 진행 가능한 추첨 수를 넘은 경우. 추첨이 시작되지 않았으므로 바로 해제
+            releaseDraw(key);
+            throw e;
+        }
+
+        future
         // 시간 제한
         .orTimeout(EventConst.DRAW_EVENT_DRAW_TIMEOUT_HOUR, TimeUnit.HOURS)
         // 예외가 발생하더라도 추첨이 끝나면 키를 제거해야 함 = release
-        .handleAsync((unused, throwable) -> {
+        // 키 삭제만 하므로 추첨을 완료한 스레드에서 바로 실행
+        .handle((unused, throwable) -> {
             releaseDraw(key);
             log.info("Event [{}]: finish draw", event.getEventId());
             if(throwable != null) log.error("Event[{}]", event.getEventId(), throwable);
@@ -84,14 +103,26 @@ public class DrawEventService {
                 .toList();
     }
 
-    private void tryDraw(String key) {
+    private void tryDraw(String key, DrawEvent drawEvent, String owner) {
         Long count = redisTemplate.opsForValue().increment(key);
         assert count != null; // 트랜잭션이 아니므로 null 이면 안됨.
-        if (count > 1) throw new DrawEventException(ErrorCode.EVENT_IS_DRAWING);
+        if (count > 1 && !claimAbandonedJob(drawEvent, owner)) throw new DrawEventException(ErrorCode.EVENT_IS_DRAWING);
         // N 시간동안 유지. 추후 변경될 수 있음
         redisTemplate.expire(key, Duration.ofHours(EventConst.DRAW_EVENT_DRAW_TIMEOUT_HOUR));
     }
 
+    /**
+     * 서버가 추첨 도중 종료되면 키가 남아 있으므로, 진행 상황이 오래 갱신되지 않은 작업은 이어서 진행할 수 있도록 점유한다.
+     * 여러 요청이 동시에 들어와도 DB 갱신에 성공한 하나의 요청만 진행한다.
+     */
+    private boolean claimAbandonedJob(DrawEvent drawEvent, String owner) {
+        Instant now = Instant.now();
+        Instant staleBefore = now.minus(Duration.ofMinutes(EventConst.DRAW_EVENT_JOB_STALE_MINUTES));
+        boolean claimed = jobRepository.claimStale(drawEvent.getId(), owner, staleBefore, now) > 0;
+        if (claimed) log.warn("Draw event {}: resume abandoned draw job", drawEvent.getId());
+        return claimed;
+    }
+
     private void releaseDraw(String key) {
         redisTemplate.delete(key);
     }
@@ -137,6 +168,9 @@ public class DrawEventService {
             if (value != null) status = DrawEventStatus.IS_DRAWING;
         }
 
-        return DrawEventStatusDto.of(event.getEventId(), status);
+        // 추첨을 시작한 적이 있다면 진행 상황도 함께 반환
+        Optional<DrawEventJobProgressDto> progress = jobRepository.findProgressByDrawEventId(drawEvent.getId());
+        if (progress.isEmpty()) return DrawEventStatusDto.of(event.getEventId(), status);
+        return DrawEventStatusDto.of(event.getEventId(), status, progress.get());
     }
 }
@@ -0,0 +1,185 @@
+package hyundai.softeer.orange.event.draw.service;
+
+import hyundai.softeer.orange.event.draw.component.participation.DrawParticipationStore;
+import hyundai.softeer.orange.event.draw.config.DrawParticipationConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * bitmap에 기록된 추첨 이벤트 참여를 Stream에서 consumer group으로 나누어 읽어 DB에 반영한다.
+ * 저장은 (이벤트, 유저, 날짜) 기준으로 멱등하므로 같은 기록을 여러 번 처리해도 한 번만 저장된다.
+ */
+@RequiredArgsConstructor
+@Service
+public class DrawParticipationWriteBehindService {
+
+    private static final Logger log = LoggerFactory.getLogger(DrawParticipationWriteBehindService.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EventParticipationService eventParticipationService;
+    private final DrawParticipationConfig drawParticipationConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final String consumerName = "writer-" + UUID.randomUUID();
+    // 마지막으로 저장한 기록이 Stream에 쌓인 뒤 DB에 반영되기까지 걸린 시간
+    private final AtomicLong lagMillis = new AtomicLong();
+    // 아직 DB에 반영되지 않은 기록 수
+    private final AtomicLong backlog = new AtomicLong();
+    private volatile boolean groupCreated = false;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("draw.participation.stream.lag", lagMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("draw.participation.stream.backlog", backlog, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stream에 쌓인 참여 기록을 batchSize 단위로 DB에 저장한다.
+     * 다른 서버가 가져간 뒤 처리하지 못한 기록을 먼저 처리하고, 새 기록이 없을 때까지 반복한다.
+     */
+    public void drain() {
+        if (!drawParticipationConfig.isBitmapEnabled()) {
+            return;
+        }
+
+        try {
+            createGroupIfAbsent();
+            process(claimIdleRecords());
+            // 쌓인 기록이 batchSize보다 많다면 바로 다음 묶음을 처리
+            int read;
+            do {
+                List<MapRecord<String, Object, Object>> records = readNewRecords();
+                read = records == null ? 0 : records.size();
+                process(records);
+            } while (read == drawParticipationConfig.getBatchSize());
+            Long size = stringRedisTemplate.opsForStream().size(DrawParticipationStore.STREAM_KEY);
+            backlog.set(size == null ? 0 : size);
+        } catch (RedisSystemException e) {
+            // Stream이나 group이 삭제된 경우 다음 주기에 다시 생성
+            groupCreated = false;
+            log.error("Failed to drain draw participation stream", e);
+        }
+    }
+
+    // 저장한 기록만 ack 하며, 저장에 실패한 기록은 이후 다시 처리된다.
+    private void process(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            lagMillis.set(0);
+            return;
+        }
+
+        List<MapRecord<String, Object, Object>> written = write(records);
+        if (written.isEmpty()) {
+            return;
+        }
+
+        RecordId[] ids = written.stream().map(Record::getId).toArray(RecordId[]::new);
+        StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+        streamOps.acknowledge(DrawParticipationStore.STREAM_KEY, drawParticipationConfig.getGroup(), ids);
+        streamOps.delete(DrawParticipationStore.STREAM_KEY, ids);
+
+        Long lastTimestamp = ids[ids.length - 1].getTimestamp();
+        lagMillis.set(lastTimestamp == null ? 0 : Math.max(0, Instant.now().toEpochMilli() - lastTimestamp));
+        meterRegistry.counter("draw.participation.stream.written").increment(written.size());
+    }
+
+    // 묶음 전체를 한 트랜잭션으로 저장하고, 실패하면 기록 별로 나누어 저장한다.
+    private List<MapRecord<String, Object, Object>> write(List<MapRecord<String, Object, Object>> records) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> records.forEach(this::record));
+            return records;
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} draw participations at once, retrying one by one", records.size(), e);
+        }
+
+        List<MapRecord<String, Object, Object>> written = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> record(record));
+                written.add(record);
+            } catch (RuntimeException e) {
+                log.error("Failed to write draw participation {}", record.getValue(), e);
+            }
+        }
+        return written;
+    }
+
+    private void record(MapRecord<String, Object, Object> record) {
+        Map<Object, Object> value = record.getValue();
+        eventParticipationService.record(
+                Long.parseLong(value.get(DrawParticipationStore.DRAW_EVENT_ID).toString()),
+                Long.parseLong(value.get(DrawParticipationStore.EVENT_USER_ID).toString()),
+                Instant.ofEpochMilli(Long.parseLong(value.get(DrawParticipationStore.DATE).toString())));
+    }
+
+    private List<MapRecord<String, Object, Object>> readNewRecords() {
+        return stringRedisTemplate.opsForStream().read(
+                Consumer.from(drawParticipationConfig.getGroup(), consumerName),
+                StreamReadOptions.empty().count(drawParticipationConfig.getBatchSize()),
+                StreamOffset.create(DrawParticipationStore.STREAM_KEY, ReadOffset.lastConsumed()));
+    }
+
+    // 읽어간 서버가 종료되는 등의 이유로 오랫동안 ack 되지 않은 기록을 가져옴
+    private List<MapRecord<String, Object, Object>> claimIdleRecords() {
+        StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+        PendingMessages pending = streamOps.pending(DrawParticipationStore.STREAM_KEY, drawParticipationConfig.getGroup(),
+                Range.unbounded(), drawParticipationConfig.getBatchSize());
+        if (pending == null || pending.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Duration minIdleTime = Duration.ofMillis(drawParticipationConfig.getClaimIdleMillis());
+        RecordId[] ids = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdleTime) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (ids.length == 0) {
+            return Collections.emptyList();
+        }
+
+        log.info("Claim {} idle records of draw participation stream", ids.length);
+        return streamOps.claim(DrawParticipationStore.STREAM_KEY, drawParticipationConfig.getGroup(), consumerName, minIdleTime, ids);
+    }
+
+    private void createGroupIfAbsent() {
+        if (groupCreated) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    DrawParticipationStore.STREAM_KEY.getBytes(StandardCharsets.UTF_8),
+                    drawParticipationConfig.getGroup(),
+                    ReadOffset.from("0"),
+                    true));
+        } catch (RedisSystemException e) {
+            // 다른 서버에서 이미 생성한 경우
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupCreated = true;
+    }
+}
@@ -5,20 +5,29 @@ import hyundai.softeer.orange.event.common.entity.EventMetadata;
 import hyundai.softeer.orange.event.common.enums.EventType;
 import hyundai.softeer.orange.event.common.exception.EventException;
 import hyundai.softeer.orange.event.common.repository.EventMetadataRepository;
+import hyundai.softeer.orange.event.draw.component.participation.DrawParticipationStore;
+import hyundai.softeer.orange.event.draw.component.score.DrawScoreStore;
+import hyundai.softeer.orange.event.draw.config.DrawParticipationConfig;
+import hyundai.softeer.orange.event.draw.dto.DrawEventScoreDto;
 import hyundai.softeer.orange.event.draw.dto.EventParticipationDateDto;
 import hyundai.softeer.orange.event.draw.dto.EventParticipationDatesDto;
 import hyundai.softeer.orange.event.draw.entity.DrawEvent;
-import hyundai.softeer.orange.event.draw.entity.EventParticipationInfo;
+import hyundai.softeer.orange.event.draw.enums.DrawEventAction;
+import hyundai.softeer.orange.event.draw.repository.EventParticipationCountRepository;
 import hyundai.softeer.orange.event.draw.repository.EventParticipationInfoRepository;
 import hyundai.softeer.orange.eventuser.entity.EventUser;
 import hyundai.softeer.orange.eventuser.exception.EventUserException;
 import hyundai.softeer.orange.eventuser.repository.EventUserRepository;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 이벤트 참여 정보와 관련된 기능을 처리하는 부분
@@ -26,9 +35,14 @@ import java.util.List;
 @RequiredArgsConstructor
 @Service
 public class EventParticipationService {
+    private static final Logger log = LoggerFactory.getLogger(EventParticipationService.class);
     private final EventParticipationInfoRepository participationInfoRepository;
     private final EventMetadataRepository emRepository;
     private final EventUserRepository eventUserRepository;
+    private final DrawScoreStore drawScoreStore;
+    private final EventParticipationCountRepository participationCountRepository;
+    private final DrawParticipationStore participationStore;
+    private final DrawParticipationConfig participationConfig;
 
     /**
      * 이벤트 유저가 참여한 이벤트 날짜 목록을 반환한다.
@@ -45,6 +59,13 @@ public class EventParticipationService {
         DrawEvent drawEvent = event.getDrawEvent();
         if(drawEvent == null) throw new EventException(ErrorCode.EVENT_NOT_FOUND);
 
+        // bitmap이 있다면 GET 한 번으로 참여한 날짜를 계산하고, 없다면 DB에서 조회
+        if(participationConfig.isBitmapEnabled()) {
+            Optional<EventParticipationDatesDto> dates = eventUserRepository.findByUserId(eventUserId)
+                    .flatMap(eventUser -> findDatesFromBitmap(event, drawEvent, eventUser));
+            if(dates.isPresent()) return dates.get();
+        }
+
         List<EventParticipationDateDto> infos = participationInfoRepository.findByEventUserId(eventUserId, drawEvent.getId());
 
         return new EventParticipationDatesDto(infos.stream().map(EventParticipationDateDto::getDate).toList());
@@ -81,22 +102,90 @@ public class EventParticipationService {
 
         if(!eventUser.getEventFrameId().equals(event.getEventFrameId())) throw new EventException(ErrorCode.CANNOT_PARTICIPATE);
 
-        // TODO: 이벤트 정보를 저장할 때 타임존을 함께 저장하도록 변경. 현재는 서버 배포 환경 시간을 기반으로 동작하도록 설정
-        LocalDate today = LocalDate.ofInstant(date, ZoneOffset.systemDefault());
-
         // 이벤트 기간 안에 있는지 검사
         if(event.getStartTime().isAfter(date) || event.getEndTime().isBefore(date))
             throw new EventException(ErrorCode.INVALID_EVENT_TIME);
 
-        // 오늘 시작 / 끝 시간
-        Instant startOfDay = today.atStartOfDay().atZone(ZoneOffset.systemDefault()).toInstant();
-        Instant endOfDay = today.atTime(LocalTime.MAX).atZone(ZoneOffset.systemDefault()).toInstant();;
+        // bitmap에 기록한 참여는 Stream을 통해 DB에 나중에 반영된다
+        if(participationConfig.isBitmapEnabled()) {
+            Boolean marked = markInBitmap(event, drawEvent, eventUser, date);
+            if(Boolean.FALSE.equals(marked)) throw new EventException(ErrorCode.ALREADY_PARTICIPATED);
+            if(marked != null) return;
+        }
+
+        if(!record(drawEvent.getId(), eventUser.getId(), date))
+            throw new EventException(ErrorCode.ALREADY_PARTICIPATED);
+    }
+
+    /**
+     * 참여 기록을 DB에 저장한다. 같은 날 이미 참여했다면 저장하지 않으므로 같은 참여를 여러 번 반영해도 한 번만 저장된다.
+     * @param drawEventId 추첨 이벤트의 id
+     * @param eventUserId 이벤트 유저의 id
+     * @param date 이벤트에 참여한 시각
+     * @return 저장했다면 true, 그 날 이미 참여했다면 false
+     */
+    @Transactional
+    public boolean record(Long drawEventId, Long eventUserId, Instant date) {
+        // TODO: 이벤트 정보를 저장할 때 타임존을 함께 저장하도록 변경. 현재는 서버 배포 환경 시간을 기반으로 동작하도록 설정
+        // 참여한 날
+        LocalDate day = LocalDate.ofInstant(date, ZoneOffset.systemDefault());
+
+        // 참여 여부는 (이벤트, 유저, 참여일) 유니크 키로 확인하므로, 지난 날의 참여가 늦게 반영되어도 무시되지 않는다
+        if(participationInfoRepository.insertParticipation(drawEventId, eventUserId, date, day) == 0)
+            return false;
+
+        // 처음 참여했다면 행을 추가하고, 이미 행이 있다면 참여 횟수를 증가시킨다
+        if(participationCountRepository.insertFirstParticipation(drawEventId, eventUserId, date) == 0)
+            participationCountRepository.increase(drawEventId, eventUserId, date);
+
+        drawScoreStore.increase(drawEventId, eventUserId, DrawEventAction.ParticipateEvent);
+        return true;
+    }
+
+    /**
+     * 이벤트 유저의 현재 추첨 점수를 반환한다.
+     * @param eventId 이벤트의 id
+     * @param eventUserId 이벤트 유저의 id
+     * @return 참여 / 기대평 작성 기록에 정책 점수를 반영한 점수
+     */
+    @Transactional(readOnly = true)
+    public DrawEventScoreDto getScore(String eventId, String eventUserId) {
+        EventMetadata event = emRepository.findFirstByEventId(eventId)
+                .orElseThrow(() -> new EventException(ErrorCode.EVENT_NOT_FOUND));
+
+        if(event.getEventType() != EventType.draw) throw new EventException(ErrorCode.EVENT_NOT_FOUND);
+        DrawEvent drawEvent = event.getDrawEvent();
+        if(drawEvent == null) throw new EventException(ErrorCode.EVENT_NOT_FOUND);
+
+        EventUser eventUser = eventUserRepository.findByUserId(eventUserId)
+                .orElseThrow(() -> new EventUserException(ErrorCode.EVENT_USER_NOT_FOUND));
+
+        long score = drawScoreStore.getScore(drawEvent.getId(), eventUser.getId(), drawEvent.getPolicyList());
+        return new DrawEventScoreDto(score);
+    }
 
-        // 오늘 참여 여부 검사
-        boolean alreadyParticipated = participationInfoRepository.existsByEventUserAndDrawEventAndDateBetween(eventUser, drawEvent, startOfDay, endOfDay);
-        if(alreadyParticipated) throw new EventException(ErrorCode.ALREADY_PARTICIPATED);
+    // 참여했다면 true, 이미 참여했다면 false, Redis에 접근할 수 없다면 null
+    private Boolean markInBitmap(EventMetadata event, DrawEvent drawEvent, EventUser eventUser, Instant date) {
+        int day = DrawParticipationStore.dayOffset(event.getStartTime(), date, ZoneOffset.systemDefault());
+        Instant expireAt = event.getEndTime().plus(Duration.ofDays(participationConfig.getRetentionDays()));
+        try {
+            return participationStore.mark(drawEvent.getId(), eventUser.getId(), day, date, expireAt);
+        } catch (DataAccessException e) {
+            // DB에 바로 기록하며, 이후 Redis가 복구되어 같은 날 다시 기록되더라도 DB에는 한 번만 반영된다
+            log.warn("Draw event {}: failed to mark participation of user {}, falling back to DB", drawEvent.getId(), eventUser.getId(), e);
+            return null;
+        }
+    }
 
-        EventParticipationInfo info = EventParticipationInfo.of(date, eventUser, drawEvent);
-        participationInfoRepository.save(info);
+    private Optional<EventParticipationDatesDto> findDatesFromBitmap(EventMetadata event, DrawEvent drawEvent, EventUser eventUser) {
+        try {
+            return participationStore.findDays(drawEvent.getId(), eventUser.getId())
+                    .map(days -> new EventParticipationDatesDto(days.stream()
+                            .map(day -> DrawParticipationStore.startOfDay(event.getStartTime(), day, ZoneOffset.systemDefault()))
+                            .toList()));
+        } catch (DataAccessException e) {
+            log.warn("Draw event {}: failed to read participation bitmap of user {}", drawEvent.getId(), eventUser.getId(), e);
+            return Optional.empty();
+        }
     }
 }
@@ -0,0 +1,273 @@
+package hyundai.softeer.orange.event.fcfs.component;
+
+import hyundai.softeer.orange.event.fcfs.config.FcfsAdmissionConfig;
+import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 선착순 이벤트 참여 요청 중 남은 당첨 인원 수의 일정 배수만 동시에 FcfsService로 통과시키는 입장 제한기.
+ * <p>Redis에는 이벤트 별로 당첨 가능 인원(capacity), 입장 후 당첨된 인원(won), 처리 중인 입장권 수(inflight)를 보관하며,
+ * (capacity - won) * multiplier - inflight 만큼 새 입장권을 내준다. 각 서버는 batchSize 만큼 묶어서 가져와 로컬에서 소모한다.</p>
+ * <p>참여 처리가 끝나면 release로 입장권을 반납한다. 당첨되지 않은 요청(중복 참여, 낙첨 등)의 입장권은 다시 사용되고,
+ * 쓰이지 않고 로컬에 남은 입장권은 주기적으로 Redis에 돌려준다. 모든 인원이 당첨된 경우에만 입장을 완전히 닫는다.</p>
+ * <p>각 서버가 가져간 입장권 수는 서버 별로 기록하며, 입장권을 돌려줄 때마다 임대 기간을 연장한다.
+ * 서버가 종료되어 임대 기간이 지나면 다른 서버가 입장권을 가져갈 때 그 서버의 입장권을 회수하여 inflight가 계속 늘어나지 않도록 한다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+public class FcfsAdmissionGate implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FcfsAdmissionGate.class);
+    private static final long NO_PERMIT_INFO = -1;
+    private static final long BUSY = -2;
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/fcfs_admission_acquire.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/fcfs_admission_release.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FcfsEventCache fcfsEventCache;
+    private final FcfsAdmissionConfig fcfsAdmissionConfig;
+    private final MeterRegistry meterRegistry;
+
+    // 입장권 임대 기록에 사용하는 서버 id
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, LocalPermits> localPermits = new ConcurrentHashMap<>();
+    // 모든 인원이 당첨된 이벤트
+    private final Map<String, Boolean> soldOut = new ConcurrentHashMap<>();
+
+    /**
+     * 참여 요청을 FcfsService로 넘길지 결정한다. 통과했다면 참여 처리가 끝난 뒤 반드시 release를 호출해야 한다.
+     * @param eventId 선착순 이벤트 id
+     * @return 통과 여부. false라면 이벤트가 종료된 것과 동일하게 응답한다.
+     */
+    public boolean tryAcquire(String eventId) {
+        if (!fcfsAdmissionConfig.isEnabled()) {
+            return true;
+        }
+
+        boolean admitted = acquire(eventId);
+        counter(eventId, admitted).increment();
+        return admitted;
+    }
+
+    /**
+     * 통과한 참여 요청의 입장권을 반납한다. 당첨된 요청의 입장권은 남은 인원 수를 줄이는 데 사용된다.
+     * @param eventId 선착순 이벤트 id
+     * @param won 당첨 여부
+     */
+    public void release(String eventId, boolean won) {
+        if (!fcfsAdmissionConfig.isEnabled()) {
+            return;
+        }
+        LocalPermits permits = localPermits.get(eventId);
+        // 입장권 정보가 없거나 Redis 장애로 제한 없이 통과한 요청은 반납할 입장권이 없음
+        if (permits == null || !permits.release()) {
+            return;
+        }
+
+        if (won) {
+            releaseToRedis(eventId, 1, 1);
+            return;
+        }
+        permits.reuse();
+        long surplus = permits.takeSurplus(fcfsAdmissionConfig.getBatchSize());
+        if (surplus > 0) {
+            releaseToRedis(eventId, surplus, 0);
+        }
+    }
+
+    /**
+     * 로컬에 남아 사용되지 않은 입장권을 Redis에 돌려주어 다른 서버가 사용할 수 있도록 한다.
+     * 처리 중인 입장권이 있다면 돌려줄 입장권이 없어도 임대 기간을 연장한다.
+     */
+    public void returnUnusedPermits() {
+        localPermits.forEach((eventId, permits) -> {
+            long unused = permits.takeSurplus(0);
+            if (unused > 0 || permits.isHeld()) {
+                releaseToRedis(eventId, unused, 0);
+            }
+        });
+    }
+
+    // 이벤트 정보가 새로 배치된 경우 로컬의 입장권을 Redis에 모두 돌려준 뒤 버림. 처리 중인 요청은 이후 입장권을 반납하지 않는다.
+    public void clear() {
+        localPermits.forEach((eventId, permits) -> {
+            localPermits.remove(eventId, permits);
+            long amount = permits.takeAll();
+            if (amount > 0) {
+                releaseToRedis(eventId, amount, 0);
+            }
+        });
+        soldOut.clear();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        clear();
+    }
+
+    /**
+     * 이벤트의 입장권 정보를 당첨 가능 인원 수로 초기화한다.
+     */
+    public void registerPermits(String key, long participantCount) {
+        // 이전에 배치되었을 때의 서버 별 임대 기록까지 지움
+        stringRedisTemplate.delete(FcfsUtil.admissionFormatting(key));
+        stringRedisTemplate.opsForHash().putAll(FcfsUtil.admissionFormatting(key), Map.of(
+                "capacity", String.valueOf(participantCount),
+                "won", "0",
+                "inflight", "0"
+        ));
+    }
+
+    private boolean acquire(String eventId) {
+        LocalPermits permits = localPermits.computeIfAbsent(eventId, id -> new LocalPermits());
+        while (true) {
+            if (permits.tryAcquire()) {
+                return true;
+            }
+            if (soldOut.containsKey(eventId)) {
+                return false;
+            }
+
+            // 로컬 입장권이 없다면 Redis에서 묶음으로 가져옴. 동시에 여러 스레드가 가져오는 것을 막기 위해 이벤트 단위로 동기화
+            synchronized (permits) {
+                if (permits.hasAvailable()) {
+                    continue;
+                }
+                Long amount = fetchPermits(eventId);
+                // 입장권 정보가 없는 이벤트는 제한하지 않음
+                if (amount == null || amount == NO_PERMIT_INFO) {
+                    return true;
+                }
+                // 처리 중인 요청이 남은 인원의 multiplier 배를 넘었다면 이번 요청만 거절
+                if (amount == BUSY) {
+                    return false;
+                }
+                if (amount == 0) {
+                    soldOut.put(eventId, true);
+                    return false;
+                }
+                permits.add(amount);
+            }
+        }
+    }
+
+    private Long fetchPermits(String eventId) {
+        try {
+            Optional<FcfsEventDescriptor> event = fcfsEventCache.find(eventId);
+            if (event.isEmpty()) {
+                return null;
+            }
+            return stringRedisTemplate.execute(
+                    ACQUIRE_SCRIPT,
+                    Collections.singletonList(FcfsUtil.admissionFormatting(event.get().key())),
+                    String.valueOf(fcfsAdmissionConfig.getBatchSize()),
+                    String.valueOf(fcfsAdmissionConfig.getMultiplier()),
+                    nodeId,
+                    String.valueOf(fcfsAdmissionConfig.getLeaseMillis())
+            );
+        } catch (DataAccessException e) {
+            // Redis 장애 시에는 입장을 제한하지 않고 FcfsService에서 처리
+            return null;
+        }
+    }
+
+    private void releaseToRedis(String eventId, long amount, long won) {
+        try {
+            Optional<FcfsEventDescriptor> event = fcfsEventCache.find(eventId);
+            if (event.isEmpty()) {
+                return;
+            }
+            stringRedisTemplate.execute(
+                    RELEASE_SCRIPT,
+                    Collections.singletonList(FcfsUtil.admissionFormatting(event.get().key())),
+                    String.valueOf(amount),
+                    String.valueOf(won),
+                    nodeId,
+                    String.valueOf(fcfsAdmissionConfig.getLeaseMillis())
+            );
+        } catch (DataAccessException e) {
+            // 반납하지 못한 입장권은 임대 기간이 지나 회수될 때까지 처리 중인 것으로 남는다
+            log.warn("failed to release {} admission permits of FCFS event {}", amount, eventId, e);
+        }
+    }
+
+    private Counter counter(String eventId, boolean admitted) {
+        return Counter.builder("fcfs.admission")
+                .description("선착순 이벤트 입장 제한 결과")
+                .tag("eventId", eventId)
+                .tag("result", admitted ? "admitted" : "shed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서버가 Redis에서 가져온 입장권. available은 아직 나눠주지 않은 수, held는 나눠준 뒤 반납되지 않은 수
+     */
+    private static class LocalPermits {
+        private long available;
+        private long held;
+
+        synchronized boolean tryAcquire() {
+            if (available <= 0) return false;
+            available--;
+            held++;
+            return true;
+        }
+
+        synchronized boolean hasAvailable() {
+            return available > 0;
+        }
+
+        synchronized void add(long amount) {
+            available += amount;
+        }
+
+        synchronized boolean isHeld() {
+            return held > 0;
+        }
+
+        // 나눠준 입장권까지 모두 꺼낸다. 이후 나눠준 입장권은 반납되지 않는다
+        synchronized long takeAll() {
+            long amount = available + held;
+            available = 0;
+            held = 0;
+            return amount;
+        }
+
+        synchronized boolean release() {
+            if (held <= 0) return false;
+            held--;
+            return true;
+        }
+
+        synchronized void reuse() {
+            available++;
+        }
+
+        // keep 개를 넘는 나눠주지 않은 입장권을 꺼낸다
+        synchronized long takeSurplus(long keep) {
+            long surplus = Math.max(0, available - keep);
+            available -= surplus;
+            return surplus;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package hyundai.softeer.orange.event.fcfs.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hyundai.softeer.orange.event.fcfs.entity.FcfsEvent;
+import hyundai.softeer.orange.event.fcfs.repository.FcfsEventRepository;
+import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * eventId로부터 선착순 이벤트 정보(key, 시작 시각, 인원 수, 정답)를 조회하는 노드 로컬 캐시.
+ * 이벤트 정보는 매일 registerFcfsEvents 시점에만 바뀌므로, 초기화 알림을 받으면 전체를 비운다.
+ * Redis 장애로 캐시를 채울 수 없다면 DB에서 진행 중인 이벤트를 조회하며, 이 결과는 캐싱하지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class FcfsEventCache implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FcfsEventCache.class);
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final long MAXIMUM_SIZE = 1_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FcfsEventRepository fcfsEventRepository;
+    private final Cache<String, FcfsEventDescriptor> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    /**
+     * 캐시에 없다면 Redis에서 읽어 캐싱한다. 이벤트가 배치되지 않은 경우 캐싱하지 않는다.
+     */
+    public Optional<FcfsEventDescriptor> find(String eventId) {
+        try {
+            return Optional.ofNullable(cache.get(eventId, this::load));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read FCFS event {} from Redis, read from DB", eventId);
+            return fcfsEventRepository.findInProgress(eventId, Instant.now()).map(FcfsEventCache::toDescriptor);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidateAll();
+    }
+
+    private FcfsEventDescriptor load(String eventId) {
+        String key = stringRedisTemplate.opsForValue().get(FcfsUtil.eventIdFormatting(eventId));
+        if (key == null) {
+            return null;
+        }
+
+        // 시작 시각, 인원 수, 정답을 한 번에 조회
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(
+                FcfsUtil.startTimeFormatting(key),
+                FcfsUtil.keyFormatting(key),
+                FcfsUtil.answerFormatting(key)
+        ));
+        if (values == null || values.get(0) == null) {
+            return null;
+        }
+
+        Integer capacity = values.get(1) == null ? null : Integer.valueOf(values.get(1));
+        return new FcfsEventDescriptor(key, Instant.parse(values.get(0)), capacity, values.get(2));
+    }
+
+    private static FcfsEventDescriptor toDescriptor(FcfsEvent fcfsEvent) {
+        return new FcfsEventDescriptor(fcfsEvent.getId().toString(), fcfsEvent.getStartTime(),
+                fcfsEvent.getParticipantCount().intValue(), fcfsEvent.getAnswer());
+    }
+}
@@ -0,0 +1,13 @@
+package hyundai.softeer.orange.event.fcfs.component;
+
+import java.time.Instant;
+
+/**
+ * 하루 동안 변하지 않는 선착순 이벤트 정보를 미리 파싱해 둔 객체
+ * @param key 선착순 이벤트의 sequence (Redis key에 사용)
+ * @param startTime 이벤트 시작 시각
+ * @param capacity 당첨 가능 인원 수
+ * @param answer 선착순 이벤트의 정답
+ */
+public record FcfsEventDescriptor(String key, Instant startTime, Integer capacity, String answer) {
+}
@@ -0,0 +1,68 @@
+package hyundai.softeer.orange.event.fcfs.component;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 선착순 이벤트의 마감 여부를 노드 메모리에 보관하여 마감 이후의 요청을 Redis 접근 없이 거절한다.
+ * 마감을 확정한 노드가 Redis pub/sub으로 알리면 모든 노드가 동일한 상태를 가지게 된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class FcfsEventLocalState implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FcfsEventLocalState.class);
+    // 마감된 이벤트의 eventId를 전달하는 채널
+    public static final String END_CHANNEL = "fcfs:channel:end";
+    // 이벤트 정보가 새로 배치/삭제되어 모든 로컬 상태를 비워야 할 때 사용하는 채널
+    public static final String RESET_CHANNEL = "fcfs:channel:reset";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Set<String> endedEvents = ConcurrentHashMap.newKeySet();
+
+    public boolean isEnded(String eventId) {
+        return endedEvents.contains(eventId);
+    }
+
+    // 다른 노드가 이미 마감시킨 이벤트를 Redis에서 확인한 경우 로컬에만 반영
+    public void markEnded(String eventId) {
+        endedEvents.add(eventId);
+    }
+
+    // 마감 flag를 설정한 노드에서 호출하며, 다른 모든 노드에 마감 사실을 전파
+    public void publishEnded(String eventId) {
+        markEnded(eventId);
+        stringRedisTemplate.convertAndSend(END_CHANNEL, eventId);
+    }
+
+    public void publishReset() {
+        clear();
+        stringRedisTemplate.convertAndSend(RESET_CHANNEL, "");
+    }
+
+    public void clear() {
+        endedEvents.clear();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (END_CHANNEL.equals(channel)) {
+            markEnded(body);
+            log.info("FCFS event {} was ended by another node", body);
+        } else if (RESET_CHANNEL.equals(channel)) {
+            clear();
+            log.info("Local state of FCFS events was reset");
+        }
+    }
+}
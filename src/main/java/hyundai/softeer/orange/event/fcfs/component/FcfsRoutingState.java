@@ -0,0 +1,90 @@
+package hyundai.softeer.orange.event.fcfs.component;
+
+import hyundai.softeer.orange.event.fcfs.config.FcfsRoutingConfig;
+import hyundai.softeer.orange.event.fcfs.repository.FcfsEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 장애로 선착순 이벤트를 DB 처리 방식으로 처리 중인지를 모든 서버가 공유한다.
+ * <p>상태는 Redis 장애 중에도 읽을 수 있도록 fcfs_event.failover_until에 저장하며, 각 서버는 stateRefreshMillis 주기로 다시 읽는다.
+ * 상태가 바뀌면 pub/sub으로 알려 Redis가 동작하는 동안에는 바로 반영되도록 한다.
+ * Redis에 알릴 수 없다면 다른 서버는 최대 stateRefreshMillis 동안 이전 처리 방식을 사용할 수 있다.</p>
+ */
+@RequiredArgsConstructor
+@Component
+public class FcfsRoutingState implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FcfsRoutingState.class);
+    // DB 전환 상태가 바뀐 eventId를 전달하는 채널
+    public static final String ROUTING_CHANNEL = "fcfs:channel:routing";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FcfsEventRepository fcfsEventRepository;
+    private final FcfsEventCache fcfsEventCache;
+    private final FcfsRoutingConfig fcfsRoutingConfig;
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+
+    // failoverUntil이 null이라면 Redis 처리 방식을 사용 중
+    private record State(Instant failoverUntil, long loadedAt) {
+    }
+
+    public boolean isRoutedToDb(String eventId) {
+        return getFailoverUntil(eventId) != null;
+    }
+
+    // DB 처리 방식을 유지하기로 한 시간이 지나 Redis 처리 방식으로 돌아갈 때가 되었는지 여부
+    public boolean isFailbackDue(String eventId) {
+        Instant failoverUntil = getFailoverUntil(eventId);
+        return failoverUntil != null && !Instant.now().isBefore(failoverUntil);
+    }
+
+    /**
+     * DB에 저장한 전환 상태를 로컬에 반영하고 다른 서버에 알린다.
+     */
+    public void update(String eventId, Instant failoverUntil) {
+        states.put(eventId, new State(failoverUntil, System.currentTimeMillis()));
+        try {
+            stringRedisTemplate.convertAndSend(ROUTING_CHANNEL, eventId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish routing state of FCFS event {}, other nodes will read it from DB", eventId, e);
+        }
+    }
+
+    private Instant getFailoverUntil(String eventId) {
+        State state = states.get(eventId);
+        long now = System.currentTimeMillis();
+        if (state != null && now - state.loadedAt() < fcfsRoutingConfig.getStateRefreshMillis()) {
+            return state.failoverUntil();
+        }
+
+        try {
+            Instant failoverUntil = fcfsEventCache.find(eventId)
+                    .flatMap(event -> fcfsEventRepository.findFailoverUntilById(Long.parseLong(event.key())))
+                    .orElse(null);
+            states.put(eventId, new State(failoverUntil, now));
+            return failoverUntil;
+        } catch (DataAccessException e) {
+            // DB를 읽지 못하면 마지막으로 읽은 상태를 유지
+            log.warn("Failed to read routing state of FCFS event {}", eventId, e);
+            return state == null ? null : state.failoverUntil();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String eventId = new String(message.getBody(), StandardCharsets.UTF_8);
+        states.remove(eventId);
+    }
+}
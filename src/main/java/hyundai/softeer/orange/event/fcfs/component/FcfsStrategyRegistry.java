@@ -0,0 +1,78 @@
+package hyundai.softeer.orange.event.fcfs.component;
+
+import hyundai.softeer.orange.event.fcfs.config.FcfsRoutingConfig;
+import hyundai.softeer.orange.event.fcfs.enums.FcfsStrategy;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 선착순 이벤트 별로 지정된 처리 방식을 보관한다.
+ * 지정 내용은 Redis hash에 저장되며, 변경 시 pub/sub으로 모든 노드가 다시 읽어 로컬에 반영한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class FcfsStrategyRegistry implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FcfsStrategyRegistry.class);
+    public static final String STRATEGY_KEY = "fcfs:strategy";
+    // 처리 방식이 변경되었음을 알리는 채널
+    public static final String STRATEGY_CHANNEL = "fcfs:channel:strategy";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FcfsRoutingConfig fcfsRoutingConfig;
+    private final Map<String, FcfsStrategy> strategies = new ConcurrentHashMap<>();
+
+    public FcfsStrategy get(String eventId) {
+        return strategies.getOrDefault(eventId, fcfsRoutingConfig.getDefaultStrategy());
+    }
+
+    public void set(String eventId, FcfsStrategy strategy) {
+        stringRedisTemplate.opsForHash().put(STRATEGY_KEY, eventId, strategy.name());
+        strategies.put(eventId, strategy);
+        stringRedisTemplate.convertAndSend(STRATEGY_CHANNEL, eventId);
+        log.info("Strategy of FCFS event {} was changed to {}", eventId, strategy);
+    }
+
+    public void remove(String eventId) {
+        stringRedisTemplate.opsForHash().delete(STRATEGY_KEY, eventId);
+        strategies.remove(eventId);
+        stringRedisTemplate.convertAndSend(STRATEGY_CHANNEL, eventId);
+        log.info("Strategy of FCFS event {} was reset to default", eventId);
+    }
+
+    // Redis에 저장된 처리 방식을 다시 읽음. Redis를 사용할 수 없다면 기존 로컬 값을 유지
+    @PostConstruct
+    public void reload() {
+        try {
+            Map<Object, Object> saved = stringRedisTemplate.opsForHash().entries(STRATEGY_KEY);
+            Map<String, FcfsStrategy> loaded = new ConcurrentHashMap<>();
+            saved.forEach((eventId, strategy) -> {
+                try {
+                    loaded.put(eventId.toString(), FcfsStrategy.valueOf(strategy.toString()));
+                } catch (IllegalArgumentException e) {
+                    // 더 이상 지원하지 않는 처리 방식이 남아 있다면 기본 처리 방식을 사용
+                    log.warn("Unknown strategy {} of FCFS event {}, use default", strategy, eventId);
+                }
+            });
+            strategies.keySet().retainAll(loaded.keySet());
+            strategies.putAll(loaded);
+        } catch (DataAccessException e) {
+            log.warn("Failed to load strategies of FCFS events", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        reload();
+    }
+}
@@ -0,0 +1,24 @@
+package hyundai.softeer.orange.event.fcfs.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 선착순 이벤트 참여 요청의 입장 제한 설정
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "fcfs.admission")
+public class FcfsAdmissionConfig {
+    // 입장 제한 사용 여부
+    private boolean enabled = true;
+    // 남은 당첨 인원 수의 몇 배까지 참여 요청을 동시에 통과시킬지
+    private int multiplier = 3;
+    // 각 서버가 Redis에서 한 번에 가져오는 입장권 수
+    private int batchSize = 20;
+    // 각 서버가 사용하지 않은 입장권을 Redis에 돌려주는 주기
+    private long returnIntervalMillis = 1000;
+    // 서버가 가져간 입장권을 연장 없이 유지하는 시간. 지나면 다른 서버가 회수하며, returnIntervalMillis보다 충분히 길어야 한다.
+    private long leaseMillis = 10000;
+}
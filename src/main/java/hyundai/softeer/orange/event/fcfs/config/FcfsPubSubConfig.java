@@ -0,0 +1,34 @@
+package hyundai.softeer.orange.event.fcfs.config;
+
+import hyundai.softeer.orange.event.fcfs.component.FcfsAdmissionGate;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
+import hyundai.softeer.orange.event.fcfs.component.FcfsRoutingState;
+import hyundai.softeer.orange.event.fcfs.component.FcfsStrategyRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+@Configuration
+public class FcfsPubSubConfig {
+
+    // 선착순 이벤트 마감/초기화/처리 방식 변경/DB 전환 알림을 구독하여 노드의 로컬 상태 및 캐시에 반영
+    @Bean
+    public RedisMessageListenerContainer fcfsMessageListenerContainer(RedisConnectionFactory connectionFactory, FcfsEventLocalState fcfsEventLocalState, FcfsEventCache fcfsEventCache, FcfsAdmissionGate fcfsAdmissionGate, FcfsStrategyRegistry fcfsStrategyRegistry, FcfsRoutingState fcfsRoutingState) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(fcfsEventLocalState, List.of(
+                new ChannelTopic(FcfsEventLocalState.END_CHANNEL),
+                new ChannelTopic(FcfsEventLocalState.RESET_CHANNEL)
+        ));
+        container.addMessageListener(fcfsEventCache, new ChannelTopic(FcfsEventLocalState.RESET_CHANNEL));
+        container.addMessageListener(fcfsAdmissionGate, new ChannelTopic(FcfsEventLocalState.RESET_CHANNEL));
+        container.addMessageListener(fcfsStrategyRegistry, new ChannelTopic(FcfsStrategyRegistry.STRATEGY_CHANNEL));
+        container.addMessageListener(fcfsRoutingState, new ChannelTopic(FcfsRoutingState.ROUTING_CHANNEL));
+        return container;
+    }
+}
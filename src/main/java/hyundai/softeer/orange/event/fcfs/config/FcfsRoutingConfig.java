@@ -0,0 +1,27 @@
+package hyundai.softeer.orange.event.fcfs.config;
+
+import hyundai.softeer.orange.event.fcfs.enums.FcfsStrategy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 선착순 이벤트 참여 처리 방식 선택 및 Redis 장애 시 DB 전환 설정
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "fcfs.routing")
+public class FcfsRoutingConfig {
+    // 이벤트 별로 지정하지 않은 경우 사용하는 처리 방식
+    private FcfsStrategy defaultStrategy = FcfsStrategy.LUA;
+    // Redis 장애 시 DB 처리 방식으로 전환할지 여부
+    private boolean failoverEnabled = true;
+    // 이 시간보다 오래 걸린 Redis 처리는 실패로 간주
+    private long latencyThresholdMillis = 300;
+    // 연속으로 이 횟수만큼 실패하면 DB 처리 방식으로 전환
+    private int failureThreshold = 5;
+    // DB 처리 방식으로 전환한 뒤 다시 Redis를 시도하기까지의 시간
+    private long failoverMillis = 10000;
+    // 모든 서버가 공유하는 DB 전환 상태를 DB에서 다시 읽는 주기
+    private long stateRefreshMillis = 1000;
+}
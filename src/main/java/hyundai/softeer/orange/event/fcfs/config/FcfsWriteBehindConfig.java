@@ -0,0 +1,24 @@
+package hyundai.softeer.orange.event.fcfs.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 참여 중 기록된 당첨자를 Redis Stream을 통해 DB에 미리 반영하기 위한 설정
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "fcfs.write-behind")
+public class FcfsWriteBehindConfig {
+    // 당첨자를 Stream에 기록할지 여부
+    private boolean enabled = true;
+    // Stream을 읽는 consumer group 이름
+    private String group = "fcfs-winner-writer";
+    // Stream을 읽는 주기
+    private long intervalMillis = 500;
+    // 한 번에 읽어 DB에 저장할 당첨자 수
+    private int batchSize = 200;
+    // 다른 서버가 읽은 뒤 이 시간 동안 처리하지 못한 기록은 가져와서 처리한다.
+    private long claimIdleMillis = 30000;
+}
@@ -2,6 +2,7 @@ package hyundai.softeer.orange.event.fcfs.controller;
 
 import hyundai.softeer.orange.common.ErrorResponse;
 import hyundai.softeer.orange.core.auth.list.EventUserAuth;
+import hyundai.softeer.orange.event.fcfs.component.FcfsAdmissionGate;
 import hyundai.softeer.orange.event.fcfs.dto.RequestAnswerDto;
 import hyundai.softeer.orange.event.fcfs.dto.ResponseFcfsInfoDto;
 import hyundai.softeer.orange.event.fcfs.dto.ResponseFcfsResultDto;
@@ -32,6 +33,7 @@ public class FcfsController {
     private final FcfsService fcfsService;
     private final FcfsAnswerService fcfsAnswerService;
     private final FcfsManageService fcfsManageService;
+    private final FcfsAdmissionGate fcfsAdmissionGate;
 
     @EventUserAuth
     @PostMapping("/{eventId}")
@@ -43,7 +45,15 @@ public class FcfsController {
     })
     public ResponseEntity<ResponseFcfsResultDto> participate(@Parameter(hidden = true) @EventUserAnnotation EventUserInfo userInfo, @PathVariable String eventId, @RequestBody RequestAnswerDto dto) {
         boolean answerResult = fcfsAnswerService.judgeAnswer(eventId, dto.getAnswer());
-        boolean isWin = answerResult && fcfsService.participate(eventId, userInfo.getUserId());
+        // 입장 제한을 통과하지 못한 요청은 이벤트가 종료된 것과 동일하게 응답
+        boolean isWin = false;
+        if (answerResult && fcfsAdmissionGate.tryAcquire(eventId)) {
+            try {
+                isWin = fcfsService.participate(eventId, userInfo.getUserId());
+            } finally {
+                fcfsAdmissionGate.release(eventId, isWin);
+            }
+        }
         return ResponseEntity.ok(new ResponseFcfsResultDto(answerResult, isWin));
     }
 
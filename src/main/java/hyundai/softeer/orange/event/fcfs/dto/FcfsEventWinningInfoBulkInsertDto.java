@@ -0,0 +1,20 @@
+package hyundai.softeer.orange.event.fcfs.dto;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class FcfsEventWinningInfoBulkInsertDto {
+    private long fcfsEventId;
+    private long eventUserId;
+    private Instant winningTime;
+
+    public static FcfsEventWinningInfoBulkInsertDto of(long fcfsEventId, long eventUserId, Instant winningTime) {
+        var dto = new FcfsEventWinningInfoBulkInsertDto();
+        dto.fcfsEventId = fcfsEventId;
+        dto.eventUserId = eventUserId;
+        dto.winningTime = winningTime;
+        return dto;
+    }
+}
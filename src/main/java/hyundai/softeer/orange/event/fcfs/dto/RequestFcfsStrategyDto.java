@@ -0,0 +1,15 @@
+package hyundai.softeer.orange.event.fcfs.dto;
+
+import hyundai.softeer.orange.event.fcfs.enums.FcfsStrategy;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestFcfsStrategyDto {
+    @NotNull
+    private FcfsStrategy strategy;
+}
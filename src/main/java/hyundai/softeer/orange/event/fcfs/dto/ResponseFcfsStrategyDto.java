@@ -0,0 +1,16 @@
+package hyundai.softeer.orange.event.fcfs.dto;
+
+import hyundai.softeer.orange.event.fcfs.enums.FcfsStrategy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseFcfsStrategyDto {
+    // 이벤트에 지정된 처리 방식
+    private FcfsStrategy strategy;
+    // Redis 장애로 DB 처리 방식으로 전환된 상태인지 여부
+    private boolean failover;
+}
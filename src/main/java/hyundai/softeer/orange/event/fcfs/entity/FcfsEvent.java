@@ -28,9 +28,21 @@ public class FcfsEvent {
     @Column
     private Long participantCount;
 
+    // DB만으로 선착순을 처리할 때 남은 당첨 인원 수
+    @Column
+    private Long remaining;
+
     @Column
     private String prizeInfo;
 
+    // Redis를 사용할 수 없을 때 정답을 확인하기 위해 Redis에 배치한 정답을 함께 보관
+    @Column
+    private String answer;
+
+    // Redis 장애로 모든 서버가 DB 처리 방식을 사용 중이라면 다시 Redis 처리 방식을 시도할 시각. Redis 처리 방식을 사용 중이라면 null
+    @Column
+    private Instant failoverUntil;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_metadata_id")
     private EventMetadata eventMetaData;
@@ -47,6 +59,9 @@ public class FcfsEvent {
     }
 
     public void updateParticipantCount(Long participantCount) {
+        if (this.remaining != null && this.participantCount != null) {
+            this.remaining = Math.max(0, this.remaining + participantCount - this.participantCount);
+        }
         this.participantCount = participantCount;
     }
 
@@ -54,6 +69,17 @@ public class FcfsEvent {
         this.prizeInfo = prizeInfo;
     }
 
+    public void updateAnswer(String answer) {
+        this.answer = answer;
+    }
+
+    @PrePersist
+    void initRemaining() {
+        if (remaining == null) {
+            remaining = participantCount;
+        }
+    }
+
     public static FcfsEvent of(Instant startTime, Instant endTime, Long participantCount, String prizeInfo, EventMetadata eventMetadata) {
         FcfsEvent fcfsEvent = new FcfsEvent();
         fcfsEvent.startTime = startTime;
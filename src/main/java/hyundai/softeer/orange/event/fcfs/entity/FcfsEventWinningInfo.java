@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.Instant;
 
-@Table(name="fcfs_event_winning_info")
+@Table(name="fcfs_event_winning_info", uniqueConstraints = @UniqueConstraint(columnNames = {"fcfs_event_id", "event_user_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
@@ -0,0 +1,38 @@
+package hyundai.softeer.orange.event.fcfs.enums;
+
+import hyundai.softeer.orange.common.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * 선착순 참여 스크립트가 반환하는 결과 코드. 스크립트의 반환값(code)과 1:1로 대응된다.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public enum FcfsParticipateResult {
+    WIN(1L, null),
+    CLOSED(0L, null),
+    EVENT_NOT_FOUND(-1L, ErrorCode.EVENT_NOT_FOUND),
+    FCFS_EVENT_NOT_FOUND(-2L, ErrorCode.FCFS_EVENT_NOT_FOUND),
+    INVALID_EVENT_TIME(-3L, ErrorCode.INVALID_EVENT_TIME),
+    ALREADY_PARTICIPATED(-4L, ErrorCode.ALREADY_PARTICIPATED);
+
+    private final long code;
+    // 당첨/마감이 아닌 경우 클라이언트에 전달할 에러 코드
+    private final ErrorCode errorCode;
+
+    public boolean isError() {
+        return errorCode != null;
+    }
+
+    public static FcfsParticipateResult of(Long code) {
+        if (code == null) return FCFS_EVENT_NOT_FOUND;
+        return Arrays.stream(values())
+                .filter(result -> result.code == code)
+                .findFirst()
+                .orElse(FCFS_EVENT_NOT_FOUND);
+    }
+}
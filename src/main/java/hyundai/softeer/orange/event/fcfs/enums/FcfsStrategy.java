@@ -0,0 +1,20 @@
+package hyundai.softeer.orange.event.fcfs.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 선착순 이벤트 참여를 처리하는 FcfsService 구현체의 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FcfsStrategy {
+    LUA(true),
+    SCRIPT(true),
+    LOCK(true),
+    SET(true),
+    DB(false);
+
+    // Redis에 당첨 정보를 기록하는지 여부. Redis 장애 시 DB로 전환하는 대상
+    private final boolean usingRedis;
+}
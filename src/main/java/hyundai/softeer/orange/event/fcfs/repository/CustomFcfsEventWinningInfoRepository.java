@@ -0,0 +1,12 @@
+package hyundai.softeer.orange.event.fcfs.repository;
+
+import hyundai.softeer.orange.event.fcfs.dto.FcfsEventWinningInfoBulkInsertDto;
+
+import java.util.List;
+
+public interface CustomFcfsEventWinningInfoRepository {
+    /**
+     * 당첨 정보를 하나의 multi-row insert로 저장한다. 이미 저장된 (이벤트, 유저)는 더 이른 당첨 시각만 남긴다.
+     */
+    void insertMany(List<FcfsEventWinningInfoBulkInsertDto> targets);
+}
@@ -0,0 +1,23 @@
+package hyundai.softeer.orange.event.fcfs.repository;
+
+import hyundai.softeer.orange.common.jdbc.BulkWriter;
+import hyundai.softeer.orange.event.fcfs.dto.FcfsEventWinningInfoBulkInsertDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomFcfsEventWinningInfoRepositoryImpl implements CustomFcfsEventWinningInfoRepository {
+    private static final List<String> COLUMNS = List.of("fcfs_event_id", "event_user_id", "winning_time");
+    private final BulkWriter bulkWriter;
+
+    @Override
+    public void insertMany(List<FcfsEventWinningInfoBulkInsertDto> targets) {
+        // 재시도 시 같은 당첨 정보가 다시 들어오더라도 중복 저장되지 않도록 unique key 충돌 시 갱신
+        bulkWriter.insert("fcfs_event_winning_info", COLUMNS, targets,
+                target -> new Object[]{target.getFcfsEventId(), target.getEventUserId(), target.getWinningTime()},
+                "winning_time = least(winning_time, values(winning_time))");
+    }
+}
@@ -1,9 +1,8 @@
 package hyundai.softeer.orange.event.fcfs.repository;
 
 import hyundai.softeer.orange.event.fcfs.entity.FcfsEvent;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -16,7 +15,40 @@ public interface FcfsEventRepository extends JpaRepository<FcfsEvent, Long> {
 
     List<FcfsEvent> findByStartTimeBetween(Instant startTime, Instant endTime);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select e from FcfsEvent e left join fetch e.infos where e.id = :id")
-    Optional<FcfsEvent> findByIdWithLock(Long id);
+    // 남은 인원이 있고 이벤트가 끝나지 않은 경우에만 남은 인원을 1 감소시킨다. 반영된 행이 없다면 0을 반환
+    @Modifying
+    @Query("update FcfsEvent e set e.remaining = e.remaining - 1 where e.id = :id and e.remaining > 0 and e.endTime > :now")
+    int decreaseRemaining(Long id, Instant now);
+
+    // 다른 처리 방식으로 저장된 당첨자 수를 남은 인원에 반영
+    @Modifying
+    @Query("update FcfsEvent e set e.remaining = e.participantCount - (select count(w) from FcfsEventWinningInfo w where w.fcfsEvent.id = e.id) where e.id = :id")
+    int syncRemaining(Long id);
+
+    // Redis에 기록된 당첨자가 DB보다 많다면 그 수를 기준으로 남은 인원을 줄임
+    @Modifying
+    @Query("update FcfsEvent e set e.remaining = e.participantCount - :winners where e.id = :id and e.remaining > e.participantCount - :winners")
+    int limitRemaining(Long id, long winners);
+
+    // DB 처리 방식으로 전환한다. 다른 서버가 이미 전환했다면 0을 반환
+    @Modifying
+    @Query("update FcfsEvent e set e.failoverUntil = :until where e.id = :id and e.failoverUntil is null")
+    int failover(Long id, Instant until);
+
+    // DB 처리 방식을 유지하는 시간을 늘린다
+    @Modifying
+    @Query("update FcfsEvent e set e.failoverUntil = :until where e.id = :id and e.failoverUntil is not null")
+    int extendFailover(Long id, Instant until);
+
+    // Redis 처리 방식으로 돌아간다. 다른 서버가 이미 돌아갔다면 0을 반환
+    @Modifying
+    @Query("update FcfsEvent e set e.failoverUntil = null where e.id = :id and e.failoverUntil is not null")
+    int failback(Long id);
+
+    @Query("select e.failoverUntil from FcfsEvent e where e.id = :id")
+    Optional<Instant> findFailoverUntilById(Long id);
+
+    // Redis를 사용할 수 없을 때 eventId로 현재 진행 중인 선착순 이벤트를 조회
+    @Query("select e from FcfsEvent e where e.eventMetaData.eventId = :eventId and e.startTime <= :now and e.endTime > :now")
+    Optional<FcfsEvent> findInProgress(String eventId, Instant now);
 }
@@ -8,7 +8,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface FcfsEventWinningInfoRepository extends JpaRepository<FcfsEventWinningInfo, Long> {
+public interface FcfsEventWinningInfoRepository extends JpaRepository<FcfsEventWinningInfo, Long>, CustomFcfsEventWinningInfoRepository {
 
     // Fetch Join으로 eventUser 정보까지 한번에 가져와서 N+1 문제 방지하며, 당첨 시각 기준 오름차순 정렬
     @Query("select f from FcfsEventWinningInfo f join fetch f.eventUser where f.fcfsEvent.id = :eventSequence order by f.winningTime asc")
@@ -1,7 +1,9 @@
 package hyundai.softeer.orange.event.fcfs.scheduler;
 
 import hyundai.softeer.orange.common.util.ConstantUtil;
+import hyundai.softeer.orange.event.fcfs.component.FcfsAdmissionGate;
 import hyundai.softeer.orange.event.fcfs.service.FcfsManageService;
+import hyundai.softeer.orange.event.fcfs.service.FcfsWinnerWriteBehindService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.redisson.api.RLock;
@@ -21,6 +23,8 @@ public class FcfsScheduler {
     // 분산 환경에서 메서드가 여러 번 실행되는 것을 방지하기 위해 분산 락 도입
     private final RedissonClient redissonClient;
     private final FcfsManageService fcfsManageService;
+    private final FcfsWinnerWriteBehindService fcfsWinnerWriteBehindService;
+    private final FcfsAdmissionGate fcfsAdmissionGate;
 
     // 매일 자정 1분마다 실행되며, 오늘의 선착순 이벤트에 대한 정보를 DB에서 Redis로 이동시킨다.
     @Scheduled(cron = "0 1 0 * * *")
@@ -60,9 +64,29 @@ public class FcfsScheduler {
         }
     }
 
+    // 매일 자정 2분마다 모든 서버에서 실행되며, 오늘의 선착순 이벤트 정보를 로컬 캐시에 미리 적재한다.
+    @Scheduled(cron = "0 2 0 * * *")
+    public void warmUpFcfsEvents() {
+        log.info("Load the information of FCFS Events into local cache");
+        fcfsManageService.warmUpFcfsEvents();
+    }
+
+    // 모든 서버에서 실행되며, 참여 도중 Stream에 기록된 당첨자를 DB에 미리 반영한다.
+    @Scheduled(fixedDelayString = "${fcfs.write-behind.interval-millis:500}")
+    public void drainWinners() {
+        fcfsWinnerWriteBehindService.drain();
+    }
+
+    // 모든 서버에서 실행되며, 로컬에 남아 사용되지 않은 입장권을 다른 서버가 사용할 수 있도록 돌려준다.
+    @Scheduled(fixedDelayString = "${fcfs.admission.return-interval-millis:1000}")
+    public void returnAdmissionPermits() {
+        fcfsAdmissionGate.returnUnusedPermits();
+    }
+
     // FIXME: 빌드 직후 오늘의 선착순 이벤트에 대한 정보를 DB에서 Redis로 이동시킨다. (추후 삭제예정)
     @PostConstruct
     public void init() {
         registerFcfsEvents();
+        warmUpFcfsEvents();
     }
 }
@@ -1,7 +1,9 @@
 package hyundai.softeer.orange.event.fcfs.service;
 
 import hyundai.softeer.orange.common.ErrorCode;
-import hyundai.softeer.orange.event.fcfs.entity.FcfsEvent;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventDescriptor;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
 import hyundai.softeer.orange.event.fcfs.entity.FcfsEventWinningInfo;
 import hyundai.softeer.orange.event.fcfs.exception.FcfsEventException;
 import hyundai.softeer.orange.event.fcfs.repository.FcfsEventRepository;
@@ -11,8 +13,9 @@ import hyundai.softeer.orange.eventuser.entity.EventUser;
 import hyundai.softeer.orange.eventuser.repository.EventUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,60 +30,123 @@ public class DbFcfsService implements FcfsService{
     private final EventUserRepository eventUserRepository;
     private final FcfsEventWinningInfoRepository fcfsEventWinningInfoRepository;
     private final RedisTemplate<String, Boolean> booleanRedisTemplate;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final FcfsEventLocalState fcfsEventLocalState;
+    private final FcfsEventCache fcfsEventCache;
 
     @Override
     @Transactional
     public boolean participate(String eventId, String userId){
-        String key = stringRedisTemplate.opsForValue().get(FcfsUtil.eventIdFormatting(eventId));
-        if(key == null) {
-            throw new FcfsEventException(ErrorCode.EVENT_NOT_FOUND);
+        // 이미 마감된 것을 알고 있는 이벤트는 Redis 접근 없이 거절
+        if (fcfsEventLocalState.isEnded(eventId)) {
+            return false;
         }
+
+        FcfsEventDescriptor event = findEvent(eventId);
+        String key = event.key();
         Long eventSequence = Long.parseLong(key);
 
         // 이벤트 종료 여부 확인
-        if (isEventEnded(key)) {
+        if (isEventEnded(eventId, key)) {
             return false;
         }
 
-        // 비관적 락을 통해 동시성 제어
-        FcfsEvent fcfsEvent = fcfsEventRepository.findByIdWithLock(eventSequence)
-                .orElseThrow(() -> new FcfsEventException(ErrorCode.EVENT_NOT_FOUND));
-        EventUser eventUser = eventUserRepository.findByUserId(userId)
-                .orElseThrow(() -> new FcfsEventException(ErrorCode.EVENT_USER_NOT_FOUND));
-
         Instant now = Instant.now();
-        // 잘못된 벤트 참여 시간인지 검증
-        if(now.isBefore(fcfsEvent.getStartTime()) || now.isAfter(fcfsEvent.getEndTime())){
+        // 잘못된 이벤트 참여 시간인지 검증 (종료 시각은 남은 인원 감소 시 함께 검증)
+        if (now.isBefore(event.startTime())) {
             throw new FcfsEventException(ErrorCode.INVALID_EVENT_TIME);
         }
 
-        // 이미 이 이벤트에 참여했는지 확인
-        if(isParticipated(eventUser.getId(), eventSequence)){
+        EventUser eventUser = eventUserRepository.findByUserId(userId)
+                .orElseThrow(() -> new FcfsEventException(ErrorCode.EVENT_USER_NOT_FOUND));
+
+        // 이미 이 이벤트에 참여했는지 확인 (남은 인원을 소모하지 않도록 미리 확인)
+        if (isParticipated(eventUser.getId(), eventSequence)) {
             throw new FcfsEventException(ErrorCode.ALREADY_PARTICIPATED);
         }
 
-        // 인원 수 초과 시 종료 flag 설정
-        if(fcfsEvent.getInfos().size() >= fcfsEvent.getParticipantCount()){
-            log.info("Event Finished: {},", fcfsEvent.getInfos().size());
-            endEvent(key);
+        // 조건부 UPDATE 한 번으로 남은 인원을 차감하며, 차감하지 못했다면 마감된 것으로 간주
+        if (fcfsEventRepository.decreaseRemaining(eventSequence, now) == 0) {
+            log.info("Event Finished: {}", eventSequence);
+            endEvent(eventId, key);
             return false;
         }
 
-        fcfsEventWinningInfoRepository.save(FcfsEventWinningInfo.of(fcfsEvent, eventUser, Instant.now()));
+        // 동시에 들어온 중복 참여는 unique 제약 조건에서 걸러지며, 트랜잭션이 롤백되어 차감한 인원도 복구된다.
+        try {
+            fcfsEventWinningInfoRepository.save(FcfsEventWinningInfo.of(
+                    fcfsEventRepository.getReferenceById(eventSequence), eventUser, now));
+        } catch (DataIntegrityViolationException e) {
+            throw new FcfsEventException(ErrorCode.ALREADY_PARTICIPATED);
+        }
         log.info("Participating Success: {}, User ID: {}", eventSequence, userId);
         return true;
     }
 
+    /**
+     * Redis 장애로 DB 처리 방식으로 전환하고, 이미 저장된 당첨자 수만큼 남은 인원을 줄인다.
+     * 다른 서버가 이미 전환했다면 DB 처리 방식으로 나온 당첨자가 있으므로 남은 인원을 다시 계산하지 않는다.
+     * @param redisWinners Redis에 기록된 당첨자 수. DB에 저장된 수보다 많다면 이 값을 기준으로 줄인다.
+     * @return 이 요청으로 전환했다면 true
+     */
+    @Transactional
+    public boolean failover(String key, long redisWinners, Instant until) {
+        Long eventSequence = Long.parseLong(key);
+        boolean switched = fcfsEventRepository.failover(eventSequence, until) == 1;
+        if (switched) {
+            fcfsEventRepository.syncRemaining(eventSequence);
+        }
+        fcfsEventRepository.limitRemaining(eventSequence, redisWinners);
+        log.info("Synced remaining count of FCFS event {} with {} winners in Redis", eventSequence, redisWinners);
+        return switched;
+    }
+
+    @Transactional
+    public void extendFailover(String key, Instant until) {
+        fcfsEventRepository.extendFailover(Long.parseLong(key), until);
+    }
+
+    /**
+     * Redis 처리 방식으로 돌아간다.
+     * @return 이 요청으로 돌아갔다면 true
+     */
+    @Transactional
+    public boolean failback(String key) {
+        return fcfsEventRepository.failback(Long.parseLong(key)) == 1;
+    }
+
+    // Redis 장애로 DB 처리 방식이 사용될 수 있으며, 이 경우 FcfsEventCache가 DB에서 조회
+    private FcfsEventDescriptor findEvent(String eventId) {
+        return fcfsEventCache.find(eventId)
+                .orElseThrow(() -> new FcfsEventException(ErrorCode.EVENT_NOT_FOUND));
+    }
+
     private boolean isParticipated(Long userId, Long eventSequence){
         return fcfsEventWinningInfoRepository.existsByEventUserIdAndFcfsEventId(userId, eventSequence);
     }
 
-    private boolean isEventEnded(String key){
-        return Boolean.TRUE.equals((booleanRedisTemplate.opsForValue().get(FcfsUtil.endFlagFormatting(key))));
+    private boolean isEventEnded(String eventId, String key) {
+        if (fcfsEventLocalState.isEnded(eventId)) {
+            return true;
+        }
+        boolean ended;
+        try {
+            ended = Boolean.TRUE.equals(booleanRedisTemplate.opsForValue().get(FcfsUtil.endFlagFormatting(key)));
+        } catch (DataAccessException e) {
+            // 종료 여부는 남은 인원 감소 시 다시 확인되므로 Redis를 읽지 못해도 진행
+            return false;
+        }
+        if (ended) {
+            fcfsEventLocalState.markEnded(eventId);
+        }
+        return ended;
     }
 
-    private void endEvent(String key){
-        booleanRedisTemplate.opsForValue().set(FcfsUtil.endFlagFormatting(key), true);
+    private void endEvent(String eventId, String key) {
+        try {
+            booleanRedisTemplate.opsForValue().set(FcfsUtil.endFlagFormatting(key), true);
+            fcfsEventLocalState.publishEnded(eventId);
+        } catch (DataAccessException e) {
+            fcfsEventLocalState.markEnded(eventId);
+        }
     }
 }
@@ -1,10 +1,10 @@
 package hyundai.softeer.orange.event.fcfs.service;
 
 import hyundai.softeer.orange.common.ErrorCode;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventDescriptor;
 import hyundai.softeer.orange.event.fcfs.exception.FcfsEventException;
-import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -13,26 +13,20 @@ import java.time.Instant;
 @Service
 public class FcfsAnswerService {
 
-    private final StringRedisTemplate stringRedisTemplate;
+    private final FcfsEventCache fcfsEventCache;
 
     public boolean judgeAnswer(String eventId, String answer) {
-        // eventId로부터 FCFS의 key를 가져옴
-        String key = stringRedisTemplate.opsForValue().get(FcfsUtil.eventIdFormatting(eventId));
-        if(key == null) {
-            throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
-        }
+        // eventId로부터 FCFS의 정보를 가져옴
+        FcfsEventDescriptor event = fcfsEventCache.find(eventId)
+                .orElseThrow(() -> new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND));
 
         // 잘못된 이벤트 참여 시간
-        String startTime = stringRedisTemplate.opsForValue().get(FcfsUtil.startTimeFormatting(key));
-        if(startTime == null) {
-            throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
-        }
-        if (Instant.now().isBefore(Instant.parse(startTime))){
+        if (Instant.now().isBefore(event.startTime())){
             throw new FcfsEventException(ErrorCode.INVALID_EVENT_TIME);
         }
 
         // 정답 비교
-        String correctAnswer = stringRedisTemplate.opsForValue().get(FcfsUtil.answerFormatting(key));
+        String correctAnswer = event.answer();
         if (correctAnswer == null) {
             throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
         }
@@ -0,0 +1,137 @@
+package hyundai.softeer.orange.event.fcfs.service;
+
+import hyundai.softeer.orange.common.ErrorCode;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventDescriptor;
+import hyundai.softeer.orange.event.fcfs.component.FcfsRoutingState;
+import hyundai.softeer.orange.event.fcfs.config.FcfsRoutingConfig;
+import hyundai.softeer.orange.event.fcfs.entity.FcfsEventWinningInfo;
+import hyundai.softeer.orange.event.fcfs.enums.FcfsStrategy;
+import hyundai.softeer.orange.event.fcfs.exception.FcfsEventException;
+import hyundai.softeer.orange.event.fcfs.repository.FcfsEventWinningInfoRepository;
+import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Redis 처리 방식과 DB 처리 방식 사이를 전환할 때 두 저장소의 당첨자를 맞추고, 전환 상태를 모든 서버와 공유한다.
+ * <p>DB로 전환할 때는 Stream에 남은 당첨자를 먼저 DB에 반영하고, Redis와 DB 중 더 많은 당첨자 수로 남은 인원을 맞춘다.
+ * Stream을 모두 반영하지 못했거나 Redis의 당첨자 수를 알 수 없다면 DB에서 초과 당첨될 수 있으므로 전환하지 않는다.</p>
+ * <p>Redis로 돌아갈 때는 DB 처리 방식에서 당첨된 유저를 Redis의 당첨자 key와 참여자 Set에 기록한다.</p>
+ */
+@RequiredArgsConstructor
+@Service
+public class FcfsFailoverService {
+
+    private static final Logger log = LoggerFactory.getLogger(FcfsFailoverService.class);
+
+    // 당첨자 key에 없는 유저만 추가하며, 남은 인원을 count key로 관리하는 처리 방식이라면 함께 줄인다. 추가했다면 1을 반환
+    private static final RedisScript<Long> RESTORE_SCRIPT = RedisScript.of(
+            "redis.call('sadd', KEYS[2], ARGV[1]) " +
+            "if redis.call('zscore', KEYS[1], ARGV[1]) then return 0 end " +
+            "redis.call('zadd', KEYS[1], ARGV[2], ARGV[1]) " +
+            "if ARGV[3] == '1' then redis.call('decr', KEYS[3]) end " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FcfsEventCache fcfsEventCache;
+    private final FcfsWinnerWriteBehindService fcfsWinnerWriteBehindService;
+    private final DbFcfsService dbFcfsService;
+    private final FcfsEventWinningInfoRepository fcfsEventWinningInfoRepository;
+    private final FcfsRoutingState fcfsRoutingState;
+    private final FcfsRoutingConfig fcfsRoutingConfig;
+
+    /**
+     * Redis에서 처리된 당첨자를 DB의 남은 인원에 반영한 뒤 모든 서버가 DB 처리 방식을 사용하도록 한다.
+     * @return DB 처리 방식으로 전환했다면 true. Redis의 당첨자를 모두 반영하지 못해 전환하지 않았다면 false
+     */
+    public boolean switchToDb(String eventId) {
+        String key = findKey(eventId);
+        long redisWinners;
+        try {
+            // 중복 당첨을 DB에서 확인할 수 있도록 아직 반영되지 않은 당첨자를 먼저 저장
+            if (!fcfsWinnerWriteBehindService.flush()) {
+                log.warn("Failed to flush winners of FCFS event {} to DB, keep using Redis", eventId);
+                return false;
+            }
+            redisWinners = countRedisWinners(key);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read winners of FCFS event {} from Redis, keep using Redis", eventId, e);
+            return false;
+        }
+
+        Instant until = Instant.now().plusMillis(fcfsRoutingConfig.getFailoverMillis());
+        if (dbFcfsService.failover(key, redisWinners, until)) {
+            log.warn("FCFS event {} fails over to DB until {}", eventId, until);
+        }
+        fcfsRoutingState.update(eventId, until);
+        return true;
+    }
+
+    /**
+     * DB 처리 방식에서 당첨된 유저를 Redis에 기록한 뒤 모든 서버가 Redis 처리 방식을 사용하도록 한다.
+     * 돌아가는 동안 다른 서버가 DB 처리 방식으로 당첨시킨 유저를 반영하기 위해, 상태를 바꾼 뒤 한 번 더 기록한다.
+     */
+    public void switchToRedis(String eventId, FcfsStrategy strategy) {
+        String key = findKey(eventId);
+        restore(key, strategy);
+        if (dbFcfsService.failback(key)) {
+            log.info("FCFS event {} fails back to {}", eventId, strategy);
+        }
+        fcfsRoutingState.update(eventId, null);
+        restore(key, strategy);
+    }
+
+    /**
+     * Redis가 아직 복구되지 않았다면 DB 처리 방식을 유지하는 시간을 늘린다.
+     */
+    public void extendFailover(String eventId) {
+        Instant until = Instant.now().plusMillis(fcfsRoutingConfig.getFailoverMillis());
+        dbFcfsService.extendFailover(findKey(eventId), until);
+        fcfsRoutingState.update(eventId, until);
+    }
+
+    private void restore(String key, FcfsStrategy strategy) {
+        List<FcfsEventWinningInfo> winners = fcfsEventWinningInfoRepository.findByFcfsEventId(Long.parseLong(key));
+
+        int restored = 0;
+        for (FcfsEventWinningInfo winner : winners) {
+            String userId = winner.getEventUser().getUserId();
+            long winningTime = winner.getWinningTime().toEpochMilli();
+            if (restoreWinner(key, userId, winningTime, strategy == FcfsStrategy.LOCK)) {
+                restored++;
+            }
+        }
+        log.info("Restored {} winners of FCFS event {} from DB to Redis", restored, key);
+    }
+
+    private boolean restoreWinner(String key, String userId, long winningTime, boolean decreaseCount) {
+        Long result = stringRedisTemplate.execute(
+                RESTORE_SCRIPT,
+                List.of(FcfsUtil.winnerFormatting(key), FcfsUtil.participantFormatting(key), FcfsUtil.keyFormatting(key)),
+                userId,
+                String.valueOf(winningTime),
+                decreaseCount ? "1" : "0"
+        );
+        return result != null && result == 1;
+    }
+
+    private long countRedisWinners(String key) {
+        Long size = stringRedisTemplate.opsForZSet().zCard(FcfsUtil.winnerFormatting(key));
+        return size == null ? 0 : size;
+    }
+
+    private String findKey(String eventId) {
+        return fcfsEventCache.find(eventId)
+                .map(FcfsEventDescriptor::key)
+                .orElseThrow(() -> new FcfsEventException(ErrorCode.EVENT_NOT_FOUND));
+    }
+}
@@ -2,105 +2,113 @@ package hyundai.softeer.orange.event.fcfs.service;
 
 import hyundai.softeer.orange.common.ErrorCode;
 import hyundai.softeer.orange.common.util.ConstantUtil;
+import hyundai.softeer.orange.event.fcfs.component.FcfsAdmissionGate;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventDescriptor;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
+import hyundai.softeer.orange.event.fcfs.dto.FcfsEventWinningInfoBulkInsertDto;
 import hyundai.softeer.orange.event.fcfs.dto.ResponseFcfsInfoDto;
 import hyundai.softeer.orange.event.fcfs.dto.ResponseFcfsWinnerDto;
 import hyundai.softeer.orange.event.fcfs.entity.FcfsEvent;
-import hyundai.softeer.orange.event.fcfs.entity.FcfsEventWinningInfo;
 import hyundai.softeer.orange.event.fcfs.exception.FcfsEventException;
 import hyundai.softeer.orange.event.fcfs.repository.FcfsEventRepository;
 import hyundai.softeer.orange.event.fcfs.repository.FcfsEventWinningInfoRepository;
 import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
-import hyundai.softeer.orange.eventuser.entity.EventUser;
 import hyundai.softeer.orange.eventuser.repository.EventUserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.Random;
-import java.util.Set;
+import java.util.*;
 
 @RequiredArgsConstructor
 @Service
 public class FcfsManageService {
 
     private static final Logger log = LoggerFactory.getLogger(FcfsManageService.class);
+    private static final int MIGRATION_CHUNK_SIZE = 1000;
+    private static final int SCAN_COUNT = 1000;
     private final EventUserRepository eventUserRepository;
     private final FcfsEventRepository fcfsEventRepository;
     private final FcfsEventWinningInfoRepository fcfsEventWinningInfoRepository;
     private final StringRedisTemplate stringRedisTemplate;
     private final RedisTemplate<String, Integer> numberRedisTemplate;
     private final RedisTemplate<String, Boolean> booleanRedisTemplate;
+    private final FcfsEventLocalState fcfsEventLocalState;
+    private final FcfsEventCache fcfsEventCache;
+    private final FcfsAdmissionGate fcfsAdmissionGate;
+    private final MeterRegistry meterRegistry;
 
-    // 오늘의 선착순 이벤트 정보(당첨자 수, 시작 시각)를 Redis에 배치
-    @Transactional(readOnly = true)
+    // 오늘의 선착순 이벤트 정보(당첨자 수, 시작 시각)를 Redis에 배치하고, 정답은 DB에도 저장
+    @Transactional
     public void registerFcfsEvents() {
         List<FcfsEvent> events = fcfsEventRepository.findByStartTimeBetween(Instant.now(), Instant.now().plus(1, ChronoUnit.DAYS));
         events.forEach(this::prepareEventInfo);
+        // eventId에 대응되는 선착순 이벤트가 바뀌므로 모든 노드의 로컬 마감/시작 상태를 초기화
+        fcfsEventLocalState.publishReset();
         log.info("Today's FCFS events were registered in Redis");
     }
 
+    // 오늘의 선착순 이벤트 정보를 Redis에서 읽어 로컬 캐시에 미리 적재
+    @Transactional(readOnly = true)
+    public void warmUpFcfsEvents() {
+        List<FcfsEvent> events = fcfsEventRepository.findByStartTimeBetween(Instant.now(), Instant.now().plus(1, ChronoUnit.DAYS));
+        events.forEach(event -> fcfsEventCache.find(event.getEventMetaData().getEventId()));
+        log.info("Today's FCFS events were loaded in local cache");
+    }
+
     // redis에 저장된 모든 선착순 이벤트의 당첨자 정보를 DB로 이관
-    @Transactional
+    // 당첨자 key를 일정 크기로 나누어 읽고 저장하며, 저장이 끝난 위치를 Redis에 기록하여 중간에 실패하더라도 이어서 진행할 수 있다.
     public void registerWinners() {
-        Set<String> fcfsKeys = stringRedisTemplate.keys("*:count");
-        if (fcfsKeys == null || fcfsKeys.isEmpty()) {
+        Set<String> fcfsKeys = scanKeys("fcfs:*:count");
+        if (fcfsKeys.isEmpty()) {
             log.info("There are no FCFS events in yesterday");
             return;
         }
 
-        // 당첨자 관련 정보 조합하여 Entity 생성
         log.info("keys for FCFS Events: {}", fcfsKeys);
         for(String key : fcfsKeys) {
             String fcfsEventId = key.replace(":count", "").replace("fcfs:", "");
-            Set<String> userIds = stringRedisTemplate.opsForZSet().range(FcfsUtil.winnerFormatting(fcfsEventId), 0, -1);
-            if(userIds == null || userIds.isEmpty()) {
-                log.info("No winners in FCFS Event {}", fcfsEventId);
-                continue;
+            if(!fcfsEventRepository.existsById(Long.parseLong(fcfsEventId))) {
+                throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
             }
 
-            FcfsEvent event = fcfsEventRepository.findById(Long.parseLong(fcfsEventId))
-                    .orElseThrow(() -> new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND));
-
-            List<EventUser> users = eventUserRepository.findAllByUserId(userIds.stream().toList());
-            List<FcfsEventWinningInfo> winningInfos = users
-                    .stream()
-                    .map(user -> FcfsEventWinningInfo.of(event, user, getTimeFromScore(stringRedisTemplate.opsForZSet().score(FcfsUtil.winnerFormatting(fcfsEventId), user.getUserId()))))
-                    .toList();
-
-            log.info("Winners of FCFS event {} were registered in DB", fcfsEventId);
-            fcfsEventWinningInfoRepository.saveAll(winningInfos);
+            long migrated = migrateWinners(fcfsEventId, FcfsUtil.winnerFormatting(fcfsEventId));
+            log.info("{} winners of FCFS event {} were registered in DB", migrated, fcfsEventId);
             deleteEventInfo(fcfsEventId);
         }
 
         // PK를 간접적으로 보관하던 eventId 제거
-        Set<String> eventIds = stringRedisTemplate.keys("*:eventId");
-        if(eventIds != null && !eventIds.isEmpty()) {
-            for(String eventId : eventIds) {
-                stringRedisTemplate.delete(eventId);
-            }
+        Set<String> eventIds = scanKeys("fcfs:*:eventId");
+        if(!eventIds.isEmpty()) {
+            stringRedisTemplate.delete(eventIds);
         }
+        fcfsEventLocalState.publishReset();
+        fcfsEventCache.invalidateAll();
         log.info("Registering winners of FCFS events in DB is completed");
     }
 
     // 특정 선착순 이벤트의 정보 조회
     public ResponseFcfsInfoDto getFcfsInfo(String eventId) {
-        String key = getFcfsKeyFromEventId(eventId);
-
-        String startTime = stringRedisTemplate.opsForValue().get(FcfsUtil.startTimeFormatting(key));
         // 선착순 이벤트가 존재하지 않는 경우
-        if (startTime == null) {
-            throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
-        }
+        FcfsEventDescriptor event = getFcfsEventFromEventId(eventId);
+        String key = event.key();
 
         Instant nowDateTime = Instant.now();
-        Instant eventStartTime = Instant.parse(startTime);
+        Instant eventStartTime = event.startTime();
 
         // 서버시간 < 이벤트시작시간 < 서버시간+3시간 -> countdown
         // 이벤트시작시간 < 서버시간 < 이벤트시작시간+7시간 -> progress
@@ -118,7 +126,7 @@ public class FcfsManageService {
     // 특정 유저가 선착순 이벤트의 참여자인지 조회 (정답을 맞힌 경우 참여자로 간주)
     @Transactional(readOnly = true)
     public Boolean isParticipated(String eventId, String userId) {
-        String key = getFcfsKeyFromEventId(eventId);
+        String key = getFcfsEventFromEventId(eventId).key();
         if(!fcfsEventRepository.existsById(Long.parseLong(key))) {
             log.error("eventId {} 에 해당되는 선착순 이벤트를 DB에서 찾을 수 없음", eventId);
             throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
@@ -146,24 +154,84 @@ public class FcfsManageService {
         numberRedisTemplate.opsForValue().set(FcfsUtil.keyFormatting(key), event.getParticipantCount().intValue());
         booleanRedisTemplate.opsForValue().set(FcfsUtil.endFlagFormatting(key), false);
         stringRedisTemplate.opsForValue().set(FcfsUtil.startTimeFormatting(key), event.getStartTime().toString());
+        fcfsAdmissionGate.registerPermits(key, event.getParticipantCount());
 
         // FIXME: 선착순 정답 생성 과정을 별도로 관리하는 것이 좋을 듯
         // 현재 정책 상 1~4 중 하나의 숫자를 선정하여 현재 선착순 이벤트의 정답에 저장
-        int answer = new Random().nextInt(4) + 1;
-        stringRedisTemplate.opsForValue().set(FcfsUtil.answerFormatting(key), String.valueOf(answer));
+        String answer = String.valueOf(new Random().nextInt(4) + 1);
+        stringRedisTemplate.opsForValue().set(FcfsUtil.answerFormatting(key), answer);
+        event.updateAnswer(answer);
         log.info("Registered FCFS event: {}", key);
     }
 
     private void deleteEventInfo(String eventId) {
-        stringRedisTemplate.delete(FcfsUtil.startTimeFormatting(eventId));
-        stringRedisTemplate.delete(FcfsUtil.answerFormatting(eventId));
-        stringRedisTemplate.delete(FcfsUtil.participantFormatting(eventId));
-        stringRedisTemplate.delete(FcfsUtil.winnerFormatting(eventId));
-        numberRedisTemplate.delete(FcfsUtil.keyFormatting(eventId));
-        booleanRedisTemplate.delete(FcfsUtil.endFlagFormatting(eventId));
+        List<String> keys = new ArrayList<>();
+        keys.add(FcfsUtil.winnerFormatting(eventId));
+        keys.add(FcfsUtil.startTimeFormatting(eventId));
+        keys.add(FcfsUtil.answerFormatting(eventId));
+        keys.add(FcfsUtil.participantFormatting(eventId));
+        keys.add(FcfsUtil.admissionFormatting(eventId));
+        keys.add(FcfsUtil.keyFormatting(eventId));
+        keys.add(FcfsUtil.endFlagFormatting(eventId));
+        keys.add(FcfsUtil.migrationFormatting(eventId));
+        stringRedisTemplate.delete(keys);
         log.info("Deleted Information of FCFS event: {}", eventId);
     }
 
+    // 당첨자 key를 MIGRATION_CHUNK_SIZE 단위로 읽어 DB에 저장하고, 저장이 끝난 위치를 기록
+    private long migrateWinners(String fcfsEventId, String winnerKey) {
+        String checkpointKey = FcfsUtil.migrationFormatting(fcfsEventId);
+        Object checkpoint = stringRedisTemplate.opsForHash().get(checkpointKey, winnerKey);
+        long offset = checkpoint == null ? 0 : Long.parseLong(checkpoint.toString());
+        if (offset > 0) {
+            log.info("Resume migrating winners of {} from {}", winnerKey, offset);
+        }
+
+        Counter counter = meterRegistry.counter("fcfs.migration.rows", "fcfsEventId", fcfsEventId);
+        long migrated = 0;
+        while (true) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                    .rangeWithScores(winnerKey, offset, offset + MIGRATION_CHUNK_SIZE - 1);
+            if (tuples == null || tuples.isEmpty()) {
+                return migrated;
+            }
+
+            Map<String, Double> scores = new HashMap<>();
+            tuples.forEach(tuple -> scores.put(tuple.getValue(), tuple.getScore()));
+
+            // 이전 시도에서 이미 저장된 유저는 DB에 저장할 때 가장 빠른 당첨 시각만 남김
+            List<FcfsEventWinningInfoBulkInsertDto> targets = eventUserRepository.findAllByUserId(scores.keySet().stream().toList())
+                    .stream()
+                    .map(user -> FcfsEventWinningInfoBulkInsertDto.of(
+                            Long.parseLong(fcfsEventId), user.getId(), getTimeFromScore(scores.get(user.getUserId()))))
+                    .toList();
+            fcfsEventWinningInfoRepository.insertMany(targets);
+
+            offset += tuples.size();
+            migrated += targets.size();
+            stringRedisTemplate.opsForHash().put(checkpointKey, winnerKey, String.valueOf(offset));
+            counter.increment(targets.size());
+            log.info("Migrated winners of {}: {} rows", winnerKey, offset);
+
+            if (tuples.size() < MIGRATION_CHUNK_SIZE) {
+                return migrated;
+            }
+        }
+    }
+
+    // KEYS 명령은 Redis를 블로킹하므로 SCAN으로 key를 나누어 조회
+    private Set<String> scanKeys(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+        Set<String> keys = stringRedisTemplate.execute((RedisCallback<Set<String>>) connection -> {
+            Set<String> result = new HashSet<>();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(key -> result.add(new String(key, StandardCharsets.UTF_8)));
+            }
+            return result;
+        });
+        return keys == null ? Collections.emptySet() : keys;
+    }
+
     private Instant getTimeFromScore(Double score) {
         if(score == null) {
             log.error("score 값이 null");
@@ -173,12 +241,11 @@ public class FcfsManageService {
         return Instant.ofEpochMilli(timeMillis);
     }
 
-    private String getFcfsKeyFromEventId(String eventId) {
-        String key = stringRedisTemplate.opsForValue().get(FcfsUtil.eventIdFormatting(eventId));
-        if(key == null) {
-            log.error("eventId {} 에 해당되는 key를 Redis 상에서 찾을 수 없음", eventId);
-            throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
-        }
-        return key;
+    private FcfsEventDescriptor getFcfsEventFromEventId(String eventId) {
+        return fcfsEventCache.find(eventId)
+                .orElseThrow(() -> {
+                    log.error("eventId {} 에 해당되는 key를 Redis 상에서 찾을 수 없음", eventId);
+                    return new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
+                });
     }
 }
@@ -0,0 +1,271 @@
+package hyundai.softeer.orange.event.fcfs.service;
+
+import hyundai.softeer.orange.event.fcfs.config.FcfsWriteBehindConfig;
+import hyundai.softeer.orange.event.fcfs.dto.FcfsEventWinningInfoBulkInsertDto;
+import hyundai.softeer.orange.event.fcfs.repository.FcfsEventWinningInfoRepository;
+import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
+import hyundai.softeer.orange.eventuser.entity.EventUser;
+import hyundai.softeer.orange.eventuser.repository.EventUserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 참여 도중 Stream에 기록된 당첨자를 consumer group으로 나누어 읽어 DB에 미리 반영한다.
+ * 저장은 (이벤트, 유저) 기준으로 멱등하므로 같은 기록을 여러 번 처리하거나 자정 이관과 겹쳐도 문제가 없다.
+ */
+@RequiredArgsConstructor
+@Service
+public class FcfsWinnerWriteBehindService {
+
+    private static final Logger log = LoggerFactory.getLogger(FcfsWinnerWriteBehindService.class);
+    public static final String FCFS_EVENT_ID = "fcfsEventId";
+    public static final String USER_ID = "userId";
+    public static final String WINNING_TIME = "winningTime";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EventUserRepository eventUserRepository;
+    private final FcfsEventWinningInfoRepository fcfsEventWinningInfoRepository;
+    private final FcfsWriteBehindConfig fcfsWriteBehindConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final String consumerName = "writer-" + UUID.randomUUID();
+    // 마지막으로 저장한 기록이 Stream에 쌓인 뒤 DB에 반영되기까지 걸린 시간
+    private final AtomicLong lagMillis = new AtomicLong();
+    // 아직 DB에 반영되지 않은 기록 수
+    private final AtomicLong backlog = new AtomicLong();
+    private volatile boolean groupCreated = false;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("fcfs.winner.stream.lag", lagMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("fcfs.winner.stream.backlog", backlog, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 당첨자를 Stream에 기록한다. Lua 스크립트 안에서 기록하지 않는 구현체에서 사용한다.
+     */
+    public void append(String key, String userId, long winningTime) {
+        if (!fcfsWriteBehindConfig.isEnabled()) {
+            return;
+        }
+        stringRedisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+                FCFS_EVENT_ID, key,
+                USER_ID, userId,
+                WINNING_TIME, String.valueOf(winningTime)
+        )).withStreamKey(FcfsUtil.WINNER_STREAM_KEY));
+    }
+
+    /**
+     * Stream에 쌓인 당첨자를 batchSize 단위로 DB에 저장한다.
+     * 다른 서버가 가져간 뒤 처리하지 못한 기록을 먼저 처리하고, 새 기록이 없을 때까지 반복한다.
+     */
+    public void drain() {
+        if (!fcfsWriteBehindConfig.isEnabled()) {
+            return;
+        }
+
+        try {
+            createGroupIfAbsent();
+            process(claimIdleRecords(Duration.ofMillis(fcfsWriteBehindConfig.getClaimIdleMillis())));
+            // 쌓인 기록이 batchSize보다 많다면 바로 다음 묶음을 처리
+            int processed;
+            do {
+                processed = process(readNewRecords());
+            } while (processed == fcfsWriteBehindConfig.getBatchSize());
+            Long size = stringRedisTemplate.opsForStream().size(FcfsUtil.WINNER_STREAM_KEY);
+            backlog.set(size == null ? 0 : size);
+        } catch (RedisSystemException e) {
+            // Stream이나 group이 삭제된 경우 다음 주기에 다시 생성
+            groupCreated = false;
+            log.error("Failed to drain FCFS winner stream", e);
+        }
+    }
+
+    /**
+     * Stream에 남은 당첨자를 다른 서버가 읽어간 기록까지 모두 DB에 반영한다.
+     * 처리 방식을 DB로 전환하기 전에 사용하며, Redis에 접근하지 못하면 예외가 발생한다.
+     * @return 모든 기록을 반영했는지 여부. 일시적인 DB 오류로 반영하지 못한 기록이 있다면 false
+     */
+    public boolean flush() {
+        if (!fcfsWriteBehindConfig.isEnabled()) {
+            return true;
+        }
+
+        createGroupIfAbsent();
+        // 저장은 멱등하므로 다른 서버가 처리 중인 기록을 가져와 함께 저장해도 문제가 없다
+        List<MapRecord<String, Object, Object>> records;
+        do {
+            records = claimIdleRecords(Duration.ZERO);
+            if (process(records) < records.size()) {
+                return false;
+            }
+        } while (records.size() == fcfsWriteBehindConfig.getBatchSize());
+        do {
+            records = readNewRecords();
+            if (records != null && process(records) < records.size()) {
+                return false;
+            }
+        } while (records != null && records.size() == fcfsWriteBehindConfig.getBatchSize());
+        return true;
+    }
+
+    // 저장했거나 버린 기록만 ack 하며, 그 수를 반환한다. 일시적인 오류로 저장하지 못한 기록은 이후 다시 처리된다.
+    private int process(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+
+        List<MapRecord<String, Object, Object>> done = writeOrDiscard(records);
+        acknowledge(done);
+        return done.size();
+    }
+
+    private void acknowledge(List<MapRecord<String, Object, Object>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        RecordId[] ids = records.stream().map(Record::getId).toArray(RecordId[]::new);
+        StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+        streamOps.acknowledge(FcfsUtil.WINNER_STREAM_KEY, fcfsWriteBehindConfig.getGroup(), ids);
+        streamOps.delete(FcfsUtil.WINNER_STREAM_KEY, ids);
+
+        Long lastTimestamp = ids[ids.length - 1].getTimestamp();
+        lagMillis.set(lastTimestamp == null ? 0 : Math.max(0, Instant.now().toEpochMilli() - lastTimestamp));
+    }
+
+    // 묶음 전체를 한 번에 저장하고, 실패하면 기록 별로 나누어 저장한다.
+    // 기록 자체가 잘못되어 혼자서도 저장할 수 없는 기록은 로그를 남기고 버려, 묶음 전체가 계속 실패하지 않도록 한다.
+    private List<MapRecord<String, Object, Object>> writeOrDiscard(List<MapRecord<String, Object, Object>> records) {
+        try {
+            write(records);
+            meterRegistry.counter("fcfs.winner.stream.written").increment(records.size());
+            return records;
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} FCFS winners at once, retrying one by one", records.size(), e);
+        }
+
+        List<MapRecord<String, Object, Object>> done = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                write(List.of(record));
+                meterRegistry.counter("fcfs.winner.stream.written").increment();
+                done.add(record);
+            } catch (RuntimeException e) {
+                if (isInvalidRecord(e)) {
+                    log.error("Discarding FCFS winner record {} that cannot be written: {}", record.getId(), record.getValue(), e);
+                    meterRegistry.counter("fcfs.winner.stream.discarded").increment();
+                    done.add(record);
+                } else {
+                    log.error("Failed to write FCFS winner {}", record.getValue(), e);
+                }
+            }
+        }
+        return done;
+    }
+
+    // 이벤트가 삭제되어 외래 키 제약 조건을 위반하거나 값을 해석할 수 없는 경우처럼, 다시 시도해도 성공할 수 없는 오류
+    private static boolean isInvalidRecord(RuntimeException e) {
+        return e instanceof DataIntegrityViolationException
+                || e instanceof IllegalArgumentException
+                || e instanceof NullPointerException
+                || e instanceof DateTimeException;
+    }
+
+    private void write(List<MapRecord<String, Object, Object>> records) {
+        Map<String, EventUser> users = eventUserRepository.findAllByUserId(records.stream()
+                        .map(record -> record.getValue().get(USER_ID).toString())
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(EventUser::getUserId, Function.identity(), (a, b) -> a));
+
+        List<FcfsEventWinningInfoBulkInsertDto> targets = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> value = record.getValue();
+            EventUser user = users.get(value.get(USER_ID).toString());
+            if (user == null) {
+                log.warn("Event user {} of FCFS winner stream was not found", value.get(USER_ID));
+                continue;
+            }
+            targets.add(FcfsEventWinningInfoBulkInsertDto.of(
+                    Long.parseLong(value.get(FCFS_EVENT_ID).toString()),
+                    user.getId(),
+                    Instant.ofEpochMilli(Long.parseLong(value.get(WINNING_TIME).toString()))));
+        }
+        fcfsEventWinningInfoRepository.insertMany(targets);
+    }
+
+    private List<MapRecord<String, Object, Object>> readNewRecords() {
+        return stringRedisTemplate.opsForStream().read(
+                Consumer.from(fcfsWriteBehindConfig.getGroup(), consumerName),
+                StreamReadOptions.empty().count(fcfsWriteBehindConfig.getBatchSize()),
+                StreamOffset.create(FcfsUtil.WINNER_STREAM_KEY, ReadOffset.lastConsumed()));
+    }
+
+    // 읽어간 서버가 종료되는 등의 이유로 minIdleTime 이상 ack 되지 않은 기록을 가져옴
+    private List<MapRecord<String, Object, Object>> claimIdleRecords(Duration minIdleTime) {
+        StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+        PendingMessages pending = streamOps.pending(FcfsUtil.WINNER_STREAM_KEY, fcfsWriteBehindConfig.getGroup(),
+                Range.unbounded(), fcfsWriteBehindConfig.getBatchSize());
+        if (pending == null || pending.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        RecordId[] ids = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdleTime) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (ids.length == 0) {
+            return Collections.emptyList();
+        }
+
+        log.info("Claim {} idle records of FCFS winner stream", ids.length);
+        return streamOps.claim(FcfsUtil.WINNER_STREAM_KEY, fcfsWriteBehindConfig.getGroup(), consumerName, minIdleTime, ids);
+    }
+
+    private void createGroupIfAbsent() {
+        if (groupCreated) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    FcfsUtil.WINNER_STREAM_KEY.getBytes(StandardCharsets.UTF_8),
+                    fcfsWriteBehindConfig.getGroup(),
+                    ReadOffset.from("0"),
+                    true));
+        } catch (RedisSystemException e) {
+            // 다른 서버에서 이미 생성한 경우
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupCreated = true;
+    }
+}
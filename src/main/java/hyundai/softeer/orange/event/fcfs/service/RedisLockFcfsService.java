@@ -1,6 +1,9 @@
 package hyundai.softeer.orange.event.fcfs.service;
 
 import hyundai.softeer.orange.common.ErrorCode;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventDescriptor;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
 import hyundai.softeer.orange.event.fcfs.exception.FcfsEventException;
 import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
 import lombok.RequiredArgsConstructor;
@@ -23,17 +26,24 @@ public class RedisLockFcfsService implements FcfsService {
     private final RedisTemplate<String, Boolean> booleanRedisTemplate;
     private final RedissonClient redissonClient;
     private final RedisTemplate<String, Integer> numberRedisTemplate;
+    private final FcfsEventLocalState fcfsEventLocalState;
+    private final FcfsEventCache fcfsEventCache;
+    private final FcfsWinnerWriteBehindService fcfsWinnerWriteBehindService;
 
     @Override
     public boolean participate(String eventId, String userId) {
-        String key = stringRedisTemplate.opsForValue().get(FcfsUtil.eventIdFormatting(eventId));
-        if(key == null) {
-            throw new FcfsEventException(ErrorCode.EVENT_NOT_FOUND);
+        // 이미 마감된 것을 알고 있는 이벤트는 Redis 접근 없이 거절
+        if (fcfsEventLocalState.isEnded(eventId)) {
+            return false;
         }
+
+        FcfsEventDescriptor event = fcfsEventCache.find(eventId)
+                .orElseThrow(() -> new FcfsEventException(ErrorCode.EVENT_NOT_FOUND));
+        String key = event.key();
         Long eventSequence = Long.parseLong(key);
 
         // 이벤트 종료 여부 확인
-        if (isEventEnded(key)) {
+        if (isEventEnded(eventId, key)) {
             stringRedisTemplate.opsForSet().add(FcfsUtil.participantFormatting(key), userId);
             return false;
         }
@@ -44,12 +54,7 @@ public class RedisLockFcfsService implements FcfsService {
         }
 
         // 잘못된 이벤트 참여 시간
-        String startTime = stringRedisTemplate.opsForValue().get(FcfsUtil.startTimeFormatting(key));
-        if(startTime == null) {
-            throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
-        }
-
-        if (Instant.now().isBefore(Instant.parse(startTime))){
+        if (Instant.now().isBefore(event.startTime())){
             throw new FcfsEventException(ErrorCode.INVALID_EVENT_TIME);
         }
 
@@ -64,13 +69,15 @@ public class RedisLockFcfsService implements FcfsService {
             int quantity = availableCoupons(FcfsUtil.keyFormatting(key));
             if (quantity <= 0) {
                 log.info("Event Finished: {},", stringRedisTemplate.opsForZSet().zCard(FcfsUtil.winnerFormatting(key)));
-                endEvent(key);  // 이벤트 종료 플래그 설정
+                endEvent(eventId, key);  // 이벤트 종료 플래그 설정
                 return false;
             }
 
             numberRedisTemplate.opsForValue().decrement(FcfsUtil.keyFormatting(key));
-            stringRedisTemplate.opsForZSet().add(FcfsUtil.winnerFormatting(key), userId, System.currentTimeMillis());
+            long timestamp = System.currentTimeMillis();
+            stringRedisTemplate.opsForZSet().add(FcfsUtil.winnerFormatting(key), userId, timestamp);
             stringRedisTemplate.opsForSet().add(FcfsUtil.participantFormatting(key), userId);
+            fcfsWinnerWriteBehindService.append(key, userId, timestamp);
             log.info("Participating Success: {}, User ID: {}", eventSequence, userId);
             return true;
         } catch (InterruptedException e) {
@@ -95,11 +102,19 @@ public class RedisLockFcfsService implements FcfsService {
         return count;
     }
 
-    private boolean isEventEnded(String key) {
-        return Boolean.TRUE.equals(booleanRedisTemplate.opsForValue().get(FcfsUtil.endFlagFormatting(key)));
+    private boolean isEventEnded(String eventId, String key) {
+        if (fcfsEventLocalState.isEnded(eventId)) {
+            return true;
+        }
+        boolean ended = Boolean.TRUE.equals(booleanRedisTemplate.opsForValue().get(FcfsUtil.endFlagFormatting(key)));
+        if (ended) {
+            fcfsEventLocalState.markEnded(eventId);
+        }
+        return ended;
     }
 
-    private void endEvent(String key) {
+    private void endEvent(String eventId, String key) {
         booleanRedisTemplate.opsForValue().set(FcfsUtil.endFlagFormatting(key), true);
+        fcfsEventLocalState.publishEnded(eventId);
     }
 }
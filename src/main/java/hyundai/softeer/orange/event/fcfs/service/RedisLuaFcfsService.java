@@ -1,42 +1,52 @@
 package hyundai.softeer.orange.event.fcfs.service;
 
 import hyundai.softeer.orange.common.ErrorCode;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventDescriptor;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
+import hyundai.softeer.orange.event.fcfs.config.FcfsWriteBehindConfig;
 import hyundai.softeer.orange.event.fcfs.exception.FcfsEventException;
 import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.Collections;
+import java.util.List;
 
 @RequiredArgsConstructor
-@Primary
 @Service
 public class RedisLuaFcfsService implements FcfsService {
 
     private static final Logger log = LoggerFactory.getLogger(RedisLuaFcfsService.class);
     private final StringRedisTemplate stringRedisTemplate;
-    private final RedisTemplate<String, Integer> numberRedisTemplate;
     private final RedisTemplate<String, Boolean> booleanRedisTemplate;
+    private final FcfsEventLocalState fcfsEventLocalState;
+    private final FcfsEventCache fcfsEventCache;
+    private final FcfsWriteBehindConfig fcfsWriteBehindConfig;
 
     @Override
     public boolean participate(String eventId, String userId) {
         long startTimeMillis = System.currentTimeMillis();
-        String key = stringRedisTemplate.opsForValue().get(FcfsUtil.eventIdFormatting(eventId));
-        if(key == null) {
-            log.error("eventId {} 에 해당되는 key를 Redis 상에서 찾을 수 없음", eventId);
-            throw new FcfsEventException(ErrorCode.EVENT_NOT_FOUND);
+        // 이미 마감된 것을 알고 있는 이벤트는 Redis 접근 없이 거절
+        if (fcfsEventLocalState.isEnded(eventId)) {
+            return false;
         }
+
+        FcfsEventDescriptor event = fcfsEventCache.find(eventId)
+                .orElseThrow(() -> {
+                    log.error("eventId {} 에 해당되는 key를 Redis 상에서 찾을 수 없음", eventId);
+                    return new FcfsEventException(ErrorCode.EVENT_NOT_FOUND);
+                });
+        String key = event.key();
         Long eventSequence = Long.parseLong(key);
 
         // 이벤트 종료 여부 확인
-        if (isEventEnded(key)) {
+        if (isEventEnded(eventId, key)) {
             stringRedisTemplate.opsForSet().add(FcfsUtil.participantFormatting(key), userId);
             log.info("이벤트가 이미 종료되어 아웃됨, 총 실행시간 {}", System.currentTimeMillis() - startTimeMillis);
             return false;
@@ -48,19 +58,20 @@ public class RedisLuaFcfsService implements FcfsService {
         }
 
         // 잘못된 이벤트 참여 시간
-        String startTime = stringRedisTemplate.opsForValue().get(FcfsUtil.startTimeFormatting(key));
-        if(startTime == null) {
-            log.error("eventId {}의 시작시간을 Redis 상에서 찾을 수 없음", eventId);
-            throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
-        }
-
-        if (Instant.now().isBefore(Instant.parse(startTime))){
+        if (Instant.now().isBefore(event.startTime())){
             throw new FcfsEventException(ErrorCode.INVALID_EVENT_TIME);
         }
+        if (event.capacity() == null) {
+            throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
+        }
 
+        // 당첨된 경우 DB에 미리 반영할 수 있도록 같은 스크립트 안에서 Stream에도 기록
         String script = "local count = redis.call('zcard', KEYS[1]) " +
                 "if count < tonumber(ARGV[1]) then " +
                 "    redis.call('zadd', KEYS[1], ARGV[2], ARGV[3]) " +
+                "    if ARGV[5] == '1' then " +
+                "        redis.call('xadd', KEYS[2], '*', 'fcfsEventId', ARGV[4], 'userId', ARGV[3], 'winningTime', ARGV[2]) " +
+                "    end " +
                 "    return redis.call('zcard', KEYS[1]) " +
                 "else " +
                 "    return 0 " +
@@ -68,16 +79,18 @@ public class RedisLuaFcfsService implements FcfsService {
         long timestamp = System.currentTimeMillis();
         Long result = stringRedisTemplate.execute(
                 RedisScript.of(script, Long.class),
-                Collections.singletonList(FcfsUtil.winnerFormatting(key)),
-                String.valueOf(numberRedisTemplate.opsForValue().get(FcfsUtil.keyFormatting(key))),
+                List.of(FcfsUtil.winnerFormatting(key), FcfsUtil.WINNER_STREAM_KEY),
+                String.valueOf(event.capacity()),
                 String.valueOf(timestamp),
-                userId
+                userId,
+                key,
+                fcfsWriteBehindConfig.isEnabled() ? "1" : "0"
         );
 
         if(result == null || result <= 0) {
             log.info("Event Finished: {},", stringRedisTemplate.opsForZSet().zCard(FcfsUtil.winnerFormatting(key)));
             stringRedisTemplate.opsForSet().add(FcfsUtil.participantFormatting(key), userId);
-            endEvent(key);
+            endEvent(eventId, key);
             log.info("LuaScript 진입은 했으나 이벤트가 종료되어 아웃 {}", System.currentTimeMillis() - startTimeMillis);
             return false;
         }
@@ -92,11 +105,19 @@ public class RedisLuaFcfsService implements FcfsService {
         return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(FcfsUtil.participantFormatting(key), userId));
     }
 
-    private boolean isEventEnded(String key) {
-        return Boolean.TRUE.equals(booleanRedisTemplate.opsForValue().get(FcfsUtil.endFlagFormatting(key)));
+    private boolean isEventEnded(String eventId, String key) {
+        if (fcfsEventLocalState.isEnded(eventId)) {
+            return true;
+        }
+        boolean ended = Boolean.TRUE.equals(booleanRedisTemplate.opsForValue().get(FcfsUtil.endFlagFormatting(key)));
+        if (ended) {
+            fcfsEventLocalState.markEnded(eventId);
+        }
+        return ended;
     }
 
-    private void endEvent(String key) {
+    private void endEvent(String eventId, String key) {
         booleanRedisTemplate.opsForValue().set(FcfsUtil.endFlagFormatting(key), true);
+        fcfsEventLocalState.publishEnded(eventId);
     }
 }
@@ -0,0 +1,66 @@
+package hyundai.softeer.orange.event.fcfs.service;
+
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
+import hyundai.softeer.orange.event.fcfs.config.FcfsWriteBehindConfig;
+import hyundai.softeer.orange.event.fcfs.enums.FcfsParticipateResult;
+import hyundai.softeer.orange.event.fcfs.exception.FcfsEventException;
+import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 이벤트 키 조회부터 종료 여부, 시작 시각, 중복 참여, 인원 수 확인 및 당첨 기록까지
+ * 하나의 Lua 스크립트로 처리하여 참여 1회당 Redis 왕복을 1번으로 줄인 구현체
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RedisScriptFcfsService implements FcfsService {
+
+    private static final RedisScript<Long> PARTICIPATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/fcfs_participate.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FcfsEventLocalState fcfsEventLocalState;
+    private final FcfsWriteBehindConfig fcfsWriteBehindConfig;
+
+    @Override
+    public boolean participate(String eventId, String userId) {
+        // 이미 마감된 것을 알고 있는 이벤트는 Redis 접근 없이 거절
+        if (fcfsEventLocalState.isEnded(eventId)) {
+            return false;
+        }
+
+        Instant now = Instant.now();
+        Long code = stringRedisTemplate.execute(
+                PARTICIPATE_SCRIPT,
+                List.of(FcfsUtil.eventIdFormatting(eventId), FcfsUtil.WINNER_STREAM_KEY),
+                userId,
+                now.toString(),
+                String.valueOf(now.toEpochMilli()),
+                eventId,
+                fcfsWriteBehindConfig.isEnabled() ? "1" : "0"
+        );
+
+        FcfsParticipateResult result = FcfsParticipateResult.of(code);
+        if (result.isError()) {
+            log.info("Participating Failed: {}, User ID: {}, Result: {}", eventId, userId, result);
+            throw new FcfsEventException(result.getErrorCode());
+        }
+
+        if (result == FcfsParticipateResult.WIN) {
+            log.info("Participating Success: {}, User ID: {}, Timestamp: {}", eventId, userId, now.toEpochMilli());
+            return true;
+        }
+        // 마감된 경우 이후 요청은 로컬에서 거절 (마감을 확정한 경우 스크립트에서 다른 노드에 전파)
+        fcfsEventLocalState.markEnded(eventId);
+        return false;
+    }
+}
@@ -1,6 +1,9 @@
 package hyundai.softeer.orange.event.fcfs.service;
 
 import hyundai.softeer.orange.common.ErrorCode;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventDescriptor;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
 import hyundai.softeer.orange.event.fcfs.exception.FcfsEventException;
 import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
 import lombok.RequiredArgsConstructor;
@@ -17,19 +20,25 @@ import java.time.Instant;
 public class RedisSetFcfsService implements FcfsService {
 
     private final RedisTemplate<String, Boolean> booleanRedisTemplate;
-    private final RedisTemplate<String, Integer> numberRedisTemplate;
     private final StringRedisTemplate stringRedisTemplate;
+    private final FcfsEventLocalState fcfsEventLocalState;
+    private final FcfsEventCache fcfsEventCache;
+    private final FcfsWinnerWriteBehindService fcfsWinnerWriteBehindService;
 
     @Override
     public boolean participate(String eventId, String userId) {
-        String key = stringRedisTemplate.opsForValue().get(FcfsUtil.eventIdFormatting(eventId));
-        if(key == null) {
-            throw new FcfsEventException(ErrorCode.EVENT_NOT_FOUND);
+        // 이미 마감된 것을 알고 있는 이벤트는 Redis 접근 없이 거절
+        if (fcfsEventLocalState.isEnded(eventId)) {
+            return false;
         }
+
+        FcfsEventDescriptor event = fcfsEventCache.find(eventId)
+                .orElseThrow(() -> new FcfsEventException(ErrorCode.EVENT_NOT_FOUND));
+        String key = event.key();
         Long eventSequence = Long.parseLong(key);
 
         // 이벤트 종료 여부 확인
-        if(isEventEnded(key)) {
+        if(isEventEnded(eventId, key)) {
             stringRedisTemplate.opsForSet().add(FcfsUtil.participantFormatting(key), userId);
             return false;
         }
@@ -40,23 +49,21 @@ public class RedisSetFcfsService implements FcfsService {
         }
 
         // 잘못된 이벤트 참여 시간
-        String startTime = stringRedisTemplate.opsForValue().get(FcfsUtil.startTimeFormatting(key));
-        if(startTime == null) {
-            throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
-        }
-        if (Instant.now().isBefore(Instant.parse(startTime))){
+        if (Instant.now().isBefore(event.startTime())){
             throw new FcfsEventException(ErrorCode.INVALID_EVENT_TIME);
         }
 
         // 이벤트 인원 마감 여부 확인
-        if (isEventFull(key)) {
+        if (isEventFull(eventId, event)) {
             log.info("Event Finished: {},", stringRedisTemplate.opsForZSet().zCard(FcfsUtil.winnerFormatting(key)));
             stringRedisTemplate.opsForSet().add(FcfsUtil.participantFormatting(key), userId);
             return false;
         }
 
-        stringRedisTemplate.opsForZSet().add(FcfsUtil.winnerFormatting(key), userId, System.currentTimeMillis());
+        long timestamp = System.currentTimeMillis();
+        stringRedisTemplate.opsForZSet().add(FcfsUtil.winnerFormatting(key), userId, timestamp);
         stringRedisTemplate.opsForSet().add(FcfsUtil.participantFormatting(key), userId);
+        fcfsWinnerWriteBehindService.append(key, userId, timestamp);
         log.info("Participating Success: {}, User ID: {}", eventSequence, userId);
         return true;
     }
@@ -66,13 +73,21 @@ public class RedisSetFcfsService implements FcfsService {
     }
 
     // 이미 종료된 이벤트인지 확인
-    private boolean isEventEnded(String key) {
-        return Boolean.TRUE.equals(booleanRedisTemplate.opsForValue().get(FcfsUtil.endFlagFormatting(key)));
+    private boolean isEventEnded(String eventId, String key) {
+        if (fcfsEventLocalState.isEnded(eventId)) {
+            return true;
+        }
+        boolean ended = Boolean.TRUE.equals(booleanRedisTemplate.opsForValue().get(FcfsUtil.endFlagFormatting(key)));
+        if (ended) {
+            fcfsEventLocalState.markEnded(eventId);
+        }
+        return ended;
     }
 
     // 인원수 마감 여부를 확인하며, synchronized를 통해 동시성 제어
-    private synchronized boolean isEventFull(String key) {
-        if(isEventEnded(key)){
+    private synchronized boolean isEventFull(String eventId, FcfsEventDescriptor event) {
+        String key = event.key();
+        if(isEventEnded(eventId, key)){
             return true;
         }
 
@@ -80,13 +95,14 @@ public class RedisSetFcfsService implements FcfsService {
         if(nowCount == null){
             throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
         }
-        Integer maxNumber = numberRedisTemplate.opsForValue().get(FcfsUtil.keyFormatting(key));
+        Integer maxNumber = event.capacity();
         if (maxNumber == null) {
             throw new FcfsEventException(ErrorCode.FCFS_EVENT_NOT_FOUND);
         }
 
         if(nowCount >= maxNumber){
             booleanRedisTemplate.opsForValue().set(FcfsUtil.endFlagFormatting(key), true);
+            fcfsEventLocalState.publishEnded(eventId);
             return true;
         }
         return false;
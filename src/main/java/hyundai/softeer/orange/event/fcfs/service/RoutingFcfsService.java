@@ -0,0 +1,220 @@
+package hyundai.softeer.orange.event.fcfs.service;
+
+import hyundai.softeer.orange.event.fcfs.component.FcfsRoutingState;
+import hyundai.softeer.orange.event.fcfs.component.FcfsStrategyRegistry;
+import hyundai.softeer.orange.event.fcfs.config.FcfsRoutingConfig;
+import hyundai.softeer.orange.event.fcfs.enums.FcfsStrategy;
+import hyundai.softeer.orange.event.fcfs.exception.FcfsEventException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이벤트 별로 지정된 처리 방식의 FcfsService로 참여 요청을 전달한다.
+ * Redis를 사용하는 처리 방식이 연속으로 실패하거나 느려지면 일정 시간 동안 DB 처리 방식으로 전환한다.
+ * 전환할 때는 Redis의 당첨자를 DB에 반영하고, 다시 Redis로 돌아갈 때는 DB의 당첨자를 Redis에 기록한다.
+ * 전환 상태는 FcfsRoutingState로 모든 서버가 공유하여 두 저장소에서 동시에 당첨자가 나오지 않도록 하며,
+ * 전환 중에는 서버 안에서 이벤트 단위로 참여 요청을 막는다.
+ */
+@RequiredArgsConstructor
+@Primary
+@Service
+public class RoutingFcfsService implements FcfsService {
+
+    private static final Logger log = LoggerFactory.getLogger(RoutingFcfsService.class);
+
+    private final RedisLuaFcfsService redisLuaFcfsService;
+    private final RedisScriptFcfsService redisScriptFcfsService;
+    private final RedisLockFcfsService redisLockFcfsService;
+    private final RedisSetFcfsService redisSetFcfsService;
+    private final DbFcfsService dbFcfsService;
+    private final FcfsFailoverService fcfsFailoverService;
+    private final FcfsRoutingState fcfsRoutingState;
+    private final FcfsStrategyRegistry fcfsStrategyRegistry;
+    private final FcfsRoutingConfig fcfsRoutingConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // 이 서버에서 Redis 장애를 감지한 경우 DB 처리 방식으로 전환을 시도하는 시각
+    private volatile long failoverUntil = 0;
+    // 참여 요청은 read lock, 처리 방식 전환은 write lock을 잡는다
+    private final Map<String, ReadWriteLock> routingLocks = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("fcfs.routing.failover", this, service -> service.isFailedOver() ? 1 : 0)
+                .description("Redis 장애로 DB 처리 방식으로 전환된 상태인지 여부")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean participate(String eventId, String userId) {
+        ReadWriteLock lock = routingLocks.computeIfAbsent(eventId, id -> new ReentrantReadWriteLock());
+        switchIfNeeded(eventId, lock);
+
+        lock.readLock().lock();
+        try {
+            FcfsStrategy strategy = resolve(eventId);
+            return participate(strategy, eventId, userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean participate(FcfsStrategy strategy, String eventId, String userId) {
+        long startNanos = System.nanoTime();
+        String result = "error";
+        try {
+            boolean isWin = serviceOf(strategy).participate(eventId, userId);
+            result = isWin ? "win" : "lose";
+            return isWin;
+        } catch (FcfsEventException e) {
+            // 이벤트 시간, 중복 참여 등 정상적인 거절
+            result = "rejected";
+            throw e;
+        } catch (DataAccessException e) {
+            if (strategy.isUsingRedis()) {
+                recordFailure();
+            }
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            timer(strategy, result).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (strategy.isUsingRedis() && !"error".equals(result)) {
+                recordLatency(elapsedNanos);
+            }
+        }
+    }
+
+    public FcfsStrategy getStrategy(String eventId) {
+        return fcfsStrategyRegistry.get(eventId);
+    }
+
+    public boolean isFailedOver() {
+        return System.currentTimeMillis() < failoverUntil;
+    }
+
+    private FcfsStrategy resolve(String eventId) {
+        FcfsStrategy strategy = fcfsStrategyRegistry.get(eventId);
+        if (!strategy.isUsingRedis()) {
+            return strategy;
+        }
+        return fcfsRoutingState.isRoutedToDb(eventId) ? FcfsStrategy.DB : strategy;
+    }
+
+    // 전환이 필요하다면 서버 안에서 처리 중인 요청이 끝나기를 기다린 뒤 당첨자를 옮기고 처리 방식을 바꾼다
+    private void switchIfNeeded(String eventId, ReadWriteLock lock) {
+        if (!needsSwitch(eventId)) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!needsSwitch(eventId)) {
+                return;
+            }
+            if (!fcfsRoutingState.isRoutedToDb(eventId)) {
+                switchToDb(eventId);
+            } else {
+                switchToRedis(eventId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Stream에 남은 당첨자까지 DB에 반영한 뒤 DB 처리 방식 사용
+    private void switchToDb(String eventId) {
+        boolean switched;
+        try {
+            switched = fcfsFailoverService.switchToDb(eventId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to fail over FCFS event {} to DB", eventId, e);
+            switched = false;
+        }
+        if (!switched) {
+            // 다시 연속으로 실패할 때까지 Redis 처리 방식을 유지
+            failoverUntil = 0;
+        }
+    }
+
+    // DB 처리 방식에서 나온 당첨자를 Redis에 기록한 뒤 Redis 처리 방식으로 복귀
+    private void switchToRedis(String eventId) {
+        try {
+            fcfsFailoverService.switchToRedis(eventId, fcfsStrategyRegistry.get(eventId));
+            failoverUntil = 0;
+        } catch (DataAccessException e) {
+            // Redis가 아직 복구되지 않았다면 DB 처리 방식을 유지
+            log.warn("Failed to restore winners of FCFS event {} to Redis", eventId, e);
+            recordFailure();
+            try {
+                fcfsFailoverService.extendFailover(eventId);
+            } catch (DataAccessException ex) {
+                log.warn("Failed to extend failover of FCFS event {}", eventId, ex);
+            }
+        }
+    }
+
+    // 다른 서버가 전환한 상태는 그대로 따르며, 이 서버는 Redis 장애를 감지했을 때와 전환 시간이 지났을 때만 전환한다
+    private boolean needsSwitch(String eventId) {
+        FcfsStrategy strategy = fcfsStrategyRegistry.get(eventId);
+        if (!strategy.isUsingRedis()) {
+            return false;
+        }
+        if (fcfsRoutingState.isRoutedToDb(eventId)) {
+            return fcfsRoutingState.isFailbackDue(eventId);
+        }
+        return fcfsRoutingConfig.isFailoverEnabled() && isFailedOver();
+    }
+
+    private FcfsService serviceOf(FcfsStrategy strategy) {
+        return switch (strategy) {
+            case LUA -> redisLuaFcfsService;
+            case SCRIPT -> redisScriptFcfsService;
+            case LOCK -> redisLockFcfsService;
+            case SET -> redisSetFcfsService;
+            case DB -> dbFcfsService;
+        };
+    }
+
+    private void recordLatency(long elapsedNanos) {
+        if (TimeUnit.NANOSECONDS.toMillis(elapsedNanos) > fcfsRoutingConfig.getLatencyThresholdMillis()) {
+            recordFailure();
+        } else {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    private void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() < fcfsRoutingConfig.getFailureThreshold()) {
+            return;
+        }
+        consecutiveFailures.set(0);
+        failoverUntil = System.currentTimeMillis() + fcfsRoutingConfig.getFailoverMillis();
+        meterRegistry.counter("fcfs.routing.failover.count").increment();
+        log.warn("Redis is unhealthy, FCFS participation fails over to DB for {} ms", fcfsRoutingConfig.getFailoverMillis());
+    }
+
+    private Timer timer(FcfsStrategy strategy, String result) {
+        return Timer.builder("fcfs.participate")
+                .description("선착순 이벤트 참여 처리 시간")
+                .tag("strategy", strategy.name())
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 public class FcfsUtil {
 
     private static final String FCFS_PREFIX = "fcfs:";
+    // 모든 선착순 이벤트의 당첨 기록이 쌓이는 Stream
+    public static final String WINNER_STREAM_KEY = FCFS_PREFIX + "stream:winner";
 
     public static String eventIdFormatting(String key) {
         return formatKey(key, "eventId");
@@ -36,6 +38,14 @@ public class FcfsUtil {
         return formatKey(key, "answer");
     }
 
+    public static String admissionFormatting(String key) {
+        return formatKey(key, "admission");
+    }
+
+    public static String migrationFormatting(String key) {
+        return formatKey(key, "migration");
+    }
+
     // 공통 로직을 처리하는 메서드
     private static String formatKey(String key, String suffix) {
         return FCFS_PREFIX + key + ":" + suffix;
@@ -2,6 +2,7 @@ package hyundai.softeer.orange.eventuser.repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import hyundai.softeer.orange.common.jdbc.BulkWriter;
 import hyundai.softeer.orange.event.common.entity.QEventFrame;
 import hyundai.softeer.orange.eventuser.dto.EventUserScoreDto;
 import hyundai.softeer.orange.eventuser.entity.EventUser;
@@ -10,37 +11,20 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
 import java.util.List;
 
 @RequiredArgsConstructor
 @Repository
 public class CustomEventUserRepositoryImpl implements CustomEventUserRepository {
-    private final JdbcTemplate jdbcTemplate;
+    private final BulkWriter bulkWriter;
     private final JPAQueryFactory queryFactory;
 
     @Override
     public void updateScoreMany(List<EventUserScoreDto> userScores) {
-        String sql = "UPDATE event_user SET score = ? WHERE id = ?";
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                EventUserScoreDto userScore = userScores.get(i);
-                ps.setLong(1, userScore.score());
-                ps.setLong(2, userScore.userId());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return userScores.size();
-            }
-        });
+        bulkWriter.update("event_user", "id", "score", userScores,
+                userScore -> new Object[]{userScore.userId(), userScore.score()});
     }
 
     @Override
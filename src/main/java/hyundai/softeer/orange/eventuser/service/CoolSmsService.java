@@ -1,6 +1,10 @@
 package hyundai.softeer.orange.eventuser.service;
 
+import hyundai.softeer.orange.common.ErrorCode;
 import hyundai.softeer.orange.common.util.ConstantUtil;
+import hyundai.softeer.orange.common.http.OutboundException;
+import hyundai.softeer.orange.common.http.OutboundGuard;
+import hyundai.softeer.orange.config.OutboundConfig;
 import hyundai.softeer.orange.eventuser.config.CoolSmsApiConfig;
 import hyundai.softeer.orange.eventuser.dto.RequestUserDto;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +13,7 @@ import net.nurigo.sdk.message.model.Message;
 import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
 import net.nurigo.sdk.message.response.SingleMessageSentResponse;
 import net.nurigo.sdk.message.service.DefaultMessageService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
@@ -25,13 +30,17 @@ public class CoolSmsService implements SmsService {
     private final DefaultMessageService defaultMessageService;
     private final CoolSmsApiConfig coolSmsApiConfig;
     private final StringRedisTemplate stringRedisTemplate;
+    private final OutboundGuard smsGuard;
 
-    public CoolSmsService(CoolSmsApiConfig coolSmsApiConfig, StringRedisTemplate stringRedisTemplate) {
+    public CoolSmsService(CoolSmsApiConfig coolSmsApiConfig, StringRedisTemplate stringRedisTemplate,
+                          @Qualifier(OutboundConfig.SMS_GUARD) OutboundGuard smsGuard) {
         this.defaultMessageService = NurigoApp.INSTANCE.initialize(coolSmsApiConfig.getApiKey(), coolSmsApiConfig.getApiSecret(), coolSmsApiConfig.getUrl());
         this.coolSmsApiConfig = coolSmsApiConfig;
         this.stringRedisTemplate = stringRedisTemplate;
+        this.smsGuard = smsGuard;
     }
 
+    // 발송에 실패했다면 인증번호를 저장하지 않고 요청에 실패를 응답한다. 동시 발송 수는 smsGuard로 제한
     @Override
     @Transactional(readOnly = true)
     public void sendSms(RequestUserDto dto) {
@@ -41,7 +50,17 @@ public class CoolSmsService implements SmsService {
         message.setTo(dto.getPhoneNumber());
         message.setText("[소프티어 오렌지] 인증번호는 (" + authCode + ")입니다.");
 
-        SingleMessageSentResponse response = defaultMessageService.sendOne(new SingleMessageSendingRequest(message));
+        // SMS API 장애가 계속되면 SDK의 응답 대기 없이 바로 실패한다
+        SingleMessageSentResponse response;
+        try {
+            response = smsGuard.execute(() -> defaultMessageService.sendOne(new SingleMessageSendingRequest(message)));
+        } catch (OutboundException e) {
+            throw e;
+        } catch (Exception e) {
+            // SDK는 발송 실패를 검사 예외로 던지므로 기존 외부 API 실패 응답으로 변환
+            log.error("failed to send SMS to {}", dto.getPhoneNumber(), e);
+            throw new OutboundException(ErrorCode.EXTERNAL_API_UNAVAILABLE);
+        }
 
         // 5분 동안 인증번호 유효
         stringRedisTemplate.opsForValue().set(dto.getPhoneNumber(), authCode, ConstantUtil.AUTH_CODE_EXPIRE_TIME, TimeUnit.MINUTES);
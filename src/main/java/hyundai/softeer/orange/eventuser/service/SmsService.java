@@ -6,6 +6,7 @@ public interface SmsService {
     /**
      * 1. 6자리 난수 인증번호를 생성한 뒤, 전화번호로 인증번호 전송
      * 2. 생성된 인증번호는 <유저전화번호-인증번호> 형태로 Redis에 저장
+     * 3. 발송에 실패하면 OutboundException(EXTERNAL_API_UNAVAILABLE)을 던지며, 인증번호는 저장하지 않는다
      */
     void sendSms(RequestUserDto dto);
 }
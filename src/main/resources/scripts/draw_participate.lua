@@ -0,0 +1,12 @@
+-- 추첨 이벤트의 일일 참여를 한 번의 왕복으로 처리하는 스크립트
+-- KEYS[1]: draw:{drawEventId}:participation:{eventUserId}, KEYS[2]: 참여 기록 Stream
+-- ARGV[1]: 이벤트 시작일로부터 지난 일 수, ARGV[2]: bitmap 만료 시각(epoch seconds)
+-- ARGV[3]: drawEventId, ARGV[4]: eventUserId, ARGV[5]: 참여 시각(epoch millis)
+-- 반환값: 1 참여, 0 이미 참여
+if redis.call('setbit', KEYS[1], ARGV[1], 1) == 1 then
+    return 0
+end
+
+redis.call('expireat', KEYS[1], ARGV[2])
+redis.call('xadd', KEYS[2], '*', 'drawEventId', ARGV[3], 'eventUserId', ARGV[4], 'date', ARGV[5])
+return 1
@@ -0,0 +1,40 @@
+-- 선착순 이벤트의 남은 입장권에서 최대 batchSize 개를 가져가는 스크립트
+-- KEYS[1]: fcfs:{key}:admission
+-- ARGV[1]: batchSize, ARGV[2]: multiplier, ARGV[3]: 서버 id, ARGV[4]: 임대 기간(ms)
+-- 반환값: 가져간 입장권 수, 0 모두 당첨, -1 입장권 정보 없음, -2 처리 중인 요청이 많음
+local capacity = redis.call('hget', KEYS[1], 'capacity')
+if not capacity then
+    return -1
+end
+
+local time = redis.call('time')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- 임대 기간 동안 연장하지 않은 서버(종료, 장애 등)가 가져간 입장권을 회수
+local fields = redis.call('hgetall', KEYS[1])
+for i = 1, #fields, 2 do
+    if string.sub(fields[i], 1, 6) == 'lease:' and tonumber(fields[i + 1]) < now then
+        local inflightField = 'inflight:' .. string.sub(fields[i], 7)
+        local held = tonumber(redis.call('hget', KEYS[1], inflightField) or 0)
+        if redis.call('hincrby', KEYS[1], 'inflight', -held) < 0 then
+            redis.call('hset', KEYS[1], 'inflight', 0)
+        end
+        redis.call('hdel', KEYS[1], fields[i], inflightField)
+    end
+end
+
+local remaining = tonumber(capacity) - tonumber(redis.call('hget', KEYS[1], 'won') or 0)
+if remaining <= 0 then
+    return 0
+end
+
+local available = remaining * tonumber(ARGV[2]) - tonumber(redis.call('hget', KEYS[1], 'inflight') or 0)
+if available <= 0 then
+    return -2
+end
+
+local amount = math.min(available, tonumber(ARGV[1]))
+redis.call('hincrby', KEYS[1], 'inflight', amount)
+redis.call('hincrby', KEYS[1], 'inflight:' .. ARGV[3], amount)
+redis.call('hset', KEYS[1], 'lease:' .. ARGV[3], now + tonumber(ARGV[4]))
+return amount
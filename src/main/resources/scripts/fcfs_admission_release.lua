@@ -0,0 +1,29 @@
+-- 서버가 가져간 입장권을 반납하고 임대 기간을 연장하는 스크립트
+-- KEYS[1]: fcfs:{key}:admission
+-- ARGV[1]: 반납할 입장권 수, ARGV[2]: 그 중 당첨된 인원 수, ARGV[3]: 서버 id, ARGV[4]: 임대 기간(ms)
+-- 반환값: 1 반납, 0 이벤트 정보 없음
+if redis.call('exists', KEYS[1]) == 0 then
+    return 0
+end
+
+local inflightField = 'inflight:' .. ARGV[3]
+local leaseField = 'lease:' .. ARGV[3]
+-- 임대 기간이 지나 이미 회수된 입장권은 다시 빼지 않음
+local held = tonumber(redis.call('hget', KEYS[1], inflightField) or 0)
+local amount = math.min(tonumber(ARGV[1]), held)
+if amount > 0 then
+    if redis.call('hincrby', KEYS[1], 'inflight', -amount) < 0 then
+        redis.call('hset', KEYS[1], 'inflight', 0)
+    end
+end
+redis.call('hincrby', KEYS[1], 'won', tonumber(ARGV[2]))
+
+if held - amount > 0 then
+    local time = redis.call('time')
+    local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+    redis.call('hset', KEYS[1], inflightField, held - amount)
+    redis.call('hset', KEYS[1], leaseField, now + tonumber(ARGV[4]))
+else
+    redis.call('hdel', KEYS[1], inflightField, leaseField)
+end
+return 1
@@ -0,0 +1,58 @@
+-- 선착순 이벤트 참여를 한 번의 왕복으로 처리하는 스크립트
+-- KEYS[1]: fcfs:{eventId}:eventId, KEYS[2]: 당첨 기록 Stream
+-- ARGV[1]: userId, ARGV[2]: 현재 시각(ISO-8601), ARGV[3]: 현재 시각(epoch millis), ARGV[4]: eventId, ARGV[5]: Stream 기록 여부(1/0)
+-- 반환값: 1 당첨, 0 마감, -1 이벤트 없음, -2 선착순 정보 없음, -3 이벤트 시간 아님, -4 이미 참여
+local key = redis.call('get', KEYS[1])
+if not key then
+    return -1
+end
+
+local prefix = 'fcfs:' .. key .. ':'
+local participantKey = prefix .. 'participant'
+local userId = ARGV[1]
+
+-- 이벤트 종료 여부 확인
+if redis.call('get', prefix .. 'end') == 'true' then
+    redis.call('sadd', participantKey, userId)
+    return 0
+end
+
+-- 이미 이 이벤트에 참여했는지 확인
+if redis.call('sismember', participantKey, userId) == 1 then
+    return -4
+end
+
+-- Instant.toString()은 소수점 이하 자릿수가 가변적이므로 9자리로 맞춘 뒤 문자열로 비교
+local function normalize(time)
+    local fraction = string.match(time, '%.(%d+)') or ''
+    return string.sub(time, 1, 19) .. '.' .. fraction .. string.rep('0', 9 - #fraction)
+end
+
+-- 잘못된 이벤트 참여 시간
+local startTime = redis.call('get', prefix .. 'start')
+if not startTime then
+    return -2
+end
+if normalize(ARGV[2]) < normalize(startTime) then
+    return -3
+end
+
+local capacity = tonumber(redis.call('get', prefix .. 'count'))
+if not capacity then
+    return -2
+end
+
+local winnerKey = prefix .. 'winner'
+redis.call('sadd', participantKey, userId)
+if redis.call('zcard', winnerKey) < capacity then
+    redis.call('zadd', winnerKey, ARGV[3], userId)
+    if ARGV[5] == '1' then
+        redis.call('xadd', KEYS[2], '*', 'fcfsEventId', key, 'userId', userId, 'winningTime', ARGV[3])
+    end
+    return 1
+end
+
+-- 인원 수 초과 시 종료 flag 설정 후 다른 노드에 마감 사실을 전파
+redis.call('set', prefix .. 'end', 'true')
+redis.call('publish', 'fcfs:channel:end', ARGV[4])
+return 0
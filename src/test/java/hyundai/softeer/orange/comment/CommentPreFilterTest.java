@@ -0,0 +1,85 @@
+package hyundai.softeer.orange.comment;
+
+import hyundai.softeer.orange.comment.config.CommentSentimentConfig;
+import hyundai.softeer.orange.comment.entity.CommentFilterWord;
+import hyundai.softeer.orange.comment.enums.CommentFilterType;
+import hyundai.softeer.orange.comment.repository.CommentFilterWordRepository;
+import hyundai.softeer.orange.comment.service.CommentPreFilter;
+import hyundai.softeer.orange.comment.service.SentimentCache.Sentiment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CommentPreFilterTest {
+    CommentFilterWordRepository repository = mock(CommentFilterWordRepository.class);
+    CommentSentimentConfig config = new CommentSentimentConfig();
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    CommentPreFilter preFilter = new CommentPreFilter(repository, config, meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findAll()).thenReturn(List.of(
+                CommentFilterWord.of("바보", CommentFilterType.BANNED),
+                CommentFilterWord.of("광고", CommentFilterType.BANNED),
+                CommentFilterWord.of("기대돼요", CommentFilterType.POSITIVE)
+        ));
+        preFilter.reload();
+    }
+
+    @DisplayName("문장 부호를 끼워 넣어도 금칙어가 포함되어 있다면 부정 확률이 높은 기대평으로 분류")
+    @Test
+    void bannedTest() {
+        assertThat(preFilter.classify("이 차는 바보 같아요")).contains(Sentiment.INVALID);
+        assertThat(preFilter.classify("바.보")).contains(Sentiment.INVALID);
+        assertThat(preFilter.classify("광/고 문의")).contains(Sentiment.INVALID);
+        assertThat(preFilter.classify("바보같은 디자인")).contains(Sentiment.INVALID);
+        // 금칙어가 포함된 긍정 문구도 금칙어로 분류
+        assertThat(preFilter.classify("기대돼요 바보")).contains(Sentiment.INVALID);
+    }
+
+    @DisplayName("금칙어가 정상적인 두 단어에 걸쳐 있다면 금칙어로 분류하지 않는다")
+    @Test
+    void bannedAcrossWordsTest() {
+        // "바 보다"를 붙여 쓰면 "바보"가 포함된다
+        assertThat(preFilter.classify("그 바 보다 이 차가 좋아요")).isEmpty();
+        assertThat(preFilter.classify("신차 광, 고급스러운 실내")).isEmpty();
+    }
+
+    @DisplayName("긍정 문구와 전체가 일치할 때만 긍정으로 분류하고, 나머지는 원격 분석으로 넘긴다")
+    @Test
+    void positiveTest() {
+        assertThat(preFilter.classify("기대돼요!!")).contains(Sentiment.POSITIVE);
+        assertThat(preFilter.classify(" 기대 돼요 ")).contains(Sentiment.POSITIVE);
+        assertThat(preFilter.classify("별로 기대돼요 안해요")).isEmpty();
+        assertThat(meterRegistry.counter("comment.prefilter", "result", "forwarded").count()).isEqualTo(1);
+    }
+
+    @DisplayName("단어 목록을 다시 읽으면 바로 반영되고, 읽지 못하면 기존 목록을 유지")
+    @Test
+    void reloadTest() {
+        when(repository.findAll()).thenReturn(List.of(CommentFilterWord.of("스팸", CommentFilterType.BANNED)));
+        preFilter.onMessage(null, null);
+
+        assertThat(preFilter.classify("바보")).isEmpty();
+        assertThat(preFilter.classify("스팸")).contains(Sentiment.INVALID);
+
+        when(repository.findAll()).thenThrow(new DataAccessResourceFailureException("down"));
+        preFilter.reload();
+        assertThat(preFilter.classify("스팸")).contains(Sentiment.INVALID);
+    }
+
+    @DisplayName("사용하지 않도록 설정하면 분류하지 않는다")
+    @Test
+    void disabledTest() {
+        config.setPreFilterEnabled(false);
+
+        assertThat(preFilter.classify("바보")).isEmpty();
+    }
+}
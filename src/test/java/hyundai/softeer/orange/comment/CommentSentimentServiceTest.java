@@ -0,0 +1,132 @@
+package hyundai.softeer.orange.comment;
+
+import hyundai.softeer.orange.comment.config.CommentSentimentConfig;
+import hyundai.softeer.orange.comment.dto.PendingCommentDto;
+import hyundai.softeer.orange.comment.exception.CommentException;
+import hyundai.softeer.orange.comment.repository.CommentRepository;
+import hyundai.softeer.orange.comment.service.CommentSentimentService;
+import hyundai.softeer.orange.comment.service.CommentValidator;
+import hyundai.softeer.orange.comment.service.PositiveCommentPool;
+import hyundai.softeer.orange.common.ErrorCode;
+import hyundai.softeer.orange.event.draw.component.score.DrawScoreStore;
+import hyundai.softeer.orange.event.draw.enums.DrawEventAction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CommentSentimentServiceTest {
+    CommentRepository commentRepository = mock(CommentRepository.class);
+    CommentValidator commentValidator = mock(CommentValidator.class);
+    PositiveCommentPool positiveCommentPool = mock(PositiveCommentPool.class);
+    DrawScoreStore drawScoreStore = mock(DrawScoreStore.class);
+    CommentSentimentConfig config = new CommentSentimentConfig();
+    // 트랜잭션 없이 콜백만 실행
+    TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    CommentSentimentService service;
+
+    @BeforeEach
+    void setUp() {
+        // 요청 수 제한이 테스트에 영향을 주지 않도록 충분히 크게 설정
+        config.setRatePerSecond(1e12);
+        config.setBatchSize(10);
+        config.setMaxAttempts(3);
+        when(commentRepository.completeSentiment(anyLong(), anyBoolean())).thenReturn(1);
+        when(commentRepository.retrySentimentAt(anyLong(), any())).thenReturn(1);
+        service = new CommentSentimentService(commentRepository, commentValidator, positiveCommentPool, drawScoreStore,
+                config, transactionTemplate, meterRegistry);
+    }
+
+    @DisplayName("분석 결과를 반영하고 긍정 기대평만 추출 대상에 추가, 작성 점수는 모두 반영")
+    @Test
+    void classifyTest() {
+        when(commentRepository.lockPendingSentiments(any(), eq(10))).thenReturn(List.of(
+                pending(1L, "좋아요", 0), pending(2L, "별로예요", 0)));
+        when(commentValidator.analyzeCommentAsync("좋아요")).thenReturn(CompletableFuture.completedFuture(true));
+        when(commentValidator.analyzeCommentAsync("별로예요")).thenReturn(CompletableFuture.completedFuture(false));
+
+        assertThat(service.classifyPending()).isEqualTo(2);
+
+        verify(commentRepository).leaseSentiments(eq(List.of(1L, 2L)), any());
+        verify(commentRepository).completeSentiment(1L, true);
+        verify(commentRepository).completeSentiment(2L, false);
+        verify(positiveCommentPool).add(100L, 1L);
+        verify(positiveCommentPool, never()).add(100L, 2L);
+        verify(drawScoreStore, times(2)).increase(10L, 1000L, DrawEventAction.WriteComment);
+    }
+
+    @DisplayName("다른 서버가 먼저 결과를 반영한 기대평은 작성 점수를 다시 반영하지 않는다")
+    @Test
+    void alreadyCompletedTest() {
+        when(commentRepository.lockPendingSentiments(any(), anyInt())).thenReturn(List.of(pending(1L, "좋아요", 0)));
+        when(commentValidator.analyzeCommentAsync("좋아요")).thenReturn(CompletableFuture.completedFuture(true));
+        when(commentRepository.completeSentiment(1L, true)).thenReturn(0);
+
+        service.classifyPending();
+
+        verifyNoInteractions(positiveCommentPool, drawScoreStore);
+    }
+
+    @DisplayName("부정 확률이 높은 기대평은 다시 시도하지 않고 삭제 처리하며, 작성 점수를 반영하지 않는다")
+    @Test
+    void strongNegativeTest() {
+        when(commentRepository.lockPendingSentiments(any(), anyInt())).thenReturn(List.of(pending(1L, "최악", 0)));
+        when(commentValidator.analyzeCommentAsync("최악"))
+                .thenReturn(CompletableFuture.failedFuture(new CommentException(ErrorCode.INVALID_COMMENT)));
+
+        service.classifyPending();
+
+        verify(commentRepository).invalidateSentiment(eq(1L), any());
+        verify(commentRepository, never()).completeSentiment(anyLong(), anyBoolean());
+        verify(commentRepository, never()).retrySentimentAt(any(), any());
+        verifyNoInteractions(drawScoreStore);
+    }
+
+    @DisplayName("분석에 실패하면 실패 횟수에 따라 늦춰서 다시 시도하고, 최대 횟수에 도달하면 부정으로 처리")
+    @Test
+    void retryTest() {
+        when(commentRepository.lockPendingSentiments(any(), anyInt())).thenReturn(List.of(
+                pending(1L, "a", 0), pending(2L, "b", 2)));
+        when(commentValidator.analyzeCommentAsync(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+
+        Instant before = Instant.now();
+        service.classifyPending();
+
+        verify(commentRepository).retrySentimentAt(eq(1L), argThat(retryAt -> !retryAt.isBefore(before.plusMillis(1000))));
+        verify(commentRepository).completeSentiment(2L, false);
+        assertThat(meterRegistry.counter("comment.sentiment.result", "result", "gave_up").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("comment.sentiment.result", "result", "retry").count()).isEqualTo(1);
+    }
+
+    @DisplayName("허용량이 없으면 기대평을 가져오지 않는다")
+    @Test
+    void rateLimitTest() {
+        config.setRatePerSecond(0);
+
+        assertThat(service.classifyPending()).isZero();
+        verify(commentRepository, never()).lockPendingSentiments(any(), anyInt());
+    }
+
+    private static PendingCommentDto pending(Long id, String content, int attempts) {
+        return new PendingCommentDto() {
+            public Long getId() { return id; }
+            public Long getEventFrameId() { return 100L; }
+            public Long getEventUserId() { return 1000L; }
+            public Long getDrawEventId() { return 10L; }
+            public String getContent() { return content; }
+            public int getSentimentAttempts() { return attempts; }
+        };
+    }
+}
@@ -8,14 +8,16 @@ import hyundai.softeer.orange.comment.entity.Comment;
 import hyundai.softeer.orange.comment.exception.CommentException;
 import hyundai.softeer.orange.comment.repository.CommentRepository;
 import hyundai.softeer.orange.comment.service.CommentService;
-import hyundai.softeer.orange.comment.service.CommentValidator;
+import hyundai.softeer.orange.comment.service.PositiveCommentPool;
 import hyundai.softeer.orange.common.ErrorCode;
 import hyundai.softeer.orange.common.util.ConstantUtil;
 import hyundai.softeer.orange.event.common.entity.EventFrame;
 import hyundai.softeer.orange.event.common.repository.EventFrameRepository;
+import hyundai.softeer.orange.event.draw.component.participation.DrawParticipationStore;
+import hyundai.softeer.orange.event.draw.config.DrawParticipationConfig;
 import hyundai.softeer.orange.event.draw.entity.DrawEvent;
 import hyundai.softeer.orange.event.draw.repository.DrawEventRepository;
-import hyundai.softeer.orange.event.draw.repository.EventParticipationInfoRepository;
+import hyundai.softeer.orange.event.draw.repository.EventParticipationCountRepository;
 import hyundai.softeer.orange.eventuser.entity.EventUser;
 import hyundai.softeer.orange.eventuser.repository.EventUserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,11 +25,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -46,9 +48,6 @@ class CommentServiceTest {
     @InjectMocks
     private CommentService commentService;
 
-    @Mock
-    private CommentValidator commentValidator;
-
     @Mock
     private CommentRepository commentRepository;
 
@@ -59,11 +58,20 @@ class CommentServiceTest {
     private EventUserRepository eventUserRepository;
 
     @Mock
-    private EventParticipationInfoRepository participationInfoRepository;
+    private EventParticipationCountRepository participationCountRepository;
 
     @Mock
     private DrawEventRepository drawEventRepository;
 
+    @Mock
+    private DrawParticipationStore participationStore;
+
+    @Mock
+    private DrawParticipationConfig participationConfig;
+
+    @Mock
+    private PositiveCommentPool positiveCommentPool;
+
     @Mock
     private EventFrame eventFrame;
 
@@ -78,7 +86,6 @@ class CommentServiceTest {
     String eventFrameId = "the-new-ioniq5";
     CreateCommentDto createCommentDto = new CreateCommentDto("test");
     EventUser eventUser = EventUser.of("test", "01012345678", null, "uuid");
-    Pageable pageable = PageRequest.of(0, ConstantUtil.COMMENTS_SIZE);
 
     @DisplayName("getComments: 무작위 긍정 기대평 목록을 조회한다.")
     @Test
@@ -90,7 +97,8 @@ class CommentServiceTest {
                 .userName("test")
                 .createdAt(LocalDateTime.now().atZone(ZoneOffset.UTC).toInstant())
                 .build();
-        given(commentRepository.findRandomPositiveComments(anyLong(), eq(pageable)))
+        given(positiveCommentPool.sample(1L, ConstantUtil.COMMENTS_SIZE)).willReturn(List.of(1L));
+        given(commentRepository.findPositiveCommentsByIds(List.of(1L)))
                 .willReturn(List.of(responseCommentDto));
 
         // when
@@ -99,21 +107,41 @@ class CommentServiceTest {
         // then
         assertThat(dto.getComments()).hasSize(1);
         assertThat(dto.getComments().get(0).getContent()).isEqualTo("test");
-        verify(commentRepository, times(1)).findRandomPositiveComments(anyLong(), any(Pageable.class));
+        verify(commentRepository, times(1)).findPositiveCommentsByIds(List.of(1L));
+        verify(positiveCommentPool, never()).remove(any(), any());
+    }
+
+    @DisplayName("getComments: 추출된 id 중 조회되지 않은 기대평은 목록에서 제거한다.")
+    @Test
+    void getCommentsRemoveStaleIdsTest() {
+        // given
+        ResponseCommentDto responseCommentDto = ResponseCommentDto.builder()
+                .id(1L)
+                .content("test")
+                .build();
+        given(positiveCommentPool.sample(1L, ConstantUtil.COMMENTS_SIZE)).willReturn(List.of(1L, 2L));
+        given(commentRepository.findPositiveCommentsByIds(List.of(1L, 2L))).willReturn(List.of(responseCommentDto));
+
+        // when
+        ResponseCommentsDto dto = commentService.getComments(eventFrameId);
+
+        // then
+        assertThat(dto.getComments()).hasSize(1);
+        verify(positiveCommentPool, times(1)).remove(1L, List.of(2L));
     }
 
     @DisplayName("getComments: 무작위 긍정 기대평 목록이 없는 경우 빈 목록을 반환한다.")
     @Test
     void getCommentsTestEmpty() {
         // given
-        given(commentRepository.findRandomPositiveComments(anyLong(), eq(pageable))).willReturn(List.of());
+        given(positiveCommentPool.sample(1L, ConstantUtil.COMMENTS_SIZE)).willReturn(List.of());
 
         // when
         ResponseCommentsDto dto = commentService.getComments(eventFrameId);
 
         // then
         assertThat(dto.getComments()).isEmpty();
-        verify(commentRepository, times(1)).findRandomPositiveComments(anyLong(), any(Pageable.class));
+        verify(commentRepository, never()).findPositiveCommentsByIds(any());
     }
 
     @DisplayName("createComment: 신규 기대평을 작성한다.")
@@ -123,10 +151,8 @@ class CommentServiceTest {
         given(commentRepository.existsByCreatedDateAndEventUser(any())).willReturn(false);
         given(eventFrameRepository.findByFrameId(eventFrameId)).willReturn(Optional.of(eventFrame));
         given(eventUserRepository.findByUserId(eventUser.getUserId())).willReturn(Optional.ofNullable(eventUser));
-        given(commentValidator.analyzeComment(createCommentDto.getContent())).willReturn(true);
         given(drawEventRepository.findByEventFrameId(eventFrameId)).willReturn(Optional.of(new DrawEvent()));
-        given(participationInfoRepository.existsByEventUserAndDrawEventAndDateBetween(any(), any(), any(), any())).willReturn(true);
-        given(commentRepository.save(any())).willReturn(Comment.of("test", eventFrame, eventUser, true));
+        given(participationCountRepository.existsByDrawEventIdAndEventUserIdAndLastDateBetween(any(), any(), any(), any())).willReturn(true);
 
         // when
         commentService.createComment(eventUser.getUserId(), eventFrameId, createCommentDto);
@@ -137,6 +163,8 @@ class CommentServiceTest {
         verify(eventFrameRepository, times(1)).findByFrameId(eventFrameId);
         verify(eventUserRepository, times(1)).findByUserId(eventUser.getUserId());
         verify(commentRepository, times(1)).save(any());
+        // 감정 분석이 끝나기 전에는 긍정 기대평 목록에 추가하지 않는다
+        verify(positiveCommentPool, never()).add(any(), any());
     }
 
     @DisplayName("createComment: 인터렉션에 참여하지 않은 유저가 기대평을 작성하려 할 때 예외가 발생한다.")
@@ -146,7 +174,7 @@ class CommentServiceTest {
         given(eventFrameRepository.findByFrameId(eventFrameId)).willReturn(Optional.of(eventFrame));
         given(eventUserRepository.findByUserId(eventUser.getUserId())).willReturn(Optional.of(eventUser));
         given(drawEventRepository.findByEventFrameId(eventFrameId)).willReturn(Optional.of(new DrawEvent()));
-        given(participationInfoRepository.existsByEventUserAndDrawEventAndDateBetween(any(), any(), any(), any())).willReturn(false);
+        given(participationCountRepository.existsByDrawEventIdAndEventUserIdAndLastDateBetween(any(), any(), any(), any())).willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> commentService.createComment(eventUser.getUserId(), eventFrameId, createCommentDto))
@@ -161,7 +189,7 @@ class CommentServiceTest {
         given(eventFrameRepository.findByFrameId(eventFrameId)).willReturn(Optional.of(eventFrame));
         given(eventUserRepository.findByUserId(eventUser.getUserId())).willReturn(Optional.of(eventUser));
         given(drawEventRepository.findByEventFrameId(eventFrameId)).willReturn(Optional.of(new DrawEvent()));
-        given(participationInfoRepository.existsByEventUserAndDrawEventAndDateBetween(any(), any(), any(), any())).willReturn(true);
+        given(participationCountRepository.existsByDrawEventIdAndEventUserIdAndLastDateBetween(any(), any(), any(), any())).willReturn(true);
         given(commentRepository.existsByCreatedDateAndEventUser(any())).willReturn(true);
 
         // when
@@ -209,20 +237,24 @@ class CommentServiceTest {
                 .hasMessage(ErrorCode.DRAW_EVENT_NOT_FOUND.getErrorCode());
     }
 
-    @DisplayName("createComment: 기대평이 부정적인 경우 예외가 발생한다.")
+    @DisplayName("createComment: 기대평은 감정 분석을 기다리는 상태로 저장된다.")
     @Test
-    void createCommentNegativeTest() {
+    void createCommentPendingTest() {
         // given
         given(eventFrameRepository.findByFrameId(eventFrameId)).willReturn(Optional.of(eventFrame));
         given(eventUserRepository.findByUserId(eventUser.getUserId())).willReturn(Optional.ofNullable(eventUser));
         given(drawEventRepository.findByEventFrameId(eventFrameId)).willReturn(Optional.of(new DrawEvent()));
-        given(participationInfoRepository.existsByEventUserAndDrawEventAndDateBetween(any(), any(), any(), any())).willReturn(true);
-        given(commentValidator.analyzeComment(createCommentDto.getContent())).willThrow(new CommentException(ErrorCode.INVALID_COMMENT));
+        given(participationCountRepository.existsByDrawEventIdAndEventUserIdAndLastDateBetween(any(), any(), any(), any())).willReturn(true);
+        ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
 
-        // when & then
-        assertThatThrownBy(() -> commentService.createComment(eventUser.getUserId(), eventFrameId, createCommentDto))
-                .isInstanceOf(CommentException.class)
-                .hasMessage(ErrorCode.INVALID_COMMENT.getErrorCode());
+        // when
+        commentService.createComment(eventUser.getUserId(), eventFrameId, createCommentDto);
+
+        // then
+        verify(commentRepository).save(captor.capture());
+        assertThat(captor.getValue().getIsPositive()).isNull();
+        assertThat(captor.getValue().getSentimentAttempts()).isZero();
+        assertThat(captor.getValue().getSentimentRetryAt()).isNotNull();
     }
 
     @DisplayName("isCommentable: 오늘 이 유저가 기대평을 작성할 수 있는지 조회한다.")
@@ -245,22 +277,23 @@ class CommentServiceTest {
     @Test
     void deleteCommentTest() {
         // given
-        given(commentRepository.existsById(commentId)).willReturn(true);
-        doNothing().when(commentRepository).deleteById(commentId);
+        Comment comment = Comment.of("test", eventFrame, eventUser, true);
+        given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
 
         // when
         Long deletedCommentId = commentService.deleteComment(commentId);
 
         // then
         assertThat(deletedCommentId).isEqualTo(commentId);
-        verify(commentRepository, times(1)).deleteById(commentId);
+        verify(commentRepository, times(1)).delete(comment);
+        verify(positiveCommentPool, times(1)).remove(1L, List.of(commentId));
     }
 
     @DisplayName("deleteComment: 기대평을 찾을 수 없는 경우 예외가 발생한다.")
     @Test
     void deleteCommentNotFoundTest() {
         // given
-        given(commentRepository.existsById(commentId)).willReturn(false);
+        given(commentRepository.findById(commentId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> commentService.deleteComment(commentId))
@@ -0,0 +1,143 @@
+package hyundai.softeer.orange.comment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hyundai.softeer.orange.comment.config.CommentSentimentConfig;
+import hyundai.softeer.orange.comment.entity.CommentFilterWord;
+import hyundai.softeer.orange.comment.enums.CommentFilterType;
+import hyundai.softeer.orange.comment.exception.CommentException;
+import hyundai.softeer.orange.comment.repository.CommentFilterWordRepository;
+import hyundai.softeer.orange.comment.service.CommentPreFilter;
+import hyundai.softeer.orange.comment.service.CommentValidator;
+import hyundai.softeer.orange.comment.service.SentimentCache;
+import hyundai.softeer.orange.common.ErrorCode;
+import hyundai.softeer.orange.common.http.CircuitBreaker;
+import hyundai.softeer.orange.common.http.OutboundException;
+import hyundai.softeer.orange.common.http.OutboundGuard;
+import hyundai.softeer.orange.config.NaverApiConfig;
+import hyundai.softeer.orange.config.OutboundConfig;
+import hyundai.softeer.orange.config.OutboundHttpConfig;
+import hyundai.softeer.orange.support.NaverSentimentStub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CommentValidatorTest {
+    NaverSentimentStub stub;
+    CommentFilterWordRepository filterWordRepository = mock(CommentFilterWordRepository.class);
+    OutboundGuard naverGuard;
+    CommentValidator commentValidator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new NaverSentimentStub();
+        NaverApiConfig config = new NaverApiConfig();
+        config.setClientId("id");
+        config.setClientSecret("secret");
+        config.setUrl(stub.url());
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        SentimentCache sentimentCache = new SentimentCache(redisTemplate, new CommentSentimentConfig(), new SimpleMeterRegistry());
+        OutboundHttpConfig.Target target = OutboundHttpConfig.Target.of(1000, 300, 2);
+        target.setFailureThreshold(2);
+        naverGuard = new OutboundGuard("naver", target, new SimpleMeterRegistry());
+        RestTemplate restTemplate = new RestTemplate(OutboundConfig.requestFactory(target));
+        CommentPreFilter preFilter = new CommentPreFilter(filterWordRepository, new CommentSentimentConfig(), new SimpleMeterRegistry());
+        when(filterWordRepository.findAll()).thenReturn(List.of(
+                CommentFilterWord.of("광고", CommentFilterType.BANNED),
+                CommentFilterWord.of("기대돼요", CommentFilterType.POSITIVE)
+        ));
+        preFilter.reload();
+        commentValidator = new CommentValidator(config, new ObjectMapper(), sentimentCache, preFilter, restTemplate, naverGuard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @DisplayName("긍정 / 중립 기대평은 true, 부정 확률이 낮은 부정 기대평은 false")
+    @Test
+    void analyzeCommentTest() {
+        stub.respond("좋아요", "positive", 0)
+                .respond("그저 그래요", "neutral", 10)
+                .respond("별로예요", "negative", 60);
+
+        assertThat(commentValidator.analyzeComment("좋아요")).isTrue();
+        assertThat(commentValidator.analyzeComment("그저 그래요")).isTrue();
+        assertThat(commentValidator.analyzeComment("별로예요")).isFalse();
+    }
+
+    @DisplayName("부정 확률이 높은 기대평은 INVALID_COMMENT 예외가 발생한다")
+    @Test
+    void strongNegativeTest() {
+        stub.respond("최악", "negative", 99);
+
+        assertThatThrownBy(() -> commentValidator.analyzeComment("최악"))
+                .isInstanceOf(CommentException.class)
+                .hasMessage(ErrorCode.INVALID_COMMENT.getErrorCode());
+    }
+
+    @DisplayName("API 호출에 실패하면 예외가 발생하고, 다음 요청은 정상 처리된다")
+    @Test
+    void serverErrorTest() {
+        stub.failNext(1);
+
+        assertThatThrownBy(() -> commentValidator.analyzeComment("좋아요"))
+                .isInstanceOf(HttpServerErrorException.class);
+        assertThat(commentValidator.analyzeComment("좋아요")).isTrue();
+        assertThat(stub.requestCount()).isEqualTo(2);
+    }
+
+    @DisplayName("응답이 늦으면 제한 시간 뒤에 실패하고, 연속으로 실패하면 요청을 보내지 않고 바로 실패한다")
+    @Test
+    void timeoutTest() {
+        stub.delay(1000);
+
+        assertThatThrownBy(() -> commentValidator.analyzeComment("a")).isInstanceOf(ResourceAccessException.class);
+        assertThatThrownBy(() -> commentValidator.analyzeComment("b")).isInstanceOf(ResourceAccessException.class);
+        assertThat(naverGuard.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> commentValidator.analyzeComment("c"))
+                .isInstanceOf(OutboundException.class)
+                .hasMessage(ErrorCode.EXTERNAL_API_UNAVAILABLE.getErrorCode());
+        assertThat(stub.requestCount()).isEqualTo(2);
+    }
+
+    @DisplayName("공백 / 대소문자 / 반복된 문장 부호만 다른 기대평은 다시 요청하지 않고 캐시된 결과를 사용한다")
+    @Test
+    void cacheTest() {
+        stub.respond("최악", "negative", 99);
+
+        assertThat(commentValidator.analyzeComment("Nice  car")).isTrue();
+        assertThat(commentValidator.analyzeComment(" nice car ")).isTrue();
+        assertThatThrownBy(() -> commentValidator.analyzeComment("최악!!"))
+                .hasMessage(ErrorCode.INVALID_COMMENT.getErrorCode());
+        assertThatThrownBy(() -> commentValidator.analyzeComment("최악!!!"))
+                .hasMessage(ErrorCode.INVALID_COMMENT.getErrorCode());
+        assertThat(stub.requestCount()).isEqualTo(2);
+    }
+
+    @DisplayName("금칙어 / 긍정 문구로 분류되는 기대평은 원격 분석을 요청하지 않는다")
+    @Test
+    void preFilterTest() {
+        assertThatThrownBy(() -> commentValidator.analyzeComment("광고 문의"))
+                .hasMessage(ErrorCode.INVALID_COMMENT.getErrorCode());
+        assertThat(commentValidator.analyzeComment("기대돼요!")).isTrue();
+        assertThat(stub.requestCount()).isZero();
+    }
+}
@@ -0,0 +1,118 @@
+package hyundai.softeer.orange.comment;
+
+import hyundai.softeer.orange.comment.repository.CommentRepository;
+import hyundai.softeer.orange.comment.service.PositiveCommentPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PositiveCommentPoolTest {
+    StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    SetOperations<String, String> setOps = mock(SetOperations.class);
+    ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+    RedissonClient redissonClient = mock(RedissonClient.class);
+    RLock lock = mock(RLock.class);
+    CommentRepository commentRepository = mock(CommentRepository.class);
+    PositiveCommentPool pool = new PositiveCommentPool(redisTemplate, redissonClient, commentRepository);
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        when(redisTemplate.opsForSet()).thenReturn(setOps);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+    }
+
+    @DisplayName("set이 준비되어 있다면 DB를 조회하지 않고 SRANDMEMBER로 추출")
+    @Test
+    void sampleFromReadyPool() {
+        when(redisTemplate.hasKey("comment:1:positive:ready")).thenReturn(true);
+        when(setOps.distinctRandomMembers("comment:1:positive", 20)).thenReturn(Set.of("3", "5"));
+
+        assertThat(pool.sample(1L, 20)).containsExactlyInAnyOrder(3L, 5L);
+        verify(commentRepository, never()).streamPositiveCommentIds(anyLong(), any());
+    }
+
+    @DisplayName("set이 준비되지 않았다면 DB에서 한 번 채운 뒤 추출")
+    @Test
+    void sampleAfterRebuild() {
+        when(redisTemplate.hasKey("comment:1:positive:ready")).thenReturn(false);
+        doAnswer(invocation -> {
+            LongConsumer consumer = invocation.getArgument(1);
+            consumer.accept(3L);
+            consumer.accept(5L);
+            return null;
+        }).when(commentRepository).streamPositiveCommentIds(anyLong(), any(LongConsumer.class));
+        when(setOps.distinctRandomMembers("comment:1:positive", 20)).thenReturn(Set.of("3"));
+
+        assertThat(pool.sample(1L, 20)).containsExactly(3L);
+        verify(redissonClient).getLock("comment:1:positive:rebuild");
+        verify(setOps, times(1)).add("comment:1:positive", "3", "5");
+        // 준비 표시는 만료되지 않으므로 모든 서버가 같은 시각에 다시 채우지 않는다
+        verify(valueOps, times(1)).set("comment:1:positive:ready", "1");
+        verify(lock).unlock();
+    }
+
+    @DisplayName("다른 서버가 채우는 중이라면 기다리거나 다시 채우지 않고 지금까지 채워진 set에서 추출")
+    @Test
+    void sampleWhileRebuilding() throws InterruptedException {
+        when(redisTemplate.hasKey("comment:1:positive:ready")).thenReturn(false);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+        when(setOps.distinctRandomMembers("comment:1:positive", 20)).thenReturn(Set.of("3"));
+
+        assertThat(pool.sample(1L, 20)).containsExactly(3L);
+        verify(commentRepository, never()).streamPositiveCommentIds(anyLong(), any());
+        verify(lock, never()).unlock();
+    }
+
+    @DisplayName("락을 기다리는 동안 다른 서버가 채웠다면 다시 채우지 않고, reconcile은 준비되어 있어도 다시 채운다")
+    @Test
+    void rebuildOnce() {
+        when(redisTemplate.hasKey("comment:1:positive:ready")).thenReturn(false, true);
+
+        pool.sample(1L, 20);
+        verify(commentRepository, never()).streamPositiveCommentIds(anyLong(), any());
+
+        pool.reconcile(1L);
+        verify(commentRepository, times(1)).streamPositiveCommentIds(eq(1L), any());
+    }
+
+    @DisplayName("트랜잭션 밖에서는 바로 추가 / 제거")
+    @Test
+    void addAndRemove() {
+        pool.add(1L, 3L);
+        pool.remove(1L, List.of(3L, 5L));
+
+        verify(setOps, times(1)).add("comment:1:positive", "3");
+        verify(setOps, times(1)).remove("comment:1:positive", "3", "5");
+    }
+
+    @DisplayName("추가에 실패하면 다음 추출 시 DB에서 다시 채우도록 준비 표시를 제거")
+    @Test
+    void addFailureClearsReady() {
+        when(setOps.add("comment:1:positive", "3")).thenThrow(new RedisConnectionFailureException("down"));
+
+        pool.add(1L, 3L);
+
+        verify(redisTemplate, times(1)).delete("comment:1:positive:ready");
+    }
+}
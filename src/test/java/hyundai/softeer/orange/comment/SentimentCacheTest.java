@@ -0,0 +1,78 @@
+package hyundai.softeer.orange.comment;
+
+import hyundai.softeer.orange.comment.config.CommentSentimentConfig;
+import hyundai.softeer.orange.comment.service.SentimentCache;
+import hyundai.softeer.orange.comment.service.SentimentCache.Sentiment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SentimentCacheTest {
+    StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+    CommentSentimentConfig config = new CommentSentimentConfig();
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    SentimentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        cache = new SentimentCache(redisTemplate, config, meterRegistry);
+    }
+
+    @DisplayName("저장한 결과는 Redis를 조회하지 않고 로컬 캐시에서 반환")
+    @Test
+    void localHitTest() {
+        cache.put("좋아요", Sentiment.POSITIVE);
+
+        assertThat(cache.get("좋아요")).contains(Sentiment.POSITIVE);
+        verify(valueOps).set(startsWith("comment:sentiment:"), eq("POSITIVE"), eq(Duration.ofHours(24)));
+        verify(valueOps, never()).get(anyString());
+        assertThat(count("local", "hit")).isEqualTo(1);
+    }
+
+    @DisplayName("로컬 캐시에 없다면 Redis에서 읽어 로컬 캐시에 저장")
+    @Test
+    void redisHitTest() {
+        when(valueOps.get(anyString())).thenReturn("INVALID");
+
+        assertThat(cache.get("최악")).contains(Sentiment.INVALID);
+        assertThat(cache.get("최악")).contains(Sentiment.INVALID);
+        verify(valueOps, times(1)).get(anyString());
+        assertThat(count("redis", "hit")).isEqualTo(1);
+        assertThat(count("local", "hit")).isEqualTo(1);
+    }
+
+    @DisplayName("Redis 장애 시에는 캐시에 없는 것으로 처리")
+    @Test
+    void redisFailureTest() {
+        when(valueOps.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(cache.get("좋아요")).isEmpty();
+        assertThat(count("redis", "miss")).isEqualTo(1);
+    }
+
+    @DisplayName("사용하지 않도록 설정하면 저장 / 조회하지 않는다")
+    @Test
+    void disabledTest() {
+        config.getCache().setEnabled(false);
+        cache.put("좋아요", Sentiment.POSITIVE);
+
+        assertThat(cache.get("좋아요")).isEmpty();
+        verifyNoInteractions(valueOps);
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.counter("comment.sentiment.cache", "tier", tier, "result", result).count();
+    }
+}
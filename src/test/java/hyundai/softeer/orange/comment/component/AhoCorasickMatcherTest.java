@@ -0,0 +1,61 @@
+package hyundai.softeer.orange.comment.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickMatcherTest {
+    @DisplayName("포함된 단어 중 가장 먼저 끝나는 단어를 반환")
+    @Test
+    void findFirstTest() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("he", "she", "his", "hers"));
+
+        assertThat(matcher.findFirst("ushers")).contains("she");
+        assertThat(matcher.findFirst("ahishers")).contains("his");
+        assertThat(matcher.findFirst("hxrs")).isEmpty();
+        assertThat(matcher.size()).isEqualTo(4);
+    }
+
+    @DisplayName("실패 링크를 따라가야 찾을 수 있는 단어도 찾는다")
+    @Test
+    void failLinkTest() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("abcd", "bc"));
+
+        assertThat(matcher.findFirst("abcx")).contains("bc");
+        assertThat(new AhoCorasickMatcher(List.of("aab")).matches("aaab")).isTrue();
+    }
+
+    @DisplayName("단어가 없다면 어떤 문자열과도 일치하지 않는다")
+    @Test
+    void emptyTest() {
+        assertThat(AhoCorasickMatcher.empty().matches("anything")).isFalse();
+        assertThat(new AhoCorasickMatcher(List.of("")).matches("anything")).isFalse();
+    }
+
+    @DisplayName("무작위 단어 / 문자열에 대해 String.contains와 같은 결과를 반환")
+    @Test
+    void randomTest() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<String> words = new ArrayList<>();
+            for (int i = 0; i < 5; i++) words.add(randomString(random, 1 + random.nextInt(4)));
+            AhoCorasickMatcher matcher = new AhoCorasickMatcher(words);
+
+            String text = randomString(random, 20);
+            boolean expected = words.stream().anyMatch(text::contains);
+            assertThat(matcher.matches(text)).isEqualTo(expected);
+        }
+    }
+
+    // 일치하는 경우가 자주 생기도록 적은 종류의 문자만 사용
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) builder.append("abc가".charAt(random.nextInt(4)));
+        return builder.toString();
+    }
+}
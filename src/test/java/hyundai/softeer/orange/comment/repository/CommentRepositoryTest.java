@@ -1,5 +1,7 @@
 package hyundai.softeer.orange.comment.repository;
 
+import hyundai.softeer.orange.comment.dto.PendingCommentDto;
+import hyundai.softeer.orange.comment.dto.ResponseCommentDto;
 import hyundai.softeer.orange.comment.dto.WriteCommentCountDto;
 import hyundai.softeer.orange.support.IntegrationDataJpaTest;
 import org.junit.jupiter.api.DisplayName;
@@ -7,7 +9,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -16,7 +22,7 @@ class CommentRepositoryTest extends IntegrationDataJpaTest {
     @Autowired
     CommentRepository commentRepository;
 
-    @DisplayName("존재하는 대상 이벤트에 대해 작성된 댓글이 있다면 유저 별로 개수를 구해 반환")
+    @DisplayName("존재하는 대상 이벤트에 대해 작성된 댓글이 있다면 삭제된 댓글을 제외하고 유저 별로 개수를 구해 반환")
     @Test
     void getCountOfCommentPerUserIfCommentExist() {
         List<WriteCommentCountDto> counts = commentRepository.countPerEventUserByEventId(1L);
@@ -25,6 +31,7 @@ class CommentRepositoryTest extends IntegrationDataJpaTest {
         assertThat(counts.get(0).getCount()).isEqualTo(3);
         assertThat(counts.get(1).getCount()).isEqualTo(6);
         assertThat(counts.get(2).getCount()).isEqualTo(2);
+        assertThat(commentRepository.countByEventRawId(1L)).isEqualTo(11);
     }
 
     @DisplayName("존재하지 않는 대상 이벤트는 빈 배열 반환")
@@ -40,4 +47,66 @@ class CommentRepositoryTest extends IntegrationDataJpaTest {
         List<WriteCommentCountDto> counts = commentRepository.countPerEventUserByEventId(2L);
         assertThat(counts).isEmpty();
     }
-}
\ No newline at end of file
+
+    @DisplayName("스트리밍 조회도 유저 별 댓글 수를 한 행씩 전달")
+    @Test
+    void streamCountOfCommentPerUser() {
+        Map<Long, Long> counts = new HashMap<>();
+        commentRepository.streamCountPerEventUserByEventId(1L, counts::put);
+
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).containsExactlyInAnyOrder(3L, 6L, 2L);
+
+        Map<Long, Long> empty = new HashMap<>();
+        commentRepository.streamCountPerEventUserByEventId(3L, empty::put);
+        assertThat(empty).isEmpty();
+    }
+
+    @DisplayName("긍정 기대평 id를 한 행씩 전달")
+    @Test
+    void streamPositiveCommentIds() {
+        List<Long> ids = new ArrayList<>();
+        commentRepository.streamPositiveCommentIds(1L, ids::add);
+        assertThat(ids).containsExactlyInAnyOrder(1L, 4L, 10L);
+
+        List<Long> empty = new ArrayList<>();
+        commentRepository.streamPositiveCommentIds(2L, empty::add);
+        assertThat(empty).isEmpty();
+    }
+
+    @DisplayName("기본 키로 조회할 때 긍정 기대평만 반환")
+    @Test
+    void findPositiveCommentsByIds() {
+        var comments = commentRepository.findPositiveCommentsByIds(List.of(1L, 2L, 4L, 100L));
+        assertThat(comments).extracting(ResponseCommentDto::getId).containsExactlyInAnyOrder(1L, 4L);
+    }
+
+    @DisplayName("분석 시각이 지난 기대평을 시각 순서대로 가져온다")
+    @Test
+    void lockPendingSentiments() {
+        var pending = commentRepository.lockPendingSentiments(Instant.parse("2024-08-10T00:00:00Z"), 10);
+        assertThat(pending).extracting(PendingCommentDto::getId).containsExactly(6L, 5L);
+        assertThat(pending).extracting(PendingCommentDto::getSentimentAttempts).containsOnly(0);
+
+        var limited = commentRepository.lockPendingSentiments(Instant.parse("2024-08-10T00:00:00Z"), 1);
+        assertThat(limited).extracting(PendingCommentDto::getId).containsExactly(6L);
+    }
+
+    @DisplayName("분석이 끝난 기대평은 다시 가져오지 않고, 실패한 기대평은 지정한 시각 이후에 가져온다")
+    @Test
+    void completeAndRetrySentiment() {
+        Instant now = Instant.parse("2024-08-10T00:00:00Z");
+        commentRepository.completeSentiment(6L, true);
+        commentRepository.retrySentimentAt(5L, now.plusSeconds(60));
+
+        assertThat(commentRepository.lockPendingSentiments(now, 10)).isEmpty();
+        var retried = commentRepository.lockPendingSentiments(now.plusSeconds(60), 10);
+        assertThat(retried).extracting(PendingCommentDto::getId).containsExactly(5L);
+        assertThat(retried).extracting(PendingCommentDto::getSentimentAttempts).containsExactly(1);
+        assertThat(commentRepository.findPositiveCommentsByIds(List.of(6L))).hasSize(1);
+        // 이미 분석이 끝난 기대평은 다시 갱신하지 않는다
+        assertThat(commentRepository.completeSentiment(6L, false)).isZero();
+        assertThat(commentRepository.retrySentimentAt(6L, now)).isZero();
+        assertThat(commentRepository.lockPendingSentiments(now.plusSeconds(60), 10)).extracting(PendingCommentDto::getId).containsExactly(5L);
+    }
+}
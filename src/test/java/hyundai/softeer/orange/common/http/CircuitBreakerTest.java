@@ -0,0 +1,58 @@
+package hyundai.softeer.orange.common.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+    AtomicLong now = new AtomicLong(0);
+    CircuitBreaker breaker = new CircuitBreaker(3, 1000, now::get);
+
+    @DisplayName("연속으로 실패한 횟수가 기준에 도달하면 호출을 거절")
+    @Test
+    void openTest() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @DisplayName("차단 시간이 지나면 한 번의 시험 호출만 허용하고, 결과에 따라 다시 열리거나 닫힌다")
+    @Test
+    void halfOpenTest() {
+        for (int i = 0; i < 3; i++) breaker.onFailure();
+
+        now.set(1000);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        now.set(2000);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @DisplayName("시험 호출 권한을 반납하면 다음 호출이 바로 시험 호출이 된다")
+    @Test
+    void releaseTest() {
+        for (int i = 0; i < 3; i++) breaker.onFailure();
+        now.set(1000);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.release();
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+}
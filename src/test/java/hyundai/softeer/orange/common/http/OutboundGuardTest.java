@@ -0,0 +1,107 @@
+package hyundai.softeer.orange.common.http;
+
+import hyundai.softeer.orange.common.ErrorCode;
+import hyundai.softeer.orange.config.OutboundConfig;
+import hyundai.softeer.orange.config.OutboundHttpConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.nurigo.sdk.message.exception.NurigoBadRequestException;
+import net.nurigo.sdk.message.exception.NurigoUnknownException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundGuardTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("동시 요청 수가 가득 차면 기다리지 않고 바로 실패")
+    @Test
+    void bulkheadTest() throws Exception {
+        OutboundHttpConfig.Target target = OutboundHttpConfig.Target.of(100, 100, 1);
+        target.setAcquireTimeoutMillis(0);
+        OutboundGuard guard = new OutboundGuard("test", target, meterRegistry);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> guard.execute(() -> {
+            started.countDown();
+            await(release);
+            return "ok";
+        }));
+        started.await();
+
+        assertThatThrownBy(() -> guard.execute(() -> "second"))
+                .isInstanceOf(OutboundException.class)
+                .hasMessage(ErrorCode.EXTERNAL_API_UNAVAILABLE.getErrorCode());
+        release.countDown();
+        assertThat(running.get()).isEqualTo("ok");
+        assertThat(guard.execute(() -> "third")).isEqualTo("third");
+        assertThat(meterRegistry.counter("outbound.rejected", "target", "test", "reason", "bulkhead_full").count()).isEqualTo(1);
+    }
+
+    @DisplayName("연속으로 실패하면 호출하지 않고 바로 실패하며, 4xx 응답은 실패로 보지 않는다")
+    @Test
+    void circuitBreakerTest() {
+        OutboundHttpConfig.Target target = OutboundHttpConfig.Target.of(100, 100, 1);
+        target.setFailureThreshold(2);
+        OutboundGuard guard = new OutboundGuard("test", target, meterRegistry);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.execute(() -> {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+        assertThat(guard.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.execute(() -> {
+                throw new IllegalStateException("down");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(guard.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> guard.execute(() -> "skipped")).isInstanceOf(OutboundException.class);
+
+        assertThat(meterRegistry.timer("outbound.call", "target", "test", "result", "failure").count()).isEqualTo(2);
+        assertThat(meterRegistry.timer("outbound.call", "target", "test", "result", "client_error").count()).isEqualTo(3);
+    }
+
+    @DisplayName("SMS SDK의 4xx 예외는 실패로 보지 않고, 그 외의 예외는 실패로 본다")
+    @Test
+    void smsClientErrorTest() {
+        OutboundHttpConfig.Target target = OutboundHttpConfig.Target.of(100, 100, 1);
+        target.setFailureThreshold(2);
+        OutboundGuard guard = new OutboundGuard("sms", target, meterRegistry, OutboundConfig::isSmsClientError);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.execute(() -> sneakyThrow(new NurigoBadRequestException("invalid phone number"))))
+                    .isInstanceOf(NurigoBadRequestException.class);
+        }
+        assertThat(guard.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.execute(() -> sneakyThrow(new NurigoUnknownException("down"))))
+                    .isInstanceOf(NurigoUnknownException.class);
+        }
+        assertThat(guard.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    // SDK처럼 검사 예외를 선언 없이 던진다
+    @SuppressWarnings("unchecked")
+    private static <T, E extends Exception> T sneakyThrow(Exception e) throws E {
+        throw (E) e;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package hyundai.softeer.orange.common.jdbc;
+
+import hyundai.softeer.orange.config.BulkWriteConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BulkWriterTest {
+    JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    BulkWriteConfig config = new BulkWriteConfig();
+    BulkWriter bulkWriter = new BulkWriter(jdbcTemplate, config);
+    List<Object[]> rows = List.of(new Object[]{1L}, new Object[]{2L}, new Object[]{3L});
+
+    @DisplayName("LOAD DATA가 일부 행을 건너뛰었다면 트랜잭션을 롤백하도록 예외를 던진다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void loadDataSkippedRowsTest() {
+        config.setLoadDataThreshold(1);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(2);
+
+        assertThatThrownBy(() -> bulkWriter.insert("test", List.of("id"), rows, row -> row))
+                .isInstanceOf(JdbcUpdateAffectedIncorrectNumberOfRowsException.class);
+    }
+
+    @DisplayName("LOAD DATA가 모든 행을 저장했다면 정상 종료")
+    @Test
+    @SuppressWarnings("unchecked")
+    void loadDataTest() {
+        config.setLoadDataThreshold(1);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(3);
+
+        assertThatCode(() -> bulkWriter.insert("test", List.of("id"), rows, row -> row)).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,45 @@
+package hyundai.softeer.orange.common.jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsvRowInputStreamTest {
+    @DisplayName("행은 탭과 줄바꿈으로 구분하고, 특수 문자와 null은 LOAD DATA 형식으로 이스케이프")
+    @Test
+    void encodeRows() throws IOException {
+        List<Object[]> rows = List.of(
+                new Object[]{1L, "a\tb", null},
+                new Object[]{2L, "c\\d\ne", 3}
+        );
+
+        try (TsvRowInputStream<Object[]> stream = new TsvRowInputStream<>(rows, row -> row)) {
+            String tsv = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(tsv).isEqualTo("1\ta\\tb\t\\N\n2\tc\\\\d\\ne\t3\n");
+        }
+    }
+
+    @DisplayName("작은 버퍼로 나누어 읽어도 같은 결과")
+    @Test
+    void readInSmallBuffer() throws IOException {
+        List<Object[]> rows = List.of(new Object[]{"가나다", 1L}, new Object[]{"라마", 2L});
+        byte[] expected = new TsvRowInputStream<>(rows, row -> row).readAllBytes();
+
+        TsvRowInputStream<Object[]> stream = new TsvRowInputStream<>(rows, row -> row);
+        byte[] buffer = new byte[3];
+        byte[] actual = new byte[0];
+        int read;
+        while ((read = stream.read(buffer, 0, buffer.length)) != -1) {
+            int offset = actual.length;
+            actual = Arrays.copyOf(actual, offset + read);
+            System.arraycopy(buffer, 0, actual, offset, read);
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+}
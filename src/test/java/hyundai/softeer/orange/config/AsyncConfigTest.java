@@ -0,0 +1,81 @@
+package hyundai.softeer.orange.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncConfigTest {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    AsyncExecutorConfig executorConfig = new AsyncExecutorConfig();
+    AsyncConfig asyncConfig = new AsyncConfig(executorConfig, registry);
+    CountDownLatch release = new CountDownLatch(1);
+    ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) executor.shutdown();
+    }
+
+    @DisplayName("ABORT: 스레드와 대기열이 가득 차면 거절하고 횟수를 기록")
+    @Test
+    void abortWhenSaturated() {
+        executorConfig.setDraw(AsyncExecutorConfig.Pool.of(1, 1, 1, AsyncExecutorConfig.RejectionPolicy.ABORT));
+        executor = initialize(asyncConfig.drawExecutor());
+
+        executor.execute(this::await); // 실행 중
+        executor.execute(this::await); // 대기열
+
+        assertThatThrownBy(() -> executor.execute(this::await)).isInstanceOf(TaskRejectedException.class);
+        assertThat(registry.counter("executor.rejected", "name", AsyncConfig.DRAW_EXECUTOR).count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("CALLER_RUNS: 스레드와 대기열이 가득 차면 제출한 스레드에서 실행")
+    @Test
+    void callerRunsWhenSaturated() {
+        executorConfig.setNaver(AsyncExecutorConfig.Pool.of(1, 1, 1, AsyncExecutorConfig.RejectionPolicy.CALLER_RUNS));
+        executor = initialize(asyncConfig.naverExecutor());
+
+        executor.execute(this::await);
+        executor.execute(this::await);
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+        assertThat(registry.counter("executor.rejected", "name", AsyncConfig.NAVER_EXECUTOR).count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("실행기마다 이름으로 구분되는 스레드를 사용")
+    @Test
+    void threadNamePrefix() throws Exception {
+        executor = initialize(asyncConfig.naverExecutor());
+
+        String threadName = executor.submit(() -> Thread.currentThread().getName()).get();
+        assertThat(threadName).startsWith("naver-");
+    }
+
+    private ThreadPoolTaskExecutor initialize(AsyncTaskExecutor taskExecutor) {
+        ThreadPoolTaskExecutor threadPool = (ThreadPoolTaskExecutor) taskExecutor;
+        threadPool.initialize();
+        return threadPool;
+    }
+
+    private void await() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
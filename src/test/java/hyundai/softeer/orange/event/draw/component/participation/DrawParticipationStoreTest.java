@@ -0,0 +1,45 @@
+package hyundai.softeer.orange.event.draw.component.participation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DrawParticipationStoreTest {
+    StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    DrawParticipationStore store = new DrawParticipationStore(redisTemplate);
+
+    @DisplayName("bitmap의 각 바이트는 최상위 비트부터 앞의 날짜를 의미")
+    @Test
+    void findDaysTest() {
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(new byte[]{(byte) 0b1010_0000, 0b0000_0001});
+
+        assertThat(store.findDays(1L, 2L)).hasValueSatisfying(days -> assertThat(days).containsExactly(0, 2, 15));
+    }
+
+    @DisplayName("bitmap이 없다면 empty")
+    @Test
+    void findDaysIfNotExist() {
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(null);
+
+        assertThat(store.findDays(1L, 2L)).isEmpty();
+    }
+
+    @DisplayName("이벤트 시작일로부터 지난 일 수는 시각이 아닌 날짜 기준으로 계산")
+    @Test
+    void dayOffsetTest() {
+        Instant start = Instant.parse("2024-08-01T15:00:00Z");
+
+        assertThat(DrawParticipationStore.dayOffset(start, Instant.parse("2024-08-01T23:59:59Z"), ZoneOffset.UTC)).isZero();
+        assertThat(DrawParticipationStore.dayOffset(start, Instant.parse("2024-08-02T00:00:00Z"), ZoneOffset.UTC)).isEqualTo(1);
+        assertThat(DrawParticipationStore.startOfDay(start, 1, ZoneOffset.UTC)).isEqualTo(Instant.parse("2024-08-02T00:00:00Z"));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.stream.Collectors;
@@ -106,4 +107,47 @@ class AccSumBasedWinnerPickerTest {
         assertThat(randItems[2].score()).isEqualTo(6);
         assertThat(randItems[3].score()).isEqualTo(10);
     }
-}
\ No newline at end of file
+
+    @DisplayName("점수 배열 기반으로 N개의 서로 다른 인덱스를 뽑는지 검사")
+    @Test
+    void test_pickScores() {
+        AccSumBasedWinnerPicker picker = new AccSumBasedWinnerPicker();
+        long[] scores = new Random().longs(10000, 1, 200).toArray();
+
+        int[] picked = picker.pick(scores, 1000);
+
+        assertThat(Arrays.stream(picked).distinct().count()).isEqualTo(1000);
+    }
+
+    @DisplayName("점수가 0인 대상은 뽑히지 않는다")
+    @Test
+    void test_pickScoresSkipZero() {
+        AccSumBasedWinnerPicker picker = new AccSumBasedWinnerPicker();
+        long[] scores = {0, 3, 0, 5, 0};
+
+        int[] picked = picker.pick(scores, 5);
+
+        assertThat(picked).containsExactlyInAnyOrder(1, 3);
+    }
+
+    @DisplayName("펜윅 트리에서 누적합 기준으로 대상 인덱스를 찾는지 검사")
+    @Test
+    void test_lowerBound() {
+        AccSumBasedWinnerPicker picker = new AccSumBasedWinnerPicker();
+        // 누적합 = 5, 10, 16, 21, 33
+        long[] tree = picker.buildFenwickTree(new long[]{5, 5, 6, 5, 12});
+
+        assertThat(picker.prefixSum(tree, 5)).isEqualTo(33);
+        assertThat(picker.lowerBound(tree, 1)).isEqualTo(0);
+        assertThat(picker.lowerBound(tree, 5)).isEqualTo(0);
+        assertThat(picker.lowerBound(tree, 6)).isEqualTo(1);
+        assertThat(picker.lowerBound(tree, 10)).isEqualTo(1);
+        assertThat(picker.lowerBound(tree, 11)).isEqualTo(2);
+        assertThat(picker.lowerBound(tree, 33)).isEqualTo(4);
+
+        // 1번 대상을 제외하면 6 ~ 11은 2번 대상
+        picker.update(tree, 1, -5);
+        assertThat(picker.lowerBound(tree, 6)).isEqualTo(2);
+        assertThat(picker.prefixSum(tree, 5)).isEqualTo(28);
+    }
+}
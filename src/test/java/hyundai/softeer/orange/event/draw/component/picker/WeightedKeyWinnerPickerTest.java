@@ -0,0 +1,138 @@
+package hyundai.softeer.orange.event.draw.component.picker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeightedKeyWinnerPickerTest {
+    private static final long[] WEIGHTS = {1, 2, 3, 4, 10};
+    private static final int TRIALS = 50000;
+    // 자유도 19 (5 * 4 가지 순서쌍 - 1), 유의수준 2.5e-10의 카이제곱 임계값.
+    // 올바른 추첨이라면 어떤 seed에서도 사실상 실패하지 않으며, 편향은 시행 횟수에 비례해 커지므로 검출된다
+    private static final double CHI_SQUARE_CRITICAL = 85.0;
+
+    @DisplayName("정상적으로 N개의 서로 다른 아이템을 뽑는지 검사")
+    @Test
+    void pickDistinctTest() {
+        WeightedKeyWinnerPicker picker = new WeightedKeyWinnerPicker(42L);
+        List<PickTarget> pickTargets = new ArrayList<>();
+
+        Random random = new Random();
+        for (int i = 0; i < 10000; i++) {
+            pickTargets.add(new PickTarget((long) i, random.nextInt(1, 200)));
+        }
+
+        var picked = picker.pick(pickTargets, 1000);
+
+        var distinctPicked = picked.stream().map(PickTarget::key).collect(Collectors.toSet());
+        assertThat(distinctPicked).hasSize(1000);
+    }
+
+    @DisplayName("대상 수보다 많이 뽑으면 모든 대상을 반환")
+    @Test
+    void pickAllTest() {
+        WeightedKeyWinnerPicker picker = new WeightedKeyWinnerPicker(42L);
+        List<PickTarget> pickTargets = List.of(new PickTarget(1L, 1), new PickTarget(2L, 5));
+
+        assertThat(picker.pick(pickTargets, 10)).hasSize(2);
+        assertThat(picker.pick(pickTargets, 0)).isEmpty();
+    }
+
+    @DisplayName("같은 seed라면 같은 결과를 반환")
+    @Test
+    void seededTest() {
+        List<PickTarget> pickTargets = targets();
+
+        var first = new WeightedKeyWinnerPicker(7L).pick(pickTargets, 3);
+        var second = new WeightedKeyWinnerPicker(7L).pick(pickTargets, 3);
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @DisplayName("뽑힌 순서쌍의 분포가 점수 비례 비복원 추출의 이론 분포와 같아야 한다 (누적합 방식과 동일)")
+    @Test
+    void distributionTest() {
+        long seed = new Random().nextLong();
+        double weightedKey = chiSquare(new WeightedKeyWinnerPicker(seed));
+        double accSum = chiSquare(new AccSumBasedWinnerPicker(seed));
+
+        assertThat(weightedKey).as("seed %d", seed).isLessThan(CHI_SQUARE_CRITICAL);
+        assertThat(accSum).as("seed %d", seed).isLessThan(CHI_SQUARE_CRITICAL);
+    }
+
+    @DisplayName("점수 배열 기반 추첨도 점수 비례 비복원 추출의 이론 분포와 같아야 한다")
+    @Test
+    void scoresDistributionTest() {
+        long seed = new Random().nextLong();
+        double weightedKey = chiSquareOfScores(new WeightedKeyWinnerPicker(seed));
+        double accSum = chiSquareOfScores(new AccSumBasedWinnerPicker(seed));
+
+        assertThat(weightedKey).as("seed %d", seed).isLessThan(CHI_SQUARE_CRITICAL);
+        assertThat(accSum).as("seed %d", seed).isLessThan(CHI_SQUARE_CRITICAL);
+    }
+
+    @DisplayName("점수 배열 기반 추첨도 서로 다른 N개의 인덱스를 반환")
+    @Test
+    void pickScoresDistinctTest() {
+        WeightedKeyWinnerPicker picker = new WeightedKeyWinnerPicker(42L);
+        long[] scores = new Random().longs(10000, 1, 200).toArray();
+
+        int[] picked = picker.pick(scores, 1000);
+
+        assertThat(Arrays.stream(picked).distinct().count()).isEqualTo(1000);
+        assertThat(picker.pick(new long[]{1, 5}, 10)).hasSize(2);
+        assertThat(picker.pick(new long[]{1, 5}, 0)).isEmpty();
+    }
+
+    // 2명을 뽑았을 때 (1등, 2등) 순서쌍 별 관측 횟수와 기대 횟수의 카이제곱 통계량
+    private double chiSquare(WinnerPicker picker) {
+        long[][] observed = new long[WEIGHTS.length][WEIGHTS.length];
+        List<PickTarget> pickTargets = targets();
+        for (int t = 0; t < TRIALS; t++) {
+            var picked = picker.pick(pickTargets, 2);
+            observed[picked.get(0).key().intValue()][picked.get(1).key().intValue()]++;
+        }
+        return chiSquare(observed);
+    }
+
+    private double chiSquareOfScores(WinnerPicker picker) {
+        long[][] observed = new long[WEIGHTS.length][WEIGHTS.length];
+        for (int t = 0; t < TRIALS; t++) {
+            int[] picked = picker.pick(WEIGHTS, 2);
+            observed[picked[0]][picked[1]]++;
+        }
+        return chiSquare(observed);
+    }
+
+    private double chiSquare(long[][] observed) {
+        int n = WEIGHTS.length;
+        long total = 0;
+        for (long weight : WEIGHTS) total += weight;
+
+        double chiSquare = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i == j) continue;
+                double probability = (double) WEIGHTS[i] / total * WEIGHTS[j] / (total - WEIGHTS[i]);
+                double expected = probability * TRIALS;
+                chiSquare += Math.pow(observed[i][j] - expected, 2) / expected;
+            }
+        }
+        return chiSquare;
+    }
+
+    private List<PickTarget> targets() {
+        List<PickTarget> pickTargets = new ArrayList<>();
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            pickTargets.add(new PickTarget((long) i, WEIGHTS[i]));
+        }
+        return pickTargets;
+    }
+}
@@ -0,0 +1,95 @@
+package hyundai.softeer.orange.event.draw.component.score;
+
+import hyundai.softeer.orange.event.draw.component.score.actionHandler.ActionHandler;
+import hyundai.softeer.orange.event.draw.entity.DrawEventScorePolicy;
+import hyundai.softeer.orange.event.draw.enums.DrawEventAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DrawScoreStoreTest {
+    StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    HashOperations<String, Object, Object> hashOps = mock(HashOperations.class);
+    ActionHandler participateHandler = mock(ActionHandler.class);
+    ActionHandler commentHandler = mock(ActionHandler.class);
+    DrawScoreStore store;
+
+    List<DrawEventScorePolicy> policies = List.of(
+            DrawEventScorePolicy.of(DrawEventAction.ParticipateEvent, 5, null),
+            DrawEventScorePolicy.of(DrawEventAction.WriteComment, 3, null)
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForHash()).thenReturn(hashOps);
+        store = new DrawScoreStore(redisTemplate, Map.of(
+                DrawEventAction.ParticipateEvent, participateHandler,
+                DrawEventAction.WriteComment, commentHandler
+        ));
+    }
+
+    @DisplayName("트랜잭션 밖에서는 바로 횟수를 증가")
+    @Test
+    void increaseTest() {
+        store.increase(1L, 2L, DrawEventAction.WriteComment);
+
+        verify(hashOps, times(1)).increment("draw:1:count:WriteComment", "2", 1L);
+    }
+
+    @DisplayName("집계된 횟수가 DB와 같다면 정책 점수를 곱해 반환")
+    @Test
+    void readTest() {
+        mockScan("draw:1:count:ParticipateEvent", Map.of("1", "2", "2", "1"));
+        mockScan("draw:1:count:WriteComment", Map.of("1", "1"));
+        when(participateHandler.countTotal(1L)).thenReturn(3L);
+        when(commentHandler.countTotal(1L)).thenReturn(1L);
+
+        Optional<UserScoreMap> result = store.read(1L, policies);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().get(1L)).isEqualTo(2 * 5 + 3);
+        assertThat(result.get().get(2L)).isEqualTo(5);
+    }
+
+    @DisplayName("집계된 횟수가 DB와 다르다면 empty 반환")
+    @Test
+    void readMismatchTest() {
+        mockScan("draw:1:count:ParticipateEvent", Map.of("1", "2"));
+        when(participateHandler.countTotal(1L)).thenReturn(3L);
+
+        assertThat(store.read(1L, policies)).isEmpty();
+        verify(commentHandler, never()).countTotal(anyLong());
+    }
+
+    @DisplayName("유저의 현재 점수는 정책 별 횟수 * 점수의 합")
+    @Test
+    void getScoreTest() {
+        when(hashOps.get("draw:1:count:ParticipateEvent", "7")).thenReturn("4");
+        when(hashOps.get("draw:1:count:WriteComment", "7")).thenReturn(null);
+
+        assertThat(store.getScore(1L, 7L, policies)).isEqualTo(20L);
+    }
+
+    private void mockScan(String key, Map<Object, Object> entries) {
+        Iterator<Map.Entry<Object, Object>> iterator = entries.entrySet().iterator();
+        Cursor<Map.Entry<Object, Object>> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        when(hashOps.scan(eq(key), any(ScanOptions.class))).thenReturn(cursor);
+    }
+}
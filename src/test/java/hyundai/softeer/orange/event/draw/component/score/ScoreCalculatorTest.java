@@ -1,75 +1,76 @@
 package hyundai.softeer.orange.event.draw.component.score;
 
-import hyundai.softeer.orange.comment.dto.WriteCommentCountDto;
 import hyundai.softeer.orange.comment.repository.CommentRepository;
 import hyundai.softeer.orange.event.draw.component.score.actionHandler.ActionHandler;
 import hyundai.softeer.orange.event.draw.component.score.actionHandler.ParticipateEventActionHandler;
 import hyundai.softeer.orange.event.draw.component.score.actionHandler.WriteCommentActionHandler;
-import hyundai.softeer.orange.event.draw.dto.EventParticipateCountDto;
 import hyundai.softeer.orange.event.draw.entity.DrawEventScorePolicy;
 import hyundai.softeer.orange.event.draw.enums.DrawEventAction;
-import hyundai.softeer.orange.event.draw.repository.EventParticipationInfoRepository;
+import hyundai.softeer.orange.event.draw.repository.EventParticipationCountRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 class ScoreCalculatorTest {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
     @DisplayName("유저의 점수 기록을 계산하여 반환. 제대로 계산하는지 검사")
     @Test
     void calculateScore() {
         // 유저 참여 정보 mocking
-        EventParticipateCountDto dto1 = mock(EventParticipateCountDto.class);
-        when(dto1.getEventUserId()).thenReturn(1L);
-        when(dto1.getCount()).thenReturn(3L);
-        EventParticipateCountDto dto2 = mock(EventParticipateCountDto.class);
-        when(dto2.getEventUserId()).thenReturn(2L);
-        when(dto2.getCount()).thenReturn(4L);
-        EventParticipateCountDto dto3 = mock(EventParticipateCountDto.class);
-        when(dto3.getEventUserId()).thenReturn(3L);
-        when(dto3.getCount()).thenReturn(5L);
-
-        var mockRepo = mock(EventParticipationInfoRepository.class);
-        when(mockRepo.countPerEventUserByEventId(anyLong()))
-                .thenReturn(List.of(dto1, dto2, dto3));
+        var mockRepo = mock(EventParticipationCountRepository.class);
+        doAnswer(invocation -> {
+            UserCountConsumer consumer = invocation.getArgument(1);
+            consumer.accept(1L, 3L);
+            consumer.accept(2L, 4L);
+            consumer.accept(3L, 5L);
+            return null;
+        }).when(mockRepo).streamCountPerEventUserByEventId(anyLong(), any(UserCountConsumer.class));
 
         var epiHandler = new ParticipateEventActionHandler(mockRepo);
 
-        WriteCommentCountDto dto4 = mock(WriteCommentCountDto.class);
-        when(dto4.getEventUserId()).thenReturn(2L);
-        when(dto4.getCount()).thenReturn(10L);
-        WriteCommentCountDto dto5 = mock(WriteCommentCountDto.class);
-        when(dto5.getEventUserId()).thenReturn(3L);
-        when(dto5.getCount()).thenReturn(6L);
-        WriteCommentCountDto dto6 = mock(WriteCommentCountDto.class);
-        when(dto6.getEventUserId()).thenReturn(4L);
-        when(dto6.getCount()).thenReturn(1L);
-
         var mockRepo2 = mock(CommentRepository.class);
-        when(mockRepo2.countPerEventUserByEventId(anyLong()))
-                .thenReturn(List.of(dto4, dto5, dto6));
+        doAnswer(invocation -> {
+            UserCountConsumer consumer = invocation.getArgument(1);
+            consumer.accept(2L, 10L);
+            consumer.accept(3L, 6L);
+            consumer.accept(4L, 1L);
+            return null;
+        }).when(mockRepo2).streamCountPerEventUserByEventId(anyLong(), any(UserCountConsumer.class));
 
         var comHandler = new WriteCommentActionHandler(mockRepo2);
 
-
         Map<DrawEventAction, ActionHandler> handlerMap = new HashMap<>();
         handlerMap.put(DrawEventAction.ParticipateEvent, epiHandler);
         handlerMap.put(DrawEventAction.WriteComment, comHandler);
 
-        ScoreCalculator scoreCalculator = new ScoreCalculator(handlerMap);
+        ScoreCalculator scoreCalculator = new ScoreCalculator(handlerMap, executor);
         List<DrawEventScorePolicy> policies = List.of(
                 DrawEventScorePolicy.of(DrawEventAction.ParticipateEvent, 5, null),
                 DrawEventScorePolicy.of(DrawEventAction.WriteComment, 3, null)
         );
 
-        var resultMap = scoreCalculator.calculate(anyLong(), policies);
+        var resultMap = scoreCalculator.calculate(1L, policies);
         assertThat(resultMap).isNotNull();
 
         assertThat(resultMap.size()).isEqualTo(4);
@@ -78,4 +79,69 @@ class ScoreCalculatorTest {
         assertThat(resultMap.get(3L)).isEqualTo(43L);   // 5 * 5 +  6 * 3 = 43
         assertThat(resultMap.get(4L)).isEqualTo(3L);    //          1 * 3 =  3
     }
-}
\ No newline at end of file
+
+    @DisplayName("정책 별 집계는 동시에 실행된다")
+    @Test
+    void calculateConcurrently() {
+        // 두 집계가 서로를 기다리므로 순서대로 실행된다면 끝나지 않는다
+        CountDownLatch latch = new CountDownLatch(2);
+        ActionHandler handler = handler((scoreMap, eventRawId, score) -> {
+            latch.countDown();
+            try {
+                if (!latch.await(5, TimeUnit.SECONDS)) throw new IllegalStateException("not concurrent");
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            scoreMap.add(1L, score);
+        });
+        Map<DrawEventAction, ActionHandler> handlerMap = Map.of(
+                DrawEventAction.ParticipateEvent, handler,
+                DrawEventAction.WriteComment, handler
+        );
+
+        ScoreCalculator scoreCalculator = new ScoreCalculator(handlerMap, executor);
+        var resultMap = scoreCalculator.calculate(1L, List.of(
+                DrawEventScorePolicy.of(DrawEventAction.ParticipateEvent, 5, null),
+                DrawEventScorePolicy.of(DrawEventAction.WriteComment, 3, null)
+        ));
+
+        assertThat(resultMap.get(1L)).isEqualTo(8L);
+    }
+
+    @DisplayName("집계 중 발생한 예외는 그대로 전달된다")
+    @Test
+    void calculateThrowsHandlerException() {
+        Map<DrawEventAction, ActionHandler> handlerMap = Map.of(
+                DrawEventAction.ParticipateEvent, handler((scoreMap, eventRawId, score) -> scoreMap.add(1L, score)),
+                DrawEventAction.WriteComment, handler((scoreMap, eventRawId, score) -> {
+                    throw new IllegalStateException("query failed");
+                })
+        );
+
+        ScoreCalculator scoreCalculator = new ScoreCalculator(handlerMap, executor);
+
+        assertThatThrownBy(() -> scoreCalculator.calculate(1L, List.of(
+                DrawEventScorePolicy.of(DrawEventAction.ParticipateEvent, 5, null),
+                DrawEventScorePolicy.of(DrawEventAction.WriteComment, 3, null)
+        ))).isInstanceOf(IllegalStateException.class).hasMessage("query failed");
+    }
+
+    private interface Handle {
+        void handle(UserScoreMap scoreMap, long eventRawId, long score);
+    }
+
+    // 집계만 검사하므로 전체 횟수는 사용하지 않는다
+    private static ActionHandler handler(Handle handle) {
+        return new ActionHandler() {
+            @Override
+            public void handle(UserScoreMap scoreMap, long eventRawId, long score) {
+                handle.handle(scoreMap, eventRawId, score);
+            }
+
+            @Override
+            public long countTotal(long eventRawId) {
+                return 0;
+            }
+        };
+    }
+}
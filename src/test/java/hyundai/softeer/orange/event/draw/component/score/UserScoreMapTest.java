@@ -0,0 +1,57 @@
+package hyundai.softeer.orange.event.draw.component.score;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserScoreMapTest {
+    @DisplayName("같은 유저의 점수는 누적되고, 없는 유저는 0점")
+    @Test
+    void addTest() {
+        UserScoreMap scoreMap = new UserScoreMap();
+        scoreMap.add(3L, 5L);
+        scoreMap.add(1L, 2L);
+        scoreMap.add(3L, 7L);
+
+        assertThat(scoreMap.size()).isEqualTo(2);
+        assertThat(scoreMap.get(3L)).isEqualTo(12L);
+        assertThat(scoreMap.get(1L)).isEqualTo(2L);
+        assertThat(scoreMap.get(2L)).isEqualTo(0L);
+        assertThat(scoreMap.containsKey(2L)).isFalse();
+    }
+
+    @DisplayName("유저 id / 점수 배열은 삽입 순서대로 같은 인덱스를 공유")
+    @Test
+    void arraysTest() {
+        UserScoreMap scoreMap = new UserScoreMap();
+        scoreMap.add(30L, 1L);
+        scoreMap.add(10L, 2L);
+        scoreMap.add(20L, 3L);
+        scoreMap.add(10L, 4L);
+
+        assertThat(scoreMap.userIds()).containsExactly(30L, 10L, 20L);
+        assertThat(scoreMap.scores()).containsExactly(1L, 6L, 3L);
+    }
+
+    @DisplayName("크기가 늘어나도 HashMap과 같은 결과를 반환")
+    @Test
+    void growTest() {
+        UserScoreMap scoreMap = new UserScoreMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            long userId = random.nextInt(50000);
+            long score = random.nextInt(1, 10);
+            scoreMap.add(userId, score);
+            expected.merge(userId, score, Long::sum);
+        }
+
+        assertThat(scoreMap.size()).isEqualTo(expected.size());
+        expected.forEach((userId, score) -> assertThat(scoreMap.get(userId)).isEqualTo(score));
+    }
+}
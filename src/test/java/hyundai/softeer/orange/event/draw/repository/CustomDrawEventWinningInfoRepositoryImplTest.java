@@ -1,5 +1,6 @@
 package hyundai.softeer.orange.event.draw.repository;
 
+import hyundai.softeer.orange.config.BulkWriteConfig;
 import hyundai.softeer.orange.event.draw.dto.DrawEventWinningInfoBulkInsertDto;
 import hyundai.softeer.orange.support.IntegrationDataJpaTest;
 import org.junit.jupiter.api.DisplayName;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -16,6 +18,9 @@ class CustomDrawEventWinningInfoRepositoryImplTest extends IntegrationDataJpaTes
     @Autowired // DrawEventWinningInfoRepository로 접근 가능해야 함
     private DrawEventWinningInfoRepository repo;
 
+    @Autowired
+    private BulkWriteConfig bulkWriteConfig;
+
     @DisplayName("제대로 데이터를 삽입하는지 확인")
     @Test
     void testBulkInsertWork() {
@@ -39,4 +44,22 @@ class CustomDrawEventWinningInfoRepositoryImplTest extends IntegrationDataJpaTes
         var events = repo.findAll();
         assertThat(events).hasSize(12);
     }
-}
\ No newline at end of file
+
+    @DisplayName("chunkSize보다 많은 행은 여러 문장으로 나누어 삽입")
+    @Test
+    void testBulkInsertInChunks() {
+        bulkWriteConfig.setChunkSize(5);
+        try {
+            List<DrawEventWinningInfoBulkInsertDto> targets = new ArrayList<>();
+            for (int userId = 1; userId <= 6; userId++) {
+                targets.add(DrawEventWinningInfoBulkInsertDto.of(userId, 1, 1));
+                targets.add(DrawEventWinningInfoBulkInsertDto.of(userId, 2, 2));
+            }
+            repo.insertMany(targets);
+
+            assertThat(repo.findAll()).hasSize(12);
+        } finally {
+            bulkWriteConfig.setChunkSize(1000);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package hyundai.softeer.orange.event.draw.repository;
+
+import hyundai.softeer.orange.event.draw.dto.DrawEventJobProgressDto;
+import hyundai.softeer.orange.event.draw.dto.DrawEventWinningInfoBulkInsertDto;
+import hyundai.softeer.orange.event.draw.entity.DrawEventJob;
+import hyundai.softeer.orange.event.draw.enums.DrawEventJobStage;
+import hyundai.softeer.orange.support.IntegrationDataJpaTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DrawEventJobRepositoryTest extends IntegrationDataJpaTest {
+    @Autowired
+    DrawEventJobRepository jobRepository;
+
+    @DisplayName("진행 상황은 당첨자 목록 없이 조회")
+    @Test
+    void findProgressByDrawEventId() {
+        DrawEventJob job = DrawEventJob.of(1L, "owner", Instant.now());
+        job.picked(List.of(
+                DrawEventWinningInfoBulkInsertDto.of(1L, 1L, 1L),
+                DrawEventWinningInfoBulkInsertDto.of(2L, 2L, 1L)
+        ), Instant.now());
+        job = jobRepository.save(job);
+        jobRepository.updateInsertedCount(job.getId(), "owner", 1, Instant.now());
+
+        DrawEventJobProgressDto progress = jobRepository.findProgressByDrawEventId(1L).orElseThrow();
+        assertThat(progress.stage()).isEqualTo(DrawEventJobStage.INSERTING);
+        assertThat(progress.totalCount()).isEqualTo(2);
+        assertThat(progress.insertedCount()).isEqualTo(1);
+        assertThat(progress.percent()).isEqualTo(50);
+        assertThat(jobRepository.findProgressByDrawEventId(2L)).isEmpty();
+    }
+
+    @DisplayName("오래 갱신되지 않은 미완료 작업만 한 번 점유 가능")
+    @Test
+    void claimStale() {
+        Instant now = Instant.now();
+        DrawEventJob stale = jobRepository.save(DrawEventJob.of(1L, "previous", now.minus(Duration.ofHours(1))));
+        jobRepository.save(DrawEventJob.of(2L, "previous", now));
+        DrawEventJob completed = jobRepository.save(DrawEventJob.of(3L, "previous", now.minus(Duration.ofHours(1))));
+        jobRepository.updateStage(completed.getId(), "previous", DrawEventJobStage.COMPLETE, now.minus(Duration.ofHours(1)));
+
+        Instant staleBefore = now.minus(Duration.ofMinutes(30));
+        assertThat(jobRepository.claimStale(1L, "owner", staleBefore, now)).isEqualTo(1);
+        // 점유하면서 갱신되었으므로 다시 점유할 수 없음
+        assertThat(jobRepository.claimStale(1L, "other", staleBefore, now)).isEqualTo(0);
+        assertThat(jobRepository.claimStale(2L, "owner", staleBefore, now)).isEqualTo(0);
+        assertThat(jobRepository.claimStale(3L, "owner", staleBefore, now)).isEqualTo(0);
+        // 점유를 빼앗긴 이전 실행은 진행 상황을 저장할 수 없음
+        assertThat(jobRepository.updatePicked(stale.getId(), "previous", new byte[0], 0, now)).isEqualTo(0);
+        assertThat(jobRepository.updatePicked(stale.getId(), "owner", new byte[0], 0, now)).isEqualTo(1);
+    }
+}
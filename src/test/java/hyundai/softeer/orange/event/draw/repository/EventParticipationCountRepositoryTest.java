@@ -0,0 +1,63 @@
+package hyundai.softeer.orange.event.draw.repository;
+
+import hyundai.softeer.orange.support.IntegrationDataJpaTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Sql(value = "classpath:sql/EventParticipationCountRepositoryTest.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class EventParticipationCountRepositoryTest extends IntegrationDataJpaTest {
+    @Autowired
+    EventParticipationCountRepository epcRepository;
+
+    Instant startOfDay = Instant.parse("2024-08-04T00:00:00Z");
+    Instant now = Instant.parse("2024-08-04T09:00:00Z");
+
+    @DisplayName("처음 참여하면 행을 추가하고, 이미 행이 있다면 무시")
+    @Test
+    void insertFirstParticipation() {
+        assertThat(epcRepository.insertFirstParticipation(1L, 3L, now)).isEqualTo(1);
+        assertThat(epcRepository.insertFirstParticipation(1L, 3L, now)).isEqualTo(0);
+        assertThat(epcRepository.sumCountByDrawEventId(1L)).isEqualTo(10L);
+    }
+
+    @DisplayName("참여 횟수를 증가시키며, 지난 날의 참여가 늦게 반영되어도 마지막 참여 시각은 유지")
+    @Test
+    void increase() {
+        Instant yesterday = Instant.parse("2024-08-02T09:00:00Z");
+        assertThat(epcRepository.increase(1L, 1L, yesterday)).isEqualTo(1);
+        assertThat(epcRepository.sumCountByDrawEventId(1L)).isEqualTo(10L);
+        assertThat(epcRepository.existsByDrawEventIdAndEventUserIdAndLastDateBetween(1L, 1L,
+                Instant.parse("2024-08-03T00:00:00Z"), Instant.parse("2024-08-03T23:59:59Z"))).isTrue();
+    }
+
+    @DisplayName("기간 안에 참여했는지 마지막 참여 시각으로 확인")
+    @Test
+    void existsByLastDateBetween() {
+        Instant from = Instant.parse("2024-08-03T00:00:00Z");
+        Instant to = Instant.parse("2024-08-03T23:59:59Z");
+        assertThat(epcRepository.existsByDrawEventIdAndEventUserIdAndLastDateBetween(1L, 1L, from, to)).isTrue();
+        assertThat(epcRepository.existsByDrawEventIdAndEventUserIdAndLastDateBetween(1L, 1L, startOfDay, now)).isFalse();
+        assertThat(epcRepository.existsByDrawEventIdAndEventUserIdAndLastDateBetween(1L, 3L, from, to)).isFalse();
+    }
+
+    @DisplayName("유저 별 참여 횟수를 한 행씩 전달하고, 참여자가 없다면 전달하지 않음")
+    @Test
+    void streamCountPerEventUserByEventId() {
+        Map<Long, Long> counts = new TreeMap<>();
+        epcRepository.streamCountPerEventUserByEventId(1L, counts::put);
+        assertThat(counts).containsExactly(Map.entry(1L, 3L), Map.entry(2L, 6L));
+
+        Map<Long, Long> empty = new TreeMap<>();
+        epcRepository.streamCountPerEventUserByEventId(2L, empty::put);
+        assertThat(empty).isEmpty();
+        assertThat(epcRepository.sumCountByDrawEventId(2L)).isZero();
+    }
+}
@@ -5,6 +5,9 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.time.Instant;
+import java.time.LocalDate;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Sql(value = "classpath:sql/EventParticipationInfoRepositoryTest.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
@@ -36,4 +39,14 @@ class EventParticipationInfoRepositoryTest extends IntegrationDataJpaTest {
         var participationCounts = epiRepository.countPerEventUserByEventId(2L);
         assertThat(participationCounts).isEmpty();
     }
-}
\ No newline at end of file
+
+    @DisplayName("같은 날의 참여 기록은 한 번만 추가되며, 지난 날의 참여는 늦게 반영되어도 추가")
+    @Test
+    void insertParticipationOncePerDay() {
+        Instant now = Instant.parse("2024-08-04T09:00:00Z");
+        Instant yesterday = Instant.parse("2024-08-03T09:00:00Z");
+        assertThat(epiRepository.insertParticipation(1L, 1L, now, LocalDate.of(2024, 8, 4))).isEqualTo(1);
+        assertThat(epiRepository.insertParticipation(1L, 1L, now.plusSeconds(60), LocalDate.of(2024, 8, 4))).isEqualTo(0);
+        assertThat(epiRepository.insertParticipation(1L, 1L, yesterday, LocalDate.of(2024, 8, 3))).isEqualTo(1);
+    }
+}
@@ -1,28 +1,55 @@
 package hyundai.softeer.orange.event.draw.service;
 
-import hyundai.softeer.orange.event.draw.component.picker.PickTarget;
+import hyundai.softeer.orange.config.BulkWriteConfig;
 import hyundai.softeer.orange.event.draw.component.picker.WinnerPicker;
+import hyundai.softeer.orange.event.draw.component.score.DrawScoreStore;
 import hyundai.softeer.orange.event.draw.component.score.ScoreCalculator;
+import hyundai.softeer.orange.event.draw.component.score.UserScoreMap;
 import hyundai.softeer.orange.event.draw.dto.DrawEventWinningInfoBulkInsertDto;
 import hyundai.softeer.orange.event.draw.entity.DrawEvent;
+import hyundai.softeer.orange.event.draw.entity.DrawEventJob;
 import hyundai.softeer.orange.event.draw.entity.DrawEventMetadata;
+import hyundai.softeer.orange.event.draw.enums.DrawEventJobStage;
+import hyundai.softeer.orange.event.draw.exception.DrawEventException;
+import hyundai.softeer.orange.event.draw.repository.DrawEventJobRepository;
 import hyundai.softeer.orange.event.draw.repository.DrawEventRepository;
 import hyundai.softeer.orange.event.draw.repository.DrawEventWinningInfoRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 class DrawEventDrawMachineTest {
+    // 트랜잭션 없이 콜백만 실행
+    TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    DrawEventJobRepository jobRepository = mock(DrawEventJobRepository.class);
+    static final String OWNER = "owner";
+
+    @BeforeEach
+    void setUp() {
+        // 진행 중인 작업이 없는 상태
+        when(jobRepository.findByDrawEventId(anyLong())).thenReturn(Optional.empty());
+        when(jobRepository.save(any(DrawEventJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        // 다른 실행이 작업을 점유하지 않은 상태
+        when(jobRepository.updatePicked(any(), eq(OWNER), any(byte[].class), anyInt(), any())).thenReturn(1);
+        when(jobRepository.updateInsertedCount(any(), eq(OWNER), anyInt(), any())).thenReturn(1);
+        when(jobRepository.updateStage(any(), eq(OWNER), any(), any())).thenReturn(1);
+    }
 
     @DisplayName("대응되는 이벤트가 존재하면 작업 수행")
     @Test
@@ -47,25 +74,35 @@ class DrawEventDrawMachineTest {
 
         // 점수 채점기 모킹
         var calculator = mock(ScoreCalculator.class);
-        when(calculator.calculate(anyLong(), anyList())).thenReturn(Map.of(1L, 1L, 2L, 10L, 3L,5L));
+        // 유저 1 ~ 5가 순서대로 인덱스 0 ~ 4에 위치
+        UserScoreMap scoreMap = new UserScoreMap();
+        scoreMap.add(1L, 1L);
+        scoreMap.add(2L, 10L);
+        scoreMap.add(3L, 5L);
+        scoreMap.add(4L, 2L);
+        scoreMap.add(5L, 1L);
+        when(calculator.calculate(anyLong(), anyList())).thenReturn(scoreMap);
+
+        // 미리 집계된 점수가 DB와 맞지 않는 상황
+        var drawScoreStore = mock(DrawScoreStore.class);
+        when(drawScoreStore.read(anyLong(), anyList())).thenReturn(Optional.empty());
 
         // 추첨기 모킹
         var picker = mock(WinnerPicker.class);
-        when(picker.pick(anyList(), anyLong())).thenReturn(new ArrayList<>(
-                List.of(
-                        new PickTarget(2L, 1L), // 1
-                        new PickTarget(1L, 2L), // 2
-                        new PickTarget(3L, 3L), // 2
-                        new PickTarget(5L, 1L), // 3
-                        new PickTarget(4L, 2L) // 3
-                )));
-
-        var drawEventMachine = new DrawEventDrawMachine(deWinningInfoRepository, deRepository, picker, calculator);
-        drawEventMachine.draw(drawEvent);
+        when(picker.pick(any(long[].class), anyLong())).thenReturn(new int[]{
+                1, // 유저 2, 1등
+                0, // 유저 1, 2등
+                2, // 유저 3, 2등
+                4, // 유저 5, 3등
+                3  // 유저 4, 3등
+        });
+
+        var drawEventMachine = new DrawEventDrawMachine(deWinningInfoRepository, deRepository, picker, calculator, drawScoreStore, jobRepository, transactionTemplate, new BulkWriteConfig());
+        drawEventMachine.draw(drawEvent, OWNER);
 
         ArgumentCaptor<List<DrawEventWinningInfoBulkInsertDto>> ac = ArgumentCaptor.forClass(List.class);
 
-        verify(picker, times(1)).pick(anyList(), eq(5L));
+        verify(picker, times(1)).pick(any(long[].class), eq(5L));
         verify(deWinningInfoRepository, times(1)).insertMany(ac.capture());
 
         var list = ac.getValue();
@@ -81,5 +118,125 @@ class DrawEventDrawMachineTest {
         assertThat(list.get(2).getRanking()).isEqualTo(2L);
         assertThat(list.get(3).getRanking()).isEqualTo(3L);
         assertThat(list.get(4).getRanking()).isEqualTo(3L);
+
+        verify(jobRepository, times(1)).updateInsertedCount(any(), eq(OWNER), eq(5), any());
+        verify(jobRepository, times(1)).updateStage(any(), eq(OWNER), eq(DrawEventJobStage.COMPLETE), any());
+        verify(drawEvent, times(1)).setDrawn(true);
+    }
+
+    @DisplayName("미리 집계된 점수가 있다면 다시 계산하지 않음")
+    @Test
+    void drawEventWithPrecomputedScores() {
+        var drawEvent = mock(DrawEvent.class);
+        when(drawEvent.getId()).thenReturn(1L);
+        when(drawEvent.getMetadataList()).thenReturn(new ArrayList<>(List.of(
+                DrawEventMetadata.of(1L, 2L, null, null)
+        )));
+        when(drawEvent.getPolicyList()).thenReturn(List.of());
+
+        var deRepository = mock(DrawEventRepository.class);
+        when(deRepository.findById(anyLong())).thenReturn(Optional.of(drawEvent));
+        var deWinningInfoRepository = mock(DrawEventWinningInfoRepository.class);
+        var calculator = mock(ScoreCalculator.class);
+
+        UserScoreMap scoreMap = new UserScoreMap();
+        scoreMap.add(7L, 3L);
+        scoreMap.add(8L, 1L);
+        var drawScoreStore = mock(DrawScoreStore.class);
+        when(drawScoreStore.read(anyLong(), anyList())).thenReturn(Optional.of(scoreMap));
+
+        var picker = mock(WinnerPicker.class);
+        when(picker.pick(any(long[].class), anyLong())).thenReturn(new int[]{1, 0});
+
+        var drawEventMachine = new DrawEventDrawMachine(deWinningInfoRepository, deRepository, picker, calculator, drawScoreStore, jobRepository, transactionTemplate, new BulkWriteConfig());
+        drawEventMachine.draw(drawEvent, OWNER);
+
+        ArgumentCaptor<List<DrawEventWinningInfoBulkInsertDto>> ac = ArgumentCaptor.forClass(List.class);
+        verify(calculator, never()).calculate(anyLong(), anyList());
+        verify(deWinningInfoRepository, times(1)).insertMany(ac.capture());
+        assertThat(ac.getValue()).extracting(DrawEventWinningInfoBulkInsertDto::getEventUserId)
+                .containsExactly(8L, 7L);
+    }
+
+    @DisplayName("당첨자 삽입 중 중단된 작업은 다시 추첨하지 않고 남은 당첨자만 삽입")
+    @Test
+    void resumeInsertingJob() {
+        var drawEvent = mock(DrawEvent.class);
+        when(drawEvent.getId()).thenReturn(1L);
+
+        // 5명 중 2명까지 삽입된 작업
+        DrawEventJob job = DrawEventJob.of(1L, OWNER, Instant.now());
+        job.picked(List.of(
+                DrawEventWinningInfoBulkInsertDto.of(10L, 1L, 1L),
+                DrawEventWinningInfoBulkInsertDto.of(11L, 2L, 1L),
+                DrawEventWinningInfoBulkInsertDto.of(12L, 2L, 1L),
+                DrawEventWinningInfoBulkInsertDto.of(13L, 3L, 1L),
+                DrawEventWinningInfoBulkInsertDto.of(14L, 3L, 1L)
+        ), Instant.now());
+        job.inserted(2, Instant.now());
+        when(jobRepository.findByDrawEventId(1L)).thenReturn(Optional.of(job));
+
+        var deRepository = mock(DrawEventRepository.class);
+        var deWinningInfoRepository = mock(DrawEventWinningInfoRepository.class);
+        var calculator = mock(ScoreCalculator.class);
+        var drawScoreStore = mock(DrawScoreStore.class);
+        var picker = mock(WinnerPicker.class);
+
+        var drawEventMachine = new DrawEventDrawMachine(deWinningInfoRepository, deRepository, picker, calculator, drawScoreStore, jobRepository, transactionTemplate, new BulkWriteConfig());
+        drawEventMachine.draw(drawEvent, OWNER);
+
+        ArgumentCaptor<List<DrawEventWinningInfoBulkInsertDto>> ac = ArgumentCaptor.forClass(List.class);
+        verify(picker, never()).pick(any(long[].class), anyLong());
+        verify(drawScoreStore, never()).read(anyLong(), anyList());
+        verify(deWinningInfoRepository, times(1)).insertMany(ac.capture());
+        assertThat(ac.getValue()).extracting(DrawEventWinningInfoBulkInsertDto::getEventUserId)
+                .containsExactly(12L, 13L, 14L);
+        assertThat(ac.getValue()).extracting(DrawEventWinningInfoBulkInsertDto::getRanking)
+                .containsExactly(2L, 3L, 3L);
+        verify(jobRepository, times(1)).updateInsertedCount(any(), eq(OWNER), eq(5), any());
+        verify(jobRepository, never()).save(any());
+        verify(drawEvent, times(1)).setDrawn(true);
+    }
+
+    @DisplayName("다른 실행이 작업을 점유했다면 삽입한 당첨자를 반영하지 않고 중단")
+    @Test
+    void stopWhenTakenOver() {
+        var drawEvent = mock(DrawEvent.class);
+        when(drawEvent.getId()).thenReturn(1L);
+
+        // 다른 실행이 점유한 뒤 삽입 단계에서 진행 상황을 저장하지 못하는 상황
+        DrawEventJob job = DrawEventJob.of(1L, OWNER, Instant.now());
+        job.picked(List.of(DrawEventWinningInfoBulkInsertDto.of(10L, 1L, 1L)), Instant.now());
+        when(jobRepository.findByDrawEventId(1L)).thenReturn(Optional.of(job));
+        when(jobRepository.updateInsertedCount(any(), eq(OWNER), anyInt(), any())).thenReturn(0);
+
+        var deRepository = mock(DrawEventRepository.class);
+        var deWinningInfoRepository = mock(DrawEventWinningInfoRepository.class);
+        var drawEventMachine = new DrawEventDrawMachine(deWinningInfoRepository, deRepository, mock(WinnerPicker.class),
+                mock(ScoreCalculator.class), mock(DrawScoreStore.class), jobRepository, transactionTemplate, new BulkWriteConfig());
+
+        assertThatThrownBy(() -> drawEventMachine.draw(drawEvent, OWNER))
+                .isInstanceOf(DrawEventException.class);
+        verify(jobRepository, never()).updateStage(any(), any(), any(), any());
+        verify(drawEvent, never()).setDrawn(true);
+    }
+
+    @DisplayName("이전 실행이 남긴 작업은 점유한 뒤 이어서 진행")
+    @Test
+    void takeOverPreviousJob() {
+        var drawEvent = mock(DrawEvent.class);
+        when(drawEvent.getId()).thenReturn(1L);
+
+        DrawEventJob job = DrawEventJob.of(1L, "previous", Instant.now());
+        job.picked(List.of(DrawEventWinningInfoBulkInsertDto.of(10L, 1L, 1L)), Instant.now());
+        when(jobRepository.findByDrawEventId(1L)).thenReturn(Optional.of(job));
+        when(jobRepository.takeOver(any(), eq(OWNER), any())).thenReturn(1);
+
+        var drawEventMachine = new DrawEventDrawMachine(mock(DrawEventWinningInfoRepository.class), mock(DrawEventRepository.class),
+                mock(WinnerPicker.class), mock(ScoreCalculator.class), mock(DrawScoreStore.class), jobRepository, transactionTemplate, new BulkWriteConfig());
+        drawEventMachine.draw(drawEvent, OWNER);
+
+        verify(jobRepository, times(1)).takeOver(any(), eq(OWNER), any());
+        verify(drawEvent, times(1)).setDrawn(true);
     }
-}
\ No newline at end of file
+}
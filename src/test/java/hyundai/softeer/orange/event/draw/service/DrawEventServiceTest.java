@@ -6,10 +6,13 @@ import hyundai.softeer.orange.event.common.entity.EventMetadata;
 import hyundai.softeer.orange.event.common.enums.EventType;
 import hyundai.softeer.orange.event.common.exception.EventException;
 import hyundai.softeer.orange.event.common.repository.EventMetadataRepository;
+import hyundai.softeer.orange.event.draw.dto.DrawEventJobProgressDto;
 import hyundai.softeer.orange.event.draw.entity.DrawEvent;
 import hyundai.softeer.orange.event.draw.entity.DrawEventWinningInfo;
+import hyundai.softeer.orange.event.draw.enums.DrawEventJobStage;
 import hyundai.softeer.orange.event.draw.enums.DrawEventStatus;
 import hyundai.softeer.orange.event.draw.exception.DrawEventException;
+import hyundai.softeer.orange.event.draw.repository.DrawEventJobRepository;
 import hyundai.softeer.orange.event.draw.repository.DrawEventWinningInfoRepository;
 import hyundai.softeer.orange.eventuser.entity.EventUser;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
@@ -48,6 +52,9 @@ class DrawEventServiceTest {
     @Mock
     StringRedisTemplate redisTemplate;
 
+    @Mock
+    DrawEventJobRepository jobRepository;
+
     String eventId = "test-key";
 
     private EventMetadata createEventMetadata(String eventId, EventType eventType, Instant endTime) {
@@ -159,6 +166,52 @@ class DrawEventServiceTest {
         verify(redisTemplate, times(1)).opsForValue();
     }
 
+    @DisplayName("추첨 중이더라도 작업이 중단된 상태라면 이어서 추첨 진행")
+    @Test
+    void draw_resumeAbandonedJob() {
+        // given
+        String key = EventConst.IS_DRAWING(eventId);
+        var endTime = Instant.now().minus(10, ChronoUnit.DAYS);
+        var drawEvent = new DrawEvent();
+        drawEvent.setId(1L);
+        var eventMetadata = createEventMetadata(eventId, EventType.draw, endTime);
+        eventMetadata.updateDrawEvent(drawEvent);
+        when(emRepository.findFirstByEventId(eventId)).thenReturn(Optional.of(eventMetadata));
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(ops.increment(key)).thenReturn(2L);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+        // 진행 상황이 오래 갱신되지 않은 작업을 점유
+        when(jobRepository.claimStale(eq(1L), anyString(), any(Instant.class), any(Instant.class))).thenReturn(1);
+        when(machine.draw(any(DrawEvent.class), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        deService.draw(eventId);
+
+        // then
+        verify(jobRepository, times(1)).claimStale(eq(1L), anyString(), any(Instant.class), any(Instant.class));
+        verify(machine, times(1)).draw(eq(drawEvent), anyString());
+    }
+
+    @DisplayName("추첨 실행기가 가득 차서 거절되면 추첨 중 상태를 해제")
+    @Test
+    void draw_releaseIfRejected() {
+        // given
+        String key = EventConst.IS_DRAWING(eventId);
+        var endTime = Instant.now().minus(10, ChronoUnit.DAYS);
+        var eventMetadata = createEventMetadata(eventId, EventType.draw, endTime);
+        eventMetadata.updateDrawEvent(new DrawEvent());
+        when(emRepository.findFirstByEventId(eventId)).thenReturn(Optional.of(eventMetadata));
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(ops.increment(key)).thenReturn(1L);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+        when(machine.draw(any(DrawEvent.class), anyString())).thenThrow(new TaskRejectedException("rejected"));
+
+        // when & then
+        assertThatThrownBy(() -> deService.draw(eventId))
+                .isInstanceOf(TaskRejectedException.class);
+        verify(redisTemplate, times(1)).delete(key);
+    }
+
     @DisplayName("이벤트 추첨 조건이 된다면 추첨 진행")
     @Test
     void draw_successfullyDraw() throws InterruptedException {
@@ -173,7 +226,7 @@ class DrawEventServiceTest {
         when(ops.increment(key)).thenReturn(1L);
         when(redisTemplate.opsForValue()).thenReturn(ops);
         CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
-        when(machine.draw(any(DrawEvent.class))).thenReturn(future);
+        when(machine.draw(any(DrawEvent.class), anyString())).thenReturn(future);
 
         // when
         deService.draw(eventId);
@@ -184,7 +237,7 @@ class DrawEventServiceTest {
         verify(ops, times(1)).increment(key);
         verify(redisTemplate, times(1)).delete(key);
         verify(redisTemplate, times(1)).opsForValue();
-        verify(machine, times(1)).draw(any(DrawEvent.class));
+        verify(machine, times(1)).draw(any(DrawEvent.class), anyString());
     }
 
     @DisplayName("당첨자 목록 조회")
@@ -297,4 +350,27 @@ class DrawEventServiceTest {
         var dto = deService.getDrawEventStatus(eventId);
         assertThat(dto.getStatus()).isEqualTo(DrawEventStatus.AVAILABLE);
     }
-}
\ No newline at end of file
+
+    @DisplayName("getDrawEventStatus: 추첨 작업이 있다면 진행 상황을 함께 반환")
+    @Test
+    void getDrawEventStatus_withProgress() {
+        var drawEvent = new DrawEvent();
+        drawEvent.setId(1L);
+        var endedTime = Instant.now().minus(10, ChronoUnit.DAYS);
+        EventMetadata metadata = createEventMetadata(eventId, EventType.draw, endedTime);
+        metadata.updateDrawEvent(drawEvent);
+        when(emRepository.findFirstByEventId(eventId)).thenReturn(Optional.of(metadata));
+
+        ValueOperations<String, String> valueOperation = mock(ValueOperations.class);
+        when(valueOperation.get(anyString())).thenReturn("1");
+        when(redisTemplate.opsForValue()).thenReturn(valueOperation);
+        when(jobRepository.findProgressByDrawEventId(1L))
+                .thenReturn(Optional.of(new DrawEventJobProgressDto(DrawEventJobStage.INSERTING, 400, 100)));
+
+        var dto = deService.getDrawEventStatus(eventId);
+        assertThat(dto.getStatus()).isEqualTo(DrawEventStatus.IS_DRAWING);
+        assertThat(dto.getStage()).isEqualTo(DrawEventJobStage.INSERTING);
+        assertThat(dto.getPercent()).isEqualTo(25);
+        assertThat(dto.getWrittenCount()).isEqualTo(100L);
+    }
+}
@@ -5,8 +5,13 @@ import hyundai.softeer.orange.event.common.entity.EventMetadata;
 import hyundai.softeer.orange.event.common.enums.EventType;
 import hyundai.softeer.orange.event.common.exception.EventException;
 import hyundai.softeer.orange.event.common.repository.EventMetadataRepository;
+import hyundai.softeer.orange.event.draw.component.participation.DrawParticipationStore;
+import hyundai.softeer.orange.event.draw.component.score.DrawScoreStore;
+import hyundai.softeer.orange.event.draw.config.DrawParticipationConfig;
 import hyundai.softeer.orange.event.draw.dto.EventParticipationDateDto;
 import hyundai.softeer.orange.event.draw.entity.DrawEvent;
+import hyundai.softeer.orange.event.draw.enums.DrawEventAction;
+import hyundai.softeer.orange.event.draw.repository.EventParticipationCountRepository;
 import hyundai.softeer.orange.event.draw.repository.EventParticipationInfoRepository;
 
 import hyundai.softeer.orange.eventuser.entity.EventUser;
@@ -14,9 +19,12 @@ import hyundai.softeer.orange.eventuser.exception.EventUserException;
 import hyundai.softeer.orange.eventuser.repository.EventUserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
@@ -25,19 +33,25 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class EventParticipationServiceTest {
     EventMetadataRepository emRepository = mock(EventMetadataRepository.class);
     EventParticipationInfoRepository epiRepository = mock(EventParticipationInfoRepository.class);
     EventUserRepository euRepository = mock(EventUserRepository.class);
+    DrawScoreStore drawScoreStore = mock(DrawScoreStore.class);
+    EventParticipationCountRepository epcRepository = mock(EventParticipationCountRepository.class);
+    DrawParticipationStore participationStore = mock(DrawParticipationStore.class);
+    DrawParticipationConfig dbConfig = config(false);
+    DrawParticipationConfig bitmapConfig = config(true);
     Long frameId = 1L;
 
     @DisplayName("이벤트가 존재하지 않으면 예외 반환")
     @Test
     void getParticipationDateList_throwIfEventNotExist() {
         when(emRepository.findFirstByEventId(anyString())).thenReturn(Optional.empty());
-        EventParticipationService service = new EventParticipationService(null, emRepository, null);
+        EventParticipationService service = new EventParticipationService(null, emRepository, null, drawScoreStore, epcRepository, participationStore, dbConfig);
 
         assertThatThrownBy(() -> {
             service.getParticipationDateList("test", "any");
@@ -51,7 +65,7 @@ class EventParticipationServiceTest {
                 EventMetadata.builder().eventType(EventType.fcfs).build()
         ));
 
-        EventParticipationService service = new EventParticipationService(null, emRepository, null);
+        EventParticipationService service = new EventParticipationService(null, emRepository, null, drawScoreStore, epcRepository, participationStore, dbConfig);
 
         assertThatThrownBy(() -> {
             service.getParticipationDateList("test", "any");
@@ -65,7 +79,7 @@ class EventParticipationServiceTest {
                 EventMetadata.builder().eventType(EventType.draw).build()
         ));
 
-        EventParticipationService service = new EventParticipationService(null, emRepository, null);
+        EventParticipationService service = new EventParticipationService(null, emRepository, null, drawScoreStore, epcRepository, participationStore, dbConfig);
 
         assertThatThrownBy(() -> {
             service.getParticipationDateList("test", "any");
@@ -87,7 +101,7 @@ class EventParticipationServiceTest {
 
         when(epiRepository.findByEventUserId(any(), any())).thenReturn(List.of(mockDto1, mockDto2));
 
-        EventParticipationService service = new EventParticipationService(epiRepository, emRepository, null);
+        EventParticipationService service = new EventParticipationService(epiRepository, emRepository, null, drawScoreStore, epcRepository, participationStore, dbConfig);
         var list = service.getParticipationDateList("test", "test");
         assertThat(list).isNotNull();
         assertThat(list.dates()).hasSize(2);
@@ -98,7 +112,7 @@ class EventParticipationServiceTest {
     void participateAtDaily_throwIfEventNotExist() {
         when(emRepository.findFirstByEventId(anyString())).thenReturn(Optional.empty());
 
-        EventParticipationService service = new EventParticipationService(null, emRepository, null);
+        EventParticipationService service = new EventParticipationService(null, emRepository, null, drawScoreStore, epcRepository, participationStore, dbConfig);
 
         assertThatThrownBy(() -> {
             service.participateDaily("test", "any");
@@ -112,7 +126,7 @@ class EventParticipationServiceTest {
                 EventMetadata.builder().eventType(EventType.fcfs).build()
         ));
 
-        EventParticipationService service = new EventParticipationService(null, emRepository, null);
+        EventParticipationService service = new EventParticipationService(null, emRepository, null, drawScoreStore, epcRepository, participationStore, dbConfig);
 
         assertThatThrownBy(() -> {
             service.participateDaily("test", "any");
@@ -127,7 +141,7 @@ class EventParticipationServiceTest {
                 EventMetadata.builder().eventType(EventType.draw).build()
         ));
 
-        EventParticipationService service = new EventParticipationService(null, emRepository, null);
+        EventParticipationService service = new EventParticipationService(null, emRepository, null, drawScoreStore, epcRepository, participationStore, dbConfig);
 
         assertThatThrownBy(() -> {
             service.participateDaily("test", "any");
@@ -147,7 +161,7 @@ class EventParticipationServiceTest {
 
         when(euRepository.findByUserId(any())).thenReturn(Optional.empty());
 
-        EventParticipationService service = new EventParticipationService(epiRepository, emRepository, euRepository);
+        EventParticipationService service = new EventParticipationService(epiRepository, emRepository, euRepository, drawScoreStore, epcRepository, participationStore, dbConfig);
         assertThatThrownBy(() -> {
             service.participateDaily("test", "any");
         }).isInstanceOf(EventUserException.class)
@@ -175,12 +189,12 @@ class EventParticipationServiceTest {
         when(user.getEventFrameId()).thenReturn(frameId);
         when(euRepository.findByUserId(any())).thenReturn(Optional.of(user));
 
-        EventParticipationService service = new EventParticipationService(epiRepository, emRepository, euRepository);
+        EventParticipationService service = new EventParticipationService(epiRepository, emRepository, euRepository, drawScoreStore, epcRepository, participationStore, dbConfig);
         assertThatThrownBy(() -> {
             service.participateAtDate("test", "any", now);
         }).isInstanceOf(EventException.class)
                 .hasMessage(ErrorCode.INVALID_EVENT_TIME.getErrorCode());
-        verify(epiRepository, never()).existsByEventUserAndDrawEventAndDateBetween(any(), any(), any(), any());
+        verify(epcRepository, never()).insertFirstParticipation(any(), any(), any());
     }
 
     @DisplayName("오늘 참여했다면 예외 반환")
@@ -197,20 +211,21 @@ class EventParticipationServiceTest {
 
         // 이벤트 기간 내
         Instant now = LocalDateTime.of(2024, 8, 3, 0, 0, 0).atZone(ZoneOffset.UTC).toInstant();
-        // 오늘 참여함
-        when(epiRepository.existsByEventUserAndDrawEventAndDateBetween(any(), any(), any(), any())).thenReturn(true);
+        // 오늘 참여함 = 오늘의 참여 기록이 이미 있어 추가하지 못함
+        when(epiRepository.insertParticipation(any(), any(), any(), any())).thenReturn(0);
 
         // 유저 있음
         EventUser user = mock(EventUser.class);
         when(user.getEventFrameId()).thenReturn(frameId);
         when(euRepository.findByUserId(any())).thenReturn(Optional.of(user));
 
-        EventParticipationService service = new EventParticipationService(epiRepository, emRepository, euRepository);
+        EventParticipationService service = new EventParticipationService(epiRepository, emRepository, euRepository, drawScoreStore, epcRepository, participationStore, dbConfig);
         assertThatThrownBy(() -> {
             service.participateAtDate("test", "any", now);
         }).isInstanceOf(EventException.class)
         .hasMessage(ErrorCode.ALREADY_PARTICIPATED.getErrorCode());
-        verify(epiRepository, atLeastOnce()).existsByEventUserAndDrawEventAndDateBetween(any(), any(), any(), any());
+        verify(epiRepository, times(1)).insertParticipation(any(), any(), eq(now), eq(LocalDate.ofInstant(now, ZoneId.systemDefault())));
+        verify(epcRepository, never()).insertFirstParticipation(any(), any(), any());
     }
 
     @DisplayName("오늘 처음 참여했다면 정상적으로 참여")
@@ -227,18 +242,196 @@ class EventParticipationServiceTest {
 
         // 이벤트 기간 내
         Instant now = LocalDateTime.of(2024, 8, 3, 0, 0, 0).atZone(ZoneOffset.UTC).toInstant();
-        // 오늘 참여안함
-        when(epiRepository.existsByEventUserAndDrawEventAndDateBetween(any(), any(), any(), any())).thenReturn(false);
+        // 처음 참여함
+        when(epcRepository.insertFirstParticipation(any(), any(), any())).thenReturn(1);
 
         // 유저 있음
         EventUser user = mock(EventUser.class);
         when(user.getEventFrameId()).thenReturn(frameId);
         when(euRepository.findByUserId(any())).thenReturn(Optional.of(user));
-        EventParticipationInfoRepository epiRepository = mock(EventParticipationInfoRepository.class);
+        when(epiRepository.insertParticipation(any(), any(), any(), any())).thenReturn(1);
 
-        EventParticipationService service = new EventParticipationService(epiRepository, emRepository, euRepository);
+        EventParticipationService service = new EventParticipationService(epiRepository, emRepository, euRepository, drawScoreStore, epcRepository, participationStore, dbConfig);
         service.participateAtDate("test", "any", now);
-        verify(epiRepository, times(1)).existsByEventUserAndDrawEventAndDateBetween(any(), any(), any(), any());
-        verify(epiRepository, times(1)).save(any());
+        verify(epcRepository, times(1)).insertFirstParticipation(any(), any(), eq(now));
+        verify(epcRepository, never()).increase(any(), any(), any());
+        verify(epiRepository, times(1)).insertParticipation(any(), any(), eq(now), any());
+        verify(drawScoreStore, times(1)).increase(any(), any(), eq(DrawEventAction.ParticipateEvent));
     }
-}
\ No newline at end of file
+
+    @DisplayName("이전에 참여했지만 오늘 참여하지 않았다면 참여 횟수를 증가")
+    @Test
+    void participateAtDate_increaseCountIfParticipatedBefore() {
+        var eventMetadata = EventMetadata.builder()
+                .startTime(LocalDateTime.of(2024, 8, 1, 0, 0, 0).atZone(ZoneOffset.UTC).toInstant())
+                .endTime(LocalDateTime.of(2024, 8, 10, 0, 0, 0).atZone(ZoneOffset.UTC).toInstant())
+                .eventType(EventType.draw)
+                .eventFrameId(frameId)
+                .build();
+        eventMetadata.updateDrawEvent(new DrawEvent());
+        when(emRepository.findFirstByEventId(anyString())).thenReturn(Optional.of(eventMetadata));
+
+        Instant now = LocalDateTime.of(2024, 8, 3, 0, 0, 0).atZone(ZoneOffset.UTC).toInstant();
+        when(epiRepository.insertParticipation(any(), any(), any(), any())).thenReturn(1);
+        when(epcRepository.insertFirstParticipation(any(), any(), any())).thenReturn(0);
+
+        EventUser user = mock(EventUser.class);
+        when(user.getEventFrameId()).thenReturn(frameId);
+        when(euRepository.findByUserId(any())).thenReturn(Optional.of(user));
+
+        EventParticipationService service = new EventParticipationService(epiRepository, emRepository, euRepository, drawScoreStore, epcRepository, participationStore, dbConfig);
+        service.participateAtDate("test", "any", now);
+        verify(epcRepository, times(1)).increase(any(), any(), eq(now));
+        verify(drawScoreStore, times(1)).increase(any(), any(), eq(DrawEventAction.ParticipateEvent));
+    }
+
+    @DisplayName("이미 참여했다면 점수를 증가시키지 않음")
+    @Test
+    void participateAtDate_notIncreaseScoreIfAlreadyParticipated() {
+        var eventMetadata = EventMetadata.builder()
+                .startTime(LocalDateTime.of(2024, 8, 1, 0, 0, 0).atZone(ZoneOffset.UTC).toInstant())
+                .endTime(LocalDateTime.of(2024, 8, 10, 0, 0, 0).atZone(ZoneOffset.UTC).toInstant())
+                .eventType(EventType.draw)
+                .eventFrameId(frameId)
+                .build();
+        eventMetadata.updateDrawEvent(new DrawEvent());
+        when(emRepository.findFirstByEventId(anyString())).thenReturn(Optional.of(eventMetadata));
+
+        Instant now = LocalDateTime.of(2024, 8, 3, 0, 0, 0).atZone(ZoneOffset.UTC).toInstant();
+        when(epiRepository.insertParticipation(any(), any(), any(), any())).thenReturn(0);
+
+        EventUser user = mock(EventUser.class);
+        when(user.getEventFrameId()).thenReturn(frameId);
+        when(euRepository.findByUserId(any())).thenReturn(Optional.of(user));
+
+        EventParticipationService service = new EventParticipationService(epiRepository, emRepository, euRepository, drawScoreStore, epcRepository, participationStore, dbConfig);
+        assertThatThrownBy(() -> service.participateAtDate("test", "any", now))
+                .isInstanceOf(EventException.class);
+        verify(drawScoreStore, never()).increase(any(), any(), any());
+    }
+
+    @DisplayName("추첨 이벤트가 아니라면 점수 조회 시 예외 반환")
+    @Test
+    void getScore_throwIfNotDrawEvent() {
+        var eventMetadata = EventMetadata.builder()
+                .eventType(EventType.fcfs)
+                .build();
+        when(emRepository.findFirstByEventId(anyString())).thenReturn(Optional.of(eventMetadata));
+
+        EventParticipationService service = new EventParticipationService(null, emRepository, null, drawScoreStore, epcRepository, participationStore, dbConfig);
+        assertThatThrownBy(() -> service.getScore("test", "any"))
+                .isInstanceOf(EventException.class)
+                .hasMessage(ErrorCode.EVENT_NOT_FOUND.getErrorCode());
+    }
+
+    @DisplayName("유저의 현재 점수를 반환")
+    @Test
+    void getScore_returnScore() {
+        var eventMetadata = EventMetadata.builder()
+                .eventType(EventType.draw)
+                .eventFrameId(frameId)
+                .build();
+        DrawEvent drawEvent = new DrawEvent();
+        drawEvent.setId(1L);
+        eventMetadata.updateDrawEvent(drawEvent);
+        when(emRepository.findFirstByEventId(anyString())).thenReturn(Optional.of(eventMetadata));
+
+        EventUser user = mock(EventUser.class);
+        when(user.getId()).thenReturn(3L);
+        when(euRepository.findByUserId(any())).thenReturn(Optional.of(user));
+        when(drawScoreStore.getScore(eq(1L), eq(3L), any())).thenReturn(7L);
+
+        EventParticipationService service = new EventParticipationService(null, emRepository, euRepository, drawScoreStore, epcRepository, participationStore, dbConfig);
+        assertThat(service.getScore("test", "any").score()).isEqualTo(7L);
+    }
+
+    @DisplayName("bitmap에 기록했다면 DB에는 바로 저장하지 않음")
+    @Test
+    void participateAtDate_markInBitmap() {
+        EventMetadata eventMetadata = participableEvent();
+        Instant now = LocalDateTime.of(2024, 8, 3, 12, 0, 0).atZone(ZoneOffset.UTC).toInstant();
+        when(participationStore.mark(anyLong(), anyLong(), anyInt(), any(), any())).thenReturn(true);
+
+        EventParticipationService service = participableService(bitmapConfig);
+        service.participateAtDate("test", "any", now);
+
+        int day = DrawParticipationStore.dayOffset(eventMetadata.getStartTime(), now, ZoneId.systemDefault());
+        verify(participationStore, times(1)).mark(eq(1L), anyLong(), eq(day), eq(now), any());
+        verify(epcRepository, never()).insertFirstParticipation(any(), any(), any());
+        verify(epiRepository, never()).insertParticipation(any(), any(), any(), any());
+    }
+
+    @DisplayName("bitmap에 이미 기록되어 있다면 예외 반환")
+    @Test
+    void participateAtDate_throwIfAlreadyMarked() {
+        participableEvent();
+        Instant now = LocalDateTime.of(2024, 8, 3, 12, 0, 0).atZone(ZoneOffset.UTC).toInstant();
+        when(participationStore.mark(anyLong(), anyLong(), anyInt(), any(), any())).thenReturn(false);
+
+        EventParticipationService service = participableService(bitmapConfig);
+        assertThatThrownBy(() -> service.participateAtDate("test", "any", now))
+                .isInstanceOf(EventException.class)
+                .hasMessage(ErrorCode.ALREADY_PARTICIPATED.getErrorCode());
+        verify(epcRepository, never()).insertFirstParticipation(any(), any(), any());
+    }
+
+    @DisplayName("Redis에 접근할 수 없다면 DB에 바로 저장")
+    @Test
+    void participateAtDate_fallbackToDbIfRedisUnavailable() {
+        participableEvent();
+        Instant now = LocalDateTime.of(2024, 8, 3, 12, 0, 0).atZone(ZoneOffset.UTC).toInstant();
+        when(participationStore.mark(anyLong(), anyLong(), anyInt(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(epiRepository.insertParticipation(any(), any(), any(), any())).thenReturn(1);
+
+        EventParticipationService service = participableService(bitmapConfig);
+        service.participateAtDate("test", "any", now);
+
+        verify(epiRepository, times(1)).insertParticipation(any(), any(), eq(now), any());
+    }
+
+    @DisplayName("bitmap이 있다면 참여한 날짜를 bitmap에서 계산")
+    @Test
+    void getParticipationDateList_fromBitmap() {
+        EventMetadata eventMetadata = participableEvent();
+        when(participationStore.findDays(anyLong(), anyLong())).thenReturn(Optional.of(List.of(0, 2)));
+
+        EventParticipationService service = participableService(bitmapConfig);
+        var list = service.getParticipationDateList("test", "any");
+
+        LocalDate startDate = LocalDate.ofInstant(eventMetadata.getStartTime(), ZoneId.systemDefault());
+        assertThat(list.dates()).containsExactly(
+                startDate.atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                startDate.plusDays(2).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        verify(epiRepository, never()).findByEventUserId(any(), any());
+    }
+
+    private EventMetadata participableEvent() {
+        var eventMetadata = EventMetadata.builder()
+                .startTime(LocalDateTime.of(2024, 8, 1, 0, 0, 0).atZone(ZoneOffset.UTC).toInstant())
+                .endTime(LocalDateTime.of(2024, 8, 10, 0, 0, 0).atZone(ZoneOffset.UTC).toInstant())
+                .eventType(EventType.draw)
+                .eventFrameId(frameId)
+                .build();
+        DrawEvent drawEvent = new DrawEvent();
+        drawEvent.setId(1L);
+        eventMetadata.updateDrawEvent(drawEvent);
+        when(emRepository.findFirstByEventId(anyString())).thenReturn(Optional.of(eventMetadata));
+
+        EventUser user = mock(EventUser.class);
+        when(user.getId()).thenReturn(2L);
+        when(user.getEventFrameId()).thenReturn(frameId);
+        when(euRepository.findByUserId(any())).thenReturn(Optional.of(user));
+        return eventMetadata;
+    }
+
+    private EventParticipationService participableService(DrawParticipationConfig config) {
+        return new EventParticipationService(epiRepository, emRepository, euRepository, drawScoreStore, epcRepository, participationStore, config);
+    }
+
+    private static DrawParticipationConfig config(boolean bitmapEnabled) {
+        DrawParticipationConfig config = new DrawParticipationConfig();
+        config.setBitmapEnabled(bitmapEnabled);
+        return config;
+    }
+}
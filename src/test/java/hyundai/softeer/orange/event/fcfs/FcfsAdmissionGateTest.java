@@ -0,0 +1,200 @@
+package hyundai.softeer.orange.event.fcfs;
+
+import hyundai.softeer.orange.event.fcfs.component.FcfsAdmissionGate;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventDescriptor;
+import hyundai.softeer.orange.event.fcfs.config.FcfsAdmissionConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class FcfsAdmissionGateTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private FcfsAdmissionConfig config;
+    private MeterRegistry meterRegistry;
+    private FcfsAdmissionGate gate;
+
+    String eventId = "HD_240808_001";
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        FcfsEventCache fcfsEventCache = mock(FcfsEventCache.class);
+        given(fcfsEventCache.find(eventId)).willReturn(Optional.of(new FcfsEventDescriptor("1", Instant.now(), 10, "1")));
+
+        config = new FcfsAdmissionConfig();
+        config.setBatchSize(5);
+        meterRegistry = new SimpleMeterRegistry();
+        gate = new FcfsAdmissionGate(stringRedisTemplate, fcfsEventCache, config, meterRegistry);
+    }
+
+    @DisplayName("tryAcquire: 로컬 입장권이 남아있는 동안에는 Redis에 접근하지 않는다.")
+    @Test
+    void acquireInBatchTest() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(5L);
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            assertThat(gate.tryAcquire(eventId)).isTrue();
+        }
+
+        // then
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+        assertThat(meterRegistry.counter("fcfs.admission", "eventId", eventId, "result", "admitted").count()).isEqualTo(6);
+    }
+
+    @DisplayName("tryAcquire: 모든 인원이 당첨되면 Redis 접근 없이 요청을 거절한다.")
+    @Test
+    void shedWhenSoldOutTest() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(0L);
+
+        // when
+        boolean first = gate.tryAcquire(eventId);
+        boolean second = gate.tryAcquire(eventId);
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+        assertThat(meterRegistry.counter("fcfs.admission", "eventId", eventId, "result", "shed").count()).isEqualTo(2);
+    }
+
+    @DisplayName("tryAcquire: 처리 중인 요청이 많아 거절된 경우에는 다음 요청에서 다시 Redis에 입장권을 요청한다.")
+    @Test
+    void shedWhenBusyTest() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(-2L, 1L);
+
+        // when & then
+        assertThat(gate.tryAcquire(eventId)).isFalse();
+        assertThat(gate.tryAcquire(eventId)).isTrue();
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+    }
+
+    @DisplayName("release: 당첨되지 않은 요청의 입장권은 Redis 접근 없이 다시 사용한다.")
+    @Test
+    void reuseReleasedPermitTest() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(1L);
+
+        // when
+        assertThat(gate.tryAcquire(eventId)).isTrue();
+        gate.release(eventId, false);
+        assertThat(gate.tryAcquire(eventId)).isTrue();
+
+        // then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+    }
+
+    @DisplayName("release: 당첨된 요청은 입장권을 반납하면서 당첨 인원을 기록한다.")
+    @Test
+    void releaseWinnerTest() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(1L);
+
+        // when
+        assertThat(gate.tryAcquire(eventId)).isTrue();
+        gate.release(eventId, true);
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("fcfs:1:admission")), eq("1"), eq("1"), anyString(), anyString());
+    }
+
+    @DisplayName("returnUnusedPermits: 로컬에 남은 입장권을 Redis에 돌려준다.")
+    @Test
+    void returnUnusedPermitsTest() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(5L);
+        assertThat(gate.tryAcquire(eventId)).isTrue();
+
+        // when
+        gate.returnUnusedPermits();
+        gate.returnUnusedPermits();
+
+        // then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("fcfs:1:admission")), eq("4"), eq("0"), anyString(), anyString());
+    }
+
+    @DisplayName("returnUnusedPermits: 처리 중인 입장권이 있다면 돌려줄 입장권이 없어도 임대 기간을 연장한다.")
+    @Test
+    void renewLeaseTest() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(1L);
+        assertThat(gate.tryAcquire(eventId)).isTrue();
+
+        // when
+        gate.returnUnusedPermits();
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("fcfs:1:admission")), eq("0"), eq("0"), anyString(), anyString());
+    }
+
+    @DisplayName("clear: 로컬의 입장권을 처리 중인 것까지 Redis에 돌려준 뒤 버린다.")
+    @Test
+    void clearTest() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(5L);
+        assertThat(gate.tryAcquire(eventId)).isTrue();
+
+        // when
+        gate.clear();
+        gate.release(eventId, true);
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("fcfs:1:admission")), eq("5"), eq("0"), anyString(), anyString());
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+    }
+
+    @DisplayName("release: 제한 없이 통과한 요청은 반납할 입장권이 없다.")
+    @Test
+    void releaseWithoutPermitTest() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(-1L);
+
+        // when
+        assertThat(gate.tryAcquire(eventId)).isTrue();
+        gate.release(eventId, true);
+
+        // then
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+    }
+
+    @DisplayName("tryAcquire: 입장권 정보가 없는 이벤트는 제한하지 않는다.")
+    @Test
+    void admitWithoutPermitInfoTest() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(-1L);
+
+        // when & then
+        assertThat(gate.tryAcquire(eventId)).isTrue();
+    }
+
+    @DisplayName("tryAcquire: 입장 제한을 사용하지 않으면 항상 통과한다.")
+    @Test
+    void disabledTest() {
+        // given
+        config.setEnabled(false);
+
+        // when & then
+        assertThat(gate.tryAcquire(eventId)).isTrue();
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import hyundai.softeer.orange.common.ErrorCode;
 import hyundai.softeer.orange.common.ErrorResponse;
 import hyundai.softeer.orange.core.auth.AuthInterceptor;
+import hyundai.softeer.orange.event.fcfs.component.FcfsAdmissionGate;
 import hyundai.softeer.orange.event.fcfs.controller.FcfsController;
 import hyundai.softeer.orange.event.fcfs.dto.ResponseFcfsInfoDto;
 import hyundai.softeer.orange.event.fcfs.dto.ResponseFcfsResultDto;
@@ -53,6 +54,9 @@ class FcfsControllerTest {
     @MockBean
     private FcfsManageService fcfsManageService;
 
+    @MockBean
+    private FcfsAdmissionGate fcfsAdmissionGate;
+
     @MockBean
     private EventUserArgumentResolver eventUserArgumentResolver;
 
@@ -70,6 +74,7 @@ class FcfsControllerTest {
         when(eventUserArgumentResolver.supportsParameter(any())).thenReturn(true);
         when(eventUserArgumentResolver.resolveArgument(any(), any(), any(), any()))
                 .thenReturn(mockUserInfo);
+        when(fcfsAdmissionGate.tryAcquire(any())).thenReturn(true);
     }
 
     @DisplayName("participate: 정답을 맞힌 상태에서 선착순 이벤트 참여 혹은 실패")
@@ -90,6 +95,7 @@ class FcfsControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json(responseBody));
         verify(fcfsService, times(1)).participate(eventId, userId);
+        verify(fcfsAdmissionGate, times(1)).release(eventId, isWinner);
     }
 
     @DisplayName("participate: 정답을 맞히지 못하면 무조건 참여 실패하며 fcfsService에 접근조차 하지 않는다.")
@@ -110,6 +116,25 @@ class FcfsControllerTest {
         verify(fcfsService, never()).participate(eventId, userId);
     }
 
+    @DisplayName("participate: 입장 제한을 통과하지 못하면 당첨 실패로 응답하며 fcfsService에 접근하지 않는다.")
+    @Test
+    void participateShedTest() throws Exception {
+        // given
+        ResponseFcfsResultDto responseFcfsResultDto = new ResponseFcfsResultDto(true, false);
+        when(fcfsAnswerService.judgeAnswer(eventId, answer)).thenReturn(true);
+        when(fcfsAdmissionGate.tryAcquire(eventId)).thenReturn(false);
+        String requestBody = mapper.writeValueAsString(answer);
+        String responseBody = mapper.writeValueAsString(responseFcfsResultDto);
+
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/event/fcfs/" + eventId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(content().json(responseBody));
+        verify(fcfsService, never()).participate(eventId, userId);
+    }
+
     @DisplayName("participate: 선착순 이벤트 참여 시 이벤트 시간이 아니어서 예외가 발생하는 경우")
     @Test
     void participate400Test() throws Exception {
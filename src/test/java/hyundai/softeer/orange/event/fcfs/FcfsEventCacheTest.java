@@ -0,0 +1,82 @@
+package hyundai.softeer.orange.event.fcfs;
+
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventDescriptor;
+import hyundai.softeer.orange.event.fcfs.entity.FcfsEvent;
+import hyundai.softeer.orange.event.fcfs.repository.FcfsEventRepository;
+import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class FcfsEventCacheTest {
+
+    private ValueOperations<String, String> valueOperations;
+    private FcfsEventRepository fcfsEventRepository;
+    private FcfsEventCache fcfsEventCache;
+
+    String eventId = "HD_240808_001";
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        fcfsEventRepository = mock(FcfsEventRepository.class);
+        fcfsEventCache = new FcfsEventCache(stringRedisTemplate, fcfsEventRepository);
+    }
+
+    @DisplayName("find: Redis를 읽지 못하면 DB에서 진행 중인 이벤트를 조회하며, 정답도 함께 반환한다.")
+    @Test
+    void findFromDbTest() {
+        // given
+        given(valueOperations.get(FcfsUtil.eventIdFormatting(eventId))).willThrow(new RedisConnectionFailureException("down"));
+        FcfsEvent fcfsEvent = FcfsEvent.builder()
+                .id(1L)
+                .startTime(Instant.now())
+                .participantCount(100L)
+                .answer("3")
+                .build();
+        given(fcfsEventRepository.findInProgress(eq(eventId), any(Instant.class))).willReturn(Optional.of(fcfsEvent));
+
+        // when
+        Optional<FcfsEventDescriptor> event = fcfsEventCache.find(eventId);
+
+        // then
+        assertThat(event).isPresent();
+        assertThat(event.get().key()).isEqualTo("1");
+        assertThat(event.get().capacity()).isEqualTo(100);
+        assertThat(event.get().answer()).isEqualTo("3");
+    }
+
+    @DisplayName("find: DB에서 조회한 이벤트는 캐싱하지 않고, Redis가 복구되면 다시 Redis에서 읽는다.")
+    @Test
+    void notCachedFromDbTest() {
+        // given
+        given(valueOperations.get(FcfsUtil.eventIdFormatting(eventId)))
+                .willThrow(new RedisConnectionFailureException("down"))
+                .willReturn(null);
+        given(fcfsEventRepository.findInProgress(eq(eventId), any(Instant.class))).willReturn(Optional.empty());
+
+        // when
+        fcfsEventCache.find(eventId);
+        fcfsEventCache.find(eventId);
+
+        // then
+        verify(valueOperations, times(2)).get(FcfsUtil.eventIdFormatting(eventId));
+        verify(fcfsEventRepository, times(1)).findInProgress(eq(eventId), any(Instant.class));
+    }
+}
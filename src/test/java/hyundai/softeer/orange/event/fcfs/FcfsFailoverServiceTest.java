@@ -0,0 +1,127 @@
+package hyundai.softeer.orange.event.fcfs;
+
+import hyundai.softeer.orange.event.common.entity.EventFrame;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventDescriptor;
+import hyundai.softeer.orange.event.fcfs.component.FcfsRoutingState;
+import hyundai.softeer.orange.event.fcfs.config.FcfsRoutingConfig;
+import hyundai.softeer.orange.event.fcfs.entity.FcfsEvent;
+import hyundai.softeer.orange.event.fcfs.entity.FcfsEventWinningInfo;
+import hyundai.softeer.orange.event.fcfs.enums.FcfsStrategy;
+import hyundai.softeer.orange.event.fcfs.repository.FcfsEventWinningInfoRepository;
+import hyundai.softeer.orange.event.fcfs.service.DbFcfsService;
+import hyundai.softeer.orange.event.fcfs.service.FcfsFailoverService;
+import hyundai.softeer.orange.event.fcfs.service.FcfsWinnerWriteBehindService;
+import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
+import hyundai.softeer.orange.eventuser.entity.EventUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class FcfsFailoverServiceTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private FcfsWinnerWriteBehindService fcfsWinnerWriteBehindService;
+    private DbFcfsService dbFcfsService;
+    private FcfsEventWinningInfoRepository fcfsEventWinningInfoRepository;
+    private FcfsRoutingState fcfsRoutingState;
+    private FcfsFailoverService fcfsFailoverService;
+
+    String eventId = "HD_240808_001";
+    String key = "1";
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+        FcfsEventCache fcfsEventCache = mock(FcfsEventCache.class);
+        given(fcfsEventCache.find(eventId)).willReturn(Optional.of(new FcfsEventDescriptor(key, Instant.now(), 10, "1")));
+        fcfsWinnerWriteBehindService = mock(FcfsWinnerWriteBehindService.class);
+        dbFcfsService = mock(DbFcfsService.class);
+        fcfsEventWinningInfoRepository = mock(FcfsEventWinningInfoRepository.class);
+        fcfsRoutingState = mock(FcfsRoutingState.class);
+
+        fcfsFailoverService = new FcfsFailoverService(stringRedisTemplate, fcfsEventCache, fcfsWinnerWriteBehindService,
+                dbFcfsService, fcfsEventWinningInfoRepository, fcfsRoutingState, new FcfsRoutingConfig());
+    }
+
+    @DisplayName("switchToDb: Stream의 당첨자를 DB에 반영한 뒤 Redis의 당첨자 수로 남은 인원을 맞추고 전환 상태를 공유한다.")
+    @Test
+    void switchToDbTest() {
+        // given
+        given(fcfsWinnerWriteBehindService.flush()).willReturn(true);
+        given(zSetOperations.zCard(FcfsUtil.winnerFormatting(key))).willReturn(3L);
+
+        // when
+        boolean result = fcfsFailoverService.switchToDb(eventId);
+
+        // then
+        assertThat(result).isTrue();
+        verify(dbFcfsService).failover(eq(key), eq(3L), any(Instant.class));
+        verify(fcfsRoutingState).update(eq(eventId), any(Instant.class));
+    }
+
+    @DisplayName("switchToDb: Stream의 당첨자를 모두 DB에 반영하지 못하면 전환하지 않는다.")
+    @Test
+    void flushFailureTest() {
+        // given
+        given(fcfsWinnerWriteBehindService.flush()).willReturn(false);
+
+        // when
+        boolean result = fcfsFailoverService.switchToDb(eventId);
+
+        // then
+        assertThat(result).isFalse();
+        verifyNoInteractions(dbFcfsService, fcfsRoutingState);
+    }
+
+    @DisplayName("switchToDb: Redis의 당첨자 수를 알 수 없으면 전환하지 않는다.")
+    @Test
+    void redisFailureTest() {
+        // given
+        given(fcfsWinnerWriteBehindService.flush()).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        boolean result = fcfsFailoverService.switchToDb(eventId);
+
+        // then
+        assertThat(result).isFalse();
+        verifyNoInteractions(dbFcfsService, fcfsRoutingState);
+    }
+
+    @DisplayName("switchToRedis: DB 처리 방식에서 당첨된 유저를 Redis에 기록한 뒤 Redis 처리 방식으로 돌아간다.")
+    @Test
+    void switchToRedisTest() {
+        // given
+        FcfsEvent fcfsEvent = FcfsEvent.builder().id(1L).build();
+        EventFrame eventFrame = EventFrame.of("the-new-ioniq5", "test");
+        List<FcfsEventWinningInfo> winners = List.of(
+                FcfsEventWinningInfo.of(fcfsEvent, EventUser.of("test", "01012345678", eventFrame, "user"), Instant.now()));
+        given(fcfsEventWinningInfoRepository.findByFcfsEventId(1L)).willReturn(winners);
+
+        // when
+        fcfsFailoverService.switchToRedis(eventId, FcfsStrategy.LOCK);
+
+        // then
+        List<String> keys = List.of(FcfsUtil.winnerFormatting(key), FcfsUtil.participantFormatting(key), FcfsUtil.keyFormatting(key));
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), eq(keys), eq("user"), anyString(), eq("1"));
+        verify(dbFcfsService).failback(key);
+        verify(fcfsRoutingState).update(eventId, null);
+    }
+}
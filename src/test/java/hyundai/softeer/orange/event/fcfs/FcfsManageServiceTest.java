@@ -3,6 +3,10 @@ package hyundai.softeer.orange.event.fcfs;
 import hyundai.softeer.orange.common.ErrorCode;
 import hyundai.softeer.orange.common.util.ConstantUtil;
 import hyundai.softeer.orange.event.common.entity.EventFrame;
+import hyundai.softeer.orange.event.fcfs.component.FcfsAdmissionGate;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventDescriptor;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
 import hyundai.softeer.orange.event.fcfs.dto.ResponseFcfsInfoDto;
 import hyundai.softeer.orange.event.fcfs.dto.ResponseFcfsWinnerDto;
 import hyundai.softeer.orange.event.fcfs.entity.FcfsEvent;
@@ -14,6 +18,8 @@ import hyundai.softeer.orange.event.fcfs.service.FcfsManageService;
 import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
 import hyundai.softeer.orange.eventuser.entity.EventUser;
 import hyundai.softeer.orange.eventuser.repository.EventUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,7 +28,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.data.redis.core.*;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -33,7 +41,9 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 class FcfsManageServiceTest {
@@ -53,6 +63,15 @@ class FcfsManageServiceTest {
     @Mock
     private StringRedisTemplate stringRedisTemplate;
 
+    @Mock
+    private FcfsEventLocalState fcfsEventLocalState;
+
+    @Mock
+    private FcfsEventCache fcfsEventCache;
+
+    @Mock
+    private FcfsAdmissionGate fcfsAdmissionGate;
+
     @Mock
     private SetOperations<String, String> setOperations;
 
@@ -62,6 +81,12 @@ class FcfsManageServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     String eventId = "HD_240808_001";
     Long fcfsEventId = 1L;
     EventFrame eventFrame = EventFrame.of("the-new-ioniq5","FcfsManageServiceTest");
@@ -76,6 +101,7 @@ class FcfsManageServiceTest {
         MockitoAnnotations.openMocks(this);
         given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
         given(valueOperations.get(FcfsUtil.eventIdFormatting(eventId))).willReturn(fcfsEventId.toString());
+        given(fcfsEventCache.find(eventId)).willReturn(Optional.of(descriptorStartsAt(fcfsEvent.getStartTime())));
     }
 
     @DisplayName("registerFcfsEvents: 오늘의 선착순 이벤트 정보(당첨자 수, 시작 시각)를 배치")
@@ -97,22 +123,53 @@ class FcfsManageServiceTest {
     @Test
     void registerWinnersTest() {
         // given
-        given(stringRedisTemplate.keys("*:count")).willReturn(Set.of("1:count"));
+        ReflectionTestUtils.setField(eventUser, "id", 1L);
+        given(stringRedisTemplate.execute(any(RedisCallback.class)))
+                .willReturn(Set.of(FcfsUtil.keyFormatting(fcfsEventId.toString())))
+                .willReturn(Set.of(FcfsUtil.eventIdFormatting(eventId)));
         given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
-        given(zSetOperations.range(FcfsUtil.winnerFormatting(fcfsEventId.toString()), 0, -1))
-                .willReturn(Set.of(eventUser.getUserId()));
-        given(fcfsEventRepository.findById(fcfsEventId)).willReturn(Optional.of(fcfsEvent));
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(zSetOperations.rangeWithScores(FcfsUtil.winnerFormatting(fcfsEventId.toString()), 0, 999))
+                .willReturn(Set.of(new DefaultTypedTuple<>(eventUser.getUserId(), (double) Instant.now().toEpochMilli())));
+        given(fcfsEventRepository.existsById(fcfsEventId)).willReturn(true);
         given(eventUserRepository.findAllByUserId(List.of(eventUser.getUserId()))).willReturn(List.of(eventUser));
 
         // when
         fcfsManageService.registerWinners();
 
         // then
-        verify(stringRedisTemplate).keys("*:count");
-        verify(zSetOperations).range(FcfsUtil.winnerFormatting(fcfsEventId.toString()), 0, -1);
-        verify(fcfsEventRepository).findById(fcfsEventId);
+        verify(zSetOperations).rangeWithScores(FcfsUtil.winnerFormatting(fcfsEventId.toString()), 0, 999);
+        verify(fcfsEventRepository).existsById(fcfsEventId);
         verify(eventUserRepository).findAllByUserId(List.of(eventUser.getUserId()));
-        verify(fcfsEventWinningInfoRepository).saveAll(any());
+        verify(fcfsEventWinningInfoRepository).insertMany(argThat(targets -> targets.size() == 1));
+        verify(hashOperations).put(FcfsUtil.migrationFormatting(fcfsEventId.toString()), FcfsUtil.winnerFormatting(fcfsEventId.toString()), "1");
+        assertThat(meterRegistry.counter("fcfs.migration.rows", "fcfsEventId", fcfsEventId.toString()).count()).isEqualTo(1);
+    }
+
+    @DisplayName("registerWinners: 이관 도중 실패한 경우 기록된 위치부터 이어서 이관")
+    @Test
+    void registerWinnersResumeTest() {
+        // given
+        ReflectionTestUtils.setField(eventUser, "id", 1L);
+        given(stringRedisTemplate.execute(any(RedisCallback.class)))
+                .willReturn(Set.of(FcfsUtil.keyFormatting(fcfsEventId.toString())))
+                .willReturn(Set.of());
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.get(FcfsUtil.migrationFormatting(fcfsEventId.toString()), FcfsUtil.winnerFormatting(fcfsEventId.toString())))
+                .willReturn("1000");
+        given(zSetOperations.rangeWithScores(FcfsUtil.winnerFormatting(fcfsEventId.toString()), 1000, 1999))
+                .willReturn(Set.of(new DefaultTypedTuple<>(eventUser.getUserId(), (double) Instant.now().toEpochMilli())));
+        given(fcfsEventRepository.existsById(fcfsEventId)).willReturn(true);
+        given(eventUserRepository.findAllByUserId(List.of(eventUser.getUserId()))).willReturn(List.of(eventUser));
+
+        // when
+        fcfsManageService.registerWinners();
+
+        // then
+        verify(zSetOperations, never()).rangeWithScores(FcfsUtil.winnerFormatting(fcfsEventId.toString()), 0, 999);
+        verify(fcfsEventWinningInfoRepository).insertMany(argThat(targets -> targets.size() == 1));
+        verify(hashOperations).put(FcfsUtil.migrationFormatting(fcfsEventId.toString()), FcfsUtil.winnerFormatting(fcfsEventId.toString()), "1001");
     }
 
     @DisplayName("getFcfsInfo: 특정 선착순 이벤트의 정보를 조회하며, 이벤트 시작시간 직후부터 7시간 동안 progress 상태여야 한다.")
@@ -122,8 +179,8 @@ class FcfsManageServiceTest {
         // given
         given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
         given(valueOperations.get(eventId)).willReturn(fcfsEventId.toString());
-        given(valueOperations.get(FcfsUtil.startTimeFormatting(fcfsEventId.toString())))
-                .willReturn(Instant.now().minus(minute, ChronoUnit.MINUTES).toString());
+        given(fcfsEventCache.find(eventId))
+                .willReturn(Optional.of(descriptorStartsAt(Instant.now().minus(minute, ChronoUnit.MINUTES))));
 
         // when
         ResponseFcfsInfoDto fcfsInfo = fcfsManageService.getFcfsInfo(eventId);
@@ -138,8 +195,8 @@ class FcfsManageServiceTest {
     void getFcfsInfoCountdownTest(int minute) {
         // given
         given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get(FcfsUtil.startTimeFormatting(fcfsEventId.toString())))
-                .willReturn(Instant.now().plus(minute, ChronoUnit.MINUTES).toString());
+        given(fcfsEventCache.find(eventId))
+                .willReturn(Optional.of(descriptorStartsAt(Instant.now().plus(minute, ChronoUnit.MINUTES))));
 
         // when
         ResponseFcfsInfoDto fcfsInfo = fcfsManageService.getFcfsInfo(eventId);
@@ -154,8 +211,8 @@ class FcfsManageServiceTest {
     void getFcfsInfoWaitingTest(int minute) {
         // given
         given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get(FcfsUtil.startTimeFormatting(fcfsEventId.toString())))
-                .willReturn(Instant.now().plus(minute, ChronoUnit.MINUTES).toString());
+        given(fcfsEventCache.find(eventId))
+                .willReturn(Optional.of(descriptorStartsAt(Instant.now().plus(minute, ChronoUnit.MINUTES))));
 
         // when
         ResponseFcfsInfoDto fcfsInfo = fcfsManageService.getFcfsInfo(eventId);
@@ -169,8 +226,7 @@ class FcfsManageServiceTest {
     void getFcfsInfoNotFoundTest() {
         // when
         given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get(FcfsUtil.startTimeFormatting(fcfsEventId.toString())))
-                .willReturn(null);
+        given(fcfsEventCache.find(eventId)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> fcfsManageService.getFcfsInfo(eventId))
                 .isInstanceOf(FcfsEventException.class)
@@ -221,4 +277,8 @@ class FcfsManageServiceTest {
         assertThat(fcfsWinnersInfo.get(0).getPhoneNumber()).isEqualTo(eventUser.getPhoneNumber());
         assertThat(fcfsWinnersInfo.get(0).getWinningTime()).isEqualTo(now);
     }
+
+    private FcfsEventDescriptor descriptorStartsAt(Instant startTime) {
+        return new FcfsEventDescriptor(fcfsEventId.toString(), startTime, fcfsEvent.getParticipantCount().intValue(), "1");
+    }
 }
@@ -0,0 +1,128 @@
+package hyundai.softeer.orange.event.fcfs;
+
+import hyundai.softeer.orange.event.common.entity.EventFrame;
+import hyundai.softeer.orange.event.fcfs.config.FcfsWriteBehindConfig;
+import hyundai.softeer.orange.event.fcfs.repository.FcfsEventWinningInfoRepository;
+import hyundai.softeer.orange.event.fcfs.service.FcfsWinnerWriteBehindService;
+import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
+import hyundai.softeer.orange.eventuser.entity.EventUser;
+import hyundai.softeer.orange.eventuser.repository.EventUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class FcfsWinnerWriteBehindServiceTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private StreamOperations<String, Object, Object> streamOperations;
+    private EventUserRepository eventUserRepository;
+    private FcfsEventWinningInfoRepository fcfsEventWinningInfoRepository;
+    private MeterRegistry meterRegistry;
+    private FcfsWinnerWriteBehindService service;
+
+    EventUser eventUser = EventUser.of("test", "0101234567", EventFrame.of("the-new-ioniq5", "test"), "uuid");
+    MapRecord<String, Object, Object> record = StreamRecords.newRecord()
+            .in(FcfsUtil.WINNER_STREAM_KEY)
+            .withId(RecordId.of("1723000000000-0"))
+            .ofMap(Map.<Object, Object>of(
+                    FcfsWinnerWriteBehindService.FCFS_EVENT_ID, "1",
+                    FcfsWinnerWriteBehindService.USER_ID, "uuid",
+                    FcfsWinnerWriteBehindService.WINNING_TIME, "1723000000000"));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        streamOperations = mock(StreamOperations.class);
+        eventUserRepository = mock(EventUserRepository.class);
+        fcfsEventWinningInfoRepository = mock(FcfsEventWinningInfoRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+        ReflectionTestUtils.setField(eventUser, "id", 1L);
+
+        service = new FcfsWinnerWriteBehindService(stringRedisTemplate, eventUserRepository,
+                fcfsEventWinningInfoRepository, new FcfsWriteBehindConfig(), meterRegistry);
+    }
+
+    @DisplayName("drain: Stream에 기록된 당첨자를 DB에 저장한 뒤 ack 한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void drainTest() {
+        // given
+        given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(List.of(record));
+        given(eventUserRepository.findAllByUserId(List.of("uuid"))).willReturn(List.of(eventUser));
+
+        // when
+        service.drain();
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisCallback.class));
+        verify(fcfsEventWinningInfoRepository).insertMany(argThat(targets -> targets.size() == 1
+                && targets.get(0).getFcfsEventId() == 1L
+                && targets.get(0).getEventUserId() == 1L));
+        verify(streamOperations).acknowledge(FcfsUtil.WINNER_STREAM_KEY, "fcfs-winner-writer", record.getId());
+        verify(streamOperations).delete(FcfsUtil.WINNER_STREAM_KEY, record.getId());
+        assertThat(meterRegistry.counter("fcfs.winner.stream.written").count()).isEqualTo(1);
+    }
+
+    @DisplayName("drain: DB 저장에 실패하면 ack 하지 않아 이후 다시 처리된다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void drainFailureTest() {
+        // given
+        given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(List.of(record));
+        given(eventUserRepository.findAllByUserId(List.of("uuid"))).willReturn(List.of(eventUser));
+        doThrow(new RuntimeException()).when(fcfsEventWinningInfoRepository).insertMany(anyList());
+
+        // when
+        service.drain();
+
+        // then
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+        verify(streamOperations, never()).delete(anyString(), any(RecordId[].class));
+    }
+
+    @DisplayName("drain: 혼자서도 저장할 수 없는 기록은 버리고, 나머지 기록은 저장한 뒤 모두 ack 한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void drainDiscardTest() {
+        // given
+        MapRecord<String, Object, Object> invalid = StreamRecords.newRecord()
+                .in(FcfsUtil.WINNER_STREAM_KEY)
+                .withId(RecordId.of("1723000000001-0"))
+                .ofMap(Map.<Object, Object>of(
+                        FcfsWinnerWriteBehindService.FCFS_EVENT_ID, "1",
+                        FcfsWinnerWriteBehindService.USER_ID, "uuid",
+                        FcfsWinnerWriteBehindService.WINNING_TIME, "invalid"));
+        given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(List.of(record, invalid));
+        given(eventUserRepository.findAllByUserId(anyList())).willReturn(List.of(eventUser));
+
+        // when
+        service.drain();
+
+        // then
+        verify(fcfsEventWinningInfoRepository, times(1)).insertMany(anyList());
+        verify(streamOperations).acknowledge(FcfsUtil.WINNER_STREAM_KEY, "fcfs-winner-writer", record.getId(), invalid.getId());
+        verify(streamOperations).delete(FcfsUtil.WINNER_STREAM_KEY, record.getId(), invalid.getId());
+        assertThat(meterRegistry.counter("fcfs.winner.stream.written").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("fcfs.winner.stream.discarded").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,209 @@
+package hyundai.softeer.orange.event.fcfs;
+
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsRoutingState;
+import hyundai.softeer.orange.event.fcfs.component.FcfsStrategyRegistry;
+import hyundai.softeer.orange.event.fcfs.config.FcfsRoutingConfig;
+import hyundai.softeer.orange.event.fcfs.enums.FcfsStrategy;
+import hyundai.softeer.orange.event.fcfs.repository.FcfsEventRepository;
+import hyundai.softeer.orange.event.fcfs.service.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class RoutingFcfsServiceTest {
+
+    private RedisLuaFcfsService redisLuaFcfsService;
+    private RedisSetFcfsService redisSetFcfsService;
+    private DbFcfsService dbFcfsService;
+    private FcfsFailoverService fcfsFailoverService;
+    private FcfsRoutingState fcfsRoutingState;
+    private FcfsStrategyRegistry fcfsStrategyRegistry;
+    private FcfsRoutingConfig config;
+    private MeterRegistry meterRegistry;
+    private RoutingFcfsService routingFcfsService;
+
+    String eventId = "HD_240808_001";
+    String userId = "user";
+
+    @BeforeEach
+    void setUp() {
+        redisLuaFcfsService = mock(RedisLuaFcfsService.class);
+        redisSetFcfsService = mock(RedisSetFcfsService.class);
+        dbFcfsService = mock(DbFcfsService.class);
+        fcfsFailoverService = mock(FcfsFailoverService.class);
+        fcfsStrategyRegistry = mock(FcfsStrategyRegistry.class);
+        config = new FcfsRoutingConfig();
+        config.setFailureThreshold(2);
+        meterRegistry = new SimpleMeterRegistry();
+        given(fcfsStrategyRegistry.get(eventId)).willReturn(FcfsStrategy.LUA);
+        fcfsRoutingState = new FcfsRoutingState(mock(StringRedisTemplate.class), mock(FcfsEventRepository.class),
+                mock(FcfsEventCache.class), config);
+
+        // 전환 상태를 DB에 저장하는 대신 로컬 상태만 바꿈
+        given(fcfsFailoverService.switchToDb(eventId)).will(invocation -> {
+            fcfsRoutingState.update(eventId, Instant.now().plusMillis(config.getFailoverMillis()));
+            return true;
+        });
+        doAnswer(invocation -> {
+            fcfsRoutingState.update(eventId, null);
+            return null;
+        }).when(fcfsFailoverService).switchToRedis(eventId, FcfsStrategy.LUA);
+        doAnswer(invocation -> {
+            fcfsRoutingState.update(eventId, Instant.now().plusMillis(config.getFailoverMillis()));
+            return null;
+        }).when(fcfsFailoverService).extendFailover(eventId);
+
+        routingFcfsService = new RoutingFcfsService(redisLuaFcfsService, mock(RedisScriptFcfsService.class),
+                mock(RedisLockFcfsService.class), redisSetFcfsService,
+                dbFcfsService, fcfsFailoverService, fcfsRoutingState, fcfsStrategyRegistry, config, meterRegistry);
+    }
+
+    @DisplayName("participate: 이벤트에 지정된 처리 방식으로 참여를 처리하고 처리 시간을 기록한다.")
+    @Test
+    void routeByStrategyTest() {
+        // given
+        given(fcfsStrategyRegistry.get(eventId)).willReturn(FcfsStrategy.SET);
+        given(redisSetFcfsService.participate(eventId, userId)).willReturn(true);
+
+        // when
+        boolean result = routingFcfsService.participate(eventId, userId);
+
+        // then
+        assertThat(result).isTrue();
+        verifyNoInteractions(redisLuaFcfsService);
+        assertThat(meterRegistry.timer("fcfs.participate", "strategy", "SET", "result", "win").count()).isEqualTo(1);
+    }
+
+    @DisplayName("participate: Redis 처리가 연속으로 실패하면 DB 처리 방식으로 전환한다.")
+    @Test
+    void failoverTest() {
+        // given
+        given(redisLuaFcfsService.participate(eventId, userId)).willThrow(new RedisConnectionFailureException("down"));
+        given(dbFcfsService.participate(eventId, userId)).willReturn(true);
+
+        // when
+        for (int i = 0; i < config.getFailureThreshold(); i++) {
+            assertThatThrownBy(() -> routingFcfsService.participate(eventId, userId))
+                    .isInstanceOf(RedisConnectionFailureException.class);
+        }
+        boolean result = routingFcfsService.participate(eventId, userId);
+
+        // then
+        assertThat(routingFcfsService.isFailedOver()).isTrue();
+        assertThat(result).isTrue();
+        verify(fcfsFailoverService).switchToDb(eventId);
+        verify(dbFcfsService).participate(eventId, userId);
+    }
+
+    @DisplayName("participate: Redis의 당첨자를 DB에 모두 반영하지 못하면 DB 처리 방식으로 전환하지 않는다.")
+    @Test
+    void failoverSkippedTest() {
+        // given
+        given(redisLuaFcfsService.participate(eventId, userId)).willThrow(new RedisConnectionFailureException("down"));
+        doReturn(false).when(fcfsFailoverService).switchToDb(eventId);
+
+        // when
+        for (int i = 0; i <= config.getFailureThreshold(); i++) {
+            assertThatThrownBy(() -> routingFcfsService.participate(eventId, userId))
+                    .isInstanceOf(RedisConnectionFailureException.class);
+        }
+
+        // then
+        assertThat(routingFcfsService.isFailedOver()).isFalse();
+        verify(fcfsFailoverService).switchToDb(eventId);
+        verifyNoInteractions(dbFcfsService);
+    }
+
+    @DisplayName("participate: 다른 서버가 DB 처리 방식으로 전환했다면 장애를 감지하지 않았어도 DB 처리 방식을 사용한다.")
+    @Test
+    void followSharedStateTest() {
+        // given
+        fcfsRoutingState.update(eventId, Instant.now().plusMillis(config.getFailoverMillis()));
+        given(dbFcfsService.participate(eventId, userId)).willReturn(true);
+
+        // when
+        boolean result = routingFcfsService.participate(eventId, userId);
+
+        // then
+        assertThat(result).isTrue();
+        verify(fcfsFailoverService, never()).switchToDb(eventId);
+        verifyNoInteractions(redisLuaFcfsService);
+    }
+
+    @DisplayName("participate: 전환 시간이 지나면 DB 처리 방식의 당첨자를 Redis에 기록한 뒤 Redis 처리 방식으로 돌아간다.")
+    @Test
+    void failbackTest() throws InterruptedException {
+        // given
+        config.setFailoverMillis(100);
+        given(redisLuaFcfsService.participate(eventId, userId))
+                .willThrow(new RedisConnectionFailureException("down"))
+                .willThrow(new RedisConnectionFailureException("down"))
+                .willReturn(true);
+        for (int i = 0; i < config.getFailureThreshold(); i++) {
+            assertThatThrownBy(() -> routingFcfsService.participate(eventId, userId))
+                    .isInstanceOf(RedisConnectionFailureException.class);
+        }
+        routingFcfsService.participate(eventId, userId);
+        Thread.sleep(150);
+
+        // when
+        boolean result = routingFcfsService.participate(eventId, userId);
+
+        // then
+        assertThat(result).isTrue();
+        verify(fcfsFailoverService).switchToRedis(eventId, FcfsStrategy.LUA);
+        verify(dbFcfsService, times(1)).participate(eventId, userId);
+    }
+
+    @DisplayName("participate: Redis에 당첨자를 기록하지 못하면 DB 처리 방식을 유지한다.")
+    @Test
+    void failbackFailureTest() throws InterruptedException {
+        // given
+        config.setFailoverMillis(100);
+        config.setFailureThreshold(1);
+        given(redisLuaFcfsService.participate(eventId, userId)).willThrow(new RedisConnectionFailureException("down"));
+        assertThatThrownBy(() -> routingFcfsService.participate(eventId, userId))
+                .isInstanceOf(RedisConnectionFailureException.class);
+        routingFcfsService.participate(eventId, userId);
+        Thread.sleep(150);
+        doThrow(new RedisConnectionFailureException("down")).when(fcfsFailoverService).switchToRedis(eventId, FcfsStrategy.LUA);
+
+        // when
+        routingFcfsService.participate(eventId, userId);
+
+        // then
+        assertThat(routingFcfsService.isFailedOver()).isTrue();
+        verify(fcfsFailoverService).extendFailover(eventId);
+        verify(dbFcfsService, times(2)).participate(eventId, userId);
+        verify(redisLuaFcfsService, times(1)).participate(eventId, userId);
+    }
+
+    @DisplayName("participate: DB 전환을 사용하지 않으면 Redis 처리가 실패해도 전환하지 않는다.")
+    @Test
+    void failoverDisabledTest() {
+        // given
+        config.setFailoverEnabled(false);
+        given(redisLuaFcfsService.participate(eventId, userId)).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        for (int i = 0; i <= config.getFailureThreshold(); i++) {
+            assertThatThrownBy(() -> routingFcfsService.participate(eventId, userId))
+                    .isInstanceOf(RedisConnectionFailureException.class);
+        }
+
+        // then
+        verifyNoInteractions(dbFcfsService);
+    }
+}
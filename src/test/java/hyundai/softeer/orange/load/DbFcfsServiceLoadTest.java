@@ -1,16 +1,20 @@
 package hyundai.softeer.orange.load;
 
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventCache;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
 import hyundai.softeer.orange.event.common.entity.EventMetadata;
 import hyundai.softeer.orange.event.common.repository.EventMetadataRepository;
 import hyundai.softeer.orange.event.fcfs.entity.FcfsEvent;
 import hyundai.softeer.orange.event.fcfs.repository.FcfsEventRepository;
 import hyundai.softeer.orange.event.fcfs.repository.FcfsEventWinningInfoRepository;
 import hyundai.softeer.orange.event.fcfs.service.DbFcfsService;
+import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
 import hyundai.softeer.orange.eventuser.entity.EventUser;
 import hyundai.softeer.orange.eventuser.repository.EventUserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -32,6 +36,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 @TestPropertySource(locations = "classpath:application-test.yml")
 class DbFcfsServiceLoadTest {
 
+    @Autowired
+    private FcfsEventLocalState fcfsEventLocalState;
+
+    @Autowired
+    private FcfsEventCache fcfsEventCache;
+
     @Autowired
     private DbFcfsService dbFcfsService;
 
@@ -64,8 +74,10 @@ class DbFcfsServiceLoadTest {
         fcfsEventWinningInfoRepository.deleteAll();
         eventUserRepository.deleteAll();
         fcfsEventRepository.deleteAll();
+        eventMetadataRepository.deleteAll();
         booleanRedisTemplate.getConnectionFactory().getConnection().flushAll();
         stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        fcfsEventLocalState.clear();
 
         // 이벤트 생성
         EventMetadata eventMetadata = EventMetadata.builder()
@@ -74,7 +86,11 @@ class DbFcfsServiceLoadTest {
         eventMetadataRepository.save(eventMetadata);
         FcfsEvent fcfsEvent = FcfsEvent.of(Instant.now(), Instant.now().plus(24, ChronoUnit.HOURS), numberOfWinners, "prizeInfo", eventMetadata);
         fcfsEventRepository.save(fcfsEvent);
-        stringRedisTemplate.opsForValue().set(eventId, fcfsEvent.getId().toString());
+        String key = fcfsEvent.getId().toString();
+        stringRedisTemplate.opsForValue().set(FcfsUtil.eventIdFormatting(eventId), key);
+        stringRedisTemplate.opsForValue().set(FcfsUtil.startTimeFormatting(key), fcfsEvent.getStartTime().toString());
+        booleanRedisTemplate.opsForValue().set(FcfsUtil.endFlagFormatting(key), false);
+        fcfsEventCache.invalidateAll();
 
         // 유저 생성
         for (int i = 0; i < numberOfUsers; i++) {
@@ -87,8 +103,40 @@ class DbFcfsServiceLoadTest {
         fcfsEventWinningInfoRepository.deleteAll();
         eventUserRepository.deleteAll();
         fcfsEventRepository.deleteAll();
+        eventMetadataRepository.deleteAll();
+    }
+
+    @DisplayName("중복 참여 요청이 동시에 들어와도 한 번만 당첨된다.")
+    @Test
+    void duplicateParticipateTest() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            executorService.execute(() -> {
+                try {
+                    dbFcfsService.participate(eventId, "user0");
+                } catch (Exception ignored) {
+                    // 중복 참여는 예외로 응답
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+        assertThat(fcfsEventWinningInfoRepository.count()).isEqualTo(1);
+        assertThat(fcfsEventRepository.findAll().get(0).getRemaining()).isEqualTo(numberOfWinners - 1);
     }
 
+    /**
+     * 처리 시간은 로그의 Total time / Throughput 으로 확인한다.
+     * <p>측정 결과 (MariaDB 10.11.5, Redis 6.2.6 로컬 실행, 스레드 200, 유저 1000, 당첨 100, 커넥션 풀 기본값 10, 3회):</p>
+     * <ul>
+     *     <li>행 잠금(SELECT ... FOR UPDATE + 당첨자 목록 조회): 3379 / 3618 / 3870 ms (295 / 276 / 258 req/s)</li>
+     *     <li>조건부 UPDATE (remaining > 0): 2503 / 2525 / 2812 ms (399 / 396 / 355 req/s)</li>
+     * </ul>
+     */
     @Test
     void participateTest() throws InterruptedException {
         ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
@@ -99,7 +147,7 @@ class DbFcfsServiceLoadTest {
             final int index = i;
             executorService.execute(() -> {
                 try {
-                    boolean result = dbFcfsService.participate(eventId, "user" + index);
+                    dbFcfsService.participate(eventId, "user" + index);
                 } catch (Exception e) {
                     e.printStackTrace();
                 } finally {
@@ -111,8 +159,11 @@ class DbFcfsServiceLoadTest {
         latch.await();
 
         long endTime = System.currentTimeMillis();
-        log.info("Total time: {} ms", endTime - startTime);
+        long elapsed = endTime - startTime;
+        log.info("Total time: {} ms, Throughput: {} req/s", elapsed, numberOfUsers * 1000L / Math.max(elapsed, 1));
         assertThat(fcfsEventWinningInfoRepository.count()).isEqualTo(numberOfWinners);
+        // 남은 인원은 정확히 0이어야 하며, 음수가 되어서는 안 된다.
+        assertThat(fcfsEventRepository.findAll().get(0).getRemaining()).isZero();
         executorService.shutdown();
     }
 }
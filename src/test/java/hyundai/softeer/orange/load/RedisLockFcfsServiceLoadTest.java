@@ -1,5 +1,6 @@
 package hyundai.softeer.orange.load;
 
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
 import hyundai.softeer.orange.event.fcfs.service.RedisLockFcfsService;
 import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
 import org.junit.jupiter.api.*;
@@ -18,6 +19,9 @@ import java.util.concurrent.Executors;
 @SpringBootTest
 class RedisLockFcfsServiceLoadTest {
 
+    @Autowired
+    private FcfsEventLocalState fcfsEventLocalState;
+
     @Autowired
     private RedisLockFcfsService redisLockFcfsService;
 
@@ -42,6 +46,7 @@ class RedisLockFcfsServiceLoadTest {
         // 필요한 경우 이전 데이터 삭제
         redissonClient.getKeys().flushdb();
         redissonClient.getKeys().flushall();
+        fcfsEventLocalState.clear();
 
         // 테스트할 이벤트 정보 저장
         booleanRedisTemplate.opsForValue().set(FcfsUtil.endFlagFormatting(eventSequence.toString()), false);
@@ -1,4 +1,5 @@
 package hyundai.softeer.orange.load;
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
 import hyundai.softeer.orange.event.fcfs.service.RedisLuaFcfsService;
 import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +19,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 @SpringBootTest
 class RedisLuaFcfsServiceLoadTest {
 
+    @Autowired
+    FcfsEventLocalState fcfsEventLocalState;
+
     @Autowired
     RedisLuaFcfsService redisLuaFcfsService;
 
@@ -40,6 +44,7 @@ class RedisLuaFcfsServiceLoadTest {
         stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
         numberRedisTemplate.getConnectionFactory().getConnection().flushAll();
         booleanRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        fcfsEventLocalState.clear();
 
         // 테스트할 이벤트 정보 저장
         numberRedisTemplate.opsForValue().set(FcfsUtil.keyFormatting(eventSequence.toString()), numberOfWinners);
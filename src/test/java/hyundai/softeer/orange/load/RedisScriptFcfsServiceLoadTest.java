@@ -0,0 +1,118 @@
+package hyundai.softeer.orange.load;
+
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
+import hyundai.softeer.orange.event.fcfs.service.FcfsService;
+import hyundai.softeer.orange.event.fcfs.service.RedisLuaFcfsService;
+import hyundai.softeer.orange.event.fcfs.service.RedisScriptFcfsService;
+import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+class RedisScriptFcfsServiceLoadTest {
+
+    @Autowired
+    FcfsEventLocalState fcfsEventLocalState;
+
+    @Autowired
+    RedisScriptFcfsService redisScriptFcfsService;
+
+    @Autowired
+    RedisLuaFcfsService redisLuaFcfsService;
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    RedisTemplate<String, Integer> numberRedisTemplate;
+
+    @Autowired
+    RedisTemplate<String, Boolean> booleanRedisTemplate;
+
+    Long eventSequence = 1L; // 테스트할 이벤트 시퀀스
+    int numberOfWinners = 100; // 당첨자 수
+    String eventId = "HD_240808_001"; // 이벤트 ID
+    int numberOfThreads = 200; // 스레드 수
+    int numberOfUsers = 1000; // 동시 참여 사용자 수
+
+    @BeforeEach
+    void setUp() {
+        resetEvent();
+    }
+
+    @Test
+    void participateTest() throws InterruptedException {
+        long elapsed = runParticipation(redisScriptFcfsService);
+        log.info("Total time: {} ms, Throughput: {} req/s", elapsed, numberOfUsers * 1000L / Math.max(elapsed, 1));
+
+        Long count = stringRedisTemplate.opsForZSet().zCard(FcfsUtil.winnerFormatting(eventSequence.toString()));
+        assertThat(count).isEqualTo(numberOfWinners);
+    }
+
+    @Test
+    void compareWithLuaServiceTest() throws InterruptedException {
+        // 워밍업 후 동일한 조건에서 기존 Lua 구현체와 처리 시간을 비교
+        runParticipation(redisScriptFcfsService);
+        resetEvent();
+        long luaElapsed = runParticipation(redisLuaFcfsService);
+        resetEvent();
+        long scriptElapsed = runParticipation(redisScriptFcfsService);
+
+        log.info("RedisLuaFcfsService: {} ms ({} req/s)", luaElapsed, numberOfUsers * 1000L / Math.max(luaElapsed, 1));
+        log.info("RedisScriptFcfsService: {} ms ({} req/s)", scriptElapsed, numberOfUsers * 1000L / Math.max(scriptElapsed, 1));
+
+        Long count = stringRedisTemplate.opsForZSet().zCard(FcfsUtil.winnerFormatting(eventSequence.toString()));
+        assertThat(count).isEqualTo(numberOfWinners);
+    }
+
+    private long runParticipation(FcfsService fcfsService) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+
+        long startTime = System.currentTimeMillis();
+        CountDownLatch latch = new CountDownLatch(numberOfUsers);
+        for (int i = 0; i < numberOfUsers; i++) {
+            final int index = i;
+            executorService.execute(() -> {
+                try {
+                    fcfsService.participate(eventId, "user" + index);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        long endTime = System.currentTimeMillis();
+        executorService.shutdown();
+        return endTime - startTime;
+    }
+
+    private void resetEvent() {
+        // 초기화
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        fcfsEventLocalState.clear();
+
+        // 테스트할 이벤트 정보 저장
+        String key = eventSequence.toString();
+        stringRedisTemplate.opsForValue().set(FcfsUtil.eventIdFormatting(eventId), key);
+        numberRedisTemplate.opsForValue().set(FcfsUtil.keyFormatting(key), numberOfWinners);
+        booleanRedisTemplate.opsForValue().set(FcfsUtil.endFlagFormatting(key), false);
+        stringRedisTemplate.opsForValue().set(FcfsUtil.startTimeFormatting(key), Instant.now().minus(1, ChronoUnit.MINUTES).toString());
+    }
+}
@@ -1,5 +1,6 @@
 package hyundai.softeer.orange.load;
 
+import hyundai.softeer.orange.event.fcfs.component.FcfsEventLocalState;
 import hyundai.softeer.orange.event.fcfs.service.RedisSetFcfsService;
 import hyundai.softeer.orange.event.fcfs.util.FcfsUtil;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +22,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 @SpringBootTest
 class RedisSetFcfsServiceLoadTest {
 
+    @Autowired
+    FcfsEventLocalState fcfsEventLocalState;
+
     @Autowired
     private RedisSetFcfsService redisSetFcfsService;
 
@@ -57,6 +61,7 @@ class RedisSetFcfsServiceLoadTest {
         stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
         numberRedisTemplate.getConnectionFactory().getConnection().flushAll();
         booleanRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        fcfsEventLocalState.clear();
     }
 
     @Test
@@ -0,0 +1,100 @@
+package hyundai.softeer.orange.support;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Naver 감정 분석 API를 대신하는 로컬 HTTP 서버. 사용 가능한 임의의 포트에서 실행된다.
+ * <p>본문에 등록된 문구가 포함되어 있다면 해당 감정을, 아니라면 긍정을 응답한다.
+ * failNext(n)으로 다음 n번의 요청을 500으로 실패시키고, delay로 응답을 늦출 수 있다.</p>
+ */
+public class NaverSentimentStub implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, String> responses = new ConcurrentHashMap<>();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile long delayMillis = 0;
+
+    public NaverSentimentStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+
+            String response = responses.entrySet().stream()
+                    .filter(entry -> body.contains(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(response("positive", 0));
+            byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        });
+        // 응답을 늦추는 동안 다른 요청도 받을 수 있도록 요청마다 스레드를 사용
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort() + "/sentiment-analysis/v1/analyze";
+    }
+
+    /**
+     * content를 포함한 요청에 sentiment로 응답한다. negativeConfidence는 부정일 때의 확률(0~100)
+     */
+    public NaverSentimentStub respond(String content, String sentiment, double negativeConfidence) {
+        responses.put(content, response(sentiment, negativeConfidence));
+        return this;
+    }
+
+    public NaverSentimentStub failNext(int count) {
+        failures.set(count);
+        return this;
+    }
+
+    public NaverSentimentStub delay(long millis) {
+        delayMillis = millis;
+        return this;
+    }
+
+    public int requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static String response(String sentiment, double negativeConfidence) {
+        return """
+                {"document":{"sentiment":"%s","confidence":{"negative":%s,"positive":%s,"neutral":0}}}
+                """.formatted(sentiment, negativeConfidence, 100 - negativeConfidence);
+    }
+}
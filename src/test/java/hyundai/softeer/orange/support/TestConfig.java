@@ -1,12 +1,17 @@
 package hyundai.softeer.orange.support;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import hyundai.softeer.orange.common.jdbc.BulkWriter;
+import hyundai.softeer.orange.config.BulkWriteConfig;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 
 @TestConfiguration
+// 커스텀 repository 구현체가 사용하는 BulkWriter는 @DataJpaTest가 등록하지 않으므로 직접 등록
+@Import({BulkWriter.class, BulkWriteConfig.class})
 public class TestConfig {
     @PersistenceContext
     private EntityManager entityManager;
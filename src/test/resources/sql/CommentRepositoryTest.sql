@@ -24,3 +24,15 @@ INSERT INTO comment(event_frame_id, event_user_id) VALUES (1, 2);
 -- 2 comments for user3
 INSERT INTO comment(event_frame_id, event_user_id) VALUES (1, 3);
 INSERT INTO comment(event_frame_id, event_user_id) VALUES (1, 3);
+
+-- strongly negative comment of user1, deleted by sentiment analysis
+INSERT INTO comment(event_frame_id, event_user_id, is_positive, deleted_at) VALUES (1, 1, false, '2024-08-01 00:00:00');
+
+-- positive comments of frame 1
+UPDATE comment SET is_positive = true WHERE id IN (1, 4, 10);
+UPDATE comment SET is_positive = false WHERE id IN (2, 3);
+
+-- comments waiting for sentiment analysis
+UPDATE comment SET sentiment_retry_at = '2024-08-01 00:00:00' WHERE id = 6;
+UPDATE comment SET sentiment_retry_at = '2024-08-01 00:10:00' WHERE id = 5;
+UPDATE comment SET sentiment_retry_at = '2099-01-01 00:00:00' WHERE id = 7;
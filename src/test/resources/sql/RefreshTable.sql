@@ -5,6 +5,7 @@ TRUNCATE TABLE draw_event_score_policy;
 TRUNCATE TABLE draw_event_metadata;
 TRUNCATE TABLE draw_event_winning_info;
 TRUNCATE TABLE event_participation_info;
+TRUNCATE TABLE event_participation_count;
 TRUNCATE TABLE draw_event;
 
 TRUNCATE TABLE fcfs_event_winning_info;
@@ -21,6 +22,7 @@ ALTER TABLE draw_event_score_policy AUTO_INCREMENT = 1;
 ALTER TABLE draw_event_metadata AUTO_INCREMENT = 1;
 ALTER TABLE draw_event_winning_info AUTO_INCREMENT = 1;
 ALTER TABLE event_participation_info AUTO_INCREMENT = 1;
+ALTER TABLE event_participation_count AUTO_INCREMENT = 1;
 ALTER TABLE draw_event AUTO_INCREMENT = 1;
 
 ALTER TABLE fcfs_event_winning_info AUTO_INCREMENT = 1;